@@ -1,6 +1,7 @@
 plugins {
     id("java")
     id("org.springframework.boot") version "3.2.2"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "org.example"
@@ -14,17 +15,43 @@ repositories {
     mavenCentral()
 }
 
+// Генератор нагрузки (./gradlew loadTest) собирается отдельно и не попадает в приложение
+val loadtest: SourceSet by sourceSets.creating
+
 dependencies {
     implementation(platform("org.springframework.boot:spring-boot-dependencies:3.2.2"))
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-websocket")
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.3.0")
 
     testImplementation("org.springframework.boot:spring-boot-starter-test")
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "loadtestImplementation"(platform("org.springframework.boot:spring-boot-dependencies:3.2.2"))
+    "loadtestImplementation"("com.fasterxml.jackson.core:jackson-databind")
 }
 
 tasks.test {
     useJUnitPlatform()
 }
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the closed-loop load generator against a running backend (-Pargs=\"--players=1000 ...\")"
+    classpath = loadtest.runtimeClasspath
+    mainClass.set("org.example.loadtest.LoadDriver")
+    args = (project.findProperty("args") as String?)?.trim()?.split(Regex("\\s+")) ?: emptyList()
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    // Скорость выделения памяти для каждого бенчмарка
+    profilers.add("gc")
+    // Машиночитаемые результаты для сравнения между сборками
+    resultFormat.set("JSON")
+}
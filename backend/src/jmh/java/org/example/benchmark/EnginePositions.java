@@ -0,0 +1,84 @@
+package org.example.benchmark;
+
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameStatus;
+import org.example.domain.service.GameService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Фиксированные наборы позиций для бенчмарков игрового движка.
+ * <p>
+ * Позиции строятся детерминированно (генератор с постоянным зерном), поэтому при каждом
+ * запуске измеряются одни и те же поля и результаты разных сборок сравнимы между собой.
+ * Каждая позиция — незавершенная игра, в которой ход за ИИ (крестиков на один больше, чем ноликов).
+ */
+final class EnginePositions {
+
+    /** Количество позиций в наборе для одного размера поля */
+    static final int SUITE_SIZE = 8;
+
+    private EnginePositions() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Количество пустых ячеек в позициях набора. Перебор ИИ растет как произведение
+     * пяти последовательных чисел от количества пустых ячеек, поэтому на больших полях
+     * измеряется эндшпиль, а не начало партии.
+     *
+     * @param size размер поля.
+     * @return количество пустых ячеек.
+     */
+    static int emptyCells(int size) {
+        // Количество занятых ячеек должно быть нечетным: ход за ИИ
+        int empty = size == 3 ? 8 : 10;
+        return (size * size - empty) % 2 == 1 ? empty : empty - 1;
+    }
+
+    /**
+     * Строит набор позиций для поля заданного размера.
+     *
+     * @param size        размер поля.
+     * @param gameService сервис для проверки, что позиция не завершена.
+     * @return {@value #SUITE_SIZE} различных позиций.
+     */
+    static List<int[][]> suite(int size, GameService gameService) {
+        Random random = new Random(31L * size);
+        int filled = size * size - emptyCells(size);
+        List<int[][]> positions = new ArrayList<>(SUITE_SIZE);
+        while (positions.size() < SUITE_SIZE) {
+            GameMap map = new GameMap(size);
+            for (int placed = 0; placed < filled; ) {
+                int row = random.nextInt(size);
+                int col = random.nextInt(size);
+                if (map.getCellValue(row, col) == CellType.EMPTY.getValue()) {
+                    map.setCellValue(row, col, placed % 2 == 0 ? CellType.CROSS : CellType.ZERO);
+                    placed++;
+                }
+            }
+            // Позиции с уже определенным исходом перебор не измеряют
+            if (gameService.checkGameStatus(map) == GameStatus.PLAYING) {
+                positions.add(map.getMap());
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Возвращает копию позиции, чтобы бенчмарк мог изменять поле.
+     *
+     * @param position исходная позиция.
+     * @return глубокая копия.
+     */
+    static int[][] copy(int[][] position) {
+        int[][] copy = new int[position.length][];
+        for (int i = 0; i < position.length; i++) {
+            copy[i] = position[i].clone();
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.benchmark;
+
+import org.example.datasource.repository.GameRepositoryImpl;
+import org.example.datasource.storage.GameStorage;
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.service.GameService;
+import org.example.domain.service.GameServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарки игрового движка {@link GameServiceImpl} на фиксированных наборах позиций
+ * ({@link EnginePositions}) для полей 3x3, 4x4, 5x5 и 7x7.
+ * <p>
+ * Каждый вызов берет следующую позицию набора, поэтому результат усредняется по всему набору,
+ * а не по одной удачной позиции. Измеряются пропускная способность и среднее время;
+ * скорость выделения памяти выводит профилировщик {@code gc}, подключенный в {@code build.gradle.kts}.
+ * <p>
+ * Запуск: {@code ./gradlew jmh}; результаты сохраняются в {@code build/results/jmh/results.json}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameEngineBenchmark {
+
+    @Param({"3", "4", "5", "7"})
+    private int size;
+
+    private GameService gameService;
+
+    /** Сессии для расчета хода ИИ (поле восстанавливается после каждого вызова) */
+    private GameSession[] searchSessions;
+
+    /** Сохраненные сессии и поля с одним новым крестиком для проверки целостности */
+    private GameSession[] storedSessions;
+    private GameMap[] userMaps;
+
+    /** Поля для проверки статуса игры */
+    private GameMap[] statusMaps;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        GameRepository repository = new GameRepositoryImpl(new GameStorage());
+        gameService = new GameServiceImpl(repository);
+
+        List<int[][]> suite = EnginePositions.suite(size, gameService);
+        int count = suite.size();
+        searchSessions = new GameSession[count];
+        storedSessions = new GameSession[count];
+        userMaps = new GameMap[count];
+        statusMaps = new GameMap[count];
+
+        for (int i = 0; i < count; i++) {
+            int[][] position = suite.get(i);
+
+            searchSessions[i] = new GameSession(new GameMap(EnginePositions.copy(position), size));
+            repository.save(searchSessions[i]);
+
+            storedSessions[i] = new GameSession(new GameMap(EnginePositions.copy(position), size));
+            repository.save(storedSessions[i]);
+            userMaps[i] = withCross(position);
+
+            statusMaps[i] = new GameMap(EnginePositions.copy(position), size);
+        }
+    }
+
+    @Benchmark
+    public int[] getNextMove() {
+        GameSession session = searchSessions[nextIndex()];
+        int[] move = gameService.getNextMove(session);
+        // Откат хода ИИ: следующий проход по набору измеряет ту же позицию
+        session.getGameMap().setCellValue(move[0], move[1], CellType.EMPTY);
+        session.setStatus(GameStatus.PLAYING);
+        return move;
+    }
+
+    @Benchmark
+    public GameStatus checkGameStatus() {
+        return gameService.checkGameStatus(statusMaps[nextIndex()]);
+    }
+
+    @Benchmark
+    public boolean validateMapIntegrity() {
+        int index = nextIndex();
+        return gameService.validateMapIntegrity(storedSessions[index], userMaps[index]);
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == searchSessions.length ? 0 : index + 1;
+        return index;
+    }
+
+    /**
+     * Копирует позицию и ставит крестик в первую пустую ячейку (корректный ход пользователя).
+     */
+    private GameMap withCross(int[][] position) {
+        GameMap map = new GameMap(EnginePositions.copy(position), size);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (map.getCellValue(r, c) == CellType.EMPTY.getValue()) {
+                    map.setCellValue(r, c, CellType.CROSS);
+                    return map;
+                }
+            }
+        }
+        throw new IllegalStateException("Position has no empty cells");
+    }
+}
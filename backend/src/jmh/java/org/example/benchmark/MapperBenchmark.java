@@ -0,0 +1,101 @@
+package org.example.benchmark;
+
+import org.example.datasource.mapper.GameMapper;
+import org.example.datasource.model.GameSessionEntity;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.web.mapper.GameMapperDTO;
+import org.example.web.model.GameSessionDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Стоимость глубокого копирования поля в мапперах слоев, через которые проходит каждый запрос:
+ * {@link GameMapper} (домен и хранилище) и {@link GameMapperDTO} (домен и API).
+ * <p>
+ * Одни и те же бенчмарки запускаются в 1, 8 и 64 потоках (вложенные классы), чтобы видеть,
+ * как копирование масштабируется при общей нагрузке на выделение памяти. Объем памяти на операцию
+ * ({@code gc.alloc.rate.norm}) выводит профилировщик {@code gc}.
+ * <p>
+ * Запуск: {@code ./gradlew jmh}.
+ */
+public class MapperBenchmark {
+
+    /** Входные объекты всех мапперов для поля заданного размера */
+    @State(Scope.Thread)
+    public static class Input {
+
+        @Param({"3", "15"})
+        private int size;
+
+        private GameSession session;
+        private GameSessionEntity entity;
+        private GameSessionDTO dto;
+
+        @Setup
+        public void setUp() {
+            int[][] map = new int[size][size];
+            for (int i = 0; i < size; i++) {
+                map[i][i] = 1;
+                map[i][size - 1 - i] = 2;
+            }
+            session = new GameSession(UUID.randomUUID(), new GameMap(map, size), GameStatus.PLAYING, 7L);
+            entity = GameMapper.toEntity(session);
+            dto = GameMapperDTO.toDTO(session);
+        }
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public abstract static class Paths {
+
+        @Benchmark
+        public GameSessionEntity toEntity(Input input) {
+            return GameMapper.toEntity(input.session);
+        }
+
+        @Benchmark
+        public GameSession entityToDomain(Input input) {
+            return GameMapper.toDomain(input.entity);
+        }
+
+        @Benchmark
+        public GameSessionDTO toDTO(Input input) {
+            return GameMapperDTO.toDTO(input.session);
+        }
+
+        @Benchmark
+        public GameSession dtoToDomain(Input input) {
+            return GameMapperDTO.toDomain(input.dto);
+        }
+    }
+
+    @Threads(1)
+    public static class SingleThread extends Paths {
+    }
+
+    @Threads(8)
+    public static class EightThreads extends Paths {
+    }
+
+    @Threads(64)
+    public static class SixtyFourThreads extends Paths {
+    }
+}
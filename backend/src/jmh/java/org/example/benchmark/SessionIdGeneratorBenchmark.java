@@ -0,0 +1,50 @@
+package org.example.benchmark;
+
+import org.example.domain.id.RandomSessionIdGenerator;
+import org.example.domain.id.SessionIdGenerator;
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение пропускной способности генераторов идентификаторов сессий при массовом создании игр.
+ * <p>
+ * {@link UUID#randomUUID()} берет случайные байты из общего {@link java.security.SecureRandom},
+ * поэтому при большом числе потоков они конкурируют за один источник; генератор UUID v7
+ * использует {@link java.util.concurrent.ThreadLocalRandom}.
+ * <p>
+ * Запуск: {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+public class SessionIdGeneratorBenchmark {
+
+    private final SessionIdGenerator random = new RandomSessionIdGenerator();
+    private final SessionIdGenerator timeOrdered = TimeOrderedSessionIdGenerator.INSTANCE;
+
+    @Benchmark
+    public UUID randomUuid() {
+        return random.nextId();
+    }
+
+    @Benchmark
+    public UUID timeOrderedUuid() {
+        return timeOrdered.nextId();
+    }
+}
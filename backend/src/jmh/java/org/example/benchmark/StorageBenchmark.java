@@ -0,0 +1,129 @@
+package org.example.benchmark;
+
+import org.example.datasource.mapper.GameMapper;
+import org.example.datasource.model.GameSessionEntity;
+import org.example.datasource.repository.GameRepositoryImpl;
+import org.example.datasource.storage.GameStorage;
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.repository.GameRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность хранилища сессий под конкурентной нагрузкой.
+ * <p>
+ * Измеряются как операции {@link GameStorage} без мапперов, так и полный путь через
+ * {@link GameRepositoryImpl} (копирование поля в мапперах и атомарная запись по версии)
+ * со смесью чтений и записей, близкой к реальному трафику: на каждый ход приходится запись
+ * после чтения, а между ходами клиенты и наблюдатели читают состояние игры.
+ * <p>
+ * Бенчмарки запускаются в 1, 8 и 64 потоках (вложенные классы); объем памяти на операцию
+ * ({@code gc.alloc.rate.norm}) выводит профилировщик {@code gc}.
+ * <p>
+ * Запуск: {@code ./gradlew jmh}.
+ */
+public class StorageBenchmark {
+
+    /** Количество сессий в хранилище */
+    private static final int SESSION_COUNT = 10_000;
+
+    /** Общее для всех потоков хранилище, заполненное сессиями */
+    @State(Scope.Benchmark)
+    public static class Store {
+
+        @Param({"3", "15"})
+        private int size;
+
+        private GameStorage storage;
+        private GameRepository repository;
+        private UUID[] ids;
+        private GameSessionEntity[] entities;
+
+        @Setup
+        public void setUp() {
+            storage = new GameStorage();
+            repository = new GameRepositoryImpl(storage);
+            ids = new UUID[SESSION_COUNT];
+            entities = new GameSessionEntity[SESSION_COUNT];
+            for (int i = 0; i < SESSION_COUNT; i++) {
+                GameMap map = new GameMap(size);
+                map.setCellValue(i % size, (i / size) % size, CellType.CROSS);
+                GameSession session = new GameSession(map);
+                repository.save(session);
+                ids[i] = session.getId();
+                entities[i] = GameMapper.toEntity(session);
+            }
+        }
+
+        private int randomIndex() {
+            return ThreadLocalRandom.current().nextInt(SESSION_COUNT);
+        }
+    }
+
+    /** Доля чтений в смешанной нагрузке */
+    @State(Scope.Benchmark)
+    public static class TrafficMix {
+
+        @Param({"90", "50"})
+        private int readPercent;
+    }
+
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public abstract static class Paths {
+
+        @Benchmark
+        public GameSessionEntity storageFindById(Store store) {
+            return store.storage.findById(store.ids[store.randomIndex()]);
+        }
+
+        @Benchmark
+        public void storageSave(Store store) {
+            store.storage.save(store.entities[store.randomIndex()]);
+        }
+
+        @Benchmark
+        public Object repositoryMix(Store store, TrafficMix mix) {
+            UUID id = store.ids[store.randomIndex()];
+            GameSession session = store.repository.findById(id).orElseThrow();
+            if (ThreadLocalRandom.current().nextInt(100) < mix.readPercent) {
+                return session;
+            }
+            // Запись хода: сессия сохраняется с проверкой прочитанной версии
+            session.setStatus(GameStatus.PLAYING);
+            return store.repository.compareAndSave(session);
+        }
+    }
+
+    @Threads(1)
+    public static class SingleThread extends Paths {
+    }
+
+    @Threads(8)
+    public static class EightThreads extends Paths {
+    }
+
+    @Threads(64)
+    public static class SixtyFourThreads extends Paths {
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.web.codec.BinaryGameCodec;
+import org.example.web.model.GameMapDTO;
+import org.example.web.model.GameSessionDTO;
+import org.example.web.model.GameStatusDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение стоимости кодирования и декодирования игровой сессии в JSON (Jackson)
+ * и в двоичный протокол {@link BinaryGameCodec}.
+ * <p>
+ * Запуск: {@code ./gradlew jmh}; для оценки мусора — с профилировщиком {@code -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"3", "15", "50"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private GameSessionDTO session;
+    private byte[] json;
+    private ByteBuffer binary;
+    private ByteBuffer encodeBuffer;
+
+    @Setup
+    public void setUp() throws IOException {
+        int[][] map = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            map[i][i] = 1;
+            map[i][size - 1 - i] = 2;
+        }
+        session = new GameSessionDTO(UUID.randomUUID(), new GameMapDTO(map, size), GameStatusDTO.PLAYING);
+
+        json = objectMapper.writeValueAsBytes(session);
+
+        binary = ByteBuffer.allocate(BinaryGameCodec.frameSize(session));
+        BinaryGameCodec.encode(session, binary);
+        binary.flip();
+
+        encodeBuffer = ByteBuffer.allocate(binary.capacity());
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(session);
+    }
+
+    @Benchmark
+    public GameSessionDTO jacksonDecode() throws IOException {
+        return objectMapper.readValue(json, GameSessionDTO.class);
+    }
+
+    @Benchmark
+    public ByteBuffer binaryEncode() {
+        encodeBuffer.clear();
+        BinaryGameCodec.encode(session, encodeBuffer);
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public GameSessionDTO binaryDecode() {
+        return BinaryGameCodec.decode(binary.duplicate(), GameSessionDTO.class);
+    }
+}
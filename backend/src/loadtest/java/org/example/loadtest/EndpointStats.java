@@ -0,0 +1,56 @@
+package org.example.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Статистика одного эндпоинта: гистограмма задержек и количество ответов по кодам статуса.
+ * Ошибки соединения учитываются под кодом {@code 0}.
+ */
+class EndpointStats {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * @param name имя эндпоинта в отчете.
+     */
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Учитывает один запрос.
+     *
+     * @param status код статуса ответа или {@code 0} при ошибке соединения.
+     * @param nanos  задержка запроса в наносекундах.
+     */
+    void record(int status, long nanos) {
+        latency.record(nanos);
+        statuses.computeIfAbsent(status, code -> new LongAdder()).increment();
+    }
+
+    /**
+     * Формирует строку отчета.
+     *
+     * @param seconds длительность измерения в секундах.
+     * @return строка с пропускной способностью, перцентилями и кодами статуса.
+     */
+    String report(double seconds) {
+        long count = latency.count();
+        Map<Integer, Long> codes = new TreeMap<>();
+        statuses.forEach((code, adder) -> codes.put(code, adder.sum()));
+        return String.format("%-22s %9d req %10.1f req/s | p50 %8.2f  p90 %8.2f  p99 %8.2f  p99.9 %8.2f  max %8.2f ms | %s",
+                name, count, count / seconds,
+                millis(latency.percentile(50)), millis(latency.percentile(90)),
+                millis(latency.percentile(99)), millis(latency.percentile(99.9)),
+                millis(latency.max()), codes);
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Потокобезопасная гистограмма задержек с логарифмически-линейными корзинами (как в HdrHistogram).
+ * <p>
+ * Значения (в микросекундах) до {@value #SUB_BUCKETS} хранятся точно; большие значения попадают
+ * в корзины, ширина которых растет вместе со значением, так что относительная ошибка
+ * не превышает 1/{@value #HALF_SUB_BUCKETS} (около 1,6%). Запись — одно атомарное увеличение
+ * счетчика без блокировок и выделения памяти.
+ */
+class LatencyHistogram {
+
+    /** Количество точных корзин и корзин в каждой степени двойки */
+    private static final int SUB_BUCKETS = 128;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+
+    /** Наибольший сдвиг: значения до 2^47 микросекунд (больше четырех лет) */
+    private static final int MAX_SHIFT = 40;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SUB_BUCKETS + MAX_SHIFT * HALF_SUB_BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Учитывает одно измерение.
+     *
+     * @param nanos задержка в наносекундах.
+     */
+    void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(indexOf(micros));
+        max.accumulate(micros);
+    }
+
+    /**
+     * Возвращает количество измерений.
+     * @return количество измерений.
+     */
+    long count() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Возвращает наибольшее измерение.
+     * @return задержка в микросекундах.
+     */
+    long max() {
+        return max.get();
+    }
+
+    /**
+     * Возвращает перцентиль задержки: верхнюю границу корзины, в которую попадает перцентиль.
+     *
+     * @param percentile перцентиль от 0 до 100.
+     * @return задержка в микросекундах или {@code 0}, если измерений нет.
+     */
+    long percentile(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    private static int indexOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        // Сдвиг, после которого значение попадает в [64, 128)
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(micros) - 6, MAX_SHIFT);
+        long sub = Math.min(micros >>> shift, SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) (sub - HALF_SUB_BUCKETS);
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long sub = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Генератор нагрузки замкнутого цикла для игрового API.
+ * <p>
+ * Запускает заданное количество игроков ({@link Player}), каждый из которых последовательно играет
+ * партии через {@code POST /game} и {@code POST /game/{id}}, и печатает пропускную способность и
+ * перцентили задержки каждого эндпоинта. Эндпоинты одинаковы в сервлетном и реактивном
+ * ({@code --spring.profiles.active=reactive}) вариантах backend, поэтому тест сравнивает их напрямую.
+ * <p>
+ * На JDK 21+ каждый игрок работает в виртуальном потоке; на более старых JDK — в обычном потоке
+ * демоне, что ограничивает количество игроков памятью под стеки.
+ * <p>
+ * Запуск: {@code ./gradlew loadTest -Pargs="--players=2000 --duration=120 --sizes=3:90,4:10"}.
+ */
+public final class LoadDriver {
+
+    /** Интервал промежуточного отчета */
+    private static final long PROGRESS_INTERVAL_SECONDS = 10;
+
+    private LoadDriver() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Точка входа.
+     *
+     * @param args параметры {@link LoadOptions}.
+     * @throws InterruptedException если ожидание теста прервано.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        LoadOptions options = LoadOptions.parse(args);
+        System.out.println("load test: " + options);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ObjectMapper mapper = new ObjectMapper();
+        LoadReport report = new LoadReport();
+
+        ExecutorService players = newPlayerExecutor(options.players());
+        for (int i = 0; i < options.players(); i++) {
+            players.execute(new Player(options, client, mapper, report));
+        }
+
+        long deadline = System.nanoTime() + options.duration().toNanos();
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, TimeUnit.SECONDS.toNanos(PROGRESS_INTERVAL_SECONDS)));
+            if (deadline - System.nanoTime() > 0) {
+                report.print(System.out);
+                System.out.println();
+            }
+        }
+
+        report.finish();
+        players.shutdown();
+        if (!players.awaitTermination(30, TimeUnit.SECONDS)) {
+            players.shutdownNow();
+        }
+        System.out.println("final:");
+        report.print(System.out);
+    }
+
+    /**
+     * Создает исполнитель игроков: виртуальные потоки, если JDK их поддерживает
+     * (метод ищется через reflection, так как проект собирается для Java 18), иначе
+     * пул обычных потоков-демонов по одному на игрока.
+     */
+    private static ExecutorService newPlayerExecutor(int players) {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            System.out.println("players run on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            System.out.println("virtual threads are not available, players run on platform threads");
+            AtomicInteger threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(players, runnable -> {
+                Thread thread = new Thread(runnable, "load-player-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
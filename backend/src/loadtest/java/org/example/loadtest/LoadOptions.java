@@ -0,0 +1,147 @@
+package org.example.loadtest;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Параметры нагрузочного теста из аргументов командной строки вида {@code --name=value}.
+ * <ul>
+ *     <li>{@code --base-url} — адрес backend (по умолчанию {@code http://localhost:8080});</li>
+ *     <li>{@code --players} — количество одновременных игроков (по умолчанию 1000);</li>
+ *     <li>{@code --duration} — длительность теста в секундах (по умолчанию 60);</li>
+ *     <li>{@code --sizes} — смесь размеров поля с весами, например {@code 3:90,4:10} (по умолчанию {@code 3});</li>
+ *     <li>{@code --policy} — стратегия хода: {@code random}, {@code first} или {@code center} (по умолчанию {@code random});</li>
+ *     <li>{@code --think-ms} — пауза игрока между ходами в миллисекундах (по умолчанию 0).</li>
+ * </ul>
+ */
+final class LoadOptions {
+
+    private final URI baseUri;
+    private final int players;
+    private final Duration duration;
+    private final int[] sizes;
+    private final int[] cumulativeWeights;
+    private final MovePolicy policy;
+    private final long thinkTimeMs;
+
+    private LoadOptions(URI baseUri, int players, Duration duration, Map<Integer, Integer> sizeMix,
+                        MovePolicy policy, long thinkTimeMs) {
+        this.baseUri = baseUri;
+        this.players = players;
+        this.duration = duration;
+        this.policy = policy;
+        this.thinkTimeMs = thinkTimeMs;
+
+        this.sizes = new int[sizeMix.size()];
+        this.cumulativeWeights = new int[sizeMix.size()];
+        int i = 0;
+        int total = 0;
+        for (Map.Entry<Integer, Integer> entry : sizeMix.entrySet()) {
+            total += entry.getValue();
+            sizes[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+    }
+
+    /**
+     * Разбирает аргументы командной строки.
+     *
+     * @param args аргументы вида {@code --name=value}.
+     * @return параметры теста.
+     * @throws IllegalArgumentException если аргумент неизвестен или имеет неверное значение.
+     */
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        URI baseUri = URI.create(values.getOrDefault("base-url", "http://localhost:8080"));
+        int players = positive("players", values.getOrDefault("players", "1000"));
+        Duration duration = Duration.ofSeconds(positive("duration", values.getOrDefault("duration", "60")));
+        Map<Integer, Integer> sizeMix = parseSizes(values.getOrDefault("sizes", "3"));
+        MovePolicy policy = MovePolicy.valueOf(values.getOrDefault("policy", "random").toUpperCase(Locale.ROOT));
+        long thinkTimeMs = Long.parseLong(values.getOrDefault("think-ms", "0"));
+
+        values.keySet().removeAll(List.of("base-url", "players", "duration", "sizes", "policy", "think-ms"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + values.keySet());
+        }
+        return new LoadOptions(baseUri, players, duration, sizeMix, policy, thinkTimeMs);
+    }
+
+    /**
+     * Выбирает размер поля для новой партии согласно весам смеси.
+     * @return размер поля.
+     */
+    int nextBoardSize() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < sizes.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return sizes[i];
+            }
+        }
+        return sizes[sizes.length - 1];
+    }
+
+    URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    int players() {
+        return players;
+    }
+
+    Duration duration() {
+        return duration;
+    }
+
+    MovePolicy policy() {
+        return policy;
+    }
+
+    long thinkTimeMs() {
+        return thinkTimeMs;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder mix = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            mix.append(i == 0 ? "" : ",").append(sizes[i]).append(':').append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return String.format("base-url=%s players=%d duration=%ds sizes=%s policy=%s think-ms=%d",
+                baseUri, players, duration.toSeconds(), mix, policy.name().toLowerCase(Locale.ROOT), thinkTimeMs);
+    }
+
+    private static Map<Integer, Integer> parseSizes(String spec) {
+        Map<Integer, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] sizeAndWeight = part.trim().split(":");
+            int size = positive("sizes", sizeAndWeight[0]);
+            int weight = sizeAndWeight.length > 1 ? positive("sizes", sizeAndWeight[1]) : 1;
+            mix.merge(size, weight, Integer::sum);
+        }
+        return mix;
+    }
+
+    private static int positive(String name, String value) {
+        int parsed = Integer.parseInt(value.trim());
+        if (parsed <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive: " + value);
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Общий отчет нагрузочного теста: статистика эндпоинтов, исходы партий и признак завершения теста.
+ */
+class LoadReport {
+
+    private final EndpointStats create = new EndpointStats("POST /game");
+    private final EndpointStats move = new EndpointStats("POST /game/{id}");
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final LongAdder failures = new LongAdder();
+    private final long startNanos = System.nanoTime();
+
+    private volatile boolean finished;
+
+    EndpointStats create() {
+        return create;
+    }
+
+    EndpointStats move() {
+        return move;
+    }
+
+    /**
+     * Учитывает завершенную партию.
+     * @param status итоговый статус игры.
+     */
+    void recordGame(String status) {
+        outcomes.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Учитывает партию, прерванную ошибкой разбора ответа или клиента.
+     */
+    void recordFailure() {
+        failures.increment();
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Останавливает игроков: текущие запросы завершаются, новые не отправляются.
+     */
+    void finish() {
+        finished = true;
+    }
+
+    /**
+     * Печатает отчет.
+     * @param out поток вывода.
+     */
+    void print(PrintStream out) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        Map<String, Long> games = new TreeMap<>();
+        outcomes.forEach((status, adder) -> games.put(status, adder.sum()));
+
+        out.printf("elapsed %.1f s%n", seconds);
+        out.println(create.report(seconds));
+        out.println(move.report(seconds));
+        out.println("games " + games + ", aborted " + failures.sum());
+    }
+}
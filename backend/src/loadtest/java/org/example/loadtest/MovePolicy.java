@@ -0,0 +1,63 @@
+package org.example.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Стратегия выбора хода симулируемого игрока.
+ */
+enum MovePolicy {
+
+    /** Случайная пустая ячейка */
+    RANDOM {
+        @Override
+        int[] choose(int[][] map) {
+            int empty = 0;
+            for (int[] row : map) {
+                for (int cell : row) {
+                    if (cell == EMPTY) empty++;
+                }
+            }
+            int target = empty == 0 ? -1 : ThreadLocalRandom.current().nextInt(empty);
+            return nth(map, target);
+        }
+    },
+
+    /** Первая пустая ячейка при обходе по строкам (воспроизводимые партии) */
+    FIRST {
+        @Override
+        int[] choose(int[][] map) {
+            return nth(map, 0);
+        }
+    },
+
+    /** Центр поля, если он свободен, иначе случайная ячейка (типичное начало партии человеком) */
+    CENTER {
+        @Override
+        int[] choose(int[][] map) {
+            int middle = map.length / 2;
+            return map[middle][middle] == EMPTY ? new int[]{middle, middle} : RANDOM.choose(map);
+        }
+    };
+
+    private static final int EMPTY = 0;
+
+    /**
+     * Выбирает ячейку для хода.
+     *
+     * @param map текущее поле.
+     * @return координаты {@code [row, col]} или {@code null}, если свободных ячеек нет.
+     */
+    abstract int[] choose(int[][] map);
+
+    private static int[] nth(int[][] map, int target) {
+        int seen = 0;
+        for (int r = 0; r < map.length; r++) {
+            for (int c = 0; c < map[r].length; c++) {
+                if (map[r][c] == EMPTY && seen++ == target) {
+                    return new int[]{r, c};
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Симулируемый игрок замкнутого цикла: создает игру ({@code POST /game}) и играет её до конца
+ * ({@code POST /game/{id}}), затем начинает следующую, пока не истечет время теста.
+ * Следующий запрос отправляется только после ответа на предыдущий.
+ * <p>
+ * На {@code 429} и {@code 503} игрок ждет время из {@code Retry-After} (не дольше секунды)
+ * и повторяет ход; остальные ошибки завершают текущую партию.
+ */
+class Player implements Runnable {
+
+    private static final int CROSS = 1;
+    private static final long MAX_RETRY_DELAY_MS = 1_000;
+
+    private final LoadOptions options;
+    private final HttpClient client;
+    private final ObjectMapper mapper;
+    private final LoadReport report;
+
+    /**
+     * @param options параметры нагрузки.
+     * @param client  общий HTTP-клиент.
+     * @param mapper  общий {@link ObjectMapper}.
+     * @param report  общий отчет.
+     */
+    Player(LoadOptions options, HttpClient client, ObjectMapper mapper, LoadReport report) {
+        this.options = options;
+        this.client = client;
+        this.mapper = mapper;
+        this.report = report;
+    }
+
+    @Override
+    public void run() {
+        while (!report.isFinished() && !Thread.currentThread().isInterrupted()) {
+            try {
+                playGame(options.nextBoardSize());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException e) {
+                report.recordFailure();
+            }
+        }
+    }
+
+    private void playGame(int size) throws IOException, InterruptedException {
+        HttpResponse<byte[]> created = send(report.create(), HttpRequest.newBuilder(
+                        options.uri("/game?size=" + size))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (created == null || created.statusCode() != 201) {
+            return;
+        }
+
+        ObjectNode session = (ObjectNode) mapper.readTree(created.body());
+        URI moveUri = options.uri("/game/" + session.get("id").asText());
+
+        while ("PLAYING".equals(session.get("status").asText()) && !report.isFinished()) {
+            int[][] map = mapper.treeToValue(session.get("gameMap").get("map"), int[][].class);
+            int[] move = options.policy().choose(map);
+            if (move == null) {
+                return;
+            }
+            ((ArrayNode) session.get("gameMap").get("map").get(move[0])).set(move[1], CROSS);
+            byte[] body = mapper.writeValueAsBytes(session);
+
+            HttpResponse<byte[]> response = sendWithRetry(moveUri, body);
+            if (response == null || response.statusCode() != 200) {
+                return;
+            }
+            session = (ObjectNode) mapper.readTree(response.body());
+            think();
+        }
+        String status = session.get("status").asText();
+        // Партия, прерванная окончанием теста, в исходы не попадает
+        if (!"PLAYING".equals(status)) {
+            report.recordGame(status);
+        }
+    }
+
+    private HttpResponse<byte[]> sendWithRetry(URI uri, byte[] body) throws IOException, InterruptedException {
+        while (true) {
+            HttpResponse<byte[]> response = send(report.move(), HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body)));
+            if (response == null || (response.statusCode() != 429 && response.statusCode() != 503)
+                    || report.isFinished()) {
+                return response;
+            }
+            Thread.sleep(retryDelayMillis(response));
+        }
+    }
+
+    private HttpResponse<byte[]> send(EndpointStats stats, HttpRequest.Builder request)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(
+                    request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofByteArray());
+            stats.record(response.statusCode(), System.nanoTime() - start);
+            return response;
+        } catch (IOException e) {
+            stats.record(0, System.nanoTime() - start);
+            return null;
+        }
+    }
+
+    private void think() throws InterruptedException {
+        if (options.thinkTimeMs() > 0) {
+            Thread.sleep(options.thinkTimeMs());
+        }
+    }
+
+    private static long retryDelayMillis(HttpResponse<?> response) {
+        return response.headers().firstValue("Retry-After")
+                .map(value -> {
+                    try {
+                        return Long.parseLong(value.trim()) * 1_000;
+                    } catch (NumberFormatException e) {
+                        return MAX_RETRY_DELAY_MS;
+                    }
+                })
+                .map(delay -> Math.min(Math.max(delay, 10), MAX_RETRY_DELAY_MS))
+                .orElse(100L);
+    }
+}
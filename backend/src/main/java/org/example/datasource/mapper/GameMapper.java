@@ -39,7 +39,8 @@ public class GameMapper {
         return new GameSession(
                 gameSessionEntity.getId(),
                 toMap(gameSessionEntity.getGameMap()),
-                toStatus(gameSessionEntity.getStatus())
+                toStatus(gameSessionEntity.getStatus()),
+                gameSessionEntity.getVersion()
         );
     }
 
@@ -55,7 +56,8 @@ public class GameMapper {
         return new GameSessionEntity(
                 gameSession.getId(),
                 toMapEntity(gameSession.getGameMap()),
-                toStatusEntity(gameSession.getStatus())
+                toStatusEntity(gameSession.getStatus()),
+                gameSession.getVersion()
         );
     }
 
@@ -1,5 +1,7 @@
 package org.example.datasource.model;
 
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
+
 import java.util.UUID;
 
 /**
@@ -19,15 +21,18 @@ public class GameSessionEntity {
     /** Текущее состояние игры */
     private GameStatusEntity status;
 
+    /** Версия записи для оптимистичной блокировки */
+    private long version;
+
     /**
      * Конструктор для создания новой игры.
-     * Автоматически генерирует уникальный идентификатор и устанавливает
+     * Автоматически генерирует уникальный упорядоченный по времени идентификатор и устанавливает
      * статус {@link GameStatusEntity#PLAYING}.
      *
      * @param map инициализированное игровое поле.
      */
     public GameSessionEntity(GameMapEntity map) {
-        this.id = UUID.randomUUID();
+        this.id = TimeOrderedSessionIdGenerator.INSTANCE.nextId();
         this.map = map;
         this.status = GameStatusEntity.PLAYING;
     }
@@ -40,9 +45,22 @@ public class GameSessionEntity {
      * @param status текущий статус игры.
      */
     public GameSessionEntity(UUID id, GameMapEntity map, GameStatusEntity status) {
+        this(id, map, status, 0L);
+    }
+
+    /**
+     * Конструктор для восстановления существующей сессии вместе с её версией.
+     *
+     * @param id      существующий идентификатор сессии.
+     * @param map     состояние поля.
+     * @param status  текущий статус игры.
+     * @param version версия записи.
+     */
+    public GameSessionEntity(UUID id, GameMapEntity map, GameStatusEntity status, long version) {
         this.id = id;
         this.map = map;
         this.status = status;
+        this.version = version;
     }
 
     /**
@@ -76,4 +94,20 @@ public class GameSessionEntity {
     public void setStatus(GameStatusEntity status) {
         this.status = status;
     }
+
+    /**
+     * Возвращает версию записи.
+     * @return версия записи.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Обновляет версию записи.
+     * @param version новая версия.
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+package org.example.datasource.model;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Сущность игровой сессии в журнальном (event-sourced) представлении.
+ * <p>
+ * Вместо полного поля хранит параметры создания (размер) и журнал ходов, где каждый ход
+ * упакован в одно целое число: {@code (индекс ячейки << 2) | значение ячейки}.
+ * Поле восстанавливается повторным применением ходов.
+ * <p>
+ * Объект неизменяем: добавление хода создает новый объект. Массив ходов разделяется между
+ * версиями журнала, пока в нём есть место, поэтому запись хода стоит одну ячейку массива.
+ * Все добавления в один журнал должны выполняться последовательно (под блокировкой записи).
+ */
+public class MoveLogEntity {
+
+    /** Начальная емкость массива ходов */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Уникальный идентификатор игровой сессии */
+    private final UUID id;
+
+    /** Размер стороны поля — параметр создания сессии */
+    private final int size;
+
+    /** Упакованные ходы; валидны только первые {@code moveCount} элементов */
+    private final int[] moves;
+
+    /** Количество ходов в этой версии журнала */
+    private final int moveCount;
+
+    /** Статус игры после последнего хода */
+    private final GameStatusEntity status;
+
+    /** Версия записи для оптимистичной блокировки */
+    private final long version;
+
+    /**
+     * Создает пустой журнал новой сессии.
+     *
+     * @param id      идентификатор сессии.
+     * @param size    размер стороны поля.
+     * @param status  статус игры.
+     * @param version версия записи.
+     */
+    public MoveLogEntity(UUID id, int size, GameStatusEntity status, long version) {
+        this(id, size, new int[INITIAL_CAPACITY], 0, status, version);
+    }
+
+    private MoveLogEntity(UUID id, int size, int[] moves, int moveCount, GameStatusEntity status, long version) {
+        this.id = id;
+        this.size = size;
+        this.moves = moves;
+        this.moveCount = moveCount;
+        this.status = status;
+        this.version = version;
+    }
+
+    /**
+     * Упаковывает ход в одно целое число.
+     *
+     * @param row       строка.
+     * @param col       столбец.
+     * @param size      размер стороны поля.
+     * @param cellValue значение ячейки (крестик или нолик).
+     * @return упакованный ход.
+     */
+    public static int pack(int row, int col, int size, int cellValue) {
+        return ((row * size + col) << 2) | cellValue;
+    }
+
+    /**
+     * Возвращает новую версию журнала с добавленным ходом.
+     *
+     * @param packedMove ход, упакованный методом {@link #pack}.
+     * @return журнал, содержащий все прежние ходы и новый.
+     */
+    public MoveLogEntity append(int packedMove) {
+        int[] target = moves;
+        if (moveCount == moves.length) {
+            target = Arrays.copyOf(moves, moves.length * 2);
+        }
+        target[moveCount] = packedMove;
+        return new MoveLogEntity(id, size, target, moveCount + 1, status, version);
+    }
+
+    /**
+     * Возвращает копию журнала с другим статусом и версией (ходы разделяются).
+     *
+     * @param status  новый статус.
+     * @param version новая версия.
+     * @return новая версия журнала.
+     */
+    public MoveLogEntity withState(GameStatusEntity status, long version) {
+        return new MoveLogEntity(id, size, moves, moveCount, status, version);
+    }
+
+    /**
+     * Применяет к полю ходы журнала, начиная с указанного номера.
+     *
+     * @param board поле, на которое применяются ходы.
+     * @param from  номер первого применяемого хода.
+     */
+    public void applyTo(int[][] board, int from) {
+        for (int i = from; i < moveCount; i++) {
+            int cell = moves[i] >>> 2;
+            board[cell / size][cell % size] = moves[i] & 3;
+        }
+    }
+
+    /**
+     * Восстанавливает поле из журнала.
+     * @return новый двумерный массив состояния поля.
+     */
+    public int[][] replay() {
+        int[][] board = new int[size][size];
+        applyTo(board, 0);
+        return board;
+    }
+
+    /**
+     * Проверяет, что этот журнал является продолжением другого (разделяет с ним ходы).
+     *
+     * @param other предыдущая версия журнала.
+     * @return {@code true}, если первые ходы этого журнала совпадают с ходами {@code other}.
+     */
+    public boolean isContinuationOf(MoveLogEntity other) {
+        if (other.moveCount > moveCount || other.size != size) {
+            return false;
+        }
+        return other.moves == moves || Arrays.equals(other.moves, 0, other.moveCount, moves, 0, other.moveCount);
+    }
+
+    /**
+     * Возвращает ход по номеру в формате {@code [row, col, value]}.
+     *
+     * @param index номер хода.
+     * @return координаты и значение ячейки.
+     */
+    public int[] moveAt(int index) {
+        if (index < 0 || index >= moveCount) {
+            throw new IndexOutOfBoundsException("Move index " + index + " is out of range.");
+        }
+        int cell = moves[index] >>> 2;
+        return new int[]{cell / size, cell % size, moves[index] & 3};
+    }
+
+    /**
+     * Возвращает идентификатор сессии.
+     * @return идентификатор сессии.
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Возвращает размер стороны поля.
+     * @return размер стороны поля.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Возвращает количество ходов в журнале.
+     * @return количество ходов.
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Возвращает статус игры.
+     * @return статус игры.
+     */
+    public GameStatusEntity getStatus() {
+        return status;
+    }
+
+    /**
+     * Возвращает версию записи.
+     * @return версия записи.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
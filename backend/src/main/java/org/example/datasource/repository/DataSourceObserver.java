@@ -0,0 +1,50 @@
+package org.example.datasource.repository;
+
+/**
+ * Получатель длительностей операций слоя данных (например, для метрик):
+ * обращений к хранилищу и преобразований {@link org.example.datasource.mapper.GameMapper}.
+ * <p>
+ * Вызывается синхронно в потоке запроса, поэтому реализация должна быстро вернуть управление.
+ */
+public interface DataSourceObserver {
+
+    /** Получатель, игнорирующий измерения */
+    DataSourceObserver NOOP = new DataSourceObserver() {
+        @Override
+        public void onStorage(StorageOperation operation, long nanos) {
+        }
+
+        @Override
+        public void onMapping(MappingDirection direction, long nanos) {
+        }
+    };
+
+    /**
+     * Операция хранилища выполнена.
+     *
+     * @param operation операция.
+     * @param nanos     длительность в наносекундах.
+     */
+    void onStorage(StorageOperation operation, long nanos);
+
+    /**
+     * Преобразование между доменной моделью и сущностью выполнено.
+     *
+     * @param direction направление преобразования.
+     * @param nanos     длительность в наносекундах.
+     */
+    void onMapping(MappingDirection direction, long nanos);
+
+    /** Измеряемые операции хранилища */
+    enum StorageOperation {
+        SAVE,
+        COMPARE_AND_SAVE,
+        FIND_BY_ID
+    }
+
+    /** Направления преобразования {@link org.example.datasource.mapper.GameMapper} */
+    enum MappingDirection {
+        TO_ENTITY,
+        TO_DOMAIN
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.datasource.repository;
+
+import org.example.domain.event.GameEventListener;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.SessionPage;
+import org.example.domain.repository.GameRepository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Декоратор репозитория, уведомляющий {@link GameEventListener} об успешных записях.
+ * <p>
+ * Ошибка получателя записывается в журнал и не влияет на результат записи,
+ * поэтому наблюдатели не могут нарушить обработку ходов.
+ */
+public class EventPublishingGameRepository implements GameRepository, AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(EventPublishingGameRepository.class.getName());
+
+    private final GameRepository delegate;
+    private final GameEventListener listener;
+
+    /**
+     * Создает декоратор.
+     *
+     * @param delegate основной репозиторий.
+     * @param listener получатель уведомлений.
+     */
+    public EventPublishingGameRepository(GameRepository delegate, GameEventListener listener) {
+        this.delegate = delegate;
+        this.listener = listener;
+    }
+
+    /**
+     * Сохраняет сессию и уведомляет получателя.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     */
+    @Override
+    public void save(GameSession gameSession) {
+        delegate.save(gameSession);
+        notifySaved(gameSession);
+    }
+
+    /**
+     * Сохраняет сессии пакетом и уведомляет получателя о каждой.
+     *
+     * @param sessions сессии для сохранения.
+     */
+    @Override
+    public void saveAll(Collection<GameSession> sessions) {
+        delegate.saveAll(sessions);
+        sessions.forEach(this::notifySaved);
+    }
+
+    /**
+     * Атомарно сохраняет сессию и уведомляет получателя, если запись выполнена.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     * @return {@code true}, если сессия сохранена; {@code false} при конфликте версий.
+     */
+    @Override
+    public boolean compareAndSave(GameSession gameSession) {
+        boolean saved = delegate.compareAndSave(gameSession);
+        if (saved) {
+            notifySaved(gameSession);
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<GameSession> findById(UUID id) {
+        return delegate.findById(id);
+    }
+
+    /**
+     * Удаляет сессию и уведомляет получателя.
+     *
+     * @param id UUID сессии для удаления.
+     */
+    @Override
+    public void removeById(UUID id) {
+        delegate.removeById(id);
+        try {
+            listener.onRemoved(id);
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Game event listener failed on removal", e);
+        }
+    }
+
+    @Override
+    public Map<UUID, GameSession> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public SessionPage findPage(UUID cursor, int limit, GameStatus status) {
+        return delegate.findPage(cursor, limit, status);
+    }
+
+    @Override
+    public Stream<GameSession> stream() {
+        return delegate.stream();
+    }
+
+    @Override
+    public Stream<GameSession> streamByStatus(GameStatus status) {
+        return delegate.streamByStatus(status);
+    }
+
+    @Override
+    public Stream<GameSession> streamCreatedBetween(Instant from, Instant to) {
+        return delegate.streamCreatedBetween(from, to);
+    }
+
+    @Override
+    public Stream<UUID> streamIdsCreatedBetween(Instant from, Instant to) {
+        return delegate.streamIdsCreatedBetween(from, to);
+    }
+
+    /**
+     * Закрывает основной репозиторий, если он этого требует (например, {@link WriteBehindGameRepository}
+     * записывает накопленные изменения), чтобы декоратор не скрывал закрытие от контейнера.
+     *
+     * @throws Exception если закрытие основного репозитория завершилось ошибкой.
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void notifySaved(GameSession session) {
+        try {
+            listener.onSaved(session);
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Game event listener failed on save", e);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package org.example.datasource.repository;
+
+import org.example.datasource.model.GameStatusEntity;
+import org.example.datasource.model.MoveLogEntity;
+import org.example.datasource.storage.MoveLogStorage;
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.SessionPage;
+import org.example.domain.repository.GameRepository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Журнальная (event-sourced) реализация репозитория игровых сессий.
+ * <p>
+ * Сессия хранится как параметры создания и журнал ходов ({@link MoveLogEntity}).
+ * При сохранении новое поле сравнивается с текущим, и в журнал дописываются только
+ * новые ходы — обычно одна-две упакованные ячейки вместо всего поля. Поле восстанавливается
+ * при чтении; для часто читаемых сессий результат кэшируется и дополняется только новыми ходами.
+ * Полный журнал партии доступен через {@link #findMoves(UUID)}.
+ */
+public class EventSourcedGameRepository implements GameRepository {
+
+    /** Порядок ходов внутри одного сохранения: сначала игрок (X), затем ответ ИИ (0) */
+    private static final int[] MOVE_ORDER = {CellType.CROSS.getValue(), CellType.ZERO.getValue()};
+
+    /** Хранилище журналов ходов */
+    private final MoveLogStorage storage;
+
+    /** Максимальное количество восстановленных полей в кэше */
+    private final int cacheCapacity;
+
+    /** Кэш восстановленных полей «горячих» сессий */
+    private final Map<UUID, CachedBoard> boardCache = new ConcurrentHashMap<>();
+
+    /**
+     * Создает журнальный репозиторий.
+     *
+     * @param storage       хранилище журналов ходов.
+     * @param cacheCapacity максимальное количество полей в кэше.
+     */
+    public EventSourcedGameRepository(MoveLogStorage storage, int cacheCapacity) {
+        this.storage = storage;
+        this.cacheCapacity = cacheCapacity;
+    }
+
+    /**
+     * Сохраняет сессию, дописывая в журнал только изменившиеся ячейки.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     */
+    @Override
+    public void save(GameSession gameSession) {
+        storage.compute(gameSession.getId(),
+                (id, current) -> toLog(gameSession, current, gameSession.getVersion()));
+    }
+
+    /**
+     * Атомарно дописывает ходы сессии, если её версия не изменилась с момента чтения.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     * @return {@code true}, если сессия сохранена; {@code false} при конфликте версий.
+     */
+    @Override
+    public boolean compareAndSave(GameSession gameSession) {
+        long expectedVersion = gameSession.getVersion();
+        boolean[] applied = {false};
+
+        storage.compute(gameSession.getId(), (id, current) -> {
+            long currentVersion = current == null ? 0L : current.getVersion();
+            if (currentVersion != expectedVersion) {
+                return current;
+            }
+            applied[0] = true;
+            return toLog(gameSession, current, expectedVersion + 1);
+        });
+
+        if (applied[0]) {
+            gameSession.setVersion(expectedVersion + 1);
+        }
+        return applied[0];
+    }
+
+    /**
+     * Восстанавливает сессию из журнала.
+     *
+     * @param id UUID сессии.
+     * @return {@link Optional} с восстановленной сессией или пустой Optional.
+     */
+    @Override
+    public Optional<GameSession> findById(UUID id) {
+        return Optional.ofNullable(storage.findById(id)).map(this::toDomain);
+    }
+
+    /**
+     * Удаляет журнал сессии и её поле из кэша.
+     *
+     * @param id UUID сессии для удаления.
+     */
+    @Override
+    public void removeById(UUID id) {
+        storage.removeById(id);
+        boardCache.remove(id);
+    }
+
+    /**
+     * Восстанавливает все сессии.
+     *
+     * @return карта всех игровых сессий.
+     */
+    @Override
+    public Map<UUID, GameSession> getAll() {
+        return stream().collect(Collectors.toMap(GameSession::getId, session -> session));
+    }
+
+    /**
+     * Возвращает страницу сессий после курсора; восстанавливаются только сессии страницы.
+     *
+     * @param cursor курсор предыдущей страницы или {@code null}.
+     * @param limit  максимальный размер страницы.
+     * @param status статус для фильтрации или {@code null}.
+     * @return страница сессий.
+     */
+    @Override
+    public SessionPage findPage(UUID cursor, int limit, GameStatus status) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive.");
+        }
+
+        GameStatusEntity statusEntity = status == null ? null : GameStatusEntity.valueOf(status.name());
+        List<GameSession> items = new ArrayList<>(Math.min(limit, 64));
+        boolean hasNext = false;
+
+        Iterator<MoveLogEntity> logs = storage.streamAfter(cursor)
+                .filter(log -> statusEntity == null || log.getStatus() == statusEntity)
+                .iterator();
+        while (logs.hasNext()) {
+            MoveLogEntity log = logs.next();
+            if (items.size() == limit) {
+                hasNext = true;
+                break;
+            }
+            items.add(toDomain(log));
+        }
+
+        UUID nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new SessionPage(items, nextCursor);
+    }
+
+    /**
+     * Возвращает ленивый поток всех сессий.
+     *
+     * @return поток восстановленных сессий.
+     */
+    @Override
+    public Stream<GameSession> stream() {
+        return storage.streamAfter(null).map(this::toDomain);
+    }
+
+    /**
+     * Возвращает ленивый поток сессий с указанным статусом.
+     *
+     * @param status статус искомых сессий.
+     * @return поток восстановленных сессий.
+     */
+    @Override
+    public Stream<GameSession> streamByStatus(GameStatus status) {
+        GameStatusEntity statusEntity = GameStatusEntity.valueOf(status.name());
+        return storage.streamAfter(null)
+                .filter(log -> log.getStatus() == statusEntity)
+                .map(this::toDomain);
+    }
+
+    /**
+     * Возвращает сессии, созданные в интервале времени, по упорядоченному индексу идентификаторов.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток восстановленных сессий в порядке создания.
+     */
+    @Override
+    public Stream<GameSession> streamCreatedBetween(Instant from, Instant to) {
+        return storage.streamRange(
+                        TimeOrderedSessionIdGenerator.lowerBound(from),
+                        TimeOrderedSessionIdGenerator.lowerBound(to))
+                .filter(log -> log.getId().version() == 7)
+                .map(this::toDomain);
+    }
+
+    /**
+     * Возвращает идентификаторы сессий, созданных в интервале времени, без воспроизведения журналов.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток идентификаторов в порядке создания.
+     */
+    @Override
+    public Stream<UUID> streamIdsCreatedBetween(Instant from, Instant to) {
+        return storage.streamRange(
+                        TimeOrderedSessionIdGenerator.lowerBound(from),
+                        TimeOrderedSessionIdGenerator.lowerBound(to))
+                .map(MoveLogEntity::getId)
+                .filter(id -> id.version() == 7);
+    }
+
+    /**
+     * Возвращает журнал ходов партии в порядке их совершения.
+     *
+     * @param id UUID сессии.
+     * @return список ходов в формате {@code [row, col, value]} или пустой список, если сессия не найдена.
+     */
+    public List<int[]> findMoves(UUID id) {
+        MoveLogEntity log = storage.findById(id);
+        if (log == null) {
+            return List.of();
+        }
+
+        List<int[]> moves = new ArrayList<>(log.getMoveCount());
+        for (int i = 0; i < log.getMoveCount(); i++) {
+            moves.add(log.moveAt(i));
+        }
+        return moves;
+    }
+
+    /**
+     * Строит новую версию журнала по состоянию сессии.
+     * Если сессия новая или ранее занятая ячейка изменилась, журнал строится заново из поля.
+     * <p>
+     * Ход игрока и ответ ИИ сохраняются одним вызовом, поэтому новые ячейки дописываются
+     * в порядке очереди ходов ({@link #MOVE_ORDER}), а не в порядке обхода поля.
+     */
+    private MoveLogEntity toLog(GameSession session, MoveLogEntity current, long version) {
+        GameMap map = session.getGameMap();
+        int size = map.getSize();
+        int[][] target = map.getMap();
+        GameStatusEntity status = GameStatusEntity.valueOf(session.getStatus().name());
+
+        if (current == null || current.getSize() != size) {
+            return fromBoard(session.getId(), target, size, status, version);
+        }
+
+        int[][] board = boardOf(current);
+        MoveLogEntity log = current;
+        for (int player : MOVE_ORDER) {
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (board[r][c] == target[r][c]) {
+                        continue;
+                    }
+                    if (board[r][c] != CellType.EMPTY.getValue()) {
+                        return fromBoard(session.getId(), target, size, status, version);
+                    }
+                    if (target[r][c] == player) {
+                        log = log.append(MoveLogEntity.pack(r, c, size, player));
+                    }
+                }
+            }
+        }
+        return log.withState(status, version);
+    }
+
+    private static MoveLogEntity fromBoard(UUID id, int[][] board, int size, GameStatusEntity status, long version) {
+        MoveLogEntity log = new MoveLogEntity(id, size, status, version);
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (board[r][c] != CellType.EMPTY.getValue()) {
+                    log = log.append(MoveLogEntity.pack(r, c, size, board[r][c]));
+                }
+            }
+        }
+        return log;
+    }
+
+    private GameSession toDomain(MoveLogEntity log) {
+        int[][] board = boardOf(log);
+        int size = log.getSize();
+
+        int[][] copy = new int[size][];
+        for (int i = 0; i < size; i++) {
+            copy[i] = board[i].clone();
+        }
+
+        return new GameSession(log.getId(), new GameMap(copy, size),
+                GameStatus.valueOf(log.getStatus().name()), log.getVersion());
+    }
+
+    /**
+     * Возвращает поле для указанной версии журнала.
+     * Кэшированное поле используется напрямую или дополняется только новыми ходами.
+     * Возвращаемый массив разделяется с кэшем и не должен изменяться.
+     */
+    private int[][] boardOf(MoveLogEntity log) {
+        CachedBoard cached = boardCache.get(log.getId());
+        if (cached != null && cached.log == log) {
+            return cached.board;
+        }
+
+        int[][] board;
+        if (cached != null && log.isContinuationOf(cached.log)) {
+            board = new int[log.getSize()][];
+            for (int i = 0; i < board.length; i++) {
+                board[i] = cached.board[i].clone();
+            }
+            log.applyTo(board, cached.log.getMoveCount());
+        } else {
+            board = log.replay();
+        }
+
+        boardCache.put(log.getId(), new CachedBoard(log, board));
+        trimCache(log.getId());
+        return board;
+    }
+
+    /**
+     * Удерживает размер кэша в пределах емкости, удаляя произвольные записи, кроме только что добавленной.
+     */
+    private void trimCache(UUID keep) {
+        Iterator<UUID> keys = boardCache.keySet().iterator();
+        while (boardCache.size() > cacheCapacity && keys.hasNext()) {
+            UUID key = keys.next();
+            if (!key.equals(keep)) {
+                keys.remove();
+            }
+        }
+    }
+
+    /** Восстановленное поле вместе с версией журнала, из которой оно получено */
+    private static final class CachedBoard {
+        private final MoveLogEntity log;
+        private final int[][] board;
+
+        private CachedBoard(MoveLogEntity log, int[][] board) {
+            this.log = log;
+            this.board = board;
+        }
+    }
+}
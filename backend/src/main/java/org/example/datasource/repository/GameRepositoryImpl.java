@@ -1,14 +1,23 @@
 package org.example.datasource.repository;
 
 import org.example.datasource.mapper.GameMapper;
+import org.example.datasource.repository.DataSourceObserver.MappingDirection;
+import org.example.datasource.repository.DataSourceObserver.StorageOperation;
 import org.example.datasource.model.GameSessionEntity;
+import org.example.datasource.model.GameStatusEntity;
 import org.example.datasource.storage.GameStorage;
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
 import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.SessionPage;
 import org.example.domain.repository.GameRepository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Реализация интерфейса репозитория для управления игровыми сессиями.
@@ -21,12 +30,27 @@ public class GameRepositoryImpl implements GameRepository {
     /** Хранилище данных (например, в оперативной памяти или БД) */
     private final GameStorage gameStorage;
 
+    /** Получатель длительностей операций хранилища и преобразований */
+    private final DataSourceObserver observer;
+
     /**
      * Создает экземпляр репозитория.
      * @param gameStorage реализация хранилища данных.
      */
     public GameRepositoryImpl(GameStorage gameStorage) {
+        this(gameStorage, DataSourceObserver.NOOP);
+    }
+
+    /**
+     * Создает экземпляр репозитория с измерением длительности операций
+     * сохранения и поиска по идентификатору.
+     *
+     * @param gameStorage реализация хранилища данных.
+     * @param observer    получатель длительностей операций.
+     */
+    public GameRepositoryImpl(GameStorage gameStorage, DataSourceObserver observer) {
         this.gameStorage = gameStorage;
+        this.observer = observer;
     }
 
     /**
@@ -37,8 +61,33 @@ public class GameRepositoryImpl implements GameRepository {
      */
     @Override
     public void save(GameSession gameSession) {
-        GameSessionEntity gameSessionEntity = GameMapper.toEntity(gameSession);
+        GameSessionEntity gameSessionEntity = toEntity(gameSession);
+
+        long start = System.nanoTime();
         gameStorage.save(gameSessionEntity);
+        observer.onStorage(StorageOperation.SAVE, System.nanoTime() - start);
+    }
+
+    /**
+     * Атомарно сохраняет состояние игры, если его версия не изменилась с момента чтения.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     * @return {@code true}, если сессия сохранена; {@code false} при конфликте версий.
+     */
+    @Override
+    public boolean compareAndSave(GameSession gameSession) {
+        GameSessionEntity gameSessionEntity = toEntity(gameSession);
+        if (gameSessionEntity == null) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        boolean saved = gameStorage.compareAndSave(gameSessionEntity, gameSession.getVersion());
+        observer.onStorage(StorageOperation.COMPARE_AND_SAVE, System.nanoTime() - start);
+        if (saved) {
+            gameSession.setVersion(gameSessionEntity.getVersion());
+        }
+        return saved;
     }
 
     /**
@@ -50,10 +99,17 @@ public class GameRepositoryImpl implements GameRepository {
      */
     @Override
     public Optional<GameSession> findById(UUID id) {
+        long start = System.nanoTime();
         GameSessionEntity gameSessionEntity = gameStorage.findById(id);
+        long found = System.nanoTime();
+        observer.onStorage(StorageOperation.FIND_BY_ID, found - start);
 
-        return Optional.ofNullable(gameSessionEntity)
-                .map(GameMapper::toDomain);
+        if (gameSessionEntity == null) {
+            return Optional.empty();
+        }
+        GameSession gameSession = GameMapper.toDomain(gameSessionEntity);
+        observer.onMapping(MappingDirection.TO_DOMAIN, System.nanoTime() - found);
+        return Optional.of(gameSession);
     }
 
     /**
@@ -75,4 +131,97 @@ public class GameRepositoryImpl implements GameRepository {
     public Map<UUID, GameSession> getAll() {
         return GameMapper.toDomainMap(gameStorage.getAll());
     }
-}
\ No newline at end of file
+
+    /**
+     * Возвращает страницу сессий после курсора.
+     * Запрашивает у хранилища на одну запись больше лимита, чтобы определить наличие следующей страницы.
+     *
+     * @param cursor курсор предыдущей страницы или {@code null}.
+     * @param limit  максимальный размер страницы.
+     * @param status статус для фильтрации или {@code null}.
+     * @return страница доменных моделей.
+     */
+    @Override
+    public SessionPage findPage(UUID cursor, int limit, GameStatus status) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page limit must be positive.");
+        }
+
+        GameStatusEntity statusEntity = status == null ? null : GameStatusEntity.valueOf(status.name());
+        List<GameSessionEntity> entities = gameStorage.findPage(cursor, limit + 1, statusEntity);
+
+        boolean hasNext = entities.size() > limit;
+        List<GameSession> items = entities.stream()
+                .limit(limit)
+                .map(GameMapper::toDomain)
+                .toList();
+        UUID nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+
+        return new SessionPage(items, nextCursor);
+    }
+
+    /**
+     * Возвращает ленивый поток всех сессий.
+     *
+     * @return поток доменных моделей.
+     */
+    @Override
+    public Stream<GameSession> stream() {
+        return gameStorage.stream().map(GameMapper::toDomain);
+    }
+
+    /**
+     * Возвращает ленивый поток сессий с указанным статусом.
+     *
+     * @param status статус искомых сессий.
+     * @return поток доменных моделей.
+     */
+    @Override
+    public Stream<GameSession> streamByStatus(GameStatus status) {
+        GameStatusEntity statusEntity = GameStatusEntity.valueOf(status.name());
+        return gameStorage.stream()
+                .filter(entity -> entity.getStatus() == statusEntity)
+                .map(GameMapper::toDomain);
+    }
+
+    /**
+     * Возвращает сессии, созданные в интервале времени, диапазонным сканированием
+     * упорядоченного хранилища без просмотра остальных сессий.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток доменных моделей в порядке создания.
+     */
+    @Override
+    public Stream<GameSession> streamCreatedBetween(Instant from, Instant to) {
+        return gameStorage.streamRange(
+                        TimeOrderedSessionIdGenerator.lowerBound(from),
+                        TimeOrderedSessionIdGenerator.lowerBound(to))
+                .filter(entity -> entity.getId().version() == 7)
+                .map(GameMapper::toDomain);
+    }
+
+    /**
+     * Возвращает идентификаторы сессий, созданных в интервале времени, тем же диапазонным
+     * сканированием, но без преобразования сущностей в доменные модели.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток идентификаторов в порядке создания.
+     */
+    @Override
+    public Stream<UUID> streamIdsCreatedBetween(Instant from, Instant to) {
+        return gameStorage.streamRange(
+                        TimeOrderedSessionIdGenerator.lowerBound(from),
+                        TimeOrderedSessionIdGenerator.lowerBound(to))
+                .map(GameSessionEntity::getId)
+                .filter(id -> id.version() == 7);
+    }
+
+    private GameSessionEntity toEntity(GameSession gameSession) {
+        long start = System.nanoTime();
+        GameSessionEntity gameSessionEntity = GameMapper.toEntity(gameSession);
+        observer.onMapping(MappingDirection.TO_ENTITY, System.nanoTime() - start);
+        return gameSessionEntity;
+    }
+}
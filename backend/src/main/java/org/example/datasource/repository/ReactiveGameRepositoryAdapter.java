@@ -0,0 +1,49 @@
+package org.example.datasource.repository;
+
+import org.example.domain.model.GameSession;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.repository.ReactiveGameRepository;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.UUID;
+
+/**
+ * Адаптер синхронного {@link GameRepository} к {@link ReactiveGameRepository}.
+ * <p>
+ * Вызовы репозитория выполняются на переданном планировщике. Для хранилищ в памяти
+ * достаточно {@code Schedulers.immediate()}: операции не выполняют ввод-вывод и не блокируются,
+ * поэтому переключение потока стоило бы дороже самой операции. Для хранилищ с блокирующим
+ * вводом-выводом следует передать отдельный ограниченный планировщик.
+ */
+public class ReactiveGameRepositoryAdapter implements ReactiveGameRepository {
+
+    private final GameRepository delegate;
+    private final Scheduler scheduler;
+
+    /**
+     * Создает адаптер.
+     *
+     * @param delegate  синхронный репозиторий.
+     * @param scheduler планировщик, на котором выполняются вызовы репозитория.
+     */
+    public ReactiveGameRepositoryAdapter(GameRepository delegate, Scheduler scheduler) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Mono<Void> save(GameSession gameSession) {
+        return Mono.<Void>fromRunnable(() -> delegate.save(gameSession)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Boolean> compareAndSave(GameSession gameSession) {
+        return Mono.fromCallable(() -> delegate.compareAndSave(gameSession)).subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<GameSession> findById(UUID id) {
+        return Mono.fromCallable(() -> delegate.findById(id).orElse(null)).subscribeOn(scheduler);
+    }
+}
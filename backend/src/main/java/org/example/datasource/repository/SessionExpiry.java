@@ -0,0 +1,152 @@
+package org.example.datasource.repository;
+
+import org.example.domain.repository.GameRepository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Фоновое удаление сессий старше заданного срока жизни.
+ * <p>
+ * Срок отсчитывается от создания сессии, которое закодировано в time-ordered идентификаторе,
+ * поэтому каждый проход выбирает только интервал от начала времени до границы
+ * ({@link GameRepository#streamIdsCreatedBetween}) без обхода остальных сессий и без копирования
+ * самих сессий. Удаление идет порциями по {@link #CHUNK_SIZE} идентификаторов, поэтому проход
+ * не накапливает список всех устаревших сессий.
+ * <p>
+ * Партия в процессе тоже удаляется, если она длится дольше срока жизни, поэтому срок не может
+ * быть меньше {@link #MIN_TTL}: это заведомо дольше любой реальной партии.
+ * <p>
+ * Удаление выполняется через полную цепочку репозитория ({@link GameRepository#removeById}),
+ * а не напрямую в хранилище: отложенная запись не восстанавливает удаленную сессию,
+ * подписчики событий узнают об удалении, а журнальный режим удаляет журналы ходов.
+ */
+public class SessionExpiry implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(SessionExpiry.class.getName());
+
+    /** Минимальный срок жизни сессии */
+    static final Duration MIN_TTL = Duration.ofHours(1);
+
+    /** Количество идентификаторов, удаляемых за одну порцию */
+    static final int CHUNK_SIZE = 256;
+
+    private final GameRepository repository;
+    private final Duration ttl;
+    private final Clock clock;
+
+    /** Количество сессий, удаленных по сроку жизни */
+    private final LongAdder expirations = new LongAdder();
+
+    /** Фоновый поток проходов удаления */
+    private final ScheduledExecutorService sweeper;
+
+    /**
+     * Создает и запускает фоновое удаление с системными часами.
+     *
+     * @param repository репозиторий сессий (внешний декоратор цепочки).
+     * @param ttl        срок жизни сессии от создания.
+     * @param interval   интервал между проходами удаления.
+     * @throws IllegalArgumentException если срок жизни меньше {@link #MIN_TTL} или интервал не положителен.
+     */
+    public SessionExpiry(GameRepository repository, Duration ttl, Duration interval) {
+        this(repository, ttl, interval, Clock.systemUTC());
+    }
+
+    /**
+     * Создает и запускает фоновое удаление с заданными часами.
+     *
+     * @param repository репозиторий сессий (внешний декоратор цепочки).
+     * @param ttl        срок жизни сессии от создания.
+     * @param interval   интервал между проходами удаления.
+     * @param clock      источник текущего времени.
+     * @throws IllegalArgumentException если срок жизни меньше {@link #MIN_TTL} или интервал не положителен.
+     */
+    public SessionExpiry(GameRepository repository, Duration ttl, Duration interval, Clock clock) {
+        if (ttl.compareTo(MIN_TTL) < 0) {
+            throw new IllegalArgumentException("Session TTL must be at least " + MIN_TTL.toMinutes() + " minutes.");
+        }
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Expiry interval must be positive.");
+        }
+
+        this.repository = repository;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-session-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalMillis = interval.toMillis();
+        sweeper.scheduleWithFixedDelay(this::expireQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Удаляет сессии, созданные раньше, чем срок жизни назад.
+     * Сессии со случайными идентификаторами не содержат времени создания и не удаляются.
+     *
+     * @return количество удаленных сессий.
+     */
+    public int expireNow() {
+        Instant cutoff = clock.instant().minus(ttl);
+        int removed = 0;
+        List<UUID> chunk = new ArrayList<>(CHUNK_SIZE);
+        // Поток хранилища слабо согласован, поэтому удаление уже прочитанных порций не мешает обходу
+        try (Stream<UUID> ids = repository.streamIdsCreatedBetween(Instant.EPOCH, cutoff)) {
+            Iterator<UUID> iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    removed += removeAll(chunk);
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Возвращает накопленное количество сессий, удаленных по сроку жизни.
+     * @return количество удалений по сроку.
+     */
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    /**
+     * Останавливает фоновые проходы.
+     */
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    private int removeAll(List<UUID> chunk) {
+        for (UUID id : chunk) {
+            repository.removeById(id);
+        }
+        int removed = chunk.size();
+        expirations.add(removed);
+        chunk.clear();
+        return removed;
+    }
+
+    private void expireQuietly() {
+        try {
+            expireNow();
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Session expiry pass failed, will retry", e);
+        }
+    }
+}
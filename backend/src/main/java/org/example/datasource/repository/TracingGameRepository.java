@@ -0,0 +1,175 @@
+package org.example.datasource.repository;
+
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.SessionPage;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.trace.RequestTimings;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Декоратор репозитория, отмечающий обращения к хранилищу в разбивке времени запроса
+ * ({@link RequestTimings}): поиск как этап {@code find}, записи как этап {@code save}.
+ * <p>
+ * Вне измеряемого запроса и при выключенном измерении декоратор только передает вызовы.
+ */
+public class TracingGameRepository implements GameRepository, AutoCloseable {
+
+    private final GameRepository delegate;
+
+    /**
+     * Создает декоратор.
+     *
+     * @param delegate основной репозиторий.
+     */
+    public TracingGameRepository(GameRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Сохраняет сессию, отмечая запись как этап {@code save}.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     */
+    @Override
+    public void save(GameSession gameSession) {
+        try (RequestTimings.Span span = RequestTimings.span("save")) {
+            delegate.save(gameSession);
+        }
+    }
+
+    /**
+     * Сохраняет пакет сессий, отмечая запись как этап {@code save}.
+     *
+     * @param sessions сессии для сохранения.
+     */
+    @Override
+    public void saveAll(Collection<GameSession> sessions) {
+        try (RequestTimings.Span span = RequestTimings.span("save")) {
+            delegate.saveAll(sessions);
+        }
+    }
+
+    /**
+     * Сохраняет сессию при совпадении версии, отмечая запись как этап {@code save}.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     * @return {@code true}, если сессия сохранена; {@code false} при конфликте версий.
+     */
+    @Override
+    public boolean compareAndSave(GameSession gameSession) {
+        try (RequestTimings.Span span = RequestTimings.span("save")) {
+            return delegate.compareAndSave(gameSession);
+        }
+    }
+
+    /**
+     * Находит сессию, отмечая поиск как этап {@code find}.
+     *
+     * @param id UUID сессии.
+     * @return {@link Optional} с сессией или пустой Optional.
+     */
+    @Override
+    public Optional<GameSession> findById(UUID id) {
+        try (RequestTimings.Span span = RequestTimings.span("find")) {
+            return delegate.findById(id);
+        }
+    }
+
+    /**
+     * Удаляет сессию без измерения.
+     *
+     * @param id UUID сессии для удаления.
+     */
+    @Override
+    public void removeById(UUID id) {
+        delegate.removeById(id);
+    }
+
+    /**
+     * Возвращает все сессии без измерения.
+     *
+     * @return карта всех игровых сессий.
+     */
+    @Override
+    public Map<UUID, GameSession> getAll() {
+        return delegate.getAll();
+    }
+
+    /**
+     * Возвращает страницу сессий без измерения.
+     *
+     * @param cursor курсор предыдущей страницы или {@code null}.
+     * @param limit  максимальный размер страницы.
+     * @param status статус для фильтрации или {@code null}.
+     * @return страница сессий.
+     */
+    @Override
+    public SessionPage findPage(UUID cursor, int limit, GameStatus status) {
+        return delegate.findPage(cursor, limit, status);
+    }
+
+    /**
+     * Возвращает поток всех сессий без измерения.
+     *
+     * @return поток игровых сессий.
+     */
+    @Override
+    public Stream<GameSession> stream() {
+        return delegate.stream();
+    }
+
+    /**
+     * Возвращает поток сессий с указанным статусом без измерения.
+     *
+     * @param status статус искомых сессий.
+     * @return поток игровых сессий.
+     */
+    @Override
+    public Stream<GameSession> streamByStatus(GameStatus status) {
+        return delegate.streamByStatus(status);
+    }
+
+    /**
+     * Возвращает сессии, созданные в интервале времени, без измерения.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток игровых сессий.
+     */
+    @Override
+    public Stream<GameSession> streamCreatedBetween(Instant from, Instant to) {
+        return delegate.streamCreatedBetween(from, to);
+    }
+
+    /**
+     * Возвращает идентификаторы сессий, созданных в интервале времени, без измерения.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток идентификаторов.
+     */
+    @Override
+    public Stream<UUID> streamIdsCreatedBetween(Instant from, Instant to) {
+        return delegate.streamIdsCreatedBetween(from, to);
+    }
+
+    /**
+     * Закрывает основной репозиторий, если он этого требует (например, {@link WriteBehindGameRepository}
+     * записывает накопленные изменения), чтобы декоратор не скрывал закрытие от контейнера.
+     *
+     * @throws Exception если закрытие основного репозитория завершилось ошибкой.
+     */
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package org.example.datasource.repository;
+
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.SessionPage;
+import org.example.domain.repository.GameRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Декоратор репозитория с отложенной пакетной записью (write-behind).
+ * <p>
+ * Сохранения попадают в буфер в оперативной памяти и возвращают управление сразу.
+ * Повторные сохранения одной сессии схлопываются в одну запись, а буфер сбрасывается
+ * в основной репозиторий пакетами — при достижении размера пакета или по таймеру.
+ * <p>
+ * Чтение сессии сначала проверяет буфер, поэтому запрос всегда видит собственные изменения.
+ * Операции обхода ({@link #getAll()}, {@link #findPage}, {@link #stream()}) предварительно
+ * сбрасывают буфер. При закрытии ({@link #close()}) все накопленные изменения записываются.
+ */
+public class WriteBehindGameRepository implements GameRepository, AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(WriteBehindGameRepository.class.getName());
+
+    /** Версия сессии, удаленной во время {@link #compareAndSave}: не совпадает ни с какой ожидаемой */
+    private static final long REMOVED_VERSION = -1;
+
+    /** Время ожидания завершения фонового сброса при закрытии */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /** Основной (медленный) репозиторий, в который выполняется запись */
+    private final GameRepository delegate;
+
+    /** Максимальное количество сессий в одном пакете записи */
+    private final int batchSize;
+
+    /** Несохраненные снимки сессий: по одному на сессию, новый снимок заменяет старый */
+    private final Map<UUID, GameSession> pending = new ConcurrentHashMap<>();
+
+    /** Сериализует сбросы буфера и удаление сессий, чтобы старый снимок не перезаписал новый */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * Номер изменения основного репозитория в обход буфера: увеличивается после записи пакета
+     * и после удаления сессии, до очистки буфера
+     */
+    private final AtomicLong flushGeneration = new AtomicLong();
+
+    /** Признак того, что сброс по размеру пакета уже запланирован */
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    /** Признак закрытого репозитория: после закрытия запись выполняется напрямую */
+    private volatile boolean closed;
+
+    /** Фоновый поток сброса буфера */
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * Создает декоратор поверх основного репозитория.
+     *
+     * @param delegate      основной репозиторий.
+     * @param batchSize     размер пакета, при достижении которого запускается сброс.
+     * @param flushInterval максимальный интервал между сбросами.
+     * @throws IllegalArgumentException если размер пакета или интервал не положительны.
+     */
+    public WriteBehindGameRepository(GameRepository delegate, int batchSize, Duration flushInterval) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        if (flushInterval.isZero() || flushInterval.isNegative()) {
+            throw new IllegalArgumentException("Flush interval must be positive.");
+        }
+
+        this.delegate = delegate;
+        this.batchSize = batchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Помещает снимок сессии в буфер.
+     * Если буфер достиг размера пакета, запускает фоновый сброс.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     */
+    @Override
+    public void save(GameSession gameSession) {
+        if (closed) {
+            delegate.save(gameSession);
+            return;
+        }
+
+        pending.put(gameSession.getId(), copyOf(gameSession));
+        requestFlushIfFull();
+    }
+
+    /**
+     * Атомарно помещает снимок сессии в буфер, если её версия не изменилась.
+     * <p>
+     * Текущая версия берется из буфера, а при его отсутствии — из основного репозитория.
+     * Чтение основного репозитория выполняется до блокировки записи карты, чтобы медленное
+     * хранилище не задерживало другие сессии; если за это время снимок был сброшен или
+     * сессия удалена, проверка повторяется.
+     *
+     * @param gameSession доменная модель игровой сессии.
+     * @return {@code true}, если сессия сохранена; {@code false} при конфликте версий.
+     */
+    @Override
+    public boolean compareAndSave(GameSession gameSession) {
+        if (closed) {
+            return delegate.compareAndSave(gameSession);
+        }
+
+        UUID id = gameSession.getId();
+        long expectedVersion = gameSession.getVersion();
+        boolean[] applied = {false};
+        boolean[] stale = {true};
+        boolean existed = false;
+
+        while (stale[0]) {
+            boolean buffered = pending.containsKey(id);
+            long generation = flushGeneration.get();
+            Optional<GameSession> stored = buffered ? Optional.empty() : delegate.findById(id);
+            // Сессия, найденная на прошлой попытке и пропавшая сейчас, удалена, а не создается заново
+            long storedVersion = stored.map(GameSession::getVersion).orElse(existed ? REMOVED_VERSION : 0L);
+            existed |= buffered || stored.isPresent();
+
+            stale[0] = false;
+            pending.compute(id, (key, current) -> {
+                if (current == null && (buffered || flushGeneration.get() != generation)) {
+                    // Снимок сброшен после чтения: версия основного репозитория могла устареть
+                    stale[0] = true;
+                    return null;
+                }
+                long currentVersion = current != null ? current.getVersion() : storedVersion;
+                if (currentVersion != expectedVersion) {
+                    return current;
+                }
+
+                GameSession snapshot = copyOf(gameSession);
+                snapshot.setVersion(expectedVersion + 1);
+                applied[0] = true;
+                return snapshot;
+            });
+        }
+
+        if (applied[0]) {
+            gameSession.setVersion(expectedVersion + 1);
+            requestFlushIfFull();
+        }
+        return applied[0];
+    }
+
+    /**
+     * Находит сессию: сначала в буфере несохраненных изменений, затем в основном репозитории.
+     *
+     * @param id UUID сессии.
+     * @return {@link Optional} с копией сессии или пустой Optional.
+     */
+    @Override
+    public Optional<GameSession> findById(UUID id) {
+        GameSession buffered = pending.get(id);
+        if (buffered != null) {
+            return Optional.of(copyOf(buffered));
+        }
+        return delegate.findById(id);
+    }
+
+    /**
+     * Удаляет сессию из буфера и из основного репозитория.
+     * <p>
+     * Выполняется под блокировкой сброса, чтобы фоновая запись не восстановила удаленную сессию.
+     * Номер изменения увеличивается до очистки буфера: {@link #compareAndSave}, прочитавший версию
+     * до удаления, повторяет проверку и получает конфликт версий, а снимок, помещенный в буфер
+     * раньше, удаляется вместе с остальными.
+     *
+     * @param id UUID сессии для удаления.
+     */
+    @Override
+    public void removeById(UUID id) {
+        flushLock.lock();
+        try {
+            delegate.removeById(id);
+            flushGeneration.incrementAndGet();
+            pending.remove(id);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Сбрасывает буфер и возвращает все сессии основного репозитория.
+     *
+     * @return карта всех игровых сессий.
+     */
+    @Override
+    public Map<UUID, GameSession> getAll() {
+        flush();
+        return delegate.getAll();
+    }
+
+    /**
+     * Сбрасывает буфер и возвращает страницу сессий основного репозитория.
+     *
+     * @param cursor курсор предыдущей страницы или {@code null}.
+     * @param limit  максимальный размер страницы.
+     * @param status статус для фильтрации или {@code null}.
+     * @return страница сессий.
+     */
+    @Override
+    public SessionPage findPage(UUID cursor, int limit, GameStatus status) {
+        flush();
+        return delegate.findPage(cursor, limit, status);
+    }
+
+    /**
+     * Сбрасывает буфер и возвращает поток сессий основного репозитория.
+     *
+     * @return поток игровых сессий.
+     */
+    @Override
+    public Stream<GameSession> stream() {
+        flush();
+        return delegate.stream();
+    }
+
+    /**
+     * Сбрасывает буфер и возвращает поток сессий с указанным статусом.
+     *
+     * @param status статус искомых сессий.
+     * @return поток игровых сессий.
+     */
+    @Override
+    public Stream<GameSession> streamByStatus(GameStatus status) {
+        flush();
+        return delegate.streamByStatus(status);
+    }
+
+    /**
+     * Сбрасывает буфер и возвращает сессии основного репозитория, созданные в интервале времени.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток игровых сессий.
+     */
+    @Override
+    public Stream<GameSession> streamCreatedBetween(Instant from, Instant to) {
+        flush();
+        return delegate.streamCreatedBetween(from, to);
+    }
+
+    /**
+     * Сбрасывает буфер и возвращает идентификаторы сессий основного репозитория, созданных в интервале времени.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток идентификаторов.
+     */
+    @Override
+    public Stream<UUID> streamIdsCreatedBetween(Instant from, Instant to) {
+        flush();
+        return delegate.streamIdsCreatedBetween(from, to);
+    }
+
+    /**
+     * Записывает все накопленные изменения в основной репозиторий пакетами по {@code batchSize}.
+     * <p>
+     * Снимок удаляется из буфера, только если его не заменило более новое сохранение,
+     * поэтому изменения, пришедшие во время записи, попадут в следующий сброс.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<GameSession> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            for (GameSession snapshot : pending.values()) {
+                batch.add(snapshot);
+                if (batch.size() == batchSize) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch);
+            }
+        } finally {
+            flushRequested.set(false);
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает количество сессий, ожидающих записи.
+     * @return размер буфера.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Останавливает фоновый сброс и записывает все оставшиеся изменения.
+     * Последующие сохранения выполняются напрямую в основной репозиторий.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void writeBatch(List<GameSession> batch) {
+        delegate.saveAll(batch);
+        flushGeneration.incrementAndGet();
+        for (GameSession snapshot : batch) {
+            pending.remove(snapshot.getId(), snapshot);
+        }
+    }
+
+    private void requestFlushIfFull() {
+        if (pending.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * Сброс буфера для фонового потока: ошибка записи не должна остановить планировщик,
+     * а несохраненные снимки остаются в буфере до следующей попытки.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Write-behind flush failed, will retry", e);
+        }
+    }
+
+    /**
+     * Создает независимую копию сессии, чтобы дальнейшие изменения объекта
+     * вызывающей стороной не затрагивали буфер.
+     */
+    private static GameSession copyOf(GameSession session) {
+        GameMap map = session.getGameMap();
+        GameMap mapCopy = map == null ? null : new GameMap(map.getMap(), map.getSize());
+        return new GameSession(session.getId(), mapCopy, session.getStatus(), session.getVersion());
+    }
+}
@@ -1,32 +1,71 @@
 package org.example.datasource.storage;
 
 import org.example.datasource.model.GameSessionEntity;
+import org.example.datasource.model.GameStatusEntity;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Collections;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Вспомогательное хранилище игровых сессий в оперативной памяти (In-Memory storage).
  * <p>
  * Класс обеспечивает потокобезопасный доступ к данным, что позволяет
  * нескольким игрокам взаимодействовать с сервером одновременно без риска потери данных.
+ * <p>
+ * Сессии распределены по {@link GameStorageShard шардам} по хешу идентификатора. Каждый шард
+ * ведет собственную статистику, поэтому она собирается посегментно. Идентификаторы упорядочены
+ * по времени создания, поэтому выборка по интервалу времени сводится к обходу диапазона
+ * упорядоченных шардов.
+ * Упорядоченные обходы ({@link #findPage}, {@link #stream()}) сливают отсортированные шарды и возвращают сессии в порядке возрастания идентификатора.
+ * <p>
+ * Сохранение, поиск и удаление сессии записываются как события JFR {@link StorageEvent}.
  */
 public class GameStorage {
 
+    /** Количество шардов по умолчанию */
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    /** Шарды хранилища; шард сессии определяется хешем её идентификатора */
+    private final GameStorageShard[] shards;
+
     /**
      * Конструктор по умолчанию.
-     * Инициализирует хранилище сессий.
+     * Инициализирует хранилище с {@link #DEFAULT_SHARD_COUNT} шардами.
      */
     public GameStorage() {
+        this(DEFAULT_SHARD_COUNT);
     }
 
     /**
-     * Хранилище сессий.
-     * Используется {@link ConcurrentHashMap} для обеспечения thread-safety при параллельных запросах.
+     * Создает хранилище с заданным количеством шардов.
+     *
+     * @param shardCount количество шардов (больше нуля).
+     * @throws IllegalArgumentException если количество шардов не положительно.
      */
-    private final Map<UUID, GameSessionEntity> allGames = new ConcurrentHashMap<>();
+    public GameStorage(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive.");
+        }
+        this.shards = new GameStorageShard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new GameStorageShard(i);
+        }
+    }
 
     /**
      * Сохраняет или обновляет игровую сессию.
@@ -36,10 +75,38 @@ public class GameStorage {
      */
     public void save(GameSessionEntity game) {
         if (game != null && game.getId() != null) {
-            allGames.put(game.getId(), game);
+            StorageEvent event = new StorageEvent();
+            event.begin();
+            GameStorageShard shard = shardFor(game.getId());
+            shard.put(game);
+            event.complete("save", shard.getIndex(), true);
         }
     }
 
+    /**
+     * Атомарно сохраняет сессию, если версия записи в хранилище совпадает с ожидаемой.
+     * <p>
+     * Проверка и запись выполняются внутри {@code compute} упорядоченной карты шарда, который
+     * обновляет только запись с данным ключом без глобальной блокировки, поэтому обновления
+     * разных сессий не мешают друг другу.
+     * При успешной записи версия сущности становится {@code expectedVersion + 1}.
+     *
+     * @param game            сущность игровой сессии.
+     * @param expectedVersion версия, с которой сессия была прочитана ({@code 0} для новой сессии).
+     * @return {@code true}, если запись выполнена; {@code false}, если сессию уже изменил другой запрос.
+     */
+    public boolean compareAndSave(GameSessionEntity game, long expectedVersion) {
+        if (game == null || game.getId() == null) {
+            return false;
+        }
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        GameStorageShard shard = shardFor(game.getId());
+        boolean saved = shard.compareAndPut(game, expectedVersion);
+        event.complete("compareAndSave", shard.getIndex(), saved);
+        return saved;
+    }
+
     /**
      * Возвращает сессию по её идентификатору.
      *
@@ -47,7 +114,12 @@ public class GameStorage {
      * @return {@link GameSessionEntity} или {@code null}, если игра с таким ID не найдена.
      */
     public GameSessionEntity findById(UUID id) {
-        return allGames.get(id);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        GameStorageShard shard = shardFor(id);
+        GameSessionEntity game = shard.get(id);
+        event.complete("find", shard.getIndex(), game != null);
+        return game;
     }
 
     /**
@@ -56,7 +128,121 @@ public class GameStorage {
      * @param id идентификатор сессии, которую нужно удалить.
      */
     public void removeById(UUID id) {
-        allGames.remove(id);
+        StorageEvent event = new StorageEvent();
+        event.begin();
+        GameStorageShard shard = shardFor(id);
+        GameSessionEntity removed = shard.remove(id);
+        event.complete("remove", shard.getIndex(), removed != null);
+    }
+
+    /**
+     * Возвращает страницу сессий, следующих за курсором в порядке возрастания идентификатора.
+     * <p>
+     * Каждый шард просматривается только начиная с курсора, а слияние останавливается,
+     * как только набрано {@code limit} записей; хранилище целиком не копируется.
+     *
+     * @param after  идентификатор последней сессии предыдущей страницы или {@code null} для первой страницы.
+     * @param limit  максимальное количество записей на странице.
+     * @param status статус для фильтрации или {@code null}, чтобы вернуть сессии в любом статусе.
+     * @return список сущностей страницы (не более {@code limit} элементов).
+     */
+    public List<GameSessionEntity> findPage(UUID after, int limit, GameStatusEntity status) {
+        List<GameSessionEntity> page = new ArrayList<>(Math.min(limit, 64));
+        Iterator<GameSessionEntity> ordered = orderedIterator(shard -> shard.tail(after));
+
+        while (page.size() < limit && ordered.hasNext()) {
+            GameSessionEntity game = ordered.next();
+            if (status == null || game.getStatus() == status) {
+                page.add(game);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Возвращает ленивый поток всех сессий в порядке возрастания идентификатора.
+     * <p>
+     * Поток слабо согласован: он отражает изменения, сделанные во время обхода, не бросая
+     * {@link java.util.ConcurrentModificationException}, и не создает копию хранилища.
+     *
+     * @return поток сущностей игровых сессий.
+     */
+    public Stream<GameSessionEntity> stream() {
+        return orderedStream(shard -> shard.tail(null));
+    }
+
+    /**
+     * Возвращает ленивый поток сессий с идентификаторами в полуинтервале {@code [from, to)}
+     * в порядке возрастания. Для упорядоченных по времени идентификаторов это выборка
+     * сессий, созданных в заданном интервале времени.
+     *
+     * @param fromInclusive нижняя граница (включительно).
+     * @param toExclusive   верхняя граница (не включительно).
+     * @return поток сущностей игровых сессий.
+     */
+    public Stream<GameSessionEntity> streamRange(UUID fromInclusive, UUID toExclusive) {
+        return orderedStream(shard -> shard.range(fromInclusive, toExclusive));
+    }
+
+    /**
+     * Возвращает шарды хранилища для посегментной статистики.
+     * @return неизменяемый список шардов.
+     */
+    public List<GameStorageShard> getShards() {
+        return List.of(shards);
+    }
+
+    /**
+     * Возвращает статистику каждого шарда.
+     * @return список снимков статистики в порядке индексов шардов.
+     */
+    public List<ShardStats> getShardStats() {
+        List<ShardStats> stats = new ArrayList<>(shards.length);
+        for (GameStorageShard shard : shards) {
+            stats.add(shard.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Возвращает суммарную статистику по всем шардам.
+     * @return снимок статистики с индексом {@code -1}.
+     */
+    public ShardStats getTotalStats() {
+        ShardStats total = new ShardStats(-1, 0, 0, 0, 0);
+        for (GameStorageShard shard : shards) {
+            total = total.plus(shard.stats());
+        }
+        return total;
+    }
+
+    /**
+     * Возвращает количество сессий с заданным статусом по всем шардам.
+     * Счетчики ведутся при записи, поэтому вызов не обходит сессии.
+     *
+     * @param status статус игры.
+     * @return количество сессий.
+     */
+    public long countByStatus(GameStatusEntity status) {
+        long count = 0;
+        for (GameStorageShard shard : shards) {
+            count += shard.countByStatus(status);
+        }
+        return count;
+    }
+
+    /**
+     * Возвращает количество игр, завершившихся с заданным итогом, по всем шардам.
+     *
+     * @param status итоговый статус игры.
+     * @return накопленное количество завершений.
+     */
+    public long countFinished(GameStatusEntity status) {
+        long count = 0;
+        for (GameStorageShard shard : shards) {
+            count += shard.countFinished(status);
+        }
+        return count;
     }
 
     /**
@@ -64,10 +250,122 @@ public class GameStorage {
      * <p>
      * Возвращает <b>неизменяемое представление</b> (unmodifiable view) карты,
      * чтобы предотвратить случайное изменение хранилища в обход методов {@code save} или {@code remove}.
+     * Представление читает шарды напрямую и не копирует их содержимое.
      *
      * @return защищенная от записи карта всех игровых сессий.
      */
     public Map<UUID, GameSessionEntity> getAll() {
-        return Collections.unmodifiableMap(allGames);
+        return new ShardedView();
+    }
+
+    private GameStorageShard shardFor(UUID id) {
+        int hash = id.hashCode();
+        return shards[Math.floorMod(hash ^ (hash >>> 16), shards.length)];
+    }
+
+    private Stream<GameSessionEntity> orderedStream(Function<GameStorageShard, Collection<GameSessionEntity>> view) {
+        Spliterator<GameSessionEntity> spliterator = Spliterators.spliteratorUnknownSize(
+                orderedIterator(view), Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Создает итератор, сливающий упорядоченные представления всех шардов в общий порядок идентификаторов.
+     * Куча содержит не более одного текущего элемента на шард.
+     */
+    private Iterator<GameSessionEntity> orderedIterator(Function<GameStorageShard, Collection<GameSessionEntity>> view) {
+        PriorityQueue<ShardCursor> heads = new PriorityQueue<>(shards.length,
+                Comparator.comparing((ShardCursor cursor) -> cursor.head.getId()));
+        for (GameStorageShard shard : shards) {
+            ShardCursor cursor = new ShardCursor(view.apply(shard).iterator());
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public GameSessionEntity next() {
+                ShardCursor cursor = heads.poll();
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+                GameSessionEntity game = cursor.head;
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+                return game;
+            }
+        };
+    }
+
+    /** Текущая позиция обхода одного шарда при слиянии */
+    private static final class ShardCursor {
+        private final Iterator<GameSessionEntity> iterator;
+        private GameSessionEntity head;
+
+        private ShardCursor(Iterator<GameSessionEntity> iterator) {
+            this.iterator = iterator;
+        }
+
+        private boolean advance() {
+            head = iterator.hasNext() ? iterator.next() : null;
+            return head != null;
+        }
+    }
+
+    /** Неизменяемое представление всех шардов в виде одной карты */
+    private final class ShardedView extends AbstractMap<UUID, GameSessionEntity> {
+
+        @Override
+        public GameSessionEntity get(Object key) {
+            return key instanceof UUID id ? shardFor(id).peek(id) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            long total = 0;
+            for (GameStorageShard shard : shards) {
+                total += shard.size();
+            }
+            return (int) Math.min(total, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public Set<Entry<UUID, GameSessionEntity>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<UUID, GameSessionEntity>> iterator() {
+                    Iterator<GameSessionEntity> ordered = orderedIterator(shard -> shard.tail(null));
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return ordered.hasNext();
+                        }
+
+                        @Override
+                        public Entry<UUID, GameSessionEntity> next() {
+                            GameSessionEntity game = ordered.next();
+                            return Map.entry(game.getId(), game);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return ShardedView.this.size();
+                }
+            };
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,263 @@
+package org.example.datasource.storage;
+
+import org.example.datasource.model.GameMapEntity;
+import org.example.datasource.model.GameSessionEntity;
+import org.example.datasource.model.GameStatusEntity;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Один сегмент (шард) хранилища игровых сессий.
+ * <p>
+ * Шард хранит свою часть сессий в упорядоченной по идентификатору карте и ведет собственные
+ * счетчики (размер, попадания, промахи, оценка памяти), поэтому сбор статистики
+ * выполняется по одному шарду, не затрагивая остальное хранилище.
+ * <p>
+ * Идентификаторы сессий упорядочены по времени создания
+ * ({@link org.example.domain.id.TimeOrderedSessionIdGenerator}), поэтому начало карты шарда —
+ * это его самые старые сессии: выборка по интервалу времени не требует отдельного индекса.
+ */
+public class GameStorageShard {
+
+    /** Оценка накладных расходов на одну запись: заголовки объектов, UUID и узел карты */
+    private static final long ENTRY_OVERHEAD_BYTES = 160;
+
+    /** Индекс шарда в хранилище */
+    private final int index;
+
+    /** Сессии шарда, упорядоченные по идентификатору */
+    private final ConcurrentNavigableMap<UUID, GameSessionEntity> sessions = new ConcurrentSkipListMap<>();
+
+    /** Количество сессий (размер skip-list вычисляется за линейное время, поэтому ведется отдельно) */
+    private final AtomicLong size = new AtomicLong();
+
+    /** Оценка памяти, занимаемой сессиями шарда */
+    private final AtomicLong bytes = new AtomicLong();
+
+    /** Количество успешных поисков */
+    private final LongAdder hits = new LongAdder();
+
+    /** Количество неуспешных поисков */
+    private final LongAdder misses = new LongAdder();
+
+    /** Количество сессий шарда по статусу (индекс — {@link GameStatusEntity#ordinal()}) */
+    private final LongAdder[] statusCounts = newCounters();
+
+    /** Количество игр, завершившихся в шарде, по итоговому статусу */
+    private final LongAdder[] finishedCounts = newCounters();
+
+    /**
+     * Создает пустой шард.
+     *
+     * @param index индекс шарда в хранилище.
+     */
+    public GameStorageShard(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Сохраняет или заменяет сессию.
+     *
+     * @param game сущность игровой сессии с непустым идентификатором.
+     */
+    public void put(GameSessionEntity game) {
+        GameSessionEntity previous = sessions.put(game.getId(), game);
+        onReplaced(previous, game);
+    }
+
+    /**
+     * Атомарно сохраняет сессию, если версия записи совпадает с ожидаемой.
+     * Функция пересчета может быть вызвана повторно при гонке, поэтому
+     * фиксируются только результаты последней (примененной) попытки.
+     *
+     * @param game            сущность игровой сессии.
+     * @param expectedVersion ожидаемая версия записи ({@code 0} для новой сессии).
+     * @return {@code true}, если запись выполнена.
+     */
+    public boolean compareAndPut(GameSessionEntity game, long expectedVersion) {
+        boolean[] applied = {false};
+        GameSessionEntity[] previous = {null};
+
+        sessions.compute(game.getId(), (id, current) -> {
+            long currentVersion = current == null ? 0L : current.getVersion();
+            applied[0] = currentVersion == expectedVersion;
+            previous[0] = current;
+            if (!applied[0]) {
+                return current;
+            }
+            game.setVersion(expectedVersion + 1);
+            return game;
+        });
+
+        if (applied[0]) {
+            onReplaced(previous[0], game);
+        }
+        return applied[0];
+    }
+
+    /**
+     * Находит сессию и учитывает попадание или промах.
+     *
+     * @param id идентификатор сессии.
+     * @return сущность или {@code null}.
+     */
+    public GameSessionEntity get(UUID id) {
+        GameSessionEntity game = sessions.get(id);
+        if (game != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return game;
+    }
+
+    /**
+     * Находит сессию без учета в статистике (для служебных обходов).
+     *
+     * @param id идентификатор сессии.
+     * @return сущность или {@code null}.
+     */
+    public GameSessionEntity peek(UUID id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Удаляет сессию.
+     *
+     * @param id идентификатор сессии.
+     * @return удаленная сущность или {@code null}.
+     */
+    public GameSessionEntity remove(UUID id) {
+        GameSessionEntity removed = sessions.remove(id);
+        if (removed != null) {
+            onRemoved(removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Возвращает упорядоченное представление сессий шарда, следующих за идентификатором.
+     *
+     * @param after идентификатор, после которого начинается представление, или {@code null}.
+     * @return живое представление сессий без копирования.
+     */
+    public Collection<GameSessionEntity> tail(UUID after) {
+        return after == null ? sessions.values() : sessions.tailMap(after, false).values();
+    }
+
+    /**
+     * Возвращает упорядоченное представление сессий шарда в полуинтервале идентификаторов.
+     *
+     * @param fromInclusive нижняя граница (включительно).
+     * @param toExclusive   верхняя граница (не включительно).
+     * @return живое представление сессий без копирования.
+     */
+    public Collection<GameSessionEntity> range(UUID fromInclusive, UUID toExclusive) {
+        return sessions.subMap(fromInclusive, true, toExclusive, false).values();
+    }
+
+    /**
+     * Возвращает текущую статистику шарда.
+     * @return снимок счетчиков.
+     */
+    public ShardStats stats() {
+        return new ShardStats(index, size.get(), hits.sum(), misses.sum(), bytes.get());
+    }
+
+    /**
+     * Возвращает количество сессий в шарде.
+     * @return количество сессий.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Возвращает количество сессий шарда с заданным статусом.
+     *
+     * @param status статус игры.
+     * @return количество сессий.
+     */
+    public long countByStatus(GameStatusEntity status) {
+        return statusCounts[status.ordinal()].sum();
+    }
+
+    /**
+     * Возвращает количество игр, завершившихся с заданным итогом (переход из
+     * {@link GameStatusEntity#PLAYING} или создание сразу завершенной сессии).
+     *
+     * @param status итоговый статус игры.
+     * @return накопленное количество завершений.
+     */
+    public long countFinished(GameStatusEntity status) {
+        return finishedCounts[status.ordinal()].sum();
+    }
+
+    /**
+     * Возвращает индекс шарда.
+     * @return индекс шарда.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Оценивает объем памяти, занимаемый одной сессией: накладные расходы записи
+     * плюс двумерный массив поля (заголовки строк и ячейки по 4 байта).
+     *
+     * @param game сущность игровой сессии.
+     * @return оценка в байтах.
+     */
+    public static long estimateBytes(GameSessionEntity game) {
+        GameMapEntity map = game.getGameMap();
+        if (map == null) {
+            return ENTRY_OVERHEAD_BYTES;
+        }
+        long size = map.getSize();
+        return ENTRY_OVERHEAD_BYTES + 16 + size * 4 + size * (16 + size * 4);
+    }
+
+    private void onReplaced(GameSessionEntity previous, GameSessionEntity game) {
+        GameStatusEntity previousStatus = null;
+        if (previous == null) {
+            size.incrementAndGet();
+            bytes.addAndGet(estimateBytes(game));
+        } else {
+            bytes.addAndGet(estimateBytes(game) - estimateBytes(previous));
+            previousStatus = previous.getStatus();
+            count(statusCounts, previousStatus, -1);
+        }
+
+        GameStatusEntity status = game.getStatus();
+        count(statusCounts, status, 1);
+        if (status != null && status != GameStatusEntity.PLAYING
+                && (previousStatus == null || previousStatus == GameStatusEntity.PLAYING)) {
+            count(finishedCounts, status, 1);
+        }
+    }
+
+    private void onRemoved(GameSessionEntity removed) {
+        size.decrementAndGet();
+        bytes.addAndGet(-estimateBytes(removed));
+        count(statusCounts, removed.getStatus(), -1);
+    }
+
+    private static void count(LongAdder[] counters, GameStatusEntity status, long delta) {
+        if (status != null) {
+            counters[status.ordinal()].add(delta);
+        }
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[GameStatusEntity.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.datasource.storage;
+
+import org.example.datasource.model.MoveLogEntity;
+
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Хранилище журналов ходов игровых сессий в оперативной памяти.
+ * <p>
+ * Журналы лежат в {@link ConcurrentHashMap}: её {@code compute} применяет функцию ровно один раз
+ * под блокировкой записи одного ключа, что позволяет безопасно дописывать ходы в разделяемый
+ * массив журнала. Упорядоченный индекс идентификаторов обеспечивает курсорные обходы.
+ */
+public class MoveLogStorage {
+
+    /** Журналы ходов по идентификатору сессии */
+    private final ConcurrentHashMap<UUID, MoveLogEntity> logs = new ConcurrentHashMap<>();
+
+    /** Упорядоченный индекс идентификаторов для постраничного обхода */
+    private final NavigableSet<UUID> ids = new ConcurrentSkipListSet<>();
+
+    /**
+     * Конструктор по умолчанию.
+     */
+    public MoveLogStorage() {
+    }
+
+    /**
+     * Атомарно пересчитывает журнал сессии.
+     * Функция вызывается ровно один раз под блокировкой записи данного ключа.
+     *
+     * @param id      идентификатор сессии.
+     * @param updater функция от идентификатора и текущего журнала ({@code null}, если его нет),
+     *                возвращающая новый журнал или {@code null} для удаления.
+     * @return журнал после обновления или {@code null}.
+     */
+    public MoveLogEntity compute(UUID id, BiFunction<UUID, MoveLogEntity, MoveLogEntity> updater) {
+        return logs.compute(id, (key, current) -> {
+            MoveLogEntity updated = updater.apply(key, current);
+            // Индекс обновляется под той же блокировкой ключа, что и журнал
+            if (updated != null) {
+                ids.add(key);
+            } else {
+                ids.remove(key);
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * Возвращает журнал сессии.
+     *
+     * @param id идентификатор сессии.
+     * @return журнал или {@code null}, если сессия не найдена.
+     */
+    public MoveLogEntity findById(UUID id) {
+        return logs.get(id);
+    }
+
+    /**
+     * Удаляет журнал сессии.
+     *
+     * @param id идентификатор сессии.
+     */
+    public void removeById(UUID id) {
+        compute(id, (key, current) -> null);
+    }
+
+    /**
+     * Возвращает ленивый поток журналов в порядке возрастания идентификатора,
+     * начиная после указанного курсора.
+     *
+     * @param after курсор или {@code null}, чтобы начать с начала.
+     * @return поток журналов.
+     */
+    public Stream<MoveLogEntity> streamAfter(UUID after) {
+        NavigableSet<UUID> tail = after == null ? ids : ids.tailSet(after, false);
+        return tail.stream()
+                .map(logs::get)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Возвращает ленивый поток журналов с идентификаторами в полуинтервале {@code [from, to)}.
+     *
+     * @param fromInclusive нижняя граница (включительно).
+     * @param toExclusive   верхняя граница (не включительно).
+     * @return поток журналов в порядке возрастания идентификатора.
+     */
+    public Stream<MoveLogEntity> streamRange(UUID fromInclusive, UUID toExclusive) {
+        return ids.subSet(fromInclusive, true, toExclusive, false).stream()
+                .map(logs::get)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * Возвращает количество сохраненных журналов.
+     * @return количество сессий.
+     */
+    public int size() {
+        return logs.size();
+    }
+}
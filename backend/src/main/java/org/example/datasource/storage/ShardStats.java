@@ -0,0 +1,93 @@
+package org.example.datasource.storage;
+
+/**
+ * Снимок статистики одного сегмента (шарда) хранилища или их суммы.
+ * <p>
+ * Значения счетчиков читаются без общей блокировки, поэтому снимок
+ * может быть не строго согласован между полями при параллельной записи.
+ */
+public class ShardStats {
+
+    /** Индекс шарда или {@code -1} для суммарной статистики */
+    private final int shard;
+
+    /** Количество сессий в шарде */
+    private final long size;
+
+    /** Количество успешных поисков по идентификатору */
+    private final long hits;
+
+    /** Количество поисков, не нашедших сессию */
+    private final long misses;
+
+    /** Оценка занимаемой памяти в байтах */
+    private final long bytes;
+
+    /**
+     * Создает снимок статистики.
+     *
+     * @param shard  индекс шарда или {@code -1} для суммы.
+     * @param size   количество сессий.
+     * @param hits   количество попаданий.
+     * @param misses количество промахов.
+     * @param bytes  оценка памяти в байтах.
+     */
+    public ShardStats(int shard, long size, long hits, long misses, long bytes) {
+        this.shard = shard;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Возвращает индекс шарда.
+     * @return индекс шарда или {@code -1} для суммарной статистики.
+     */
+    public int getShard() {
+        return shard;
+    }
+
+    /**
+     * Возвращает количество сессий.
+     * @return количество сессий.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Возвращает количество успешных поисков.
+     * @return количество попаданий.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Возвращает количество неуспешных поисков.
+     * @return количество промахов.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Возвращает оценку занимаемой памяти.
+     * @return оценка в байтах.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Складывает статистику двух шардов.
+     *
+     * @param other статистика другого шарда.
+     * @return суммарная статистика с индексом {@code -1}.
+     */
+    public ShardStats plus(ShardStats other) {
+        return new ShardStats(-1, size + other.size, hits + other.hits,
+                misses + other.misses, bytes + other.bytes);
+    }
+}
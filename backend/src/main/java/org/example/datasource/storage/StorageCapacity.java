@@ -0,0 +1,84 @@
+package org.example.datasource.storage;
+
+import org.example.domain.exception.SessionCapacityExceededException;
+import org.example.domain.repository.SessionCapacity;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Проверка заполнения {@link GameStorage} по оценке занятой памяти.
+ * <p>
+ * Оценка ведется шардами при каждой записи ({@link GameStorageShard#estimateBytes}), поэтому
+ * проверка суммирует счетчики шардов и не обходит сессии. Когда оценка достигает предела
+ * (high-water mark), новые сессии отклоняются, а существующие продолжают обслуживаться;
+ * после удаления сессий (в том числе по сроку жизни) создание снова разрешается.
+ * <p>
+ * Предел задается по оценке хранилища, а не по фактической куче, поэтому его следует выбирать
+ * с запасом относительно {@code -Xmx}: кроме записей хранилища память занимают запросы и кэши.
+ */
+public class StorageCapacity implements SessionCapacity {
+
+    private final GameStorage storage;
+
+    /** Предел оценки занятой памяти в байтах; {@code 0} — без ограничения */
+    private final long highWaterMarkBytes;
+
+    /** Количество отклоненных созданий сессий */
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * Создает проверку заполнения.
+     *
+     * @param storage            хранилище сессий.
+     * @param highWaterMarkBytes предел оценки занятой памяти в байтах ({@code 0} — без ограничения).
+     * @throws IllegalArgumentException если предел отрицателен.
+     */
+    public StorageCapacity(GameStorage storage, long highWaterMarkBytes) {
+        if (highWaterMarkBytes < 0) {
+            throw new IllegalArgumentException("High-water mark must not be negative.");
+        }
+        this.storage = storage;
+        this.highWaterMarkBytes = highWaterMarkBytes;
+    }
+
+    /**
+     * Отклоняет создание сессии, если оценка занятой памяти достигла предела.
+     *
+     * @throws SessionCapacityExceededException если хранилище заполнено.
+     */
+    @Override
+    public void checkCanCreate() {
+        if (highWaterMarkBytes == 0) {
+            return;
+        }
+        long used = getUsedBytes();
+        if (used >= highWaterMarkBytes) {
+            rejections.increment();
+            throw new SessionCapacityExceededException(used, highWaterMarkBytes);
+        }
+    }
+
+    /**
+     * Возвращает текущую оценку памяти, занятой сессиями хранилища.
+     * @return байты.
+     */
+    public long getUsedBytes() {
+        return storage.getTotalStats().getBytes();
+    }
+
+    /**
+     * Возвращает предел заполнения.
+     * @return байты ({@code 0} — без ограничения).
+     */
+    public long getHighWaterMarkBytes() {
+        return highWaterMarkBytes;
+    }
+
+    /**
+     * Возвращает количество отклоненных созданий сессий.
+     * @return количество отказов.
+     */
+    public long getRejectedCount() {
+        return rejections.sum();
+    }
+}
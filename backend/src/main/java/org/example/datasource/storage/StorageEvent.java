@@ -0,0 +1,52 @@
+package org.example.datasource.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Событие JDK Flight Recorder для операции {@link GameStorage}: сохранения, атомарной записи,
+ * поиска или удаления сессии.
+ * <p>
+ * По умолчанию записываются только операции дольше 1 мс (порог настраивается в профиле записи),
+ * поэтому быстрые обращения не нагружают запись. Когда событие выключено,
+ * {@link #begin()} и проверка {@link #shouldCommit()} практически ничего не стоят.
+ */
+@Name("org.example.game.StorageOperation")
+@Label("Game Storage Operation")
+@Category({"Tic-Tac-Toe", "Storage"})
+@Description("Session storage save, compare-and-save, find or remove")
+@StackTrace(false)
+@Threshold("1 ms")
+public class StorageEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Shard")
+    int shard;
+
+    @Label("Found")
+    @Description("Whether a find located the session or a compare-and-save was applied")
+    boolean found;
+
+    /**
+     * Завершает событие и записывает его, если оно включено и превысило порог.
+     *
+     * @param operation операция ({@code save}, {@code compareAndSave}, {@code find}, {@code remove}).
+     * @param shard     индекс шарда.
+     * @param found     найдена ли сессия (для поиска) или выполнена ли запись (для атомарной записи).
+     */
+    void complete(String operation, int shard, boolean found) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.shard = shard;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.di.config;
+
+import org.example.web.admission.AdmissionControl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация контроля допуска перед расчетом ходов ИИ.
+ * <p>
+ * По умолчанию количество одновременных тяжелых расчетов равно половине доступных процессоров,
+ * чтобы ходы на больших полях не занимали все ядра и легкие партии оставались быстрыми.
+ */
+@Configuration
+public class AdmissionConfig {
+
+    /**
+     * Создает контроль допуска.
+     *
+     * @param heavyCostThreshold    стоимость, начиная с которой ход считается тяжелым
+     * @param maxMoveCost           предельная стоимость хода; более дорогие ходы отклоняются без расчета
+     * @param heavyConcurrency      максимальное количество одновременных тяжелых расчетов ({@code 0} — половина доступных процессоров)
+     * @param clientBurst           емкость корзины токенов клиента
+     * @param clientTokensPerSecond скорость пополнения корзины клиента
+     * @param heavyTokenCost        стоимость тяжелого хода в токенах
+     * @param maxClients            максимальное количество отдельных корзин
+     * @return экземпляр {@link AdmissionControl}
+     */
+    @Bean
+    public AdmissionControl admissionControl(
+            @Value("${game.admission.heavy-cost-threshold:10000000}") long heavyCostThreshold,
+            @Value("${game.admission.max-move-cost:2000000000}") long maxMoveCost,
+            @Value("${game.admission.heavy-concurrency:0}") int heavyConcurrency,
+            @Value("${game.admission.client-burst:20}") int clientBurst,
+            @Value("${game.admission.client-tokens-per-second:10}") double clientTokensPerSecond,
+            @Value("${game.admission.heavy-token-cost:10}") int heavyTokenCost,
+            @Value("${game.admission.max-clients:10000}") int maxClients) {
+        int concurrency = heavyConcurrency > 0
+                ? heavyConcurrency
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new AdmissionControl(heavyCostThreshold, maxMoveCost, concurrency, clientBurst,
+                clientTokensPerSecond, heavyTokenCost, maxClients);
+    }
+}
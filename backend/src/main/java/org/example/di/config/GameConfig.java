@@ -1,13 +1,37 @@
 package org.example.di.config;
 
+import org.example.datasource.repository.DataSourceObserver;
+import org.example.datasource.repository.EventPublishingGameRepository;
+import org.example.datasource.repository.EventSourcedGameRepository;
 import org.example.datasource.repository.GameRepositoryImpl;
+import org.example.datasource.repository.SessionExpiry;
+import org.example.datasource.repository.TracingGameRepository;
+import org.example.datasource.repository.WriteBehindGameRepository;
 import org.example.datasource.storage.GameStorage;
+import org.example.datasource.storage.MoveLogStorage;
+import org.example.datasource.storage.StorageCapacity;
+import org.example.domain.event.GameEventListener;
+import org.example.domain.id.RandomSessionIdGenerator;
+import org.example.domain.id.SessionIdGenerator;
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
 import org.example.domain.repository.GameRepository;
+import org.example.domain.service.BatchMoveService;
 import org.example.domain.service.GameService;
 import org.example.domain.service.GameServiceImpl;
+import org.example.domain.service.SearchObserver;
+import org.example.web.admission.AdmissionControl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Конфигурационный класс Spring для настройки компонентов игры.
  * <p>
@@ -26,23 +50,128 @@ public class GameConfig {
 
     /**
      * Создает компонент низкоуровневого хранилища данных в оперативной памяти.
+     *
+     * @param shards количество шардов хранилища
      * @return экземпляр {@link GameStorage}
      */
     @Bean
-    public GameStorage gameStorage() {
-        return new GameStorage();
+    public GameStorage gameStorage(@Value("${game.storage.shards:16}") int shards) {
+        return new GameStorage(shards);
+    }
+
+    /**
+     * Создает проверку заполнения хранилища перед созданием новых сессий.
+     * <p>
+     * При пределе {@code game.storage.high-water-mark-mb} больше нуля {@code POST /game}
+     * отвечает {@code 503}, пока оценка памяти хранилища не опустится ниже предела.
+     * В журнальном режиме сессии хранятся вне {@link GameStorage}, и предел не достигается.
+     *
+     * @param storage         хранилище сессий
+     * @param highWaterMarkMb предел оценки памяти хранилища в мегабайтах ({@code 0} — без ограничения)
+     * @return экземпляр {@link StorageCapacity}
+     */
+    @Bean
+    public StorageCapacity sessionCapacity(
+            GameStorage storage,
+            @Value("${game.storage.high-water-mark-mb:0}") long highWaterMarkMb) {
+        return new StorageCapacity(storage, highWaterMarkMb * 1024 * 1024);
+    }
+
+    /**
+     * Создает фоновое удаление сессий старше срока жизни.
+     * Включается свойством {@code game.storage.expiry.enabled}; Spring останавливает
+     * фоновый поток при остановке контекста. Сессии удаляются через репозиторий со всеми
+     * декораторами, поэтому удаление работает в любом режиме хранения.
+     *
+     * @param repository репозиторий игровых сессий
+     * @param ttlMinutes срок жизни сессии от создания в минутах (не меньше 60)
+     * @param intervalMs интервал между проходами удаления в миллисекундах
+     * @return экземпляр {@link SessionExpiry}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "game.storage.expiry.enabled", havingValue = "true")
+    public SessionExpiry sessionExpiry(
+            GameRepository repository,
+            @Value("${game.storage.expiry.ttl-minutes:1440}") long ttlMinutes,
+            @Value("${game.storage.expiry.interval-ms:60000}") long intervalMs) {
+        return new SessionExpiry(repository, Duration.ofMinutes(ttlMinutes), Duration.ofMillis(intervalMs));
     }
 
     /**
      * Создает репозиторий, связывая его с хранилищем.
      * Используется абстракция {@link GameRepository} для изоляции слоя данных.
+     * <p>
+     * Режим хранения задается свойством {@code game.repository.mode}: {@code snapshot}
+     * (по умолчанию) хранит поле целиком в {@link GameStorage}, {@code event-sourced}
+     * хранит журнал ходов ({@link EventSourcedGameRepository}).
+     * <p>
+     * При {@code game.repository.write-behind.enabled=true} репозиторий оборачивается в
+     * {@link WriteBehindGameRepository}; Spring закрывает его при остановке контекста,
+     * и накопленные изменения записываются в хранилище.
+     * <p>
+     * Если в контексте есть {@link GameEventListener}, внешним декоратором становится
+     * {@link EventPublishingGameRepository}, уведомляющий получателя о каждой записи.
+     * Если в контексте есть {@link DataSourceObserver}, репозиторий режима {@code snapshot}
+     * передает ему длительности операций хранилища и преобразований.
+     * <p>
+     * Самым внешним всегда становится {@link TracingGameRepository}: он отмечает поиск и запись
+     * в разбивке времени HTTP-запроса, а при выключенном измерении только передает вызовы.
+     *
+     * @param storage         внедренное хранилище данных
+     * @param mode            режим хранения сессий
+     * @param boardCacheSize  количество восстановленных полей в кэше журнального режима
+     * @param writeBehind     включить отложенную пакетную запись
+     * @param batchSize       размер пакета отложенной записи
+     * @param flushIntervalMs максимальный интервал между сбросами буфера в миллисекундах
+     * @param listeners       необязательный получатель уведомлений о записях
+     * @param observers       необязательный получатель длительностей операций
+     * @return декоратор {@link TracingGameRepository} над выбранной реализацией
+     * @throws IllegalArgumentException если режим хранения неизвестен
+     */
+    @Bean
+    public GameRepository gameRepository(
+            GameStorage storage,
+            @Value("${game.repository.mode:snapshot}") String mode,
+            @Value("${game.repository.event-sourced.board-cache-size:10000}") int boardCacheSize,
+            @Value("${game.repository.write-behind.enabled:false}") boolean writeBehind,
+            @Value("${game.repository.write-behind.batch-size:256}") int batchSize,
+            @Value("${game.repository.write-behind.flush-interval-ms:50}") long flushIntervalMs,
+            ObjectProvider<GameEventListener> listeners,
+            ObjectProvider<DataSourceObserver> observers) {
+        GameRepository repository = switch (mode) {
+            case "snapshot" -> new GameRepositoryImpl(storage, observers.getIfAvailable(() -> DataSourceObserver.NOOP));
+            case "event-sourced" -> new EventSourcedGameRepository(new MoveLogStorage(), boardCacheSize);
+            default -> throw new IllegalArgumentException("Unknown repository mode: " + mode);
+        };
+        if (writeBehind) {
+            repository = new WriteBehindGameRepository(repository, batchSize, Duration.ofMillis(flushIntervalMs));
+        }
+        GameEventListener listener = listeners.getIfAvailable();
+        if (listener != null) {
+            repository = new EventPublishingGameRepository(repository, listener);
+        }
+        return new TracingGameRepository(repository);
+    }
+
+    /**
+     * Создает генератор идентификаторов новых сессий.
+     * <p>
+     * По умолчанию ({@code time-ordered}) идентификаторы упорядочены по времени создания,
+     * что позволяет хранилищу сканировать интервалы времени и удалять сессии по сроку жизни;
+     * {@code random} возвращает случайные UUID версии 4.
      *
-     * @param storage внедренное хранилище данных
-     * @return реализация репозитория {@link GameRepositoryImpl}
+     * @param type тип генератора из свойства {@code game.session.id-generator}
+     * @return реализация {@link SessionIdGenerator}
+     * @throws IllegalArgumentException если тип генератора неизвестен
      */
     @Bean
-    public GameRepository gameRepository(GameStorage storage) {
-        return new GameRepositoryImpl(storage);
+    public SessionIdGenerator sessionIdGenerator(
+            @Value("${game.session.id-generator:time-ordered}") String type) {
+        return switch (type) {
+            case "time-ordered" -> TimeOrderedSessionIdGenerator.INSTANCE;
+            case "random" -> new RandomSessionIdGenerator();
+            default -> throw new IllegalArgumentException("Unknown session id generator: " + type);
+        };
     }
 
     /**
@@ -50,10 +179,43 @@ public class GameConfig {
      * Это "входная точка" для взаимодействия с игровыми механиками.
      *
      * @param repository внедренный репозиторий для управления состоянием сессий
+     * @param observers  необязательный получатель статистики расчетов хода ИИ
      * @return реализация сервиса {@link GameServiceImpl}
      */
     @Bean
-    public GameService gameService(GameRepository repository) {
-        return new GameServiceImpl(repository);
+    public GameService gameService(GameRepository repository, ObjectProvider<SearchObserver> observers) {
+        return new GameServiceImpl(repository, observers.getIfAvailable(() -> SearchObserver.NOOP));
+    }
+
+    /**
+     * Создает сервис пакетных ходов с ограниченным пулом расчета.
+     * При переполнении очереди ходы пакета отклоняются, а не ждут неограниченно;
+     * каждый ход дополнительно проходит контроль допуска, как и ходы REST API.
+     * Spring закрывает сервис (и пул) при остановке контекста.
+     *
+     * @param gameService      сервис игровой логики
+     * @param repository       репозиторий игровых сессий
+     * @param admissionControl контроль допуска перед расчетом хода
+     * @param workerThreads    количество потоков расчета ходов
+     * @param queueCapacity    максимальное количество игр в очереди
+     * @return экземпляр {@link BatchMoveService}
+     */
+    @Bean
+    public BatchMoveService batchMoveService(
+            GameService gameService,
+            GameRepository repository,
+            AdmissionControl admissionControl,
+            @Value("${game.batch.worker-threads:8}") int workerThreads,
+            @Value("${game.batch.queue-capacity:10000}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "game-batch-move-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        return new BatchMoveService(gameService, repository, admissionControl.asMoveAdmission(), executor);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,57 @@
+package org.example.di.config;
+
+import org.example.web.sse.GameEventBroadcaster;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Конфигурация потока событий игры ({@code /game/{id}/events}).
+ * <p>
+ * События рассылаются в пуле потоков, отдельном от обработки ходов, поэтому медленные
+ * наблюдатели не задерживают ходы. У пула нет очереди: задача отправки никогда не ждет
+ * за чужой зависшей записью, а получает свободный или новый поток (до
+ * {@code game.events.max-dispatch-threads}). Зависший наблюдатель занимает только собственный
+ * поток, пока его не отключит проверка {@code game.events.send-timeout-ms}; лишние потоки
+ * завершаются после минуты простоя.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GameEventConfig {
+
+    /**
+     * Создает рассылку событий игры с собственным пулом отправки.
+     * Spring закрывает рассылку (и пул) при остановке контекста.
+     *
+     * @param ringCapacity    емкость кольцевого буфера событий одной сессии
+     * @param dispatchThreads    количество постоянных потоков отправки событий
+     * @param maxDispatchThreads максимальное количество потоков отправки событий
+     * @param sendTimeoutMs      максимальное время отправки одного события наблюдателю, мс
+     * @return экземпляр {@link GameEventBroadcaster}
+     */
+    @Bean
+    public GameEventBroadcaster gameEventBroadcaster(
+            @Value("${game.events.ring-capacity:64}") int ringCapacity,
+            @Value("${game.events.dispatch-threads:4}") int dispatchThreads,
+            @Value("${game.events.max-dispatch-threads:256}") int maxDispatchThreads,
+            @Value("${game.events.send-timeout-ms:5000}") long sendTimeoutMs) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Отклоненные при исчерпании потоков отправки повторяются фоновой проверкой рассылки
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                dispatchThreads, Math.max(dispatchThreads, maxDispatchThreads), 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "game-event-dispatch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        return new GameEventBroadcaster(ringCapacity, Duration.ofMillis(sendTimeoutMs), executor);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.di.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.datasource.repository.DataSourceObserver;
+import org.example.datasource.repository.SessionExpiry;
+import org.example.datasource.storage.GameStorage;
+import org.example.datasource.storage.StorageCapacity;
+import org.example.di.metrics.GameMetricsBinder;
+import org.example.di.metrics.MicrometerDataSourceObserver;
+import org.example.di.metrics.MicrometerSearchObserver;
+import org.example.domain.service.SearchObserver;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.cache.SessionResponseCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация метрик игры в Micrometer (публикуются через actuator, в том числе {@code /actuator/prometheus}).
+ * <p>
+ * Получатели статистики внедряются в сервис и репозиторий ({@link GameConfig}); без этой
+ * конфигурации ({@code game.metrics.enabled=false}) они заменяются пустыми реализациями.
+ * Теги метрик ограничены размером поля, статусом, операцией и индексом шарда —
+ * идентификаторы сессий в теги не попадают.
+ */
+@Configuration
+@ConditionalOnProperty(name = "game.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    /**
+     * Создает получатель статистики расчетов хода ИИ.
+     *
+     * @param registry реестр метрик
+     * @return экземпляр {@link MicrometerSearchObserver}
+     */
+    @Bean
+    public SearchObserver searchObserver(MeterRegistry registry) {
+        return new MicrometerSearchObserver(registry);
+    }
+
+    /**
+     * Создает получатель длительностей операций хранилища и преобразований.
+     *
+     * @param registry реестр метрик
+     * @return экземпляр {@link MicrometerDataSourceObserver}
+     */
+    @Bean
+    public DataSourceObserver dataSourceObserver(MeterRegistry registry) {
+        return new MicrometerDataSourceObserver(registry);
+    }
+
+    /**
+     * Создает регистратор метрик состояния: сессий, шардов, заполнения хранилища, контроля допуска и кэша ответов.
+     * Кэш ответов есть только в сервлетном стеке, а удаление по сроку жизни включается свойством,
+     * поэтому оба необязательны.
+     *
+     * @param storage          хранилище сессий
+     * @param capacity         проверка заполнения хранилища
+     * @param sessionExpiry    удаление сессий по сроку жизни
+     * @param admissionControl контроль допуска ходов
+     * @param responseCache    кэш ответов
+     * @return экземпляр {@link GameMetricsBinder}
+     */
+    @Bean
+    public GameMetricsBinder gameMetricsBinder(GameStorage storage,
+                                               StorageCapacity capacity,
+                                               ObjectProvider<SessionExpiry> sessionExpiry,
+                                               ObjectProvider<AdmissionControl> admissionControl,
+                                               ObjectProvider<SessionResponseCache> responseCache) {
+        return new GameMetricsBinder(storage, capacity, sessionExpiry.getIfAvailable(),
+                admissionControl.getIfAvailable(), responseCache.getIfAvailable());
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.di.config;
+
+import org.example.datasource.repository.ReactiveGameRepositoryAdapter;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.repository.ReactiveGameRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Конфигурация реактивного стека (WebFlux/Netty), активного в профиле {@code reactive}.
+ * <p>
+ * Сервлетный и реактивный стеки используют общие {@code GameService} и {@code GameRepository};
+ * здесь создаются только неблокирующий адаптер репозитория, ограниченный планировщик расчета
+ * ходов и фабрика сервера Netty (Tomcat тоже находится в classpath и иначе был бы выбран первым).
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    /**
+     * Создает фабрику встроенного сервера Netty.
+     *
+     * @return фабрика {@link NettyReactiveWebServerFactory}
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Создает неблокирующий адаптер репозитория.
+     * Хранилище находится в памяти и не блокируется, поэтому вызовы выполняются в вызывающем потоке.
+     *
+     * @param gameRepository синхронный репозиторий игровых сессий
+     * @return реализация {@link ReactiveGameRepository}
+     */
+    @Bean
+    public ReactiveGameRepository reactiveGameRepository(GameRepository gameRepository) {
+        return new ReactiveGameRepositoryAdapter(gameRepository, Schedulers.immediate());
+    }
+
+    /**
+     * Создает ограниченный планировщик расчета ходов ИИ.
+     * При переполнении очереди задача отклоняется, и клиент получает {@code 503}.
+     *
+     * @param engineThreads количество потоков расчета ходов
+     * @param queueCapacity максимальное количество ходов в очереди
+     * @return планировщик Reactor поверх ограниченного пула
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler engineScheduler(
+            @Value("${game.reactive.engine-threads:4}") int engineThreads,
+            @Value("${game.reactive.queue-capacity:1024}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                engineThreads, engineThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "game-engine-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        return Schedulers.fromExecutorService(executor, "game-engine");
+    }
+}
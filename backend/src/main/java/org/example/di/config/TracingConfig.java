@@ -0,0 +1,46 @@
+package org.example.di.config;
+
+import org.example.domain.trace.RequestTimings;
+import org.example.web.trace.TimingsEndpoint;
+import org.example.web.trace.TraceIdFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация трассировки HTTP-запросов: идентификатор трассировки и разбивка времени
+ * по этапам в заголовке {@code Server-Timing}.
+ * <p>
+ * Начальное состояние измерения задается свойством {@code game.timing.enabled} (по умолчанию
+ * выключено: заголовок раскрывает внутреннюю разбивку времени); во время работы его переключает
+ * эндпоинт {@code /actuator/timings}. По HTTP эндпоинт не публикуется: его можно добавить
+ * в {@code management.endpoints.web.exposure.include} только за отдельным портом управления
+ * или аутентификацией.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class TracingConfig {
+
+    /**
+     * Создает фильтр идентификатора трассировки и применяет начальное состояние измерения.
+     *
+     * @param timingEnabled измерять ли этапы запросов при запуске
+     * @return экземпляр {@link TraceIdFilter}
+     */
+    @Bean
+    public TraceIdFilter traceIdFilter(@Value("${game.timing.enabled:false}") boolean timingEnabled) {
+        RequestTimings.setEnabled(timingEnabled);
+        return new TraceIdFilter();
+    }
+
+    /**
+     * Создает эндпоинт переключения измерения.
+     *
+     * @return экземпляр {@link TimingsEndpoint}
+     */
+    @Bean
+    public TimingsEndpoint timingsEndpoint() {
+        return new TimingsEndpoint();
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.di.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.web.cache.SessionResponseCache;
+import org.example.web.codec.BinaryGameMessageConverter;
+import org.example.web.codec.BoardEncoding;
+import org.example.web.model.GameMapDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Конфигурация Spring MVC для компактных форматов игрового поля.
+ * <p>
+ * Для каждого формата {@link BoardEncoding} регистрируется отдельный JSON-конвертер
+ * со своим медиатипом, который сериализует {@link GameMapDTO} строкой вместо массива.
+ * Дополнительно регистрируется конвертер двоичного протокола для межсервисных вызовов.
+ * Конвертеры добавляются в конец списка, поэтому запросы без явного медиатипа
+ * по-прежнему обслуживаются стандартным форматом. Здесь же создается кэш готовых
+ * представлений сессий в тех же форматах.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class WebConfig implements WebMvcConfigurer {
+
+    /**
+     * Создает экземпляр конфигурации.
+     */
+    public WebConfig() {
+        // Конструктор по умолчанию
+    }
+
+    /**
+     * Добавляет конвертеры компактных форматов (на основе настроенного Spring {@link ObjectMapper})
+     * и двоичного протокола.
+     *
+     * @param converters зарегистрированные конвертеры сообщений.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObjectMapper base = converters.stream()
+                .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                .map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                .findFirst()
+                .orElseGet(ObjectMapper::new);
+
+        for (BoardEncoding encoding : BoardEncoding.values()) {
+            MappingJackson2HttpMessageConverter converter =
+                    new MappingJackson2HttpMessageConverter(base.copy().registerModule(encoding.jacksonModule()));
+            converter.setSupportedMediaTypes(List.of(encoding.getMediaType()));
+            converters.add(converter);
+        }
+
+        converters.add(new BinaryGameMessageConverter());
+    }
+
+    /**
+     * Создает кэш сериализованных представлений сессий для {@code GET /game/{id}}.
+     *
+     * @param objectMapper настроенный Spring {@link ObjectMapper}
+     * @param capacity     максимальное количество сессий в кэше
+     * @return экземпляр {@link SessionResponseCache}
+     */
+    @Bean
+    public SessionResponseCache sessionResponseCache(
+            ObjectMapper objectMapper,
+            @Value("${game.response-cache.capacity:10000}") int capacity) {
+        return new SessionResponseCache(objectMapper, capacity);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.di.config;
+
+import org.example.domain.repository.GameRepository;
+import org.example.domain.service.GameService;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.websocket.GameWebSocketHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Конфигурация WebSocket-канала игры.
+ * <p>
+ * Регистрирует {@link GameWebSocketHandler} по адресу {@code /game/{id}/ws}.
+ * Ходы рассчитываются в ограниченном пуле потоков: при переполнении очереди
+ * клиент получает отказ, а не неограниченную задержку.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final GameWebSocketHandler gameWebSocketHandler;
+
+    /**
+     * Создает конфигурацию с обработчиком игрового канала.
+     *
+     * @param gameWebSocketHandler обработчик игрового канала.
+     */
+    public WebSocketConfig(GameWebSocketHandler gameWebSocketHandler) {
+        this.gameWebSocketHandler = gameWebSocketHandler;
+    }
+
+    /**
+     * Регистрирует обработчик игрового канала.
+     *
+     * @param registry реестр WebSocket-обработчиков.
+     */
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(gameWebSocketHandler, "/game/*/ws");
+    }
+
+    /**
+     * Создает обработчик игрового канала с собственным пулом расчета ходов.
+     * Spring закрывает обработчик (и пул) при остановке контекста.
+     *
+     * @param gameService      сервис игровой логики
+     * @param gameRepository   репозиторий игровых сессий
+     * @param admissionControl контроль допуска перед расчетом хода
+     * @param workerThreads    количество потоков расчета ходов
+     * @param queueCapacity    максимальное количество ходов в очереди
+     * @return обработчик {@link GameWebSocketHandler}
+     */
+    @Bean
+    public static GameWebSocketHandler gameWebSocketHandler(
+            GameService gameService,
+            GameRepository gameRepository,
+            AdmissionControl admissionControl,
+            @Value("${game.websocket.worker-threads:4}") int workerThreads,
+            @Value("${game.websocket.queue-capacity:1024}") int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "game-ws-move-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        return new GameWebSocketHandler(gameService, gameRepository, admissionControl, executor);
+    }
+}
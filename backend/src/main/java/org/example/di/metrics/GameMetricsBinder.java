@@ -0,0 +1,158 @@
+package org.example.di.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.example.datasource.model.GameStatusEntity;
+import org.example.datasource.repository.SessionExpiry;
+import org.example.datasource.storage.GameStorage;
+import org.example.datasource.storage.GameStorageShard;
+import org.example.datasource.storage.ShardStats;
+import org.example.datasource.storage.StorageCapacity;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.cache.SessionResponseCache;
+
+import java.util.Locale;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Регистрирует метрики состояния игры, которые читаются из существующих счетчиков в момент сбора,
+ * без дополнительной работы на пути запроса:
+ * <ul>
+ *     <li>{@code game.sessions} — сессии по статусу; {@code game.finished} — завершенные игры по итогу;</li>
+ *     <li>{@code game.storage.shard.sessions}, {@code game.storage.shard.bytes},
+ *     {@code game.storage.shard.lookups} — размер, оценка памяти и поиски по шардам;</li>
+ *     <li>{@code game.storage.bytes}, {@code game.storage.session.bytes} — оценка памяти всего хранилища
+ *     и средняя на сессию; {@code game.storage.high.water.mark} — предел заполнения;</li>
+ *     <li>{@code game.storage.removals} — сессии, удаленные по сроку жизни;
+ *     {@code game.sessions.rejected} — созданий сессий, отклоненных из-за заполнения;</li>
+ *     <li>{@code game.admission.requests}, {@code game.admission.heavy.active} — контроль допуска ходов;</li>
+ *     <li>{@code game.response.cache} — попадания и промахи кэша ответов.</li>
+ * </ul>
+ * Статусы и завершения учитываются хранилищем в режиме {@code snapshot}; в журнальном режиме
+ * сессии хранятся вне {@link GameStorage}, и эти метрики равны нулю.
+ */
+public class GameMetricsBinder implements MeterBinder {
+
+    private final GameStorage storage;
+    private final StorageCapacity capacity;
+    private final SessionExpiry sessionExpiry;
+    private final AdmissionControl admissionControl;
+    private final SessionResponseCache responseCache;
+
+    /**
+     * Создает регистратор метрик.
+     *
+     * @param storage          хранилище сессий.
+     * @param capacity         проверка заполнения хранилища.
+     * @param sessionExpiry    удаление сессий по сроку жизни или {@code null}, если оно выключено.
+     * @param admissionControl контроль допуска ходов или {@code null}, если его нет в приложении.
+     * @param responseCache    кэш ответов или {@code null}, если его нет в приложении.
+     */
+    public GameMetricsBinder(GameStorage storage, StorageCapacity capacity, SessionExpiry sessionExpiry,
+                             AdmissionControl admissionControl, SessionResponseCache responseCache) {
+        this.storage = storage;
+        this.capacity = capacity;
+        this.sessionExpiry = sessionExpiry;
+        this.admissionControl = admissionControl;
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (GameStatusEntity status : GameStatusEntity.values()) {
+            String tag = status.name().toLowerCase(Locale.ROOT);
+            Gauge.builder("game.sessions", storage, s -> s.countByStatus(status))
+                    .description("Stored game sessions by status")
+                    .tag("status", tag)
+                    .register(registry);
+            if (status != GameStatusEntity.PLAYING) {
+                FunctionCounter.builder("game.finished", storage, s -> s.countFinished(status))
+                        .description("Games finished by outcome")
+                        .tag("status", tag)
+                        .register(registry);
+            }
+        }
+
+        for (GameStorageShard shard : storage.getShards()) {
+            String index = Integer.toString(shard.getIndex());
+            Gauge.builder("game.storage.shard.sessions", shard, GameStorageShard::size)
+                    .description("Sessions stored in the shard")
+                    .tag("shard", index)
+                    .register(registry);
+            Gauge.builder("game.storage.shard.bytes", shard, s -> s.stats().getBytes())
+                    .description("Estimated memory used by the shard's sessions")
+                    .tag("shard", index)
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("game.storage.shard.lookups", shard, s -> s.stats().getHits())
+                    .description("Session lookups by id in the shard")
+                    .tags("shard", index, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("game.storage.shard.lookups", shard, s -> s.stats().getMisses())
+                    .description("Session lookups by id in the shard")
+                    .tags("shard", index, "result", "miss")
+                    .register(registry);
+        }
+
+        Gauge.builder("game.storage.bytes", capacity, StorageCapacity::getUsedBytes)
+                .description("Estimated memory used by all stored sessions")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("game.storage.session.bytes", storage, GameMetricsBinder::bytesPerSession)
+                .description("Estimated memory per stored session")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("game.storage.high.water.mark", capacity, StorageCapacity::getHighWaterMarkBytes)
+                .description("Estimated storage memory at which new sessions are refused (0 means no limit)")
+                .baseUnit("bytes")
+                .register(registry);
+        FunctionCounter.builder("game.storage.removals", this, GameMetricsBinder::expirationCount)
+                .description("Sessions removed from storage by maintenance")
+                .tag("reason", "expired")
+                .register(registry);
+        FunctionCounter.builder("game.sessions.rejected", capacity, StorageCapacity::getRejectedCount)
+                .description("New sessions refused because storage reached the high-water mark")
+                .register(registry);
+
+        if (admissionControl != null) {
+            admissionCounter(registry, "admitted", AdmissionControl::getAdmittedCount);
+            admissionCounter(registry, "throttled", AdmissionControl::getThrottledCount);
+            admissionCounter(registry, "shed", AdmissionControl::getShedCount);
+            admissionCounter(registry, "too_expensive", AdmissionControl::getTooExpensiveCount);
+            Gauge.builder("game.admission.heavy.active", admissionControl, AdmissionControl::getActiveHeavySearches)
+                    .description("Heavy AI searches currently running")
+                    .register(registry);
+        }
+
+        if (responseCache != null) {
+            FunctionCounter.builder("game.response.cache", responseCache, SessionResponseCache::getHitCount)
+                    .description("GET /game/{id} responses by cache result")
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("game.response.cache", responseCache, SessionResponseCache::getMissCount)
+                    .description("GET /game/{id} responses by cache result")
+                    .tag("result", "miss")
+                    .register(registry);
+        }
+    }
+
+    private static double bytesPerSession(GameStorage storage) {
+        ShardStats total = storage.getTotalStats();
+        return total.getSize() == 0 ? 0 : (double) total.getBytes() / total.getSize();
+    }
+
+    /** Удаления по сроку жизни; счетчик существует и при выключенном удалении, чтобы набор метрик не менялся */
+    private double expirationCount() {
+        return sessionExpiry == null ? 0 : sessionExpiry.getExpirationCount();
+    }
+
+    private void admissionCounter(MeterRegistry registry, String result,
+                                  ToDoubleFunction<AdmissionControl> count) {
+        FunctionCounter.builder("game.admission.requests", admissionControl, count)
+                .description("AI move requests by admission decision")
+                .tag("result", result)
+                .register(registry);
+    }
+}
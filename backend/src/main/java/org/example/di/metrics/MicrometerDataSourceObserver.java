@@ -0,0 +1,53 @@
+package org.example.di.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.datasource.repository.DataSourceObserver;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Публикует длительности операций слоя данных в Micrometer:
+ * {@code game.storage.latency} с тегом {@code operation} и
+ * {@code game.mapper.latency} с тегом {@code direction}.
+ * <p>
+ * Все таймеры регистрируются при создании, поэтому запись измерения не обращается к реестру.
+ */
+public class MicrometerDataSourceObserver implements DataSourceObserver {
+
+    private final Map<StorageOperation, Timer> storageTimers = new EnumMap<>(StorageOperation.class);
+    private final Map<MappingDirection, Timer> mappingTimers = new EnumMap<>(MappingDirection.class);
+
+    /**
+     * Создает получатель измерений и регистрирует таймеры.
+     *
+     * @param registry реестр метрик.
+     */
+    public MicrometerDataSourceObserver(MeterRegistry registry) {
+        for (StorageOperation operation : StorageOperation.values()) {
+            storageTimers.put(operation, Timer.builder("game.storage.latency")
+                    .description("Session storage operation time")
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        for (MappingDirection direction : MappingDirection.values()) {
+            mappingTimers.put(direction, Timer.builder("game.mapper.latency")
+                    .description("Session conversion time between domain model and entity")
+                    .tag("direction", direction.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+    }
+
+    @Override
+    public void onStorage(StorageOperation operation, long nanos) {
+        storageTimers.get(operation).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onMapping(MappingDirection direction, long nanos) {
+        mappingTimers.get(direction).record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.di.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.example.domain.service.SearchObserver;
+import org.example.domain.service.SearchStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Публикует статистику расчетов хода ИИ в Micrometer.
+ * <p>
+ * Метрики помечаются только размером поля; поля больше {@value #MAX_SIZE_TAG}x{@value #MAX_SIZE_TAG}
+ * объединяются под тегом {@code large}, поэтому число временных рядов не зависит от запросов клиентов.
+ * <ul>
+ *     <li>{@code game.engine.move} — длительность расчета (гистограмма для перцентилей);</li>
+ *     <li>{@code game.engine.nodes} — рассмотренные позиции за расчет;</li>
+ *     <li>{@code game.engine.depth} — достигнутая глубина в полуходах;</li>
+ *     <li>{@code game.engine.cutoffs} — позиции, оцененные эвристикой на пределе глубины.</li>
+ * </ul>
+ */
+public class MicrometerSearchObserver implements SearchObserver {
+
+    /** Наибольший размер поля, получающий собственный тег */
+    static final int MAX_SIZE_TAG = 10;
+
+    private final MeterRegistry registry;
+
+    /** Зарегистрированные метрики по тегу размера поля */
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Создает получатель статистики.
+     *
+     * @param registry реестр метрик.
+     */
+    public MicrometerSearchObserver(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void onSearch(SearchStats stats) {
+        Meters m = meters.computeIfAbsent(sizeTag(stats.getBoardSize()), this::register);
+        m.duration.record(stats.getDurationNanos(), TimeUnit.NANOSECONDS);
+        m.nodes.record(stats.getNodes());
+        m.depth.record(stats.getDepth());
+        m.cutoffs.record(stats.getCutoffs());
+    }
+
+    /**
+     * Возвращает значение тега размера поля.
+     *
+     * @param size размер стороны поля.
+     * @return размер поля или {@code large}.
+     */
+    static String sizeTag(int size) {
+        return size <= MAX_SIZE_TAG ? Integer.toString(size) : "large";
+    }
+
+    private Meters register(String size) {
+        return new Meters(
+                Timer.builder("game.engine.move")
+                        .description("AI move computation time")
+                        .tag("size", size)
+                        .publishPercentileHistogram()
+                        .register(registry),
+                DistributionSummary.builder("game.engine.nodes")
+                        .description("Positions searched per AI move")
+                        .tag("size", size)
+                        .register(registry),
+                DistributionSummary.builder("game.engine.depth")
+                        .description("Search depth reached per AI move, in plies")
+                        .tag("size", size)
+                        .register(registry),
+                DistributionSummary.builder("game.engine.cutoffs")
+                        .description("Positions evaluated heuristically at the depth limit per AI move")
+                        .tag("size", size)
+                        .register(registry));
+    }
+
+    /** Метрики одного размера поля */
+    private static final class Meters {
+        private final Timer duration;
+        private final DistributionSummary nodes;
+        private final DistributionSummary depth;
+        private final DistributionSummary cutoffs;
+
+        private Meters(Timer duration, DistributionSummary nodes,
+                       DistributionSummary depth, DistributionSummary cutoffs) {
+            this.duration = duration;
+            this.nodes = nodes;
+            this.depth = depth;
+            this.cutoffs = cutoffs;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.domain.event;
+
+import org.example.domain.model.GameSession;
+
+import java.util.UUID;
+
+/**
+ * Получатель уведомлений об изменении игровых сессий.
+ * <p>
+ * Вызывается синхронно после успешной записи, поэтому реализация должна быстро
+ * скопировать нужные данные и вернуть управление, не выполняя ввод-вывод.
+ */
+public interface GameEventListener {
+
+    /**
+     * Сессия сохранена.
+     *
+     * @param session сохраненная сессия (объект вызывающей стороны; его нельзя удерживать).
+     */
+    void onSaved(GameSession session);
+
+    /**
+     * Сессия удалена.
+     *
+     * @param id идентификатор удаленной сессии.
+     */
+    void onRemoved(UUID id);
+}
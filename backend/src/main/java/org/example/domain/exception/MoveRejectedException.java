@@ -0,0 +1,32 @@
+package org.example.domain.exception;
+
+import org.example.domain.model.MoveError;
+
+/**
+ * Исключение, сигнализирующее о том, что расчет хода отклонен контролем допуска:
+ * клиент исчерпал квоту, сервер занят тяжелыми расчетами или ход слишком дорог.
+ */
+public class MoveRejectedException extends RuntimeException {
+
+    /** Причина отказа */
+    private final MoveError reason;
+
+    /**
+     * Создает исключение с причиной отказа.
+     *
+     * @param reason  причина отказа.
+     * @param message описание для клиента.
+     */
+    public MoveRejectedException(MoveError reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    /**
+     * Возвращает причину отказа.
+     * @return причина в терминах {@link MoveError}.
+     */
+    public MoveError getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.domain.exception;
+
+/**
+ * Исключение, сигнализирующее о том, что хранилище сессий достигло предела заполнения
+ * и новые сессии не принимаются.
+ * <p>
+ * Существующие сессии продолжают обслуживаться: отказ касается только создания новых игр.
+ */
+public class SessionCapacityExceededException extends RuntimeException {
+
+    /** Оценка занятой памяти в момент отказа, в байтах */
+    private final long usedBytes;
+
+    /** Предел заполнения хранилища, в байтах */
+    private final long limitBytes;
+
+    /**
+     * Создает исключение с текущей оценкой заполнения.
+     *
+     * @param usedBytes  оценка занятой памяти в байтах.
+     * @param limitBytes предел заполнения в байтах.
+     */
+    public SessionCapacityExceededException(long usedBytes, long limitBytes) {
+        super("Session storage is full: " + usedBytes + " of " + limitBytes + " bytes used");
+        this.usedBytes = usedBytes;
+        this.limitBytes = limitBytes;
+    }
+
+    /**
+     * Возвращает оценку занятой памяти в момент отказа.
+     * @return байты.
+     */
+    public long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Возвращает предел заполнения хранилища.
+     * @return байты.
+     */
+    public long getLimitBytes() {
+        return limitBytes;
+    }
+}
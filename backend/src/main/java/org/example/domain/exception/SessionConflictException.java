@@ -0,0 +1,33 @@
+package org.example.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Исключение, сигнализирующее о конфликте параллельных изменений одной игровой сессии.
+ * <p>
+ * Выбрасывается, когда сессия была изменена другим запросом между её чтением
+ * и сохранением (версия в хранилище не совпадает с ожидаемой).
+ */
+public class SessionConflictException extends RuntimeException {
+
+    /** Идентификатор сессии, на которой произошел конфликт */
+    private final UUID sessionId;
+
+    /**
+     * Создает исключение для указанной сессии.
+     *
+     * @param sessionId идентификатор сессии, на которой произошел конфликт.
+     */
+    public SessionConflictException(UUID sessionId) {
+        super("Game session " + sessionId + " was modified concurrently");
+        this.sessionId = sessionId;
+    }
+
+    /**
+     * Возвращает идентификатор сессии, на которой произошел конфликт.
+     * @return идентификатор сессии.
+     */
+    public UUID getSessionId() {
+        return sessionId;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Генератор случайных идентификаторов (UUID версии 4).
+ * <p>
+ * Использует {@link UUID#randomUUID()}, который обращается к общему {@link java.security.SecureRandom}
+ * и может стать узким местом при массовом создании игр. Идентификаторы не упорядочены по времени.
+ */
+public class RandomSessionIdGenerator implements SessionIdGenerator {
+
+    /**
+     * Конструктор по умолчанию.
+     */
+    public RandomSessionIdGenerator() {
+    }
+
+    /**
+     * Выдает случайный идентификатор.
+     *
+     * @return UUID версии 4.
+     */
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.domain.id;
+
+import java.util.UUID;
+
+/**
+ * Генератор идентификаторов игровых сессий.
+ * <p>
+ * Позволяет подменять стратегию выдачи идентификаторов (случайные или упорядоченные по времени)
+ * без изменения доменных моделей и контроллеров.
+ */
+@FunctionalInterface
+public interface SessionIdGenerator {
+
+    /**
+     * Выдает новый уникальный идентификатор сессии.
+     *
+     * @return новый идентификатор.
+     */
+    UUID nextId();
+}
@@ -0,0 +1,79 @@
+package org.example.domain.id;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Генератор упорядоченных по времени идентификаторов в формате UUID версии 7.
+ * <p>
+ * Старшие 48 бит содержат время создания в миллисекундах Unix-эпохи, остальные биты
+ * (кроме версии и варианта) заполняются из {@link ThreadLocalRandom}, поэтому потоки
+ * не конкурируют за общий источник случайности. Сравнение таких UUID через
+ * {@link UUID#compareTo} упорядочивает их по времени создания с точностью до миллисекунды,
+ * что позволяет хранилищу сканировать диапазоны по времени.
+ */
+public class TimeOrderedSessionIdGenerator implements SessionIdGenerator {
+
+    /** Общий экземпляр генератора (генератор не имеет изменяемого состояния) */
+    public static final TimeOrderedSessionIdGenerator INSTANCE = new TimeOrderedSessionIdGenerator();
+
+    /** Биты версии 7 в старшей половине UUID */
+    private static final long VERSION_BITS = 0x7000L;
+
+    /** Биты варианта RFC 4122 ({@code 10}) в младшей половине UUID */
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+
+    /** Маска случайной части младшей половины (62 бита) */
+    private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    /**
+     * Конструктор по умолчанию.
+     */
+    public TimeOrderedSessionIdGenerator() {
+    }
+
+    /**
+     * Выдает идентификатор с текущим временем в старших битах.
+     *
+     * @return UUID версии 7.
+     */
+    @Override
+    public UUID nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long randA = random.nextInt() & 0xFFFL;
+        long randB = random.nextLong() & RAND_B_MASK;
+        return build(System.currentTimeMillis(), randA, randB);
+    }
+
+    /**
+     * Возвращает наименьший идентификатор, созданный не раньше указанного момента.
+     * Используется как нижняя граница диапазонного сканирования.
+     *
+     * @param instant момент времени.
+     * @return граничный UUID с нулевой случайной частью.
+     */
+    public static UUID lowerBound(Instant instant) {
+        return build(instant.toEpochMilli(), 0L, 0L);
+    }
+
+    /**
+     * Возвращает время создания, закодированное в идентификаторе версии 7.
+     *
+     * @param id идентификатор сессии.
+     * @return момент создания с точностью до миллисекунды.
+     * @throws IllegalArgumentException если идентификатор не является UUID версии 7.
+     */
+    public static Instant timestampOf(UUID id) {
+        if (id.version() != 7) {
+            throw new IllegalArgumentException("UUID " + id + " is not time-ordered.");
+        }
+        return Instant.ofEpochMilli(id.getMostSignificantBits() >>> 16);
+    }
+
+    private static UUID build(long epochMillis, long randA, long randB) {
+        long msb = (epochMillis << 16) | VERSION_BITS | randA;
+        long lsb = VARIANT_BITS | randB;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Результат одного хода из пакетного запроса: либо ответ ИИ, либо причина отказа.
+ */
+public class BatchMoveOutcome {
+
+    /** Идентификатор игровой сессии */
+    private final UUID gameId;
+
+    /** Результат хода или {@code null} при ошибке */
+    private final MoveResult result;
+
+    /** Причина отказа или {@code null} при успехе */
+    private final MoveError error;
+
+    /** Описание ошибки или {@code null} при успехе */
+    private final String message;
+
+    private BatchMoveOutcome(UUID gameId, MoveResult result, MoveError error, String message) {
+        this.gameId = gameId;
+        this.result = result;
+        this.error = error;
+        this.message = message;
+    }
+
+    /**
+     * Создает успешный результат.
+     *
+     * @param gameId идентификатор игровой сессии.
+     * @param result результат хода.
+     * @return успешный результат.
+     */
+    public static BatchMoveOutcome success(UUID gameId, MoveResult result) {
+        return new BatchMoveOutcome(gameId, result, null, null);
+    }
+
+    /**
+     * Создает результат с ошибкой.
+     *
+     * @param gameId  идентификатор игровой сессии.
+     * @param error   причина отказа.
+     * @param message описание ошибки.
+     * @return результат с ошибкой.
+     */
+    public static BatchMoveOutcome failure(UUID gameId, MoveError error, String message) {
+        return new BatchMoveOutcome(gameId, null, error, message);
+    }
+
+    /**
+     * Возвращает идентификатор игровой сессии.
+     * @return идентификатор сессии.
+     */
+    public UUID getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Возвращает результат хода.
+     * @return результат или {@code null} при ошибке.
+     */
+    public MoveResult getResult() {
+        return result;
+    }
+
+    /**
+     * Возвращает причину отказа.
+     * @return причина или {@code null} при успехе.
+     */
+    public MoveError getError() {
+        return error;
+    }
+
+    /**
+     * Возвращает описание ошибки.
+     * @return описание или {@code null} при успехе.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Проверяет, был ли ход выполнен.
+     * @return {@code true}, если ошибки нет.
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -48,6 +48,7 @@ public class GameMap {
      * <p>
      * <b>Важно:</b> Метод выполняет глубокое копирование массива, чтобы
      * вызывающий код не мог изменить внутреннее состояние поля напрямую.
+     * В циклах перебора используйте {@link #getCellValue}, который не выделяет память.
      *
      * @return двумерный массив (копия текущего состояния).
      */
@@ -67,6 +68,21 @@ public class GameMap {
         return size;
     }
 
+    /**
+     * Возвращает значение указанной ячейки без копирования поля.
+     *
+     * @param row индекс строки (0 до size-1).
+     * @param col индекс столбца (0 до size-1).
+     * @return числовое значение ячейки ({@link CellType#getValue()}).
+     * @throws IllegalArgumentException если координаты выходят за пределы игрового поля.
+     */
+    public int getCellValue(int row, int col) {
+        if (row < 0 || row >= size || col < 0 || col >= size) {
+            throw new IllegalArgumentException("Coordinates are out of bounds.");
+        }
+        return map[row][col];
+    }
+
     /**
      * Устанавливает значение в указанную ячейку поля.
      *
@@ -1,5 +1,8 @@
 package org.example.domain.model;
 
+import org.example.domain.id.SessionIdGenerator;
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
+
 import java.util.UUID;
 
 /**
@@ -20,13 +23,30 @@ public class GameSession {
     private GameStatus status;
 
     /**
-     * Создает новую игровую сессию с уникальным ID.
+     * Версия сессии для оптимистичной блокировки.
+     * Увеличивается хранилищем при каждом успешном атомарном обновлении.
+     */
+    private long version;
+
+    /**
+     * Создает новую игровую сессию с уникальным ID, упорядоченным по времени создания.
      * По умолчанию устанавливает статус {@link GameStatus#PLAYING}.
      *
      * @param map инициализированное игровое поле (например, 3x3).
      */
     public GameSession(GameMap map) {
-        this.id = UUID.randomUUID();
+        this(map, TimeOrderedSessionIdGenerator.INSTANCE);
+    }
+
+    /**
+     * Создает новую игровую сессию с идентификатором от указанного генератора.
+     * По умолчанию устанавливает статус {@link GameStatus#PLAYING}.
+     *
+     * @param map         инициализированное игровое поле.
+     * @param idGenerator генератор идентификаторов сессий.
+     */
+    public GameSession(GameMap map, SessionIdGenerator idGenerator) {
+        this.id = idGenerator.nextId();
         this.map = map;
         this.status = GameStatus.PLAYING;
     }
@@ -40,9 +60,22 @@ public class GameSession {
      * @param status актуальный статус игры.
      */
     public GameSession(UUID id, GameMap map, GameStatus status) {
+        this(id, map, status, 0L);
+    }
+
+    /**
+     * Восстанавливает существующую игровую сессию вместе с её версией.
+     *
+     * @param id      UUID сессии.
+     * @param map     объект игрового поля.
+     * @param status  актуальный статус игры.
+     * @param version версия сессии в хранилище.
+     */
+    public GameSession(UUID id, GameMap map, GameStatus status, long version) {
         this.id = id;
         this.map = map;
         this.status = status;
+        this.version = version;
     }
 
     /**
@@ -79,6 +112,24 @@ public class GameSession {
         this.status = status;
     }
 
+    /**
+     * Возвращает версию сессии, с которой она была прочитана из хранилища.
+     * @return версия сессии ({@code 0} для ещё не сохраненной сессии).
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Устанавливает версию сессии.
+     * Вызывается репозиторием после успешного атомарного сохранения.
+     *
+     * @param version новая версия сессии.
+     */
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     /**
      * Проверяет, завершена ли игра.
      * @return {@code true}, если статус отличен от {@link GameStatus#PLAYING}.
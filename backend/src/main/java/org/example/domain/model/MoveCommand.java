@@ -0,0 +1,55 @@
+package org.example.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Ход пользователя в указанной игровой сессии (элемент пакетного запроса).
+ */
+public class MoveCommand {
+
+    /** Идентификатор игровой сессии */
+    private final UUID gameId;
+
+    /** Строка хода */
+    private final int row;
+
+    /** Столбец хода */
+    private final int col;
+
+    /**
+     * Создает команду хода.
+     *
+     * @param gameId идентификатор игровой сессии.
+     * @param row    строка хода.
+     * @param col    столбец хода.
+     */
+    public MoveCommand(UUID gameId, int row, int col) {
+        this.gameId = gameId;
+        this.row = row;
+        this.col = col;
+    }
+
+    /**
+     * Возвращает идентификатор игровой сессии.
+     * @return идентификатор сессии.
+     */
+    public UUID getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Возвращает строку хода.
+     * @return индекс строки.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Возвращает столбец хода.
+     * @return индекс столбца.
+     */
+    public int getCol() {
+        return col;
+    }
+}
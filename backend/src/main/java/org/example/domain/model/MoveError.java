@@ -0,0 +1,31 @@
+package org.example.domain.model;
+
+/**
+ * Причина, по которой ход из пакетного запроса не был выполнен.
+ */
+public enum MoveError {
+
+    /** Игровая сессия не найдена */
+    NOT_FOUND,
+
+    /** Ход нарушает правила: ячейка вне поля или занята, игра завершена */
+    INVALID_MOVE,
+
+    /** Сессия была изменена параллельным запросом */
+    CONFLICT,
+
+    /** Пул расчета ходов переполнен или сервер занят тяжелыми расчетами, ход не был принят в обработку */
+    OVERLOADED,
+
+    /** Клиент исчерпал квоту ходов */
+    RATE_LIMITED,
+
+    /** Ход слишком дорог для расчета при любой нагрузке */
+    TOO_EXPENSIVE,
+
+    /** Непредвиденная ошибка при расчете хода */
+    INTERNAL,
+
+    /** Ожидание пакета прервано во время расчета хода: ход мог быть выполнен, состояние игры нужно перечитать */
+    UNKNOWN
+}
@@ -0,0 +1,64 @@
+package org.example.domain.model;
+
+/**
+ * Результат хода пользователя: ответный ход ИИ и статус игры после него.
+ * <p>
+ * Содержит только изменения поля, а не всё поле, поэтому его размер
+ * не зависит от размера игрового поля.
+ */
+public class MoveResult {
+
+    /** Строка ответного хода ИИ или {@code -1}, если ИИ не ходил */
+    private final int row;
+
+    /** Столбец ответного хода ИИ или {@code -1}, если ИИ не ходил */
+    private final int col;
+
+    /** Статус игры после хода пользователя и ответа ИИ */
+    private final GameStatus status;
+
+    /**
+     * Создает результат хода.
+     *
+     * @param row    строка ответного хода ИИ или {@code -1}.
+     * @param col    столбец ответного хода ИИ или {@code -1}.
+     * @param status статус игры после хода.
+     */
+    public MoveResult(int row, int col, GameStatus status) {
+        this.row = row;
+        this.col = col;
+        this.status = status;
+    }
+
+    /**
+     * Возвращает строку ответного хода ИИ.
+     * @return индекс строки или {@code -1}.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Возвращает столбец ответного хода ИИ.
+     * @return индекс столбца или {@code -1}.
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Возвращает статус игры после хода.
+     * @return статус игры.
+     */
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Проверяет, сделал ли ИИ ответный ход.
+     * @return {@code true}, если координаты ответного хода заданы.
+     */
+    public boolean hasReply() {
+        return row >= 0;
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Страница игровых сессий, полученная курсорной пагинацией.
+ * <p>
+ * Содержит сессии текущей страницы и курсор, который нужно передать
+ * в следующий запрос, чтобы продолжить обход с места остановки.
+ */
+public class SessionPage {
+
+    /** Сессии текущей страницы в порядке возрастания идентификатора */
+    private final List<GameSession> items;
+
+    /** Курсор следующей страницы или {@code null}, если страниц больше нет */
+    private final UUID nextCursor;
+
+    /**
+     * Создает страницу сессий.
+     *
+     * @param items      сессии текущей страницы.
+     * @param nextCursor курсор следующей страницы или {@code null}.
+     */
+    public SessionPage(List<GameSession> items, UUID nextCursor) {
+        this.items = List.copyOf(items);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Возвращает сессии текущей страницы.
+     * @return неизменяемый список сессий.
+     */
+    public List<GameSession> getItems() {
+        return items;
+    }
+
+    /**
+     * Возвращает курсор следующей страницы.
+     * @return идентификатор последней сессии страницы или {@code null}, если это последняя страница.
+     */
+    public UUID getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Проверяет, есть ли следующая страница.
+     * @return {@code true}, если за текущей страницей есть еще сессии.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
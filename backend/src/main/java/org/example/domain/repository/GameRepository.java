@@ -1,10 +1,16 @@
 package org.example.domain.repository;
 
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
 import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.SessionPage;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Интерфейс репозитория для управления состоянием игровых сессий.
@@ -22,6 +28,29 @@ public interface GameRepository {
      */
     void save(GameSession gameSession);
 
+    /**
+     * Сохраняет пакет игровых сессий.
+     * <p>
+     * Реализация по умолчанию сохраняет сессии по одной; хранилища с поддержкой
+     * пакетной записи могут переопределить метод для записи за одно обращение.
+     *
+     * @param gameSessions сессии для сохранения.
+     */
+    default void saveAll(Collection<GameSession> gameSessions) {
+        gameSessions.forEach(this::save);
+    }
+
+    /**
+     * Атомарно сохраняет сессию с оптимистичной проверкой версии.
+     * <p>
+     * Запись выполняется, только если версия сессии в хранилище совпадает с
+     * {@link GameSession#getVersion()}. При успехе версия объекта увеличивается.
+     *
+     * @param gameSession объект игровой сессии, прочитанный из репозитория и измененный.
+     * @return {@code true}, если сессия сохранена; {@code false}, если её уже изменил другой запрос.
+     */
+    boolean compareAndSave(GameSession gameSession);
+
     /**
      * Выполняет поиск игровой сессии по её уникальному идентификатору.
      *
@@ -33,15 +62,85 @@ public interface GameRepository {
 
     /**
      * Возвращает все существующие игровые сессии.
+     * <p>
+     * Метод преобразует и копирует всё хранилище за один вызов. Для обхода большого
+     * количества сессий следует использовать {@link #findPage} или {@link #stream()}.
      *
      * @return карта всех сессий, где ключ — UUID, а значение — объект сессии.
      */
     Map<UUID, GameSession> getAll();
 
+    /**
+     * Возвращает страницу сессий, следующих за курсором.
+     * <p>
+     * В доменные модели преобразуются только сессии, попавшие на страницу.
+     *
+     * @param cursor курсор из {@link SessionPage#getNextCursor()} предыдущей страницы
+     *               или {@code null} для первой страницы.
+     * @param limit  максимальный размер страницы (больше нуля).
+     * @param status статус для фильтрации или {@code null}, чтобы вернуть сессии в любом статусе.
+     * @return страница сессий с курсором для продолжения обхода.
+     * @throws IllegalArgumentException если {@code limit} не положителен.
+     */
+    SessionPage findPage(UUID cursor, int limit, GameStatus status);
+
+    /**
+     * Возвращает ленивый поток всех сессий.
+     * <p>
+     * Каждая сессия преобразуется в доменную модель только при её извлечении из потока.
+     *
+     * @return поток игровых сессий.
+     */
+    Stream<GameSession> stream();
+
+    /**
+     * Возвращает ленивый поток сессий с указанным статусом.
+     * <p>
+     * Фильтрация выполняется до преобразования, поэтому остальные сессии не конвертируются.
+     *
+     * @param status статус искомых сессий.
+     * @return поток игровых сессий с данным статусом.
+     */
+    Stream<GameSession> streamByStatus(GameStatus status);
+
     /**
      * Удаляет игровую сессию из системы.
      *
      * @param id уникальный идентификатор сессии для удаления.
      */
     void removeById(UUID id);
+
+    /**
+     * Возвращает ленивый поток сессий, созданных в полуинтервале времени {@code [from, to)}.
+     * <p>
+     * Время создания берется из упорядоченного по времени идентификатора сессии
+     * ({@link TimeOrderedSessionIdGenerator}); сессии со случайными идентификаторами не попадают в выборку.
+     * Реализация по умолчанию просматривает все сессии; упорядоченные хранилища
+     * переопределяют её диапазонным сканированием.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток сессий в порядке создания.
+     */
+    default Stream<GameSession> streamCreatedBetween(Instant from, Instant to) {
+        UUID lower = TimeOrderedSessionIdGenerator.lowerBound(from);
+        UUID upper = TimeOrderedSessionIdGenerator.lowerBound(to);
+        return stream().filter(session -> session.getId().version() == 7
+                && session.getId().compareTo(lower) >= 0
+                && session.getId().compareTo(upper) < 0);
+    }
+
+    /**
+     * Возвращает ленивый поток идентификаторов сессий, созданных в полуинтервале времени {@code [from, to)}.
+     * <p>
+     * Выборка та же, что у {@link #streamCreatedBetween}, но без восстановления самих сессий:
+     * хранилища переопределяют метод, чтобы не копировать поле ради одного идентификатора.
+     *
+     * @param from начало интервала (включительно).
+     * @param to   конец интервала (не включительно).
+     * @return поток идентификаторов в порядке создания.
+     */
+    default Stream<UUID> streamIdsCreatedBetween(Instant from, Instant to) {
+        return streamCreatedBetween(from, to).map(GameSession::getId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package org.example.domain.repository;
+
+import org.example.domain.model.GameSession;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Неблокирующий интерфейс репозитория игровых сессий для реактивного API.
+ * <p>
+ * Повторяет операции {@link GameRepository}, нужные контроллеру, но возвращает
+ * отложенные результаты, чтобы потоки цикла событий не ожидали хранилище.
+ */
+public interface ReactiveGameRepository {
+
+    /**
+     * Сохраняет или обновляет состояние игровой сессии.
+     *
+     * @param gameSession объект игровой сессии для сохранения.
+     * @return сигнал завершения записи.
+     */
+    Mono<Void> save(GameSession gameSession);
+
+    /**
+     * Атомарно сохраняет сессию, если её версия не изменилась с момента чтения.
+     *
+     * @param gameSession объект игровой сессии для сохранения.
+     * @return {@code true}, если сессия сохранена; {@code false} при конфликте версий.
+     */
+    Mono<Boolean> compareAndSave(GameSession gameSession);
+
+    /**
+     * Находит игровую сессию по идентификатору.
+     *
+     * @param id UUID сессии.
+     * @return сессия или пустой результат, если она не найдена.
+     */
+    Mono<GameSession> findById(UUID id);
+}
@@ -0,0 +1,23 @@
+package org.example.domain.repository;
+
+import org.example.domain.exception.SessionCapacityExceededException;
+
+/**
+ * Проверка свободного места в хранилище перед созданием новой сессии.
+ * <p>
+ * Позволяет отказать в создании игры заранее, пока заполнение хранилища ниже
+ * опасного для JVM уровня, вместо того чтобы дойти до {@link OutOfMemoryError}.
+ */
+@FunctionalInterface
+public interface SessionCapacity {
+
+    /** Проверка без ограничений: новые сессии принимаются всегда */
+    SessionCapacity UNLIMITED = () -> { };
+
+    /**
+     * Проверяет, можно ли создать новую сессию.
+     *
+     * @throws SessionCapacityExceededException если хранилище достигло предела заполнения.
+     */
+    void checkCanCreate();
+}
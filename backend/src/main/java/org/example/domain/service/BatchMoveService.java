@@ -0,0 +1,183 @@
+package org.example.domain.service;
+
+import org.example.domain.exception.MoveRejectedException;
+import org.example.domain.exception.SessionConflictException;
+import org.example.domain.model.BatchMoveOutcome;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.MoveCommand;
+import org.example.domain.model.MoveError;
+import org.example.domain.repository.GameRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Сервис пакетной обработки ходов для ботов и нагрузочных клиентов.
+ * <p>
+ * Ходы пакета группируются по игровой сессии: ходы одной сессии выполняются по порядку
+ * в одной задаче, а разные сессии рассчитываются параллельно в ограниченном пуле потоков.
+ * Каждый элемент пакета получает собственный результат или причину отказа, поэтому
+ * ошибка в одной игре не влияет на остальные.
+ * <p>
+ * Перед расчетом каждый ход проходит {@link MoveAdmission} с ключом клиента пакета:
+ * ограниченный пул задает только число одновременных расчетов, а стоимость ходов и
+ * квоту клиента проверяет контроль допуска, как и для отдельных ходов REST API.
+ * <p>
+ * Если ожидание пакета прервано, еще не начатые ходы отменяются и не выполняются, а ходы,
+ * расчет которых уже идет, получают {@link MoveError#UNKNOWN}: расчет нельзя остановить,
+ * и ход может быть сохранен уже после ответа.
+ */
+public class BatchMoveService implements AutoCloseable {
+
+    // Состояния хода пакета: ход начинает либо задача расчета, либо отменяет прерванное ожидание
+    private static final int PENDING = 0;
+    private static final int STARTED = 1;
+    private static final int CANCELLED = 2;
+
+    private final GameService gameService;
+    private final GameRepository repository;
+    private final MoveAdmission admission;
+
+    /** Ограниченный пул расчета ходов */
+    private final ExecutorService executor;
+
+    /**
+     * Создает сервис пакетных ходов.
+     *
+     * @param gameService сервис игровой логики.
+     * @param repository  репозиторий игровых сессий.
+     * @param admission   контроль допуска перед расчетом каждого хода.
+     * @param executor    ограниченный пул расчета ходов; закрывается вместе с сервисом.
+     */
+    public BatchMoveService(GameService gameService, GameRepository repository, MoveAdmission admission,
+                            ExecutorService executor) {
+        this.gameService = gameService;
+        this.repository = repository;
+        this.admission = admission;
+        this.executor = executor;
+    }
+
+    /**
+     * Выполняет все ходы пакета и дожидается результатов.
+     *
+     * @param commands  ходы пакета.
+     * @param clientKey идентификатор клиента для контроля допуска (например, адрес).
+     * @return результаты в порядке ходов пакета.
+     */
+    public List<BatchMoveOutcome> playAll(List<MoveCommand> commands, String clientKey) {
+        Map<UUID, List<Integer>> byGame = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            byGame.computeIfAbsent(commands.get(i).getGameId(), id -> new ArrayList<>(1)).add(i);
+        }
+
+        AtomicReferenceArray<BatchMoveOutcome> outcomes = new AtomicReferenceArray<>(commands.size());
+        AtomicIntegerArray states = new AtomicIntegerArray(commands.size());
+        List<Future<?>> tasks = new ArrayList<>(byGame.size());
+        for (List<Integer> indexes : byGame.values()) {
+            try {
+                tasks.add(executor.submit(() -> {
+                    for (int i : indexes) {
+                        if (!states.compareAndSet(i, PENDING, STARTED)) {
+                            return;
+                        }
+                        outcomes.set(i, play(commands.get(i), clientKey));
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                for (int i : indexes) {
+                    outcomes.set(i, BatchMoveOutcome.failure(
+                            commands.get(i).getGameId(), MoveError.OVERLOADED, "Server is busy"));
+                }
+            }
+        }
+
+        awaitAll(tasks);
+
+        BatchMoveOutcome[] results = new BatchMoveOutcome[commands.size()];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = outcomes.get(i);
+            if (results[i] != null) {
+                continue;
+            }
+            UUID gameId = commands.get(i).getGameId();
+            if (states.compareAndSet(i, PENDING, CANCELLED)) {
+                // Ожидание прервано до начала хода: ход отменен и уже не будет выполнен
+                results[i] = BatchMoveOutcome.failure(gameId, MoveError.OVERLOADED, "Move was not processed");
+            } else {
+                // Ход начат, но не завершен: расчет не прерывается, и ход может быть сохранен позже
+                results[i] = outcomes.get(i) != null ? outcomes.get(i)
+                        : BatchMoveOutcome.failure(gameId, MoveError.UNKNOWN, "Move outcome is unknown");
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Останавливает пул, дожидаясь завершения начатых пакетов.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BatchMoveOutcome play(MoveCommand command, String clientKey) {
+        UUID gameId = command.getGameId();
+        try {
+            Optional<GameSession> session = repository.findById(gameId);
+            if (session.isEmpty()) {
+                return BatchMoveOutcome.failure(gameId, MoveError.NOT_FOUND, "Game not found");
+            }
+            // Невалидный ход отклоняется до контроля допуска и не расходует квоту клиента
+            gameService.checkMove(session.get(), command.getRow(), command.getCol());
+            try (MoveAdmission.Permit permit = admission.admit(clientKey, session.get().getGameMap())) {
+                return BatchMoveOutcome.success(gameId,
+                        gameService.makeMove(session.get(), command.getRow(), command.getCol()));
+            }
+        } catch (MoveRejectedException e) {
+            return BatchMoveOutcome.failure(gameId, e.getReason(), e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return BatchMoveOutcome.failure(gameId, MoveError.INVALID_MOVE, e.getMessage());
+        } catch (SessionConflictException e) {
+            return BatchMoveOutcome.failure(gameId, MoveError.CONFLICT, "Game was modified by another request");
+        } catch (RuntimeException e) {
+            // Ошибка одной игры не должна прерывать остальные ходы пакета
+            return BatchMoveOutcome.failure(gameId, MoveError.INTERNAL, "Move failed");
+        }
+    }
+
+    private static void awaitAll(List<Future<?>> tasks) {
+        for (Future<?> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                // Прерывание не останавливает начатый расчет, поэтому задачи не прерываются:
+                // не начатые ходы отменяет вызывающий метод
+                tasks.forEach(pending -> pending.cancel(false));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // play() не бросает исключений; незаполненные результаты обрабатываются вызывающим методом
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.example.domain.service;
 import org.example.domain.model.GameMap;
 import org.example.domain.model.GameSession;
 import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveResult;
 
 /**
  * Интерфейс игрового сервиса, определяющий правила и механику "Крестиков-ноликов".
@@ -17,9 +18,50 @@ public interface GameService {
      *
      * @param gameSession текущая игровая сессия.
      * @return массив из двух элементов: {@code [row, col]}, где row — строка, col — столбец.
+     * @throws org.example.domain.exception.SessionConflictException если сессия была изменена
+     *                                                               параллельным запросом.
      */
     int[] getNextMove(GameSession gameSession);
 
+    /**
+     * Выполняет ход пользователя (крестик) в указанную ячейку и ответный ход ИИ.
+     * <p>
+     * Проверка хода сводится к проверке границ и пустоты одной ячейки, поэтому
+     * не требует сравнения всего поля с сохраненным состоянием.
+     *
+     * @param gameSession сессия, прочитанная из репозитория.
+     * @param row         строка хода пользователя.
+     * @param col         столбец хода пользователя.
+     * @return ответный ход ИИ и статус игры.
+     * @throws IllegalArgumentException если игра завершена, координаты вне поля или ячейка занята.
+     * @throws org.example.domain.exception.SessionConflictException если сессия была изменена
+     *                                                               параллельным запросом.
+     */
+    MoveResult makeMove(GameSession gameSession, int row, int col);
+
+    /**
+     * Проверяет ход пользователя без изменения сессии: игра продолжается, координаты
+     * внутри поля и ячейка пуста. Позволяет отклонить невалидный ход до контроля допуска,
+     * чтобы он не расходовал квоту клиента и разрешения на тяжелые расчеты.
+     *
+     * @param gameSession сессия, прочитанная из репозитория.
+     * @param row         строка хода пользователя.
+     * @param col         столбец хода пользователя.
+     * @throws IllegalArgumentException если игра завершена, координаты вне поля или ячейка занята.
+     */
+    void checkMove(GameSession gameSession, int row, int col);
+
+    /**
+     * Выполняет тот же расчет, что и {@link #getNextMove}, на копии поля и возвращает диагностику
+     * вместо хода: оценки корневых ходов, главный вариант и статистику перебора.
+     * <p>
+     * Поле и сессия не изменяются и не сохраняются; расчет не учитывается в метриках движка.
+     *
+     * @param gameMap поле, на котором ходит ИИ.
+     * @return результат анализа; без ходов, если игра на поле уже завершена.
+     */
+    SearchAnalysis analyze(GameMap gameMap);
+
     /**
      * Проверяет целостность и валидность игрового поля в контексте сессии.
      * <p>
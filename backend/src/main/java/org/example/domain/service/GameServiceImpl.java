@@ -1,11 +1,15 @@
 package org.example.domain.service;
 
+import org.example.domain.exception.SessionConflictException;
 import org.example.domain.model.CellType;
 import org.example.domain.model.GameMap;
 import org.example.domain.model.GameSession;
 import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveResult;
 import org.example.domain.repository.GameRepository;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,8 +19,15 @@ import java.util.Optional;
  * механизмы валидации целостности игрового поля и алгоритмы проверки условий победы.
  */
 public class GameServiceImpl implements GameService {
+
+    /** Предел глубины перебора; позиции на этой глубине оцениваются эвристикой */
+    private static final int MAX_SEARCH_DEPTH = 4;
+
     private final GameRepository repository;
 
+    /** Получатель статистики расчетов хода ИИ */
+    private final SearchObserver searchObserver;
+
     /**
      * Конструктор для создания экземпляра сервиса.
      * <p>
@@ -26,48 +37,198 @@ public class GameServiceImpl implements GameService {
      * @param repository репозиторий, обеспечивающий доступ к хранилищу сессий.
      */
     public GameServiceImpl(GameRepository repository) {
+        this(repository, SearchObserver.NOOP);
+    }
+
+    /**
+     * Конструктор сервиса с получателем статистики расчетов хода ИИ.
+     *
+     * @param repository     репозиторий, обеспечивающий доступ к хранилищу сессий.
+     * @param searchObserver получатель статистики каждого расчета хода.
+     */
+    public GameServiceImpl(GameRepository repository, SearchObserver searchObserver) {
         this.repository = repository;
+        this.searchObserver = searchObserver;
     }
 
     /**
      * Рассчитывает и выполняет ход ИИ (нолики).
      * Использует перебор всех возможных ходов и оценку их веса через алгоритм Minimax.
+     * <p>
+     * Результат сохраняется атомарно с проверкой версии сессии, поэтому параллельный
+     * ход в ту же игру не может быть молча перезаписан.
+     * Статистика расчета передается {@link SearchObserver} после сохранения, в том числе при конфликте,
+     * и записывается как событие JFR {@link SearchEvent}.
      *
      * @param session текущая игровая сессия
      * @return массив {@code [row, col]} с координатами выбранного хода
+     * @throws SessionConflictException если сессия была изменена другим запросом.
      */
     @Override
     public int[] getNextMove(GameSession session) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        SearchCounter counter = new SearchCounter();
         GameMap map = session.getGameMap();
         int bestScore = Integer.MIN_VALUE;
         int[] bestMove = {-1, -1};
 
-        for (int r = 0; r < map.getSize(); r++) {
-            for (int c = 0; c < map.getSize(); c++) {
-                if (map.getMap()[r][c] == CellType.EMPTY.getValue()) {
-                    // Симуляция хода
-                    map.setCellValue(r, c, CellType.ZERO);
-                    int score = minimax(map, 0, false);
-                    map.setCellValue(r, c, CellType.EMPTY); // Откат хода
-
-                    if (score > bestScore) {
-                        bestScore = score;
-                        bestMove[0] = r;
-                        bestMove[1] = c;
+        try {
+            for (int r = 0; r < map.getSize(); r++) {
+                for (int c = 0; c < map.getSize(); c++) {
+                    if (map.getCellValue(r, c) == CellType.EMPTY.getValue()) {
+                        counter.emptyCells++;
+                        // Симуляция хода
+                        map.setCellValue(r, c, CellType.ZERO);
+                        int score = minimax(map, 0, false, counter);
+                        map.setCellValue(r, c, CellType.EMPTY); // Откат хода
+
+                        if (score > bestScore) {
+                            bestScore = score;
+                            bestMove[0] = r;
+                            bestMove[1] = c;
+                        }
                     }
                 }
             }
-        }
 
-        if (bestMove[0] != -1) {
-            session.getGameMap().setCellValue(bestMove[0], bestMove[1], CellType.ZERO);
-            session.setStatus(checkGameStatus(session.getGameMap()));
-            repository.save(session);
+            if (bestMove[0] != -1) {
+                session.getGameMap().setCellValue(bestMove[0], bestMove[1], CellType.ZERO);
+                session.setStatus(checkGameStatus(session.getGameMap()));
+                if (!repository.compareAndSave(session)) {
+                    throw new SessionConflictException(session.getId());
+                }
+            }
+        } finally {
+            searchObserver.onSearch(new SearchStats(map.getSize(), counter.nodes, counter.depth,
+                    counter.cutoffs, System.nanoTime() - start));
+            event.end();
+            if (event.shouldCommit()) {
+                event.boardSize = map.getSize();
+                event.emptyCells = counter.emptyCells;
+                event.nodes = counter.nodes;
+                event.depth = counter.depth;
+                event.cutoffs = counter.cutoffs;
+                event.commit();
+            }
         }
 
         return bestMove;
     }
 
+    /**
+     * Выполняет ход пользователя в одну ячейку и ответный ход ИИ.
+     * <p>
+     * Если игра завершилась ходом пользователя, сессия сохраняется без ответа ИИ.
+     * В обоих случаях сохранение атомарно относительно версии прочитанной сессии.
+     */
+    @Override
+    public MoveResult makeMove(GameSession session, int row, int col) {
+        checkMove(session, row, col);
+
+        GameMap map = session.getGameMap();
+        map.setCellValue(row, col, CellType.CROSS);
+        session.setStatus(checkGameStatus(map));
+
+        if (session.isGameOver()) {
+            if (!repository.compareAndSave(session)) {
+                throw new SessionConflictException(session.getId());
+            }
+            return new MoveResult(-1, -1, session.getStatus());
+        }
+
+        int[] reply = getNextMove(session);
+        return new MoveResult(reply[0], reply[1], session.getStatus());
+    }
+
+    /**
+     * Проверяет одну ячейку без копирования поля; {@link #makeMove} выполняет ту же проверку
+     * перед изменением поля.
+     */
+    @Override
+    public void checkMove(GameSession session, int row, int col) {
+        if (session.isGameOver()) {
+            throw new IllegalArgumentException("Game is already over.");
+        }
+        if (session.getGameMap().getCellValue(row, col) != CellType.EMPTY.getValue()) {
+            throw new IllegalArgumentException("Cell is already occupied.");
+        }
+    }
+
+    /**
+     * Анализирует позицию тем же перебором, что и {@link #getNextMove}.
+     * <p>
+     * Главный вариант восстанавливается после перебора: на каждом полуходе выбирается лучший
+     * для стороны ход с той же абсолютной глубиной, поэтому оценки ходов варианта совпадают
+     * с оценкой лучшего корневого хода. Статистика учитывает только перебор корневых ходов.
+     */
+    @Override
+    public SearchAnalysis analyze(GameMap gameMap) {
+        long start = System.nanoTime();
+        GameMap map = new GameMap(gameMap.getMap(), gameMap.getSize());
+        SearchCounter counter = new SearchCounter();
+        List<SearchAnalysis.MoveScore> rootMoves = new ArrayList<>();
+        SearchAnalysis.MoveScore best = null;
+
+        if (checkGameStatus(map) == GameStatus.PLAYING) {
+            for (int r = 0; r < map.getSize(); r++) {
+                for (int c = 0; c < map.getSize(); c++) {
+                    if (map.getCellValue(r, c) == CellType.EMPTY.getValue()) {
+                        map.setCellValue(r, c, CellType.ZERO);
+                        SearchAnalysis.MoveScore move = new SearchAnalysis.MoveScore(r, c, minimax(map, 0, false, counter));
+                        map.setCellValue(r, c, CellType.EMPTY);
+
+                        rootMoves.add(move);
+                        if (best == null || move.getScore() > best.getScore()) {
+                            best = move;
+                        }
+                    }
+                }
+            }
+        }
+        SearchStats stats = new SearchStats(map.getSize(), counter.nodes, counter.depth,
+                counter.cutoffs, System.nanoTime() - start);
+
+        List<SearchAnalysis.MoveScore> variation = new ArrayList<>();
+        if (best != null) {
+            variation.add(best);
+            map.setCellValue(best.getRow(), best.getCol(), CellType.ZERO);
+            extendVariation(map, variation);
+        }
+        return new SearchAnalysis(rootMoves, variation, stats);
+    }
+
+    /**
+     * Дополняет главный вариант лучшими ответами сторон, пока игра не закончится
+     * или не будет достигнут предел глубины перебора. Ходы варианта остаются на поле.
+     */
+    private void extendVariation(GameMap map, List<SearchAnalysis.MoveScore> variation) {
+        // Глубина позиции после корневого хода — 0, первым отвечает пользователь
+        SearchCounter ignored = new SearchCounter();
+        boolean isMaximizing = false;
+        for (int depth = 0; depth < MAX_SEARCH_DEPTH && checkGameStatus(map) == GameStatus.PLAYING; depth++) {
+            CellType mark = isMaximizing ? CellType.ZERO : CellType.CROSS;
+            SearchAnalysis.MoveScore reply = null;
+            for (int r = 0; r < map.getSize(); r++) {
+                for (int c = 0; c < map.getSize(); c++) {
+                    if (map.getCellValue(r, c) == CellType.EMPTY.getValue()) {
+                        map.setCellValue(r, c, mark);
+                        int score = minimax(map, depth + 1, !isMaximizing, ignored);
+                        map.setCellValue(r, c, CellType.EMPTY);
+
+                        if (reply == null || (isMaximizing ? score > reply.getScore() : score < reply.getScore())) {
+                            reply = new SearchAnalysis.MoveScore(r, c, score);
+                        }
+                    }
+                }
+            }
+            variation.add(reply);
+            map.setCellValue(reply.getRow(), reply.getCol(), mark);
+            isMaximizing = !isMaximizing;
+        }
+    }
+
     /**
      * Проверяет корректность хода пользователя.
      * <p>
@@ -109,40 +270,43 @@ public class GameServiceImpl implements GameService {
     /**
      * Определяет состояние игры на текущем поле.
      * Проверяет все линии (горизонтали, вертикали, диагонали) на наличие победителя.
+     * <p>
+     * Метод вызывается для каждой позиции перебора, поэтому читает ячейки напрямую
+     * через {@link GameMap#getCellValue} и не копирует поле.
      */
     @Override
     public GameStatus checkGameStatus(GameMap gameMap) {
         int size = gameMap.getSize();
-        int[][] map = gameMap.getMap();
 
         for (int i = 0; i < size; i++) {
-            if (checkLine(map, i, 0, 0, 1)) return getWinnerStatus(map[i][0]);
-            if (checkLine(map, 0, i, 1, 0)) return getWinnerStatus(map[0][i]);
+            if (checkLine(gameMap, i, 0, 0, 1)) return getWinnerStatus(gameMap.getCellValue(i, 0));
+            if (checkLine(gameMap, 0, i, 1, 0)) return getWinnerStatus(gameMap.getCellValue(0, i));
         }
 
-        if (checkLine(map, 0, 0, 1, 1)) return getWinnerStatus(map[0][0]);
-        if (checkLine(map, 0, size - 1, 1, -1)) return getWinnerStatus(map[0][size - 1]);
+        if (checkLine(gameMap, 0, 0, 1, 1)) return getWinnerStatus(gameMap.getCellValue(0, 0));
+        if (checkLine(gameMap, 0, size - 1, 1, -1)) return getWinnerStatus(gameMap.getCellValue(0, size - 1));
 
-        boolean hasEmpty = false;
-        for (int[] row : map) {
-            for (int cell : row) {
-                if (cell == CellType.EMPTY.getValue()) {
-                    hasEmpty = true;
-                    break;
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (gameMap.getCellValue(r, c) == CellType.EMPTY.getValue()) {
+                    return GameStatus.PLAYING;
                 }
             }
         }
-
-        return hasEmpty ? GameStatus.PLAYING : GameStatus.DRAW;
+        return GameStatus.DRAW;
     }
 
     /**
      * Рекурсивный алгоритм поиска оптимального решения.
      * * @param isMaximizing true, если текущий ход за ИИ (максимизация),
      * false, если за человека (минимизация).
+     * @param counter      счетчики статистики текущего расчета.
      * @return вес хода (чем больше, тем выгоднее для ИИ).
      */
-    private int minimax(GameMap map, int depth, boolean isMaximizing) {
+    private int minimax(GameMap map, int depth, boolean isMaximizing, SearchCounter counter) {
+        // Позиция на глубине depth получена depth + 1 полуходами от текущей
+        counter.nodes++;
+        counter.depth = Math.max(counter.depth, depth + 1);
         GameStatus status = checkGameStatus(map);
 
         // Веса побед корректируются глубиной (depth), чтобы ИИ выбирал быстрейший путь к победе
@@ -151,7 +315,8 @@ public class GameServiceImpl implements GameService {
         if (status == GameStatus.DRAW) return 0;
 
         // Ограничение глубины для оптимизации производительности
-        if (depth >= 4) {
+        if (depth >= MAX_SEARCH_DEPTH) {
+            counter.cutoffs++;
             return evaluateBoard(map);
         }
 
@@ -160,9 +325,9 @@ public class GameServiceImpl implements GameService {
             bestScore = Integer.MIN_VALUE;
             for (int r = 0; r < map.getSize(); r++) {
                 for (int c = 0; c < map.getSize(); c++) {
-                    if (map.getMap()[r][c] == CellType.EMPTY.getValue()) {
+                    if (map.getCellValue(r, c) == CellType.EMPTY.getValue()) {
                         map.setCellValue(r, c, CellType.ZERO);
-                        bestScore = Math.max(bestScore, minimax(map, depth + 1, false));
+                        bestScore = Math.max(bestScore, minimax(map, depth + 1, false, counter));
                         map.setCellValue(r, c, CellType.EMPTY);
                     }
                 }
@@ -171,9 +336,9 @@ public class GameServiceImpl implements GameService {
             bestScore = Integer.MAX_VALUE;
             for (int r = 0; r < map.getSize(); r++) {
                 for (int c = 0; c < map.getSize(); c++) {
-                    if (map.getMap()[r][c] == CellType.EMPTY.getValue()) {
+                    if (map.getCellValue(r, c) == CellType.EMPTY.getValue()) {
                         map.setCellValue(r, c, CellType.CROSS);
-                        bestScore = Math.min(bestScore, minimax(map, depth + 1, true));
+                        bestScore = Math.min(bestScore, minimax(map, depth + 1, true, counter));
                         map.setCellValue(r, c, CellType.EMPTY);
                     }
                 }
@@ -188,28 +353,28 @@ public class GameServiceImpl implements GameService {
     private int evaluateBoard(GameMap map) {
         int score = 0;
         int size = map.getSize();
-        int[][] matrix = map.getMap();
 
         for (int i = 0; i < size; i++) {
-            score += evaluateLine(getLine(matrix, i, 0, 0, 1, size));
-            score += evaluateLine(getLine(matrix, 0, i, 1, 0, size));
+            score += evaluateLine(map, i, 0, 0, 1);
+            score += evaluateLine(map, 0, i, 1, 0);
         }
 
-        score += evaluateLine(getLine(matrix, 0, 0, 1, 1, size));
-        score += evaluateLine(getLine(matrix, 0, size - 1, 1, -1, size));
+        score += evaluateLine(map, 0, 0, 1, 1);
+        score += evaluateLine(map, 0, size - 1, 1, -1);
 
         return score;
     }
 
     /**
-     * Рассчитывает вес конкретной линии.
+     * Рассчитывает вес линии, заданной начальной ячейкой и вектором направления.
      * Использует экспоненциальную шкалу оценки (10^n) для приоритезации линий с большим числом своих знаков.
      */
-    private int evaluateLine(int[] line) {
+    private int evaluateLine(GameMap map, int startR, int startC, int dR, int dC) {
         int zeros = 0;
         int crosses = 0;
 
-        for (int cell : line) {
+        for (int i = 0; i < map.getSize(); i++) {
+            int cell = map.getCellValue(startR + i * dR, startC + i * dC);
             if (cell == CellType.ZERO.getValue()) zeros++;
             else if (cell == CellType.CROSS.getValue()) crosses++;
         }
@@ -221,25 +386,14 @@ public class GameServiceImpl implements GameService {
         return 0;
     }
 
-    /**
-     * Извлекает массив ячеек по заданному вектору (направлению).
-     */
-    private int[] getLine(int[][] matrix, int startR, int startC, int dR, int dC, int size) {
-        int[] line = new int[size];
-        for (int i = 0; i < size; i++) {
-            line[i] = matrix[startR + i * dR][startC + i * dC];
-        }
-        return line;
-    }
-
     /**
      * Проверяет, заполнены ли все ячейки линии одним символом (не пустым).
      */
-    private boolean checkLine(int[][] map, int startRow, int startCol, int dRow, int dCol) {
-        int first = map[startRow][startCol];
+    private boolean checkLine(GameMap map, int startRow, int startCol, int dRow, int dCol) {
+        int first = map.getCellValue(startRow, startCol);
         if (first == CellType.EMPTY.getValue()) return false;
-        for (int i = 1; i < map.length; i++) {
-            if (map[startRow + i * dRow][startCol + i * dCol] != first) return false;
+        for (int i = 1; i < map.getSize(); i++) {
+            if (map.getCellValue(startRow + i * dRow, startCol + i * dCol) != first) return false;
         }
         return true;
     }
@@ -247,4 +401,12 @@ public class GameServiceImpl implements GameService {
     private GameStatus getWinnerStatus(int cellValue) {
         return (cellValue == CellType.CROSS.getValue()) ? GameStatus.CROSS_WIN : GameStatus.ZERO_WIN;
     }
+
+    /** Счетчики одного расчета хода; принадлежат потоку расчета */
+    private static final class SearchCounter {
+        private long nodes;
+        private int depth;
+        private long cutoffs;
+        private int emptyCells;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package org.example.domain.service;
+
+import org.example.domain.exception.MoveRejectedException;
+import org.example.domain.model.GameMap;
+
+/**
+ * Проверка допуска хода перед расчетом ответа ИИ.
+ * <p>
+ * Позволяет доменным сервисам, которые выполняют ходы вне HTTP-контроллеров (например,
+ * пакетные ходы), подчиняться тем же ограничениям стоимости и квоты клиента, что и REST API.
+ */
+@FunctionalInterface
+public interface MoveAdmission {
+
+    /** Разрешение на расчет хода; закрывается после завершения расчета */
+    interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /** Допуск без ограничений: любой ход рассчитывается сразу */
+    MoveAdmission UNLIMITED = (clientKey, map) -> () -> { };
+
+    /**
+     * Проверяет, можно ли рассчитать ход для клиента, и резервирует ресурсы.
+     *
+     * @param clientKey идентификатор клиента (например, адрес).
+     * @param map       игровое поле перед расчетом.
+     * @return разрешение, которое нужно закрыть после расчета.
+     * @throws MoveRejectedException если ход отклонен.
+     */
+    Permit admit(String clientKey, GameMap map);
+}
@@ -0,0 +1,103 @@
+package org.example.domain.service;
+
+import java.util.List;
+
+/**
+ * Диагностика расчета хода ИИ ({@link GameService#analyze}): оценка каждого корневого хода,
+ * главный вариант и статистика перебора.
+ * <p>
+ * Оценки используют шкалу Minimax движка: положительные значения выгодны ИИ (нолики),
+ * отрицательные — пользователю (крестики).
+ */
+public class SearchAnalysis {
+
+    /** Оценки всех допустимых ходов ИИ в порядке обхода поля */
+    private final List<MoveScore> rootMoves;
+
+    /** Главный вариант: лучший ход ИИ и лучшие ответы сторон до предела глубины или конца игры */
+    private final List<MoveScore> principalVariation;
+
+    /** Статистика перебора корневых ходов */
+    private final SearchStats stats;
+
+    /**
+     * Создает результат анализа.
+     *
+     * @param rootMoves          оценки корневых ходов.
+     * @param principalVariation главный вариант (пустой, если ходов нет).
+     * @param stats              статистика перебора.
+     */
+    public SearchAnalysis(List<MoveScore> rootMoves, List<MoveScore> principalVariation, SearchStats stats) {
+        this.rootMoves = List.copyOf(rootMoves);
+        this.principalVariation = List.copyOf(principalVariation);
+        this.stats = stats;
+    }
+
+    /**
+     * Возвращает оценки корневых ходов.
+     * @return неизменяемый список оценок.
+     */
+    public List<MoveScore> getRootMoves() {
+        return rootMoves;
+    }
+
+    /**
+     * Возвращает главный вариант; первый элемент — ход, который выбрал бы ИИ.
+     * @return неизменяемый список ходов.
+     */
+    public List<MoveScore> getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    /**
+     * Возвращает статистику перебора.
+     * @return статистика.
+     */
+    public SearchStats getStats() {
+        return stats;
+    }
+
+    /** Ход с оценкой позиции после него */
+    public static final class MoveScore {
+        private final int row;
+        private final int col;
+        private final int score;
+
+        /**
+         * Создает оценку хода.
+         *
+         * @param row   строка хода.
+         * @param col   столбец хода.
+         * @param score оценка Minimax позиции после хода.
+         */
+        public MoveScore(int row, int col, int score) {
+            this.row = row;
+            this.col = col;
+            this.score = score;
+        }
+
+        /**
+         * Возвращает строку хода.
+         * @return индекс строки.
+         */
+        public int getRow() {
+            return row;
+        }
+
+        /**
+         * Возвращает столбец хода.
+         * @return индекс столбца.
+         */
+        public int getCol() {
+            return col;
+        }
+
+        /**
+         * Возвращает оценку позиции после хода.
+         * @return оценка Minimax.
+         */
+        public int getScore() {
+            return score;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.domain.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Событие JDK Flight Recorder для одного расчета хода ИИ в {@link GameServiceImpl#getNextMove}.
+ * <p>
+ * Длительность события — время расчета вместе с сохранением сессии. Поля заполняются только
+ * для записываемых событий, поэтому при выключенном событии расчет не выполняет лишней работы.
+ */
+@Name("org.example.game.Search")
+@Label("Engine Search")
+@Category({"Tic-Tac-Toe", "Engine"})
+@Description("Minimax search for the AI reply move")
+@StackTrace(false)
+public class SearchEvent extends jdk.jfr.Event {
+
+    @Label("Board Size")
+    int boardSize;
+
+    @Label("Empty Cells")
+    @Description("Empty cells at the root position")
+    int emptyCells;
+
+    @Label("Nodes")
+    long nodes;
+
+    @Label("Depth")
+    @Description("Maximum search depth in plies")
+    int depth;
+
+    @Label("Cutoffs")
+    @Description("Positions evaluated heuristically at the depth limit")
+    long cutoffs;
+}
@@ -0,0 +1,21 @@
+package org.example.domain.service;
+
+/**
+ * Получатель статистики расчетов хода ИИ (например, для метрик).
+ * <p>
+ * Вызывается синхронно в потоке расчета после каждого {@link GameService#getNextMove},
+ * поэтому реализация должна быстро вернуть управление.
+ */
+@FunctionalInterface
+public interface SearchObserver {
+
+    /** Получатель, игнорирующий статистику */
+    SearchObserver NOOP = stats -> { };
+
+    /**
+     * Расчет хода завершен (успешно или с ошибкой сохранения).
+     *
+     * @param stats статистика расчета.
+     */
+    void onSearch(SearchStats stats);
+}
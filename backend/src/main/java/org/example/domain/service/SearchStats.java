@@ -0,0 +1,79 @@
+package org.example.domain.service;
+
+/**
+ * Статистика одного расчета хода ИИ ({@link GameService#getNextMove}).
+ */
+public class SearchStats {
+
+    /** Размер стороны поля */
+    private final int boardSize;
+
+    /** Количество рассмотренных позиций */
+    private final long nodes;
+
+    /** Наибольшая глубина перебора в полуходах от текущей позиции */
+    private final int depth;
+
+    /** Количество позиций, оцененных эвристикой на пределе глубины вместо дальнейшего перебора */
+    private final long cutoffs;
+
+    /** Длительность расчета в наносекундах (включая сохранение результата) */
+    private final long durationNanos;
+
+    /**
+     * Создает статистику расчета.
+     *
+     * @param boardSize     размер стороны поля.
+     * @param nodes         количество рассмотренных позиций.
+     * @param depth         наибольшая глубина перебора в полуходах.
+     * @param cutoffs       количество отсечений по пределу глубины.
+     * @param durationNanos длительность расчета в наносекундах.
+     */
+    public SearchStats(int boardSize, long nodes, int depth, long cutoffs, long durationNanos) {
+        this.boardSize = boardSize;
+        this.nodes = nodes;
+        this.depth = depth;
+        this.cutoffs = cutoffs;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Возвращает размер стороны поля.
+     * @return размер поля.
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Возвращает количество рассмотренных позиций.
+     * @return количество позиций.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Возвращает наибольшую глубину перебора.
+     * @return глубина в полуходах ({@code 0}, если ходов не было).
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Возвращает количество отсечений по пределу глубины.
+     * @return количество отсечений.
+     */
+    public long getCutoffs() {
+        return cutoffs;
+    }
+
+    /**
+     * Возвращает длительность расчета.
+     * @return длительность в наносекундах.
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
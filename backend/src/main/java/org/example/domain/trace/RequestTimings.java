@@ -0,0 +1,208 @@
+package org.example.domain.trace;
+
+import java.util.Locale;
+
+/**
+ * Разбивка времени обработки одного запроса по этапам (преобразование, поиск, проверка, ход ИИ, запись).
+ * <p>
+ * Экземпляр привязывается к потоку запроса ({@link #begin}), а этапы отмечаются вложенными
+ * интервалами {@link #span}. Для каждого этапа учитывается <b>собственное</b> время: время вложенных
+ * этапов вычитается из внешнего, поэтому сумма этапов не превышает длительность запроса,
+ * а повторные вызовы одного этапа (например, два {@code findById}) суммируются.
+ * <p>
+ * Запись выполняется без блокировок и выделения памяти: интервалы строго вложены, поэтому стек
+ * хранится в массивах, а {@link #span} возвращает один и тот же объект закрытия.
+ * Когда измерение выключено ({@link #setEnabled}), {@link #span} сводится к чтению одного
+ * {@code volatile}-поля и возвращает пустой интервал.
+ * <p>
+ * Экземпляр не потокобезопасен и используется только потоком, в котором создан.
+ */
+public final class RequestTimings {
+
+    /** Пустой интервал для выключенного измерения и потоков без запроса */
+    private static final Span NOOP = () -> { };
+
+    /** Максимальное количество различных этапов одного запроса */
+    private static final int MAX_STAGES = 16;
+
+    /** Максимальная вложенность интервалов */
+    private static final int MAX_DEPTH = 16;
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean enabled = true;
+
+    private final String traceId;
+    private final long startNanos = System.nanoTime();
+
+    /** Этапы: имя, собственное время и количество вызовов */
+    private final String[] names = new String[MAX_STAGES];
+    private final long[] nanos = new long[MAX_STAGES];
+    private final int[] calls = new int[MAX_STAGES];
+    private int stageCount;
+
+    /** Стек открытых интервалов: этап, время начала и время вложенных интервалов */
+    private final int[] openStage = new int[MAX_DEPTH];
+    private final long[] openStart = new long[MAX_DEPTH];
+    private final long[] openChildren = new long[MAX_DEPTH];
+    private int depth;
+
+    private final Span closer = this::close;
+
+    private RequestTimings(String traceId) {
+        this.traceId = traceId;
+    }
+
+    /**
+     * Включает или выключает измерение для новых запросов и интервалов.
+     *
+     * @param value {@code true}, чтобы измерять этапы.
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Проверяет, включено ли измерение.
+     * @return {@code true}, если этапы измеряются.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Начинает измерение запроса в текущем потоке.
+     *
+     * @param traceId идентификатор трассировки запроса.
+     * @return измерение запроса или {@code null}, если измерение выключено.
+     */
+    public static RequestTimings begin(String traceId) {
+        if (!enabled) {
+            return null;
+        }
+        RequestTimings timings = new RequestTimings(traceId);
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * Возвращает измерение запроса текущего потока.
+     * @return измерение или {@code null}, если поток не обрабатывает измеряемый запрос.
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Завершает измерение запроса в текущем потоке.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Открывает интервал этапа; интервал закрывается в {@code try}-with-resources.
+     *
+     * @param stage имя этапа (токен заголовка {@code Server-Timing}, например {@code find}).
+     * @return интервал этапа или пустой интервал, если измерение выключено или запроса нет.
+     */
+    public static Span span(String stage) {
+        if (!enabled) {
+            return NOOP;
+        }
+        RequestTimings timings = CURRENT.get();
+        return timings == null ? NOOP : timings.open(stage);
+    }
+
+    /**
+     * Возвращает идентификатор трассировки запроса.
+     * @return идентификатор трассировки.
+     */
+    public String getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Возвращает собственное время этапа.
+     *
+     * @param stage имя этапа.
+     * @return время в наносекундах или {@code 0}, если этапа не было.
+     */
+    public long getNanos(String stage) {
+        int index = indexOf(stage);
+        return index < 0 ? 0 : nanos[index];
+    }
+
+    /**
+     * Формирует значение заголовка {@code Server-Timing}: этапы в порядке первого вызова
+     * и общее время с начала запроса, в миллисекундах.
+     * Например: {@code find;dur=0.012;desc="x2", validate;dur=0.004, total;dur=0.310}.
+     *
+     * @return значение заголовка.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(32 * (stageCount + 1));
+        for (int i = 0; i < stageCount; i++) {
+            appendMetric(header, names[i], nanos[i]);
+            if (calls[i] > 1) {
+                header.append(";desc=\"x").append(calls[i]).append('"');
+            }
+            header.append(", ");
+        }
+        appendMetric(header, "total", System.nanoTime() - startNanos);
+        return header.toString();
+    }
+
+    private Span open(String stage) {
+        if (depth == MAX_DEPTH) {
+            return NOOP;
+        }
+        openStage[depth] = stageIndex(stage);
+        openChildren[depth] = 0;
+        openStart[depth] = System.nanoTime();
+        depth++;
+        return closer;
+    }
+
+    private void close() {
+        depth--;
+        long elapsed = System.nanoTime() - openStart[depth];
+        int stage = openStage[depth];
+        if (stage >= 0) {
+            nanos[stage] += elapsed - openChildren[depth];
+            calls[stage]++;
+        }
+        if (depth > 0) {
+            openChildren[depth - 1] += elapsed;
+        }
+    }
+
+    private int stageIndex(String stage) {
+        int index = indexOf(stage);
+        if (index < 0 && stageCount < MAX_STAGES) {
+            index = stageCount++;
+            names[index] = stage;
+        }
+        return index;
+    }
+
+    private int indexOf(String stage) {
+        for (int i = 0; i < stageCount; i++) {
+            if (names[i].equals(stage)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0));
+    }
+
+    /** Интервал этапа; закрывается один раз */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,300 @@
+package org.example.web.admission;
+
+import org.example.domain.exception.MoveRejectedException;
+import org.example.domain.model.GameMap;
+import org.example.domain.service.MoveAdmission;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Контроль допуска перед расчетом ответного хода ИИ.
+ * <p>
+ * Стоимость хода оценивается {@link MoveCostEstimator} по размеру поля и числу пустых клеток.
+ * Ходы дороже порога считаются тяжелыми:
+ * <ul>
+ *     <li>одновременно выполняется не более заданного числа тяжелых расчетов; лишние сразу
+ *     отклоняются с {@code 503}, а не ждут в очереди;</li>
+ *     <li>у каждого клиента есть корзина токенов; тяжелый ход стоит больше токенов, чем легкий,
+ *     и при исчерпании корзины клиент получает {@code 429}.</li>
+ * </ul>
+ * Легкие ходы (например, на поле 3x3) не занимают разрешений на тяжелые расчеты, поэтому
+ * поток ходов на больших полях не замедляет обычные партии. Ходы дороже предельной стоимости
+ * не рассчитываются вовсе ({@code 422}): такой расчет не завершится за разумное время и занял бы
+ * разрешение и ядро навсегда. Поэтому поля, на которых уже первый ответный ход дороже предела,
+ * не создаются ({@link #checkBoardSize}).
+ * <p>
+ * Количество корзин ограничено: при достижении предела удаляются полные корзины (они
+ * неотличимы от новых), а если таких нет, новые клиенты делят одну общую корзину.
+ * Полные корзины ищутся постепенно: каждый новый клиент проверяет лишь несколько корзин,
+ * продолжая обход с места предыдущей проверки, поэтому поток новых адресов не приводит
+ * к полному просмотру всех корзин на каждом запросе.
+ */
+public class AdmissionControl {
+
+    /** Разрешение на расчет хода; закрывается после завершения расчета */
+    public interface Permit extends MoveAdmission.Permit {
+    }
+
+    /** Разрешение легкого хода, не занимающее ресурсов */
+    private static final Permit NO_OP = () -> { };
+
+    /** Ключ общей корзины для клиентов сверх предела */
+    private static final String OVERFLOW_KEY = "";
+
+    /** Количество корзин, проверяемых одним новым клиентом при достижении предела */
+    private static final int EVICTION_SCAN = 8;
+
+    /** Рекомендуемая задержка повтора при перегрузке, в секундах */
+    private static final long OVERLOADED_RETRY_AFTER_SECONDS = 1;
+
+    private final long heavyCostThreshold;
+    private final long maxMoveCost;
+    private final int heavyConcurrency;
+    private final Semaphore heavySearches;
+    private final double clientBurst;
+    private final double clientTokensPerSecond;
+    private final int heavyTokenCost;
+    private final int maxClients;
+    private final LongSupplier clock;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /** Позиция обхода корзин при поиске полных; защищена {@link #evictionLock} */
+    private Iterator<TokenBucket> evictionHand;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder tooExpensive = new LongAdder();
+
+    /**
+     * Создает контроль допуска с системными часами.
+     *
+     * @param heavyCostThreshold    стоимость, начиная с которой ход считается тяжелым.
+     * @param maxMoveCost           предельная стоимость хода; более дорогие ходы отклоняются.
+     * @param heavyConcurrency      максимальное количество одновременных тяжелых расчетов.
+     * @param clientBurst           емкость корзины токенов клиента.
+     * @param clientTokensPerSecond скорость пополнения корзины клиента.
+     * @param heavyTokenCost        стоимость тяжелого хода в токенах (легкий ход стоит один токен).
+     * @param maxClients            максимальное количество отдельных корзин.
+     */
+    public AdmissionControl(long heavyCostThreshold, long maxMoveCost, int heavyConcurrency, int clientBurst,
+                            double clientTokensPerSecond, int heavyTokenCost, int maxClients) {
+        this(heavyCostThreshold, maxMoveCost, heavyConcurrency, clientBurst, clientTokensPerSecond,
+                heavyTokenCost, maxClients, System::nanoTime);
+    }
+
+    /**
+     * Создает контроль допуска с заданными часами.
+     *
+     * @param heavyCostThreshold    стоимость, начиная с которой ход считается тяжелым.
+     * @param maxMoveCost           предельная стоимость хода; более дорогие ходы отклоняются.
+     * @param heavyConcurrency      максимальное количество одновременных тяжелых расчетов.
+     * @param clientBurst           емкость корзины токенов клиента.
+     * @param clientTokensPerSecond скорость пополнения корзины клиента.
+     * @param heavyTokenCost        стоимость тяжелого хода в токенах (легкий ход стоит один токен).
+     * @param maxClients            максимальное количество отдельных корзин.
+     * @param clock                 источник времени в наносекундах.
+     * @throws IllegalArgumentException если параметры не положительны или тяжелый ход не помещается в корзину.
+     */
+    public AdmissionControl(long heavyCostThreshold, long maxMoveCost, int heavyConcurrency, int clientBurst,
+                            double clientTokensPerSecond, int heavyTokenCost, int maxClients,
+                            LongSupplier clock) {
+        if (maxMoveCost <= 0 || heavyConcurrency <= 0 || clientBurst <= 0 || clientTokensPerSecond <= 0
+                || heavyTokenCost <= 0 || maxClients <= 0) {
+            throw new IllegalArgumentException("Admission limits must be positive.");
+        }
+        if (heavyTokenCost > clientBurst) {
+            throw new IllegalArgumentException("Heavy move token cost must not exceed client burst.");
+        }
+
+        this.heavyCostThreshold = heavyCostThreshold;
+        this.maxMoveCost = maxMoveCost;
+        this.heavyConcurrency = heavyConcurrency;
+        this.heavySearches = new Semaphore(heavyConcurrency);
+        this.clientBurst = clientBurst;
+        this.clientTokensPerSecond = clientTokensPerSecond;
+        this.heavyTokenCost = heavyTokenCost;
+        this.maxClients = maxClients;
+        this.clock = clock;
+    }
+
+    /**
+     * Проверяет, можно ли рассчитать ход для клиента, и резервирует ресурсы.
+     * Метод не блокируется: при превышении лимитов он сразу бросает исключение.
+     *
+     * @param clientKey идентификатор клиента (например, адрес).
+     * @param map       игровое поле после хода пользователя.
+     * @return разрешение, которое нужно закрыть после расчета.
+     * @throws AdmissionRejectedException 422 если ход дороже предельной стоимости, 429 если клиент
+     *                                    исчерпал квоту, 503 если тяжелых расчетов слишком много.
+     */
+    public Permit admit(String clientKey, GameMap map) {
+        long cost = MoveCostEstimator.estimate(map);
+        if (cost > maxMoveCost) {
+            // Проверяется до квоты: такой ход не будет рассчитан никогда, списывать за него токены незачем
+            tooExpensive.increment();
+            throw AdmissionRejectedException.tooExpensive();
+        }
+        boolean heavy = cost >= heavyCostThreshold;
+        int tokens = heavy ? heavyTokenCost : 1;
+
+        long now = clock.getAsLong();
+        TokenBucket bucket = bucketFor(clientKey, now);
+        long waitNanos = bucket.tryConsume(tokens, now);
+        if (waitNanos > 0) {
+            throttled.increment();
+            throw AdmissionRejectedException.tooManyRequests(
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+
+        if (!heavy) {
+            admitted.increment();
+            return NO_OP;
+        }
+        if (!heavySearches.tryAcquire()) {
+            // Клиент не виноват в перегрузке: квота возвращается
+            bucket.refund(tokens);
+            shed.increment();
+            throw AdmissionRejectedException.overloaded(OVERLOADED_RETRY_AFTER_SECONDS);
+        }
+        admitted.increment();
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                heavySearches.release();
+            }
+        };
+    }
+
+    /**
+     * Проверяет размер нового поля до создания сессии. Самый дорогой ответный ход — первый,
+     * когда после хода пользователя пусты все клетки, кроме одной: если он дороже предельной
+     * стоимости, ни один ход на таком поле не будет допущен.
+     *
+     * @param size размер стороны поля.
+     * @throws ResponseStatusException 400 если размер меньше единицы,
+     *                                 422 если первый ход на таком поле дороже предельной стоимости.
+     */
+    public void checkBoardSize(int size) {
+        if (size < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Board size must be positive");
+        }
+        // Для огромных полей число клеток не помещается в int; оценка монотонна, поэтому ограничивается сверху
+        int firstReplyEmptyCells = (int) Math.min(Integer.MAX_VALUE, (long) size * size - 1);
+        if (MoveCostEstimator.estimate(size, firstReplyEmptyCells) > maxMoveCost) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "Board is too large to play");
+        }
+    }
+
+    /**
+     * Возвращает контроль допуска в виде {@link MoveAdmission} для доменных сервисов:
+     * отказы преобразуются в {@link MoveRejectedException} с той же причиной.
+     *
+     * @return доменное представление контроля допуска.
+     */
+    public MoveAdmission asMoveAdmission() {
+        return (clientKey, map) -> {
+            try {
+                return admit(clientKey, map);
+            } catch (AdmissionRejectedException e) {
+                throw new MoveRejectedException(e.getError(), e.getReason());
+            }
+        };
+    }
+
+    /**
+     * Возвращает количество допущенных ходов.
+     * @return счетчик допущенных ходов.
+     */
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    /**
+     * Возвращает количество ходов, отклоненных по квоте клиента ({@code 429}).
+     * @return счетчик отклоненных ходов.
+     */
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Возвращает количество тяжелых ходов, отклоненных из-за перегрузки ({@code 503}).
+     * @return счетчик отклоненных ходов.
+     */
+    public long getShedCount() {
+        return shed.sum();
+    }
+
+    /**
+     * Возвращает количество ходов, отклоненных из-за превышения предельной стоимости ({@code 422}).
+     * @return счетчик отклоненных ходов.
+     */
+    public long getTooExpensiveCount() {
+        return tooExpensive.sum();
+    }
+
+    /**
+     * Возвращает количество тяжелых расчетов, выполняющихся сейчас.
+     * @return количество занятых разрешений.
+     */
+    public int getActiveHeavySearches() {
+        return heavyConcurrency - heavySearches.availablePermits();
+    }
+
+    private TokenBucket bucketFor(String clientKey, long now) {
+        TokenBucket bucket = buckets.get(clientKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients && !evictFull(now)) {
+            return buckets.computeIfAbsent(OVERFLOW_KEY, key -> newBucket(now));
+        }
+        return buckets.computeIfAbsent(clientKey, key -> newBucket(now));
+    }
+
+    /**
+     * Проверяет не более {@link #EVICTION_SCAN} корзин, продолжая обход по кругу,
+     * и удаляет полные. Если обход уже выполняет другой поток, новый клиент сразу
+     * попадает в общую корзину, а не ждет.
+     *
+     * @return {@code true}, если количество корзин опустилось ниже предела.
+     */
+    private boolean evictFull(long now) {
+        if (!evictionLock.tryLock()) {
+            return false;
+        }
+        try {
+            for (int i = 0; i < EVICTION_SCAN; i++) {
+                if (evictionHand == null || !evictionHand.hasNext()) {
+                    evictionHand = buckets.values().iterator();
+                    if (!evictionHand.hasNext()) {
+                        break;
+                    }
+                }
+                if (evictionHand.next().isFull(now)) {
+                    evictionHand.remove();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        return buckets.size() < maxClients;
+    }
+
+    private TokenBucket newBucket(long now) {
+        return new TokenBucket(clientBurst, clientTokensPerSecond, now);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.web.admission;
+
+import org.example.domain.model.MoveError;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Отказ в расчете хода из-за превышения лимитов.
+ * <p>
+ * Ответ содержит заголовок {@code Retry-After}, чтобы клиент повторил запрос позже,
+ * а не сразу: {@code 429}, если клиент исчерпал свою квоту, и {@code 503}, если сервер
+ * уже выполняет максимальное количество тяжелых расчетов. Ход дороже предельной стоимости
+ * отклоняется с {@code 422} без {@code Retry-After}: повтор не поможет.
+ */
+public class AdmissionRejectedException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    /** Причина отказа для каналов без HTTP-статуса (пакетные ходы) */
+    private final MoveError error;
+
+    private AdmissionRejectedException(HttpStatus status, String reason, long retryAfterSeconds, MoveError error) {
+        super(status, reason);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.error = error;
+    }
+
+    /**
+     * Создает отказ из-за исчерпанной квоты клиента.
+     *
+     * @param retryAfterSeconds время до пополнения квоты в секундах.
+     * @return исключение со статусом {@code 429}.
+     */
+    public static AdmissionRejectedException tooManyRequests(long retryAfterSeconds) {
+        return new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS, "Move rate limit exceeded", retryAfterSeconds,
+                MoveError.RATE_LIMITED);
+    }
+
+    /**
+     * Создает отказ из-за перегрузки сервера тяжелыми расчетами.
+     *
+     * @param retryAfterSeconds рекомендуемая задержка повтора в секундах.
+     * @return исключение со статусом {@code 503}.
+     */
+    public static AdmissionRejectedException overloaded(long retryAfterSeconds) {
+        return new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy with expensive moves", retryAfterSeconds,
+                MoveError.OVERLOADED);
+    }
+
+    /**
+     * Создает отказ из-за слишком дорогого хода, который не будет рассчитан при любой нагрузке.
+     *
+     * @return исключение со статусом {@code 422}.
+     */
+    public static AdmissionRejectedException tooExpensive() {
+        return new AdmissionRejectedException(HttpStatus.UNPROCESSABLE_ENTITY, "Move is too expensive to compute", 0,
+                MoveError.TOO_EXPENSIVE);
+    }
+
+    /**
+     * Возвращает рекомендуемую задержку повтора.
+     * @return задержка в секундах ({@code 0}, если повтор не имеет смысла).
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Возвращает причину отказа в терминах домена.
+     * @return причина отказа.
+     */
+    public MoveError getError() {
+        return error;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfterSeconds <= 0) {
+            return headers;
+        }
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
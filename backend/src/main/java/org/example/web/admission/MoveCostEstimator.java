@@ -0,0 +1,62 @@
+package org.example.web.admission;
+
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+
+/**
+ * Оценка стоимости расчета ответного хода ИИ.
+ * <p>
+ * Минимакс в {@link org.example.domain.service.GameServiceImpl} перебирает не более
+ * {@link #SEARCH_PLIES} полуходов, а в каждом узле проверяет всё поле. Поэтому стоимость
+ * оценивается как количество листьев дерева поиска ({@code e·(e-1)·…}, где {@code e} —
+ * число пустых клеток), умноженное на количество клеток поля. Оценка условная, но
+ * монотонна по размеру поля и заполненности и позволяет отличить поле 3x3 от поля 50x50.
+ */
+public final class MoveCostEstimator {
+
+    /** Глубина перебора ИИ в полуходах: ход ИИ и четыре уровня рекурсии минимакса */
+    static final int SEARCH_PLIES = 5;
+
+    private MoveCostEstimator() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Оценивает стоимость ответного хода на поле.
+     *
+     * @param map игровое поле после хода пользователя.
+     * @return стоимость в условных единицах (не больше {@link Long#MAX_VALUE}).
+     */
+    public static long estimate(GameMap map) {
+        int size = map.getSize();
+        int empty = 0;
+        // Поле читается поклеточно: getMap() копирует всё поле на каждый допуск
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (map.getCellValue(row, col) == CellType.EMPTY.getValue()) {
+                    empty++;
+                }
+            }
+        }
+        return estimate(size, empty);
+    }
+
+    /**
+     * Оценивает стоимость ответного хода по размеру поля и количеству пустых клеток.
+     *
+     * @param size       размер стороны поля.
+     * @param emptyCells количество пустых клеток.
+     * @return стоимость в условных единицах (не больше {@link Long#MAX_VALUE}).
+     */
+    public static long estimate(int size, int emptyCells) {
+        long cost = (long) size * size;
+        for (int ply = 0; ply < SEARCH_PLIES && ply < emptyCells; ply++) {
+            long branching = emptyCells - ply;
+            if (cost > Long.MAX_VALUE / branching) {
+                return Long.MAX_VALUE;
+            }
+            cost *= branching;
+        }
+        return cost;
+    }
+}
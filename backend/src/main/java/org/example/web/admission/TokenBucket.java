@@ -0,0 +1,74 @@
+package org.example.web.admission;
+
+/**
+ * Корзина токенов одного клиента.
+ * <p>
+ * Токены пополняются непрерывно с постоянной скоростью до емкости корзины;
+ * время передается вызывающей стороной, чтобы корзину можно было проверять без ожидания.
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Создает полную корзину.
+     *
+     * @param capacity        емкость корзины (допустимый всплеск запросов).
+     * @param tokensPerSecond скорость пополнения.
+     * @param nowNanos        текущее время в наносекундах.
+     */
+    TokenBucket(double capacity, double tokensPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Списывает токены, если их достаточно.
+     *
+     * @param amount   количество токенов.
+     * @param nowNanos текущее время в наносекундах.
+     * @return {@code 0}, если токены списаны, иначе время в наносекундах до появления нужного количества.
+     */
+    synchronized long tryConsume(int amount, long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= amount) {
+            tokens -= amount;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((amount - tokens) / tokensPerNano));
+    }
+
+    /**
+     * Возвращает ранее списанные токены (запрос не был выполнен).
+     *
+     * @param amount количество токенов.
+     */
+    synchronized void refund(int amount) {
+        tokens = Math.min(capacity, tokens + amount);
+    }
+
+    /**
+     * Проверяет, что корзина полна, то есть неотличима от новой.
+     *
+     * @param nowNanos текущее время в наносекундах.
+     * @return {@code true}, если корзина полна.
+     */
+    synchronized boolean isFull(long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
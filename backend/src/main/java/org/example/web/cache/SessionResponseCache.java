@@ -0,0 +1,226 @@
+package org.example.web.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.domain.model.GameSession;
+import org.example.web.codec.BinaryGameCodec;
+import org.example.web.codec.BoardEncoding;
+import org.example.web.mapper.GameMapperDTO;
+import org.example.web.model.GameSessionDTO;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Кэш сериализованных представлений игровых сессий для {@code GET /game/{id}}.
+ * <p>
+ * Представление однозначно определяется идентификатором сессии, её версией и форматом:
+ * версия увеличивается при каждом изменении сессии ({@code compareAndSave}), поэтому
+ * байты ответа, построенные для версии, остаются верными, пока версия не изменится.
+ * Для неизменившейся сессии ответ отдается из кэша без {@link GameMapperDTO} и Jackson.
+ * <p>
+ * Поддерживаются те же форматы, что и в остальном API: JSON, компактные форматы
+ * {@link BoardEncoding} и двоичный протокол {@link BinaryGameCodec}. Для каждого формата
+ * строится строгий ETag из версии сессии.
+ */
+public class SessionResponseCache {
+
+    /** Максимальное количество сессий в кэше */
+    private final int capacity;
+
+    /** Поддерживаемые форматы в порядке предпочтения (первый — формат по умолчанию) */
+    private final List<Format> formats;
+
+    /** Представления сессий по идентификатору */
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Создает кэш представлений.
+     *
+     * @param objectMapper настроенный {@link ObjectMapper} приложения (для JSON-форматов).
+     * @param capacity     максимальное количество сессий в кэше.
+     * @throws IllegalArgumentException если емкость не положительна.
+     */
+    public SessionResponseCache(ObjectMapper objectMapper, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive.");
+        }
+        this.capacity = capacity;
+
+        List<Format> list = new ArrayList<>();
+        list.add(new Format(list.size(), MediaType.APPLICATION_JSON, "", json(objectMapper)));
+        for (BoardEncoding encoding : BoardEncoding.values()) {
+            ObjectMapper mapper = objectMapper.copy().registerModule(encoding.jacksonModule());
+            list.add(new Format(list.size(), encoding.getMediaType(), "-" + encoding.name().toLowerCase(), json(mapper)));
+        }
+        list.add(new Format(list.size(), BinaryGameCodec.MEDIA_TYPE, "-binary", SessionResponseCache::binary));
+        this.formats = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Выбирает формат ответа по заголовку {@code Accept}.
+     * Пустой список и {@code *}{@code /*} соответствуют формату по умолчанию (JSON).
+     *
+     * @param accepted медиатипы из заголовка {@code Accept}.
+     * @return подходящий формат или {@code null}, если клиент не принимает ни один из форматов.
+     */
+    public Format negotiate(List<MediaType> accepted) {
+        if (accepted.isEmpty()) {
+            return formats.get(0);
+        }
+
+        List<MediaType> sorted = new ArrayList<>(accepted);
+        MimeTypeUtils.sortBySpecificity(sorted);
+        for (MediaType type : sorted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (Format format : formats) {
+                if (type.isCompatibleWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Возвращает сериализованное представление сессии, строя его только при первом запросе версии.
+     * Возвращаемый массив разделяется между запросами и не должен изменяться.
+     *
+     * @param session сессия.
+     * @param format  формат, выбранный {@link #negotiate}.
+     * @return тело ответа.
+     */
+    public byte[] render(GameSession session, Format format) {
+        long version = session.getVersion();
+        Entry entry = entries.compute(session.getId(), (id, current) ->
+                current != null && current.version >= version ? current : new Entry(version, formats.size()));
+        if (entry.version != version) {
+            // В кэше более новая версия: устаревшее чтение строится без кэширования
+            misses.increment();
+            return format.encoder.encode(GameMapperDTO.toDTO(session));
+        }
+
+        byte[] body = entry.bodies.get(format.index);
+        if (body != null) {
+            hits.increment();
+            return body;
+        }
+
+        misses.increment();
+        body = format.encoder.encode(GameMapperDTO.toDTO(session));
+        entry.bodies.compareAndSet(format.index, null, body);
+        trim(session.getId());
+        return body;
+    }
+
+    /**
+     * Возвращает количество ответов, отданных из кэша.
+     * @return счетчик попаданий.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Возвращает количество построенных представлений.
+     * @return счетчик промахов.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Удерживает размер кэша в пределах емкости, удаляя произвольные записи, кроме только что добавленной.
+     */
+    private void trim(UUID keep) {
+        Iterator<UUID> keys = entries.keySet().iterator();
+        while (entries.size() > capacity && keys.hasNext()) {
+            UUID key = keys.next();
+            if (!key.equals(keep)) {
+                keys.remove();
+            }
+        }
+    }
+
+    private static Encoder json(ObjectMapper mapper) {
+        return dto -> {
+            try {
+                return mapper.writeValueAsBytes(dto);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize game session", e);
+            }
+        };
+    }
+
+    private static byte[] binary(GameSessionDTO dto) {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryGameCodec.frameSize(dto));
+        BinaryGameCodec.encode(dto, buffer);
+        return buffer.array();
+    }
+
+    /** Сериализатор DTO сессии в байты одного формата */
+    @FunctionalInterface
+    private interface Encoder {
+        byte[] encode(GameSessionDTO dto);
+    }
+
+    /** Формат представления сессии */
+    public static final class Format {
+        private final int index;
+        private final MediaType mediaType;
+        private final String etagSuffix;
+        private final Encoder encoder;
+
+        private Format(int index, MediaType mediaType, String etagSuffix, Encoder encoder) {
+            this.index = index;
+            this.mediaType = mediaType;
+            this.etagSuffix = etagSuffix;
+            this.encoder = encoder;
+        }
+
+        /**
+         * Возвращает медиатип формата.
+         * @return медиатип ответа.
+         */
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        /**
+         * Строит строгий ETag представления: версия сессии и, для форматов кроме JSON,
+         * суффикс формата (разные представления одной версии имеют разные ETag).
+         *
+         * @param version версия сессии.
+         * @return ETag в кавычках, например {@code "3"} или {@code "3-binary"}.
+         */
+        public String etag(long version) {
+            return "\"" + version + etagSuffix + "\"";
+        }
+    }
+
+    /** Представления одной версии сессии по индексу формата */
+    private static final class Entry {
+        private final long version;
+        private final AtomicReferenceArray<byte[]> bodies;
+
+        private Entry(long version, int formatCount) {
+            this.version = version;
+            this.bodies = new AtomicReferenceArray<>(formatCount);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package org.example.web.codec;
+
+import org.example.web.model.GameMapDTO;
+import org.example.web.model.GameSessionDTO;
+import org.example.web.model.GameStatusDTO;
+import org.example.web.model.MoveRequestDTO;
+import org.example.web.model.MoveResponseDTO;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Двоичный протокол игровых сообщений для внутренних межсервисных вызовов.
+ * <p>
+ * Каждое сообщение — кадр с префиксом длины; все числа записываются в порядке big-endian:
+ * <pre>
+ * Frame        := type:u8  length:u32  payload[length]
+ *
+ * type 1 — GameSession (GameSessionDTO)
+ *   flags:u8                  бит 0 — есть id, бит 1 — есть status, бит 2 — есть поле
+ *   [id: msb:i64 lsb:i64]
+ *   [status:u8]               порядковый номер GameStatusDTO
+ *   [size:u16 cells[ceil(size*size/4)]]
+ *                             размер от 1 до {@link BoardCodec#MAX_SIZE}
+ *                             ячейки по строкам, 2 бита на ячейку, первая ячейка — младшие биты байта
+ *
+ * type 2 — MoveRequest (MoveRequestDTO)
+ *   row:u16  col:u16
+ *
+ * type 3 — MoveResponse (MoveResponseDTO)
+ *   row:i16  col:i16          -1, если ИИ не ходил
+ *   status:u8
+ * </pre>
+ * Кодирование пишет в переданный {@link ByteBuffer} и не создает промежуточных объектов;
+ * декодирование создает только итоговый DTO и массив поля.
+ */
+public final class BinaryGameCodec {
+
+    /** Медиатип двоичного протокола */
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType("application/vnd.tictactoe.binary");
+
+    /** Тип кадра игровой сессии */
+    public static final byte TYPE_SESSION = 1;
+
+    /** Тип кадра хода пользователя */
+    public static final byte TYPE_MOVE_REQUEST = 2;
+
+    /** Тип кадра ответного хода ИИ */
+    public static final byte TYPE_MOVE_RESPONSE = 3;
+
+    /** Размер заголовка кадра: тип и длина */
+    public static final int HEADER_BYTES = 5;
+
+    private static final int FLAG_ID = 1;
+    private static final int FLAG_STATUS = 1 << 1;
+    private static final int FLAG_MAP = 1 << 2;
+
+    /** Кэш значений статусов: {@code values()} создает новый массив при каждом вызове */
+    private static final GameStatusDTO[] STATUSES = GameStatusDTO.values();
+
+    private BinaryGameCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Проверяет, поддерживается ли тип сообщения протоколом.
+     *
+     * @param type класс сообщения.
+     * @return {@code true} для {@link GameSessionDTO}, {@link MoveRequestDTO} и {@link MoveResponseDTO}.
+     */
+    public static boolean supports(Class<?> type) {
+        return type == GameSessionDTO.class || type == MoveRequestDTO.class || type == MoveResponseDTO.class;
+    }
+
+    /**
+     * Вычисляет размер кадра сообщения вместе с заголовком.
+     *
+     * @param message сообщение поддерживаемого типа.
+     * @return размер кадра в байтах.
+     * @throws IllegalArgumentException если тип сообщения не поддерживается.
+     */
+    public static int frameSize(Object message) {
+        return HEADER_BYTES + payloadSize(message);
+    }
+
+    /**
+     * Записывает кадр сообщения в буфер.
+     *
+     * @param message сообщение поддерживаемого типа.
+     * @param out     буфер, в котором есть место для {@link #frameSize} байт.
+     * @throws IllegalArgumentException если тип сообщения не поддерживается.
+     */
+    public static void encode(Object message, ByteBuffer out) {
+        if (message instanceof GameSessionDTO session) {
+            out.put(TYPE_SESSION).putInt(payloadSize(session));
+            writeSession(session, out);
+        } else if (message instanceof MoveRequestDTO request) {
+            out.put(TYPE_MOVE_REQUEST).putInt(4);
+            out.putShort((short) orNone(request.getRow())).putShort((short) orNone(request.getCol()));
+        } else if (message instanceof MoveResponseDTO response) {
+            out.put(TYPE_MOVE_RESPONSE).putInt(5);
+            out.putShort((short) orNone(response.getRow())).putShort((short) orNone(response.getCol()));
+            out.put(statusCode(response.getStatus()));
+        } else {
+            throw new IllegalArgumentException("Unsupported message type: " + message.getClass().getName());
+        }
+    }
+
+    /**
+     * Читает кадр сообщения из буфера.
+     *
+     * @param in       буфер, содержащий ровно один кадр.
+     * @param expected ожидаемый класс сообщения.
+     * @param <T>      тип сообщения.
+     * @return декодированное сообщение.
+     * @throws IllegalArgumentException если кадр поврежден или содержит сообщение другого типа.
+     */
+    public static <T> T decode(ByteBuffer in, Class<T> expected) {
+        if (in.remaining() < HEADER_BYTES) {
+            throw new IllegalArgumentException("Frame is shorter than its header.");
+        }
+        byte type = in.get();
+        int length = in.getInt();
+        if (length != in.remaining()) {
+            throw new IllegalArgumentException("Frame length " + length + " does not match payload of "
+                    + in.remaining() + " bytes.");
+        }
+
+        Object message = switch (type) {
+            case TYPE_SESSION -> readSession(in);
+            case TYPE_MOVE_REQUEST -> new MoveRequestDTO(Short.toUnsignedInt(in.getShort()),
+                    Short.toUnsignedInt(in.getShort()));
+            case TYPE_MOVE_RESPONSE -> readMoveResponse(in);
+            default -> throw new IllegalArgumentException("Unknown frame type: " + type);
+        };
+        if (!expected.isInstance(message)) {
+            throw new IllegalArgumentException("Frame of type " + type + " cannot be read as "
+                    + expected.getSimpleName() + ".");
+        }
+        return expected.cast(message);
+    }
+
+    private static int payloadSize(Object message) {
+        if (message instanceof GameSessionDTO session) {
+            int size = 1;
+            if (session.getId() != null) {
+                size += 16;
+            }
+            if (session.getStatus() != null) {
+                size += 1;
+            }
+            if (session.getGameMap() != null) {
+                size += 2 + (int) packedLength(session.getGameMap().getSize());
+            }
+            return size;
+        }
+        if (message instanceof MoveRequestDTO) {
+            return 4;
+        }
+        if (message instanceof MoveResponseDTO) {
+            return 5;
+        }
+        throw new IllegalArgumentException("Unsupported message type: " + message.getClass().getName());
+    }
+
+    private static void writeSession(GameSessionDTO session, ByteBuffer out) {
+        UUID id = session.getId();
+        GameMapDTO map = session.getGameMap();
+        int flags = (id != null ? FLAG_ID : 0)
+                | (session.getStatus() != null ? FLAG_STATUS : 0)
+                | (map != null ? FLAG_MAP : 0);
+        out.put((byte) flags);
+
+        if (id != null) {
+            out.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+        }
+        if (session.getStatus() != null) {
+            out.put(statusCode(session.getStatus()));
+        }
+        if (map != null) {
+            writeCells(map.getMap(), map.getSize(), out);
+        }
+    }
+
+    /**
+     * Пишет поле по 2 бита на ячейку прямо в буфер, без промежуточного массива.
+     */
+    private static void writeCells(int[][] cells, int size, ByteBuffer out) {
+        out.putShort((short) size);
+        int current = 0;
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            int[] row = cells[r];
+            for (int c = 0; c < size; c++, i++) {
+                current |= row[c] << ((i & 3) << 1);
+                if ((i & 3) == 3) {
+                    out.put((byte) current);
+                    current = 0;
+                }
+            }
+        }
+        if ((i & 3) != 0) {
+            out.put((byte) current);
+        }
+    }
+
+    private static GameSessionDTO readSession(ByteBuffer in) {
+        int flags = in.get();
+        UUID id = (flags & FLAG_ID) != 0 ? new UUID(in.getLong(), in.getLong()) : null;
+        GameStatusDTO status = (flags & FLAG_STATUS) != 0 ? status(in.get()) : null;
+        GameMapDTO map = (flags & FLAG_MAP) != 0 ? readCells(in) : null;
+        return new GameSessionDTO(id, map, status);
+    }
+
+    private static GameMapDTO readCells(ByteBuffer in) {
+        int size = Short.toUnsignedInt(in.getShort());
+        // Размер проверяется до выделения массива поля: кадр из нескольких байт не должен требовать гигабайты памяти
+        if (size == 0 || size > BoardCodec.MAX_SIZE) {
+            throw new IllegalArgumentException("Board size must be between 1 and " + BoardCodec.MAX_SIZE + ": " + size);
+        }
+        if (in.remaining() < packedLength(size)) {
+            throw new IllegalArgumentException("Frame is too short for a board of size " + size + ".");
+        }
+        int[][] cells = new int[size][size];
+        int current = 0;
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            int[] row = cells[r];
+            for (int c = 0; c < size; c++, i++) {
+                if ((i & 3) == 0) {
+                    current = in.get();
+                }
+                int value = (current >>> ((i & 3) << 1)) & 3;
+                if (value == 3) {
+                    throw new IllegalArgumentException("Unknown cell value: " + value);
+                }
+                row[c] = value;
+            }
+        }
+        return new GameMapDTO(cells, size);
+    }
+
+    private static MoveResponseDTO readMoveResponse(ByteBuffer in) {
+        int row = in.getShort();
+        int col = in.getShort();
+        GameStatusDTO status = status(in.get());
+        return new MoveResponseDTO(row < 0 ? null : row, col < 0 ? null : col, status);
+    }
+
+    private static long packedLength(int size) {
+        return ((long) size * size + 3) / 4;
+    }
+
+    private static int orNone(Integer coordinate) {
+        return coordinate == null ? -1 : coordinate;
+    }
+
+    private static byte statusCode(GameStatusDTO status) {
+        return (byte) status.ordinal();
+    }
+
+    private static GameStatusDTO status(byte code) {
+        if (code < 0 || code >= STATUSES.length) {
+            throw new IllegalArgumentException("Unknown status code: " + code);
+        }
+        return STATUSES[code];
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.web.codec;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Конвертер сообщений Spring для двоичного протокола {@link BinaryGameCodec}.
+ * <p>
+ * Обслуживает медиатип {@link BinaryGameCodec#MEDIA_TYPE}, поэтому контроллеры отвечают
+ * двоичным кадром клиентам, которые его запросили, и JSON — всем остальным.
+ * Кадры кодируются и читаются в буферы потока, которые переиспользуются между запросами.
+ * Буферы больше {@link #MAX_CACHED_BUFFER_BYTES} выделяются на один запрос и не сохраняются,
+ * чтобы редкое большое поле не удерживало память в каждом потоке сервера.
+ */
+public class BinaryGameMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    /** Начальный размер буферов потока; хватает для поля 60x60 */
+    private static final int INITIAL_BUFFER_BYTES = 1024;
+
+    /** Максимальный размер буфера, который сохраняется в потоке */
+    static final int MAX_CACHED_BUFFER_BYTES = 64 * 1024;
+
+    /** Максимальный размер входящего кадра; защищает от выделения памяти по поддельной длине */
+    private static final int MAX_FRAME_BYTES = 1 << 20;
+
+    /** Буфер кодирования потока; увеличивается под самое большое сообщение, но не больше предела */
+    private final ThreadLocal<ByteBuffer> writeBuffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_BYTES));
+
+    /** Буфер чтения входящих кадров потока; растет так же, как буфер кодирования */
+    private final ThreadLocal<ByteBuffer> readBuffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_BUFFER_BYTES));
+
+    /**
+     * Создает конвертер двоичного протокола.
+     */
+    public BinaryGameMessageConverter() {
+        super(BinaryGameCodec.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return BinaryGameCodec.supports(clazz);
+    }
+
+    @Override
+    protected Long getContentLength(Object message, MediaType contentType) {
+        return (long) BinaryGameCodec.frameSize(message);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        ByteBuffer frame = readFrame(inputMessage.getBody());
+        try {
+            return BinaryGameCodec.decode(frame, clazz);
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new HttpMessageNotReadableException("Invalid binary frame: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object message, HttpOutputMessage outputMessage) throws IOException {
+        ByteBuffer buffer = buffer(writeBuffers, BinaryGameCodec.frameSize(message));
+        BinaryGameCodec.encode(message, buffer);
+        outputMessage.getBody().write(buffer.array(), 0, buffer.position());
+    }
+
+    /**
+     * Читает кадр целиком в буфер потока: сначала заголовок, затем ровно объявленное в нём
+     * количество байт. Декодер копирует данные в сообщение, поэтому буфер можно переиспользовать.
+     */
+    private ByteBuffer readFrame(InputStream body) throws IOException {
+        ByteBuffer header = buffer(readBuffers, BinaryGameCodec.HEADER_BYTES);
+        int headerRead = body.readNBytes(header.array(), 0, BinaryGameCodec.HEADER_BYTES);
+        if (headerRead < BinaryGameCodec.HEADER_BYTES) {
+            return header.limit(headerRead);
+        }
+        int length = header.getInt(1);
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            // Неверная длина: декодер отклонит кадр, не читая тело
+            return header.limit(headerRead);
+        }
+
+        ByteBuffer frame = header;
+        if (header.capacity() < BinaryGameCodec.HEADER_BYTES + length) {
+            frame = buffer(readBuffers, BinaryGameCodec.HEADER_BYTES + length);
+            frame.put(0, header, 0, BinaryGameCodec.HEADER_BYTES);
+        }
+        int read = body.readNBytes(frame.array(), BinaryGameCodec.HEADER_BYTES, length);
+        return frame.limit(BinaryGameCodec.HEADER_BYTES + read);
+    }
+
+    /**
+     * Возвращает очищенный буфер потока не меньше заданного размера. Буфер растет степенями двойки
+     * до {@link #MAX_CACHED_BUFFER_BYTES}; более крупный выделяется на один вызов и не сохраняется.
+     */
+    private static ByteBuffer buffer(ThreadLocal<ByteBuffer> cache, int required) {
+        ByteBuffer buffer = cache.get();
+        if (buffer.capacity() < required) {
+            if (required > MAX_CACHED_BUFFER_BYTES) {
+                return ByteBuffer.allocate(required);
+            }
+            buffer = ByteBuffer.allocate(Math.min(Integer.highestOneBit(required) << 1, MAX_CACHED_BUFFER_BYTES));
+            cache.set(buffer);
+        }
+        return buffer.clear();
+    }
+}
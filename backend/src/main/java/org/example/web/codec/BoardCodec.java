@@ -0,0 +1,125 @@
+package org.example.web.codec;
+
+/**
+ * Преобразование игрового поля в компактные представления и обратно.
+ * <p>
+ * Кодирование пишет сразу в итоговый массив символов или байтов, декодирование — сразу
+ * в строки итогового поля, без промежуточных массивов.
+ */
+public final class BoardCodec {
+
+    /** Символы ячеек по их числовому значению: пусто, крестик, нолик */
+    private static final char[] CELL_CHARS = {'.', 'X', 'O'};
+
+    /**
+     * Максимальный размер стороны поля, принимаемый от клиентов.
+     * Ограничивает выделение памяти до проверки данных и исключает переполнение {@code size * size}.
+     */
+    public static final int MAX_SIZE = 1024;
+
+    /** Количество ячеек в одном байте упакованного представления */
+    private static final int CELLS_PER_BYTE = 4;
+
+    private BoardCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Кодирует поле строкой по строкам.
+     *
+     * @param map  состояние поля.
+     * @param size размер стороны поля.
+     * @return массив из {@code size * size} символов.
+     */
+    public static char[] toChars(int[][] map, int size) {
+        char[] chars = new char[size * size];
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            int[] row = map[r];
+            for (int c = 0; c < size; c++) {
+                chars[i++] = CELL_CHARS[row[c]];
+            }
+        }
+        return chars;
+    }
+
+    /**
+     * Восстанавливает поле из строки.
+     *
+     * @param cells строка из {@code size * size} символов {@code .}, {@code X}, {@code O}.
+     * @param size  размер стороны поля.
+     * @return состояние поля.
+     * @throws IllegalArgumentException если размер больше {@link #MAX_SIZE}, длина строки не соответствует
+     *                                  размеру или встречен неизвестный символ.
+     */
+    public static int[][] fromChars(CharSequence cells, int size) {
+        if (size <= 0 || size > MAX_SIZE || cells.length() != size * size) {
+            throw new IllegalArgumentException("Board string must contain size * size cells.");
+        }
+        int[][] map = new int[size][size];
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            int[] row = map[r];
+            for (int c = 0; c < size; c++) {
+                row[c] = cellValue(cells.charAt(i++));
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Упаковывает поле по 2 бита на ячейку (по строкам, младшие биты байта — первая ячейка).
+     *
+     * @param map  состояние поля.
+     * @param size размер стороны поля.
+     * @return упакованное поле.
+     */
+    public static byte[] pack(int[][] map, int size) {
+        byte[] packed = new byte[(size * size + CELLS_PER_BYTE - 1) / CELLS_PER_BYTE];
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            int[] row = map[r];
+            for (int c = 0; c < size; c++, i++) {
+                packed[i >>> 2] |= (byte) (row[c] << ((i & 3) << 1));
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Распаковывает поле, упакованное методом {@link #pack}.
+     *
+     * @param packed упакованное поле.
+     * @param size   размер стороны поля.
+     * @return состояние поля.
+     * @throws IllegalArgumentException если размер больше {@link #MAX_SIZE}, длина данных не соответствует
+     *                                  размеру или значение ячейки неизвестно.
+     */
+    public static int[][] unpack(byte[] packed, int size) {
+        if (size <= 0 || size > MAX_SIZE || packed.length != (size * size + CELLS_PER_BYTE - 1) / CELLS_PER_BYTE) {
+            throw new IllegalArgumentException("Packed board length does not match board size.");
+        }
+        int[][] map = new int[size][size];
+        int i = 0;
+        for (int r = 0; r < size; r++) {
+            int[] row = map[r];
+            for (int c = 0; c < size; c++, i++) {
+                int value = (packed[i >>> 2] >>> ((i & 3) << 1)) & 3;
+                if (value >= CELL_CHARS.length) {
+                    throw new IllegalArgumentException("Unknown cell value: " + value);
+                }
+                row[c] = value;
+            }
+        }
+        return map;
+    }
+
+    private static int cellValue(char symbol) {
+        return switch (symbol) {
+            case '.' -> 0;
+            case 'X' -> 1;
+            case 'O' -> 2;
+            default -> throw new IllegalArgumentException("Unknown cell symbol: " + symbol);
+        };
+    }
+}
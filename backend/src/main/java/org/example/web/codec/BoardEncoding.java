@@ -0,0 +1,58 @@
+package org.example.web.codec;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.example.web.model.GameMapDTO;
+import org.springframework.http.MediaType;
+
+/**
+ * Компактные представления игрового поля, выбираемые через согласование содержимого.
+ * <p>
+ * Клиент запрашивает формат заголовками {@code Accept} (ответ) и {@code Content-Type} (запрос).
+ * Клиенты, запрашивающие {@code application/json}, получают прежний формат с массивом {@code int[][]}.
+ * Медиатипы намеренно не имеют суффикса {@code +json}, чтобы стандартный JSON-конвертер
+ * не перехватывал их.
+ */
+public enum BoardEncoding {
+
+    /**
+     * Поле в виде строки по строкам: {@code {"size":3,"cells":"X.O......"}},
+     * где {@code .} — пусто, {@code X} — крестик, {@code O} — нолик.
+     */
+    STRING("application/vnd.tictactoe.compact"),
+
+    /**
+     * Поле, упакованное по 2 бита на ячейку и закодированное в base64:
+     * {@code {"size":3,"packed":"..."}}.
+     */
+    PACKED("application/vnd.tictactoe.packed");
+
+    /** Медиатип формата */
+    private final MediaType mediaType;
+
+    /**
+     * Конструктор формата.
+     * @param mediaType строковое представление медиатипа.
+     */
+    BoardEncoding(String mediaType) {
+        this.mediaType = MediaType.parseMediaType(mediaType);
+    }
+
+    /**
+     * Возвращает медиатип формата.
+     * @return медиатип.
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Создает модуль Jackson, (де)сериализующий {@link GameMapDTO} в этом формате.
+     * @return модуль для регистрации в копии {@code ObjectMapper}.
+     */
+    public SimpleModule jacksonModule() {
+        SimpleModule module = new SimpleModule("compact-board-" + name().toLowerCase());
+        module.addSerializer(GameMapDTO.class, new CompactGameMapSerializer(this));
+        module.addDeserializer(GameMapDTO.class, new CompactGameMapDeserializer());
+        return module;
+    }
+}
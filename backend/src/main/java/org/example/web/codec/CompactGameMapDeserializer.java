@@ -0,0 +1,62 @@
+package org.example.web.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.example.web.model.GameMapDTO;
+
+import java.io.IOException;
+
+/**
+ * Десериализатор игрового поля из компактных форматов {@link BoardEncoding}.
+ * <p>
+ * Принимает объект с полем {@code size} и одним из полей {@code cells} (строка)
+ * или {@code packed} (base64) в любом порядке. Поле декодируется сразу в итоговый массив.
+ */
+public class CompactGameMapDeserializer extends StdDeserializer<GameMapDTO> {
+
+    /**
+     * Создает десериализатор компактного поля.
+     */
+    public CompactGameMapDeserializer() {
+        super(GameMapDTO.class);
+    }
+
+    @Override
+    public GameMapDTO deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (GameMapDTO) context.handleUnexpectedToken(GameMapDTO.class, parser);
+        }
+
+        int size = -1;
+        String cells = null;
+        byte[] packed = null;
+
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "size" -> size = parser.getIntValue();
+                case "cells" -> cells = parser.getText();
+                case "packed" -> packed = parser.getBinaryValue();
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+
+        try {
+            if (cells != null) {
+                return new GameMapDTO(BoardCodec.fromChars(cells, size), size);
+            }
+            if (packed != null) {
+                return new GameMapDTO(BoardCodec.unpack(packed, size), size);
+            }
+        } catch (IllegalArgumentException e) {
+            return context.reportInputMismatch(GameMapDTO.class, "%s", e.getMessage());
+        }
+        return context.reportInputMismatch(GameMapDTO.class, "Board must contain 'cells' or 'packed' field");
+    }
+}
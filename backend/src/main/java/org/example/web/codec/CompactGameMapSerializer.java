@@ -0,0 +1,46 @@
+package org.example.web.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.example.web.model.GameMapDTO;
+
+import java.io.IOException;
+
+/**
+ * Сериализатор игрового поля в компактный формат {@link BoardEncoding}.
+ * <p>
+ * Вместо вложенного массива чисел пишет одно строковое поле: {@code cells} для
+ * {@link BoardEncoding#STRING} или {@code packed} (base64) для {@link BoardEncoding#PACKED}.
+ */
+public class CompactGameMapSerializer extends StdSerializer<GameMapDTO> {
+
+    /** Формат записи поля */
+    private final BoardEncoding encoding;
+
+    /**
+     * Создает сериализатор для указанного формата.
+     *
+     * @param encoding формат записи поля.
+     */
+    public CompactGameMapSerializer(BoardEncoding encoding) {
+        super(GameMapDTO.class);
+        this.encoding = encoding;
+    }
+
+    @Override
+    public void serialize(GameMapDTO value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        int size = value.getSize();
+        generator.writeStartObject();
+        generator.writeNumberField("size", size);
+        if (encoding == BoardEncoding.PACKED) {
+            generator.writeFieldName("packed");
+            generator.writeBinary(BoardCodec.pack(value.getMap(), size));
+        } else {
+            char[] cells = BoardCodec.toChars(value.getMap(), size);
+            generator.writeFieldName("cells");
+            generator.writeString(cells, 0, cells.length);
+        }
+        generator.writeEndObject();
+    }
+}
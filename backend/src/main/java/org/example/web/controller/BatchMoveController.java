@@ -0,0 +1,98 @@
+package org.example.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.domain.model.BatchMoveOutcome;
+import org.example.domain.model.MoveCommand;
+import org.example.domain.service.BatchMoveService;
+import org.example.web.mapper.GameMapperDTO;
+import org.example.web.model.BatchMoveItemDTO;
+import org.example.web.model.BatchMoveResultDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * REST-контроллер пакетных ходов для ботов и нагрузочных клиентов.
+ * <p>
+ * Один запрос содержит ходы во множестве игр, поэтому накладные расходы на соединение
+ * и разбор HTTP-запроса делятся на все ходы пакета. Каждый ход пакета проходит контроль
+ * допуска отдельно: отклоненный ход возвращается с кодом {@code 422}, {@code 429} или {@code 503}
+ * в своем элементе ответа, не прерывая остальные.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/game")
+@Tag(name = "Batch Move Controller", description = "Пакетная обработка ходов во множестве игр")
+public class BatchMoveController {
+
+    private final BatchMoveService batchMoveService;
+    private final int maxBatchSize;
+
+    /**
+     * Конструктор для инициализации контроллера.
+     *
+     * @param batchMoveService сервис пакетной обработки ходов.
+     * @param maxBatchSize     максимальное количество ходов в одном запросе.
+     */
+    public BatchMoveController(
+            BatchMoveService batchMoveService,
+            @Value("${game.batch.max-size:1000}") int maxBatchSize) {
+        this.batchMoveService = batchMoveService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Выполняет ходы пользователя во множестве игр и возвращает ответы ИИ.
+     *
+     * @param moves   ходы пакета (не более {@code game.batch.max-size}).
+     * @param request HTTP-запрос, адрес клиента которого используется для квоты ходов.
+     * @return результаты в порядке ходов запроса: ответ ИИ или код и описание ошибки.
+     * @throws ResponseStatusException 400 если пакет пуст, превышает допустимый размер или ход
+     *                                 не содержит идентификатора игры или координат.
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Пакет ходов", description = "Принимает ходы во множестве игр и возвращает ответ ИИ или ошибку для каждого хода")
+    @ApiResponse(responseCode = "200", description = "Пакет обработан; ошибки отдельных ходов указаны в элементах ответа")
+    @ApiResponse(responseCode = "400", description = "Пакет пуст, слишком велик или ход без игры или координат")
+    public ResponseEntity<List<BatchMoveResultDTO>> playBatch(@RequestBody List<BatchMoveItemDTO> moves,
+                                                             HttpServletRequest request) {
+        if (moves == null || moves.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch must contain at least one move");
+        }
+        if (moves.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Batch must not contain more than " + maxBatchSize + " moves");
+        }
+
+        List<MoveCommand> commands = new ArrayList<>(moves.size());
+        for (BatchMoveItemDTO move : moves) {
+            if (move.getId() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Every move must have a game id");
+            }
+            if (move.getRow() == null || move.getCol() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Every move must have row and col");
+            }
+            commands.add(GameMapperDTO.toCommand(move));
+        }
+
+        List<BatchMoveOutcome> outcomes = batchMoveService.playAll(commands, request.getRemoteAddr());
+
+        List<BatchMoveResultDTO> results = new ArrayList<>(outcomes.size());
+        for (BatchMoveOutcome outcome : outcomes) {
+            results.add(GameMapperDTO.toBatchDTO(outcome));
+        }
+        return ResponseEntity.ok(results);
+    }
+}
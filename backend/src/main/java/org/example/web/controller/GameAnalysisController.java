@@ -0,0 +1,81 @@
+package org.example.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.domain.model.GameSession;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.service.GameService;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.mapper.GameMapperDTO;
+import org.example.web.model.SearchAnalysisDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+
+/**
+ * Отладочный REST-контроллер анализа позиции движком.
+ * <p>
+ * Включается свойством {@code game.analysis.enabled=true}; по умолчанию эндпоинта нет.
+ * Анализ выполняет тот же перебор, что и ход ИИ, на копии поля реальной сессии и ничего
+ * не сохраняет, поэтому поведение и стоимость движка можно проверить на боевых позициях.
+ * Расчет проходит тот же контроль допуска, что и ходы.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "game.analysis.enabled", havingValue = "true")
+@RequestMapping("/game")
+@Tag(name = "Game Analysis Controller", description = "Диагностика расчета хода ИИ")
+public class GameAnalysisController {
+
+    private final GameService gameService;
+    private final GameRepository gameRepository;
+    private final AdmissionControl admissionControl;
+
+    /**
+     * Конструктор для инициализации контроллера.
+     *
+     * @param gameService      сервис игровой логики и ходов ИИ.
+     * @param gameRepository   репозиторий сессий.
+     * @param admissionControl контроль допуска перед расчетом.
+     */
+    public GameAnalysisController(GameService gameService, GameRepository gameRepository,
+                                  AdmissionControl admissionControl) {
+        this.gameService = gameService;
+        this.gameRepository = gameRepository;
+        this.admissionControl = admissionControl;
+    }
+
+    /**
+     * Анализирует текущую позицию сессии: оценки ходов ИИ, главный вариант и статистику перебора.
+     *
+     * @param id      UUID сессии из URL.
+     * @param request HTTP-запрос (адрес клиента для квоты расчетов).
+     * @return диагностика расчета.
+     * @throws ResponseStatusException 404 если игра не найдена, 422, 429 или 503 если расчет отклонен контролем допуска.
+     */
+    @GetMapping("/{id}/analysis")
+    @Operation(summary = "Анализ позиции", description = "Возвращает оценки ходов ИИ, главный вариант и статистику перебора без изменения сессии")
+    @ApiResponse(responseCode = "200", description = "Анализ выполнен")
+    @ApiResponse(responseCode = "404", description = "Сессия с таким ID не найдена")
+    @ApiResponse(responseCode = "422", description = "Ход слишком дорог для расчета")
+    @ApiResponse(responseCode = "429", description = "Клиент превысил квоту ходов")
+    @ApiResponse(responseCode = "503", description = "Сервер перегружен тяжелыми расчетами")
+    public ResponseEntity<SearchAnalysisDTO> analyze(@PathVariable UUID id, HttpServletRequest request) {
+        GameSession session = gameRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found"));
+
+        try (AdmissionControl.Permit permit = admissionControl.admit(request.getRemoteAddr(), session.getGameMap())) {
+            return ResponseEntity.ok(GameMapperDTO.toAnalysisDTO(gameService.analyze(session.getGameMap())));
+        }
+    }
+}
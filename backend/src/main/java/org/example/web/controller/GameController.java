@@ -4,30 +4,51 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.domain.exception.SessionCapacityExceededException;
+import org.example.domain.exception.SessionConflictException;
+import org.example.domain.id.SessionIdGenerator;
 import org.example.domain.model.GameMap;
 import org.example.domain.model.GameSession;
+import org.example.domain.model.MoveResult;
 import org.example.domain.repository.GameRepository;
+import org.example.domain.repository.SessionCapacity;
 import org.example.domain.service.GameService;
+import org.example.domain.trace.RequestTimings;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.cache.SessionResponseCache;
 import org.example.web.mapper.GameMapperDTO;
 import org.example.web.model.GameSessionDTO;
+import org.example.web.model.MoveRequestDTO;
+import org.example.web.model.MoveResponseDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
  * REST-контроллер для управления игровым процессом "Крестиков-ноликов".
  * Обеспечивает API для создания сессий и обработки ходов.
+ * Активен в сервлетном стеке; в профиле {@code reactive} его заменяет
+ * {@link org.example.web.reactive.ReactiveGameController}.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/game")
 @Tag(name = "Game Controller", description = "Управление игровыми сессиями и ходами ИИ")
 public class GameController {
 
     private final GameService gameService;
     private final GameRepository gameRepository;
+    private final SessionIdGenerator idGenerator;
+    private final AdmissionControl admissionControl;
+    private final SessionResponseCache responseCache;
+    private final SessionCapacity sessionCapacity;
 
     /**
      * Конструктор для инициализации контроллера.
@@ -35,12 +56,63 @@ public class GameController {
      * Spring автоматически внедряет (Inject) необходимые зависимости
      * для работы с бизнес-логикой и хранилищем данных.
      *
-     * @param gameService    сервис для обработки игровой логики и ходов ИИ.
-     * @param gameRepository репозиторий для управления сессиями и их сохранения.
+     * @param gameService      сервис для обработки игровой логики и ходов ИИ.
+     * @param gameRepository   репозиторий для управления сессиями и их сохранения.
+     * @param idGenerator      генератор идентификаторов новых сессий.
+     * @param admissionControl контроль допуска перед расчетом хода ИИ.
+     * @param responseCache    кэш сериализованных представлений сессий.
+     * @param sessionCapacity  проверка заполнения хранилища перед созданием сессии.
      */
-    public GameController(GameService gameService, GameRepository gameRepository) {
+    public GameController(GameService gameService, GameRepository gameRepository,
+                          SessionIdGenerator idGenerator, AdmissionControl admissionControl,
+                          SessionResponseCache responseCache, SessionCapacity sessionCapacity) {
         this.gameService = gameService;
         this.gameRepository = gameRepository;
+        this.idGenerator = idGenerator;
+        this.admissionControl = admissionControl;
+        this.responseCache = responseCache;
+        this.sessionCapacity = sessionCapacity;
+    }
+
+    /**
+     * Возвращает текущее состояние игровой сессии.
+     * <p>
+     * Версия сессии служит строгим ETag: если клиент передал её в {@code If-None-Match},
+     * возвращается {@code 304} без тела. Тело ответа для версии сериализуется один раз
+     * и затем отдается из {@link SessionResponseCache}.
+     *
+     * @param id      UUID сессии из URL.
+     * @param headers заголовки запроса ({@code Accept}, {@code If-None-Match}).
+     * @return состояние сессии в запрошенном формате или {@code 304}, если оно не изменилось.
+     * @throws ResponseStatusException 404 если игра не найдена, 406 если формат не поддерживается.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Получить игру", description = "Возвращает текущее состояние сессии; поддерживает условный запрос по ETag")
+    @ApiResponse(responseCode = "200", description = "Текущее состояние сессии")
+    @ApiResponse(responseCode = "304", description = "Сессия не изменилась с версии из If-None-Match")
+    @ApiResponse(responseCode = "404", description = "Сессия с таким ID не найдена")
+    public ResponseEntity<byte[]> getGame(@PathVariable UUID id, @RequestHeader HttpHeaders headers) {
+        GameSession session = gameRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found"));
+
+        SessionResponseCache.Format format = responseCache.negotiate(headers.getAccept());
+        if (format == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "Unsupported response format");
+        }
+
+        String etag = format.etag(session.getVersion());
+        if (matchesAny(headers.getIfNoneMatch(), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(responseCache.render(session, format));
     }
 
     /**
@@ -48,15 +120,28 @@ public class GameController {
      *
      * @param size размер игрового поля (по умолчанию 3x3).
      * @return DTO созданной сессии с уникальным UUID.
+     * @throws ResponseStatusException 400 если размер меньше единицы,
+     *                                 422 если на поле такого размера ни один ход не будет допущен,
+     *                                 503 если хранилище сессий заполнено.
      */
     @PostMapping
     @Operation(summary = "Создать новую игру", description = "Инициализирует пустое поле и сохраняет сессию")
     @ApiResponse(responseCode = "201", description = "Игра успешно создана")
+    @ApiResponse(responseCode = "400", description = "Размер поля меньше единицы")
+    @ApiResponse(responseCode = "422", description = "Поле слишком велико: первый ход превысит предельную стоимость расчета")
+    @ApiResponse(responseCode = "503", description = "Хранилище сессий заполнено")
     public ResponseEntity<GameSessionDTO> createGame(
             @Parameter(description = "Размер квадратного поля") @RequestParam(defaultValue = "3") int size) {
 
+        admissionControl.checkBoardSize(size);
+        try {
+            sessionCapacity.checkCanCreate();
+        } catch (SessionCapacityExceededException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Session storage is full");
+        }
+
         GameMap newMap = new GameMap(size);
-        GameSession newSession = new GameSession(newMap);
+        GameSession newSession = new GameSession(newMap, idGenerator);
         gameRepository.save(newSession);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(GameMapperDTO.toDTO(newSession));
@@ -64,20 +149,32 @@ public class GameController {
 
     /**
      * Принимает ход пользователя, проверяет его и выполняет ответный ход ИИ.
+     * <p>
+     * Этапы обработки ({@code find}, {@code map}, {@code validate}, {@code status}, {@code ai}, {@code save})
+     * отмечаются в {@link RequestTimings} и возвращаются клиенту в заголовке {@code Server-Timing}.
      *
      * @param id             UUID сессии из URL.
      * @param userRequestDTO состояние поля после хода пользователя.
+     * @param request        HTTP-запрос (адрес клиента для квоты ходов).
      * @return обновленное состояние сессии.
-     * @throws ResponseStatusException 404 если игра не найдена, 400 если ход невалиден.
+     * @throws ResponseStatusException 404 если игра не найдена, 400 если координаты не переданы
+     *                                 или ход невалиден (до контроля допуска),
+     *                                 409 если сессию одновременно изменил другой запрос,
+     *                                 422, 429 или 503 если расчет хода отклонен контролем допуска.
      */
     @PostMapping("/{id}")
     @Operation(summary = "Сделать ход", description = "Принимает ход игрока (X) и возвращает ответный ход ИИ (0)")
     @ApiResponse(responseCode = "200", description = "Ход обработан")
     @ApiResponse(responseCode = "400", description = "Нарушена целостность поля или игра уже завершена")
     @ApiResponse(responseCode = "404", description = "Сессия с таким ID не найдена")
+    @ApiResponse(responseCode = "409", description = "Сессия была изменена параллельным запросом")
+    @ApiResponse(responseCode = "422", description = "Ход слишком дорог для расчета")
+    @ApiResponse(responseCode = "429", description = "Клиент превысил квоту ходов")
+    @ApiResponse(responseCode = "503", description = "Сервер перегружен тяжелыми расчетами")
     public ResponseEntity<GameSessionDTO> playMove(
             @PathVariable UUID id,
-            @RequestBody GameSessionDTO userRequestDTO) {
+            @RequestBody GameSessionDTO userRequestDTO,
+            HttpServletRequest request) {
 
         // 1. Поиск существующей игры
         GameSession originalSession = gameRepository.findById(id)
@@ -85,22 +182,105 @@ public class GameController {
 
         // 2. Валидация хода (защита от "читов")
         userRequestDTO.setId(id);
-        GameSession userSessionState = GameMapperDTO.toDomain(userRequestDTO);
+        GameSession userSessionState;
+        try (RequestTimings.Span span = RequestTimings.span("map")) {
+            userSessionState = GameMapperDTO.toDomain(userRequestDTO);
+        }
+        userSessionState.setVersion(originalSession.getVersion());
 
-        if (!gameService.validateMapIntegrity(originalSession, userSessionState.getGameMap())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cheat detected or invalid move");
+        try (RequestTimings.Span span = RequestTimings.span("validate")) {
+            if (!gameService.validateMapIntegrity(originalSession, userSessionState.getGameMap())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cheat detected or invalid move");
+            }
         }
 
         // 3. Обработка логики
-        userSessionState.setStatus(gameService.checkGameStatus(userSessionState.getGameMap()));
+        try (RequestTimings.Span span = RequestTimings.span("status")) {
+            userSessionState.setStatus(gameService.checkGameStatus(userSessionState.getGameMap()));
+        }
+
+        // Если игра не закончилась после хода человека — ходит ИИ.
+        // Сохранение выполняется атомарно относительно версии, прочитанной на шаге 1.
+        try {
+            if (!userSessionState.isGameOver()) {
+                try (RequestTimings.Span span = RequestTimings.span("ai");
+                     AdmissionControl.Permit permit = admissionControl.admit(request.getRemoteAddr(), userSessionState.getGameMap())) {
+                    gameService.getNextMove(userSessionState);
+                }
+            } else if (!gameRepository.compareAndSave(userSessionState)) {
+                throw new SessionConflictException(id);
+            }
+        } catch (SessionConflictException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Game was modified by another request");
+        }
 
-        // Если игра не закончилась после хода человека — ходит ИИ
-        if (!userSessionState.isGameOver()) {
-            gameService.getNextMove(userSessionState);
-        } else {
-            gameRepository.save(userSessionState);
+        try (RequestTimings.Span span = RequestTimings.span("map")) {
+            return ResponseEntity.ok(GameMapperDTO.toDTO(userSessionState));
         }
+    }
+
+    /**
+     * Принимает ход пользователя в одну ячейку и возвращает только ответный ход ИИ.
+     * <p>
+     * В отличие от {@link #playMove}, клиент передает координаты, а не всё поле,
+     * поэтому размер запроса и ответа и стоимость проверки не зависят от размера поля.
+     *
+     * @param id      UUID сессии из URL.
+     * @param request     координаты хода пользователя.
+     * @param httpRequest HTTP-запрос (адрес клиента для квоты ходов).
+     * @return ответный ход ИИ и новый статус игры.
+     * @throws ResponseStatusException 404 если игра не найдена, 400 если ход невалиден,
+     *                                 409 если сессию одновременно изменил другой запрос,
+     *                                 422, 429 или 503 если расчет хода отклонен контролем допуска.
+     */
+    @PostMapping("/{id}/move")
+    @Operation(summary = "Сделать ход в ячейку", description = "Принимает координаты хода игрока (X) и возвращает только ответный ход ИИ (0)")
+    @ApiResponse(responseCode = "200", description = "Ход обработан")
+    @ApiResponse(responseCode = "400", description = "Координаты не переданы, ячейка вне поля, занята или игра уже завершена")
+    @ApiResponse(responseCode = "404", description = "Сессия с таким ID не найдена")
+    @ApiResponse(responseCode = "409", description = "Сессия была изменена параллельным запросом")
+    @ApiResponse(responseCode = "422", description = "Ход слишком дорог для расчета")
+    @ApiResponse(responseCode = "429", description = "Клиент превысил квоту ходов")
+    @ApiResponse(responseCode = "503", description = "Сервер перегружен тяжелыми расчетами")
+    public ResponseEntity<MoveResponseDTO> makeMove(
+            @PathVariable UUID id,
+            @RequestBody MoveRequestDTO request,
+            HttpServletRequest httpRequest) {
+
+        if (request.getRow() == null || request.getCol() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Move must have row and col");
+        }
+        GameSession session = gameRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found"));
+
+        // Невалидный ход отклоняется до контроля допуска и не расходует квоту клиента
+        try {
+            gameService.checkMove(session, request.getRow(), request.getCol());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        try (RequestTimings.Span span = RequestTimings.span("ai");
+             AdmissionControl.Permit permit = admissionControl.admit(httpRequest.getRemoteAddr(), session.getGameMap())) {
+            MoveResult result = gameService.makeMove(session, request.getRow(), request.getCol());
+            return ResponseEntity.ok(GameMapperDTO.toMoveDTO(result));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (SessionConflictException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Game was modified by another request");
+        }
+    }
 
-        return ResponseEntity.ok(GameMapperDTO.toDTO(userSessionState));
+    /**
+     * Проверяет, совпадает ли ETag с одним из значений {@code If-None-Match}
+     * (слабое сравнение, как требует спецификация для этого заголовка).
+     */
+    private static boolean matchesAny(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || etag.equals(candidate) || ("W/" + etag).equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
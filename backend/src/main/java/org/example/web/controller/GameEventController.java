@@ -0,0 +1,81 @@
+package org.example.web.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.domain.model.GameSession;
+import org.example.domain.repository.GameRepository;
+import org.example.web.sse.GameEventBroadcaster;
+import org.example.web.sse.SseEventSink;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+/**
+ * REST-контроллер потока событий игры для наблюдателей и панелей мониторинга.
+ * <p>
+ * Вместо периодического опроса клиент открывает SSE-поток и получает текущее состояние
+ * игры, а затем события с новыми ходами и статусом по мере их сохранения.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/game")
+@Tag(name = "Game Event Controller", description = "Поток событий игры для наблюдателей")
+public class GameEventController {
+
+    private final GameRepository gameRepository;
+    private final GameEventBroadcaster broadcaster;
+    private final long emitterTimeoutMs;
+
+    /**
+     * Конструктор для инициализации контроллера.
+     *
+     * @param gameRepository   репозиторий игровых сессий.
+     * @param broadcaster      рассылка событий игры.
+     * @param emitterTimeoutMs время жизни SSE-соединения в миллисекундах.
+     */
+    public GameEventController(
+            GameRepository gameRepository,
+            GameEventBroadcaster broadcaster,
+            @Value("${game.events.emitter-timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.gameRepository = gameRepository;
+        this.broadcaster = broadcaster;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    /**
+     * Открывает поток событий игры.
+     * Первое событие ({@code snapshot}) содержит текущее состояние, последующие ({@code move}) —
+     * новые ходы и статус; {@code skipped} сообщает о событиях, пропущенных медленным клиентом.
+     *
+     * @param id UUID игровой сессии.
+     * @return SSE-поток событий.
+     * @throws ResponseStatusException 404 если игра не найдена.
+     */
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Поток событий игры", description = "SSE-поток с текущим состоянием игры и последующими ходами")
+    @ApiResponse(responseCode = "200", description = "Поток открыт")
+    @ApiResponse(responseCode = "404", description = "Игра не найдена")
+    public SseEmitter streamEvents(@PathVariable UUID id) {
+        GameSession session = gameRepository.findById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found"));
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        SseEventSink sink = new SseEventSink(emitter);
+        emitter.onCompletion(() -> broadcaster.unsubscribe(id, sink));
+        emitter.onTimeout(() -> broadcaster.unsubscribe(id, sink));
+        emitter.onError(error -> broadcaster.unsubscribe(id, sink));
+
+        broadcaster.subscribe(session, sink);
+        return emitter;
+    }
+}
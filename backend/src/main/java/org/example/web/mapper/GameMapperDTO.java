@@ -1,11 +1,26 @@
 package org.example.web.mapper;
 
+import org.example.domain.model.BatchMoveOutcome;
 import org.example.domain.model.GameMap;
 import org.example.domain.model.GameSession;
 import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveCommand;
+import org.example.domain.model.MoveError;
+import org.example.domain.model.MoveResult;
+import org.example.domain.service.SearchAnalysis;
+import org.example.domain.service.SearchStats;
+import org.example.web.model.BatchMoveItemDTO;
+import org.example.web.model.BatchMoveResultDTO;
 import org.example.web.model.GameMapDTO;
 import org.example.web.model.GameSessionDTO;
 import org.example.web.model.GameStatusDTO;
+import org.example.web.model.MoveResponseDTO;
+import org.example.web.model.MoveScoreDTO;
+import org.example.web.model.SearchAnalysisDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Компонент-преобразователь (Mapper) для веб-уровня.
@@ -55,6 +70,81 @@ public class GameMapperDTO {
         );
     }
 
+    /**
+     * Преобразует результат хода в компактный ответ без игрового поля.
+     *
+     * @param result доменный результат хода.
+     * @return объект {@link MoveResponseDTO} для JSON-ответа.
+     */
+    public static MoveResponseDTO toMoveDTO(MoveResult result) {
+        if (result == null) return null;
+
+        Integer row = result.hasReply() ? result.getRow() : null;
+        Integer col = result.hasReply() ? result.getCol() : null;
+        return new MoveResponseDTO(row, col, GameStatusDTO.valueOf(result.getStatus().name()));
+    }
+
+    /**
+     * Преобразует элемент пакетного запроса в доменную команду хода.
+     *
+     * @param item элемент пакетного запроса.
+     * @return команда хода.
+     */
+    public static MoveCommand toCommand(BatchMoveItemDTO item) {
+        return new MoveCommand(item.getId(), item.getRow(), item.getCol());
+    }
+
+    /**
+     * Преобразует результат хода пакетного запроса в DTO.
+     * Причина отказа передается HTTP-кодом, который вернул бы одиночный запрос.
+     *
+     * @param outcome результат хода.
+     * @return объект {@link BatchMoveResultDTO} для JSON-ответа.
+     */
+    public static BatchMoveResultDTO toBatchDTO(BatchMoveOutcome outcome) {
+        if (!outcome.isSuccess()) {
+            return new BatchMoveResultDTO(outcome.getGameId(), null, null, null,
+                    toHttpStatus(outcome.getError()), outcome.getMessage());
+        }
+
+        MoveResponseDTO move = toMoveDTO(outcome.getResult());
+        return new BatchMoveResultDTO(outcome.getGameId(), move.getRow(), move.getCol(), move.getStatus(), null, null);
+    }
+
+    /**
+     * Преобразует диагностику расчета хода ИИ в DTO.
+     *
+     * @param analysis результат анализа позиции.
+     * @return объект {@link SearchAnalysisDTO} для JSON-ответа.
+     */
+    public static SearchAnalysisDTO toAnalysisDTO(SearchAnalysis analysis) {
+        SearchStats stats = analysis.getStats();
+        return new SearchAnalysisDTO(toScoreDTOs(analysis.getRootMoves()), toScoreDTOs(analysis.getPrincipalVariation()),
+                stats.getNodes(), stats.getDepth(), stats.getCutoffs(),
+                TimeUnit.NANOSECONDS.toMicros(stats.getDurationNanos()));
+    }
+
+    private static List<MoveScoreDTO> toScoreDTOs(List<SearchAnalysis.MoveScore> moves) {
+        List<MoveScoreDTO> dtos = new ArrayList<>(moves.size());
+        for (SearchAnalysis.MoveScore move : moves) {
+            dtos.add(new MoveScoreDTO(move.getRow(), move.getCol(), move.getScore()));
+        }
+        return dtos;
+    }
+
+    private static int toHttpStatus(MoveError error) {
+        return switch (error) {
+            case NOT_FOUND -> 404;
+            case INVALID_MOVE -> 400;
+            case CONFLICT -> 409;
+            case OVERLOADED -> 503;
+            case RATE_LIMITED -> 429;
+            case TOO_EXPENSIVE -> 422;
+            case INTERNAL -> 500;
+            case UNKNOWN -> 503;
+        };
+    }
+
     /**
      * Создает копию игрового поля в формате DTO.
      * Выполняет глубокое копирование массива для обеспечения безопасности данных.
@@ -0,0 +1,85 @@
+package org.example.web.model;
+
+import java.util.UUID;
+
+/**
+ * Объект передачи данных (DTO) для одного хода пакетного запроса.
+ */
+public class BatchMoveItemDTO {
+
+    /** Идентификатор игровой сессии */
+    private UUID id;
+
+    /** Индекс строки ячейки; {@code null}, если не передан */
+    private Integer row;
+
+    /** Индекс столбца ячейки; {@code null}, если не передан */
+    private Integer col;
+
+    /**
+     * Конструктор без параметров.
+     * Необходим для корректной работы десериализаторов JSON (например, Jackson).
+     */
+    public BatchMoveItemDTO() {}
+
+    /**
+     * Создает элемент пакетного запроса.
+     *
+     * @param id  идентификатор игровой сессии.
+     * @param row индекс строки.
+     * @param col индекс столбца.
+     */
+    public BatchMoveItemDTO(UUID id, int row, int col) {
+        this.id = id;
+        this.row = row;
+        this.col = col;
+    }
+
+    /**
+     * Возвращает идентификатор игровой сессии.
+     * @return идентификатор сессии.
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Устанавливает идентификатор игровой сессии.
+     * @param id идентификатор сессии.
+     */
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    /**
+     * Возвращает индекс строки.
+     * @return индекс строки или {@code null}, если он не передан.
+     */
+    public Integer getRow() {
+        return row;
+    }
+
+    /**
+     * Устанавливает индекс строки.
+     * @param row индекс строки.
+     */
+    public void setRow(Integer row) {
+        this.row = row;
+    }
+
+    /**
+     * Возвращает индекс столбца.
+     * @return индекс столбца или {@code null}, если он не передан.
+     */
+    public Integer getCol() {
+        return col;
+    }
+
+    /**
+     * Устанавливает индекс столбца.
+     * @param col индекс столбца.
+     */
+    public void setCol(Integer col) {
+        this.col = col;
+    }
+}
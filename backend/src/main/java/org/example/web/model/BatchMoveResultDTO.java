@@ -0,0 +1,106 @@
+package org.example.web.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Объект передачи данных (DTO) с результатом одного хода пакетного запроса.
+ * <p>
+ * При успехе содержит ответный ход ИИ и статус игры, при ошибке — HTTP-код
+ * и описание, которые вернул бы одиночный запрос. Пустые поля не попадают в JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchMoveResultDTO {
+
+    /** Идентификатор игровой сессии */
+    private UUID id;
+
+    /** Строка ответного хода ИИ */
+    private Integer row;
+
+    /** Столбец ответного хода ИИ */
+    private Integer col;
+
+    /** Статус игры после хода */
+    private GameStatusDTO status;
+
+    /** HTTP-код ошибки или {@code null} при успехе */
+    private Integer error;
+
+    /** Описание ошибки или {@code null} при успехе */
+    private String message;
+
+    /**
+     * Конструктор без параметров.
+     * Необходим для корректной работы десериализаторов JSON (например, Jackson).
+     */
+    public BatchMoveResultDTO() {}
+
+    /**
+     * Создает результат хода.
+     *
+     * @param id      идентификатор игровой сессии.
+     * @param row     строка ответного хода ИИ или {@code null}.
+     * @param col     столбец ответного хода ИИ или {@code null}.
+     * @param status  статус игры или {@code null} при ошибке.
+     * @param error   HTTP-код ошибки или {@code null}.
+     * @param message описание ошибки или {@code null}.
+     */
+    public BatchMoveResultDTO(UUID id, Integer row, Integer col, GameStatusDTO status, Integer error, String message) {
+        this.id = id;
+        this.row = row;
+        this.col = col;
+        this.status = status;
+        this.error = error;
+        this.message = message;
+    }
+
+    /**
+     * Возвращает идентификатор игровой сессии.
+     * @return идентификатор сессии.
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Возвращает строку ответного хода ИИ.
+     * @return индекс строки или {@code null}.
+     */
+    public Integer getRow() {
+        return row;
+    }
+
+    /**
+     * Возвращает столбец ответного хода ИИ.
+     * @return индекс столбца или {@code null}.
+     */
+    public Integer getCol() {
+        return col;
+    }
+
+    /**
+     * Возвращает статус игры.
+     * @return статус игры или {@code null} при ошибке.
+     */
+    public GameStatusDTO getStatus() {
+        return status;
+    }
+
+    /**
+     * Возвращает HTTP-код ошибки.
+     * @return код ошибки или {@code null} при успехе.
+     */
+    public Integer getError() {
+        return error;
+    }
+
+    /**
+     * Возвращает описание ошибки.
+     * @return описание или {@code null} при успехе.
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.web.model;
+
+/**
+ * Объект передачи данных (DTO) для хода пользователя в одну ячейку.
+ * <p>
+ * Вместо всего поля клиент передает только координаты хода,
+ * поэтому размер запроса не зависит от размера поля. Координаты хранятся как {@link Integer},
+ * чтобы отсутствующее в JSON поле не превращалось в ход в нулевую строку или столбец.
+ */
+public class MoveRequestDTO {
+
+    /** Индекс строки ячейки; {@code null}, если не передан */
+    private Integer row;
+
+    /** Индекс столбца ячейки; {@code null}, если не передан */
+    private Integer col;
+
+    /**
+     * Конструктор без параметров.
+     * Необходим для корректной работы десериализаторов JSON (например, Jackson).
+     */
+    public MoveRequestDTO() {}
+
+    /**
+     * Создает запрос хода.
+     *
+     * @param row индекс строки.
+     * @param col индекс столбца.
+     */
+    public MoveRequestDTO(int row, int col) {
+        this.row = row;
+        this.col = col;
+    }
+
+    /**
+     * Возвращает индекс строки.
+     * @return индекс строки или {@code null}, если он не передан.
+     */
+    public Integer getRow() {
+        return row;
+    }
+
+    /**
+     * Устанавливает индекс строки.
+     * @param row индекс строки.
+     */
+    public void setRow(Integer row) {
+        this.row = row;
+    }
+
+    /**
+     * Возвращает индекс столбца.
+     * @return индекс столбца или {@code null}, если он не передан.
+     */
+    public Integer getCol() {
+        return col;
+    }
+
+    /**
+     * Устанавливает индекс столбца.
+     * @param col индекс столбца.
+     */
+    public void setCol(Integer col) {
+        this.col = col;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.web.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Объект передачи данных (DTO) с ответным ходом ИИ.
+ * <p>
+ * Содержит только координаты ответа и новый статус игры. Если игра завершилась
+ * ходом пользователя, координаты отсутствуют в JSON.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MoveResponseDTO {
+
+    /** Строка ответного хода ИИ или {@code null}, если ИИ не ходил */
+    private Integer row;
+
+    /** Столбец ответного хода ИИ или {@code null}, если ИИ не ходил */
+    private Integer col;
+
+    /** Статус игры после хода */
+    private GameStatusDTO status;
+
+    /**
+     * Конструктор без параметров.
+     * Необходим для корректной работы десериализаторов JSON (например, Jackson).
+     */
+    public MoveResponseDTO() {}
+
+    /**
+     * Создает ответ на ход.
+     *
+     * @param row    строка ответного хода ИИ или {@code null}.
+     * @param col    столбец ответного хода ИИ или {@code null}.
+     * @param status статус игры.
+     */
+    public MoveResponseDTO(Integer row, Integer col, GameStatusDTO status) {
+        this.row = row;
+        this.col = col;
+        this.status = status;
+    }
+
+    /**
+     * Возвращает строку ответного хода ИИ.
+     * @return индекс строки или {@code null}.
+     */
+    public Integer getRow() {
+        return row;
+    }
+
+    /**
+     * Устанавливает строку ответного хода ИИ.
+     * @param row индекс строки.
+     */
+    public void setRow(Integer row) {
+        this.row = row;
+    }
+
+    /**
+     * Возвращает столбец ответного хода ИИ.
+     * @return индекс столбца или {@code null}.
+     */
+    public Integer getCol() {
+        return col;
+    }
+
+    /**
+     * Устанавливает столбец ответного хода ИИ.
+     * @param col индекс столбца.
+     */
+    public void setCol(Integer col) {
+        this.col = col;
+    }
+
+    /**
+     * Возвращает статус игры.
+     * @return статус игры.
+     */
+    public GameStatusDTO getStatus() {
+        return status;
+    }
+
+    /**
+     * Устанавливает статус игры.
+     * @param status статус игры.
+     */
+    public void setStatus(GameStatusDTO status) {
+        this.status = status;
+    }
+}
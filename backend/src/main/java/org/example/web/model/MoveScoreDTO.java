@@ -0,0 +1,83 @@
+package org.example.web.model;
+
+/**
+ * Объект передачи данных (DTO) с ходом и его оценкой Minimax в ответе анализа позиции.
+ */
+public class MoveScoreDTO {
+
+    /** Строка хода */
+    private int row;
+
+    /** Столбец хода */
+    private int col;
+
+    /** Оценка позиции после хода (положительная — в пользу ИИ) */
+    private int score;
+
+    /**
+     * Конструктор без параметров.
+     * Необходим для корректной работы десериализаторов JSON (например, Jackson).
+     */
+    public MoveScoreDTO() {}
+
+    /**
+     * Создает оценку хода.
+     *
+     * @param row   строка хода.
+     * @param col   столбец хода.
+     * @param score оценка позиции после хода.
+     */
+    public MoveScoreDTO(int row, int col, int score) {
+        this.row = row;
+        this.col = col;
+        this.score = score;
+    }
+
+    /**
+     * Возвращает строку хода.
+     * @return индекс строки.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Устанавливает строку хода.
+     * @param row индекс строки.
+     */
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    /**
+     * Возвращает столбец хода.
+     * @return индекс столбца.
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Устанавливает столбец хода.
+     * @param col индекс столбца.
+     */
+    public void setCol(int col) {
+        this.col = col;
+    }
+
+    /**
+     * Возвращает оценку позиции после хода.
+     * @return оценка Minimax.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Устанавливает оценку позиции после хода.
+     * @param score оценка Minimax.
+     */
+    public void setScore(int score) {
+        this.score = score;
+    }
+}
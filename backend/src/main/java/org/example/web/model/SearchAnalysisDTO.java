@@ -0,0 +1,149 @@
+package org.example.web.model;
+
+import java.util.List;
+
+/**
+ * Объект передачи данных (DTO) с диагностикой расчета хода ИИ ({@code GET /game/{id}/analysis}).
+ */
+public class SearchAnalysisDTO {
+
+    /** Оценки всех допустимых ходов ИИ */
+    private List<MoveScoreDTO> rootMoves;
+
+    /** Главный вариант; первый ход — ход, который выбрал бы ИИ */
+    private List<MoveScoreDTO> principalVariation;
+
+    /** Количество рассмотренных позиций */
+    private long nodes;
+
+    /** Наибольшая глубина перебора в полуходах */
+    private int depth;
+
+    /** Количество позиций, оцененных эвристикой на пределе глубины */
+    private long cutoffs;
+
+    /** Длительность перебора в микросекундах */
+    private long durationMicros;
+
+    /**
+     * Конструктор без параметров.
+     * Необходим для корректной работы десериализаторов JSON (например, Jackson).
+     */
+    public SearchAnalysisDTO() {}
+
+    /**
+     * Создает DTO анализа.
+     *
+     * @param rootMoves          оценки корневых ходов.
+     * @param principalVariation главный вариант.
+     * @param nodes              количество рассмотренных позиций.
+     * @param depth              наибольшая глубина перебора.
+     * @param cutoffs            количество отсечений по пределу глубины.
+     * @param durationMicros     длительность перебора в микросекундах.
+     */
+    public SearchAnalysisDTO(List<MoveScoreDTO> rootMoves, List<MoveScoreDTO> principalVariation,
+                             long nodes, int depth, long cutoffs, long durationMicros) {
+        this.rootMoves = rootMoves;
+        this.principalVariation = principalVariation;
+        this.nodes = nodes;
+        this.depth = depth;
+        this.cutoffs = cutoffs;
+        this.durationMicros = durationMicros;
+    }
+
+    /**
+     * Возвращает оценки корневых ходов.
+     * @return список оценок.
+     */
+    public List<MoveScoreDTO> getRootMoves() {
+        return rootMoves;
+    }
+
+    /**
+     * Устанавливает оценки корневых ходов.
+     * @param rootMoves список оценок.
+     */
+    public void setRootMoves(List<MoveScoreDTO> rootMoves) {
+        this.rootMoves = rootMoves;
+    }
+
+    /**
+     * Возвращает главный вариант.
+     * @return список ходов.
+     */
+    public List<MoveScoreDTO> getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    /**
+     * Устанавливает главный вариант.
+     * @param principalVariation список ходов.
+     */
+    public void setPrincipalVariation(List<MoveScoreDTO> principalVariation) {
+        this.principalVariation = principalVariation;
+    }
+
+    /**
+     * Возвращает количество рассмотренных позиций.
+     * @return количество позиций.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Устанавливает количество рассмотренных позиций.
+     * @param nodes количество позиций.
+     */
+    public void setNodes(long nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Возвращает наибольшую глубину перебора.
+     * @return глубина в полуходах.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Устанавливает наибольшую глубину перебора.
+     * @param depth глубина в полуходах.
+     */
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * Возвращает количество отсечений по пределу глубины.
+     * @return количество отсечений.
+     */
+    public long getCutoffs() {
+        return cutoffs;
+    }
+
+    /**
+     * Устанавливает количество отсечений по пределу глубины.
+     * @param cutoffs количество отсечений.
+     */
+    public void setCutoffs(long cutoffs) {
+        this.cutoffs = cutoffs;
+    }
+
+    /**
+     * Возвращает длительность перебора.
+     * @return длительность в микросекундах.
+     */
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    /**
+     * Устанавливает длительность перебора.
+     * @param durationMicros длительность в микросекундах.
+     */
+    public void setDurationMicros(long durationMicros) {
+        this.durationMicros = durationMicros;
+    }
+}
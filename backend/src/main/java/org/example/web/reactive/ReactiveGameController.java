@@ -0,0 +1,249 @@
+package org.example.web.reactive;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.example.domain.exception.SessionCapacityExceededException;
+import org.example.domain.exception.SessionConflictException;
+import org.example.domain.id.SessionIdGenerator;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.repository.ReactiveGameRepository;
+import org.example.domain.repository.SessionCapacity;
+import org.example.domain.service.GameService;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.mapper.GameMapperDTO;
+import org.example.web.model.GameSessionDTO;
+import org.example.web.model.MoveRequestDTO;
+import org.example.web.model.MoveResponseDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.net.InetSocketAddress;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Реактивный вариант {@link org.example.web.controller.GameController} для WebFlux/Netty.
+ * <p>
+ * Активен только в реактивном приложении (профиль {@code reactive}). Использует те же
+ * {@link GameService} и хранилище (через {@link ReactiveGameRepository}), что и сервлетный стек,
+ * но не занимает поток на время запроса: потоки цикла событий только разбирают запрос и
+ * пишут ответ, а расчет хода ИИ выполняется на ограниченном планировщике движка.
+ * Если очередь планировщика заполнена, клиент сразу получает {@code 503}.
+ * <p>
+ * Компактные и двоичные форматы поля доступны только в сервлетном стеке; здесь используется JSON.
+ */
+@RestController
+@RequestMapping("/game")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Tag(name = "Reactive Game Controller", description = "Неблокирующее управление игровыми сессиями и ходами ИИ")
+public class ReactiveGameController {
+
+    private final GameService gameService;
+    private final ReactiveGameRepository gameRepository;
+    private final SessionIdGenerator idGenerator;
+    private final AdmissionControl admissionControl;
+    private final SessionCapacity sessionCapacity;
+
+    /** Ограниченный планировщик расчета ходов ИИ */
+    private final Scheduler engineScheduler;
+
+    /**
+     * Конструктор для инициализации контроллера.
+     *
+     * @param gameService      сервис игровой логики и ходов ИИ.
+     * @param gameRepository   неблокирующий репозиторий сессий.
+     * @param idGenerator      генератор идентификаторов новых сессий.
+     * @param admissionControl контроль допуска перед расчетом хода ИИ.
+     * @param engineScheduler  ограниченный планировщик расчета ходов.
+     * @param sessionCapacity  проверка заполнения хранилища перед созданием сессии.
+     */
+    public ReactiveGameController(GameService gameService, ReactiveGameRepository gameRepository,
+                                  SessionIdGenerator idGenerator, AdmissionControl admissionControl,
+                                  Scheduler engineScheduler, SessionCapacity sessionCapacity) {
+        this.gameService = gameService;
+        this.gameRepository = gameRepository;
+        this.idGenerator = idGenerator;
+        this.admissionControl = admissionControl;
+        this.engineScheduler = engineScheduler;
+        this.sessionCapacity = sessionCapacity;
+    }
+
+    /**
+     * Создает новую игровую сессию.
+     *
+     * @param size размер игрового поля (по умолчанию 3x3).
+     * @return DTO созданной сессии с уникальным UUID.
+     */
+    @PostMapping
+    @Operation(summary = "Создать новую игру", description = "Инициализирует пустое поле и сохраняет сессию")
+    @ApiResponse(responseCode = "201", description = "Игра успешно создана")
+    @ApiResponse(responseCode = "400", description = "Размер поля меньше единицы")
+    @ApiResponse(responseCode = "422", description = "Поле слишком велико: первый ход превысит предельную стоимость расчета")
+    @ApiResponse(responseCode = "503", description = "Хранилище сессий заполнено")
+    public Mono<ResponseEntity<GameSessionDTO>> createGame(
+            @Parameter(description = "Размер квадратного поля") @RequestParam(defaultValue = "3") int size) {
+        return Mono.defer(() -> {
+            admissionControl.checkBoardSize(size);
+            sessionCapacity.checkCanCreate();
+            GameSession session = new GameSession(new GameMap(size), idGenerator);
+            return gameRepository.save(session)
+                    .then(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.CREATED).body(GameMapperDTO.toDTO(session))));
+        }).onErrorMap(ReactiveGameController::toStatus);
+    }
+
+    /**
+     * Возвращает текущее состояние игровой сессии.
+     * Версия сессии передается как ETag; на {@code If-None-Match} с той же версией WebFlux отвечает {@code 304}.
+     *
+     * @param id UUID сессии из URL.
+     * @return состояние сессии.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Получить игру", description = "Возвращает текущее состояние сессии; поддерживает условный запрос по ETag")
+    @ApiResponse(responseCode = "200", description = "Текущее состояние сессии")
+    @ApiResponse(responseCode = "304", description = "Сессия не изменилась с версии из If-None-Match")
+    @ApiResponse(responseCode = "404", description = "Сессия с таким ID не найдена")
+    public Mono<ResponseEntity<GameSessionDTO>> getGame(@PathVariable UUID id) {
+        return findSession(id)
+                .map(session -> ResponseEntity.ok()
+                        .eTag("\"" + session.getVersion() + "\"")
+                        .body(GameMapperDTO.toDTO(session)));
+    }
+
+    /**
+     * Принимает ход пользователя (всё поле), проверяет его и выполняет ответный ход ИИ.
+     *
+     * @param id             UUID сессии из URL.
+     * @param userRequestDTO состояние поля после хода пользователя.
+     * @param request        HTTP-запрос (адрес клиента для квоты ходов).
+     * @return обновленное состояние сессии.
+     */
+    @PostMapping("/{id}")
+    @Operation(summary = "Сделать ход", description = "Принимает ход игрока (X) и возвращает ответный ход ИИ (0)")
+    @ApiResponse(responseCode = "200", description = "Ход обработан")
+    @ApiResponse(responseCode = "400", description = "Нарушена целостность поля или игра уже завершена")
+    @ApiResponse(responseCode = "404", description = "Сессия с таким ID не найдена")
+    @ApiResponse(responseCode = "409", description = "Сессия была изменена параллельным запросом")
+    @ApiResponse(responseCode = "422", description = "Ход слишком дорог для расчета")
+    @ApiResponse(responseCode = "429", description = "Клиент превысил квоту ходов")
+    @ApiResponse(responseCode = "503", description = "Сервер перегружен")
+    public Mono<ResponseEntity<GameSessionDTO>> playMove(
+            @PathVariable UUID id,
+            @RequestBody GameSessionDTO userRequestDTO,
+            ServerHttpRequest request) {
+        return findSession(id).flatMap(originalSession -> {
+            userRequestDTO.setId(id);
+            GameSession userSessionState = GameMapperDTO.toDomain(userRequestDTO);
+            userSessionState.setVersion(originalSession.getVersion());
+
+            if (!gameService.validateMapIntegrity(originalSession, userSessionState.getGameMap())) {
+                return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cheat detected or invalid move"));
+            }
+            userSessionState.setStatus(gameService.checkGameStatus(userSessionState.getGameMap()));
+
+            Mono<GameSession> result;
+            if (!userSessionState.isGameOver()) {
+                result = onEngine(clientKey(request), userSessionState.getGameMap(), () -> {
+                    gameService.getNextMove(userSessionState);
+                    return userSessionState;
+                });
+            } else {
+                result = gameRepository.compareAndSave(userSessionState)
+                        .flatMap(saved -> saved
+                                ? Mono.just(userSessionState)
+                                : Mono.error(new SessionConflictException(id)));
+            }
+            return result.map(session -> ResponseEntity.ok(GameMapperDTO.toDTO(session)));
+        }).onErrorMap(ReactiveGameController::toStatus);
+    }
+
+    /**
+     * Принимает ход пользователя в одну ячейку и возвращает только ответный ход ИИ.
+     *
+     * @param id      UUID сессии из URL.
+     * @param move    координаты хода пользователя.
+     * @param request HTTP-запрос (адрес клиента для квоты ходов).
+     * @return ответный ход ИИ и новый статус игры.
+     */
+    @PostMapping("/{id}/move")
+    @Operation(summary = "Сделать ход в ячейку", description = "Принимает координаты хода игрока (X) и возвращает только ответный ход ИИ (0)")
+    @ApiResponse(responseCode = "200", description = "Ход обработан")
+    @ApiResponse(responseCode = "400", description = "Координаты не переданы, ячейка вне поля, занята или игра уже завершена")
+    @ApiResponse(responseCode = "404", description = "Сессия с таким ID не найдена")
+    @ApiResponse(responseCode = "409", description = "Сессия была изменена параллельным запросом")
+    @ApiResponse(responseCode = "422", description = "Ход слишком дорог для расчета")
+    @ApiResponse(responseCode = "429", description = "Клиент превысил квоту ходов")
+    @ApiResponse(responseCode = "503", description = "Сервер перегружен")
+    public Mono<ResponseEntity<MoveResponseDTO>> makeMove(
+            @PathVariable UUID id,
+            @RequestBody MoveRequestDTO move,
+            ServerHttpRequest request) {
+        if (move.getRow() == null || move.getCol() == null) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Move must have row and col"));
+        }
+        return findSession(id)
+                .flatMap(session -> {
+                    // Невалидный ход отклоняется до контроля допуска и не расходует квоту клиента
+                    gameService.checkMove(session, move.getRow(), move.getCol());
+                    return onEngine(clientKey(request), session.getGameMap(),
+                            () -> gameService.makeMove(session, move.getRow(), move.getCol()));
+                })
+                .map(result -> ResponseEntity.ok(GameMapperDTO.toMoveDTO(result)))
+                .onErrorMap(ReactiveGameController::toStatus);
+    }
+
+    private Mono<GameSession> findSession(UUID id) {
+        return gameRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Game not found")));
+    }
+
+    /**
+     * Выполняет расчет на планировщике движка. Допуск проверяется до постановки в очередь,
+     * а разрешение освобождается после завершения расчета (в том числе при ошибке или отмене).
+     */
+    private <T> Mono<T> onEngine(String clientKey, GameMap map, Callable<T> work) {
+        return Mono.defer(() -> {
+            AdmissionControl.Permit permit = admissionControl.admit(clientKey, map);
+            return Mono.fromCallable(work)
+                    .subscribeOn(engineScheduler)
+                    .doFinally(signal -> permit.close());
+        });
+    }
+
+    /**
+     * Преобразует ошибки игровой логики в HTTP-статусы, как в сервлетном контроллере.
+     */
+    private static Throwable toStatus(Throwable error) {
+        if (error instanceof ResponseStatusException) {
+            return error;
+        }
+        if (error instanceof IllegalArgumentException) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, error.getMessage());
+        }
+        if (error instanceof SessionConflictException) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, "Game was modified by another request");
+        }
+        if (error instanceof SessionCapacityExceededException) {
+            return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Session storage is full");
+        }
+        if (error instanceof RejectedExecutionException) {
+            return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy");
+        }
+        return error;
+    }
+
+    private static String clientKey(ServerHttpRequest request) {
+        InetSocketAddress address = request.getRemoteAddress();
+        return address == null ? "unknown" : address.getHostString();
+    }
+}
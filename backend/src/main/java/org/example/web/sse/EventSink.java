@@ -0,0 +1,27 @@
+package org.example.web.sse;
+
+import java.io.IOException;
+
+/**
+ * Получатель потока событий игры (например, SSE-соединение наблюдателя).
+ * <p>
+ * Методы вызываются из пула рассылки, но не более чем одним потоком одновременно для одного получателя.
+ */
+public interface EventSink {
+
+    /**
+     * Отправляет событие.
+     *
+     * @param id   порядковый номер события в потоке игры.
+     * @param name имя события.
+     * @param data данные события в формате JSON (общая строка для всех получателей).
+     * @throws IOException если событие не удалось отправить; получатель будет отключен.
+     *                     Поток отправки прерывается, если запись длится дольше таймаута рассылки.
+     */
+    void send(long id, String name, String data) throws IOException;
+
+    /**
+     * Завершает поток событий.
+     */
+    void close();
+}
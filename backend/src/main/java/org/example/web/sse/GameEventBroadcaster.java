@@ -0,0 +1,522 @@
+package org.example.web.sse;
+
+import org.example.domain.event.GameEventListener;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.web.codec.BoardCodec;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Рассылка событий игры наблюдателям (SSE-поток {@code /game/{id}/events}).
+ * <p>
+ * Для каждой наблюдаемой сессии ведется кольцевой буфер неизменяемых событий. Событие
+ * формируется один раз при сохранении сессии: ходы вычисляются сравнением с предыдущим
+ * состоянием, а JSON-строка события разделяется всеми наблюдателями, поэтому поле
+ * не копируется и не сериализуется для каждого из них.
+ * <p>
+ * Путь хода только дописывает событие в буфер и планирует одну задачу рассылки; отправка
+ * выполняется в пуле рассылки, и каждый наблюдатель читает буфер со своей позиции. Запись
+ * блокирует поток, поэтому пул не должен ставить задачи в очередь за зависшей записью:
+ * конфигурация использует пул без очереди, в котором зависший наблюдатель занимает только свой поток.
+ * Наблюдатель, отставший больше чем на емкость буфера, перескакивает к самому старому
+ * доступному событию и получает событие {@code skipped} с количеством пропущенных.
+ * Наблюдатель, которому не удалось отправить событие или чья отправка длится дольше
+ * {@code sendTimeout}, отключается: фоновая проверка прерывает поток, выполняющий запись,
+ * и снимает подписку, поэтому застрявшее соединение не получает новых задач. Если пул отклоняет
+ * задачу, наблюдатель не отключается — отправка повторяется при следующей проверке.
+ * Сессии без наблюдателей не отслеживаются и не стоят ничего, кроме поиска в карте.
+ */
+public class GameEventBroadcaster implements GameEventListener, AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(GameEventBroadcaster.class.getName());
+
+    /** Имя события с текущим состоянием игры, отправляемого при подписке */
+    static final String SNAPSHOT = "snapshot";
+
+    /** Имя события с новыми ходами и статусом */
+    static final String MOVE = "move";
+
+    /** Имя события о пропущенных медленным наблюдателем событиях */
+    static final String SKIPPED = "skipped";
+
+    /** Емкость кольцевого буфера событий одной сессии */
+    private final int ringCapacity;
+
+    /** Максимальное время одной отправки события наблюдателю, в наносекундах */
+    private final long sendTimeoutNanos;
+
+    /** Ограниченный пул отправки событий */
+    private final ExecutorService dispatcher;
+
+    /** Фоновая проверка зависших отправок и повтор отклоненных пулом */
+    private final ScheduledExecutorService watchdog;
+
+    /** Каналы наблюдаемых сессий */
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Создает рассылку событий.
+     *
+     * @param ringCapacity емкость кольцевого буфера событий одной сессии.
+     * @param sendTimeout  максимальное время отправки одного события; более медленный наблюдатель отключается.
+     * @param dispatcher   пул отправки событий (без очереди, чтобы зависшая запись не задерживала
+     *                     остальных наблюдателей); закрывается вместе с рассылкой.
+     * @throws IllegalArgumentException если емкость буфера или время отправки не положительны.
+     */
+    public GameEventBroadcaster(int ringCapacity, Duration sendTimeout, ExecutorService dispatcher) {
+        if (ringCapacity <= 0) {
+            throw new IllegalArgumentException("Ring capacity must be positive.");
+        }
+        if (sendTimeout.isZero() || sendTimeout.isNegative()) {
+            throw new IllegalArgumentException("Send timeout must be positive.");
+        }
+        this.ringCapacity = ringCapacity;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        this.dispatcher = dispatcher;
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-event-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        // Проверка выполняется вдвое чаще времени отправки, чтобы зависание обнаруживалось не позже 1.5 таймаута
+        long periodMillis = Math.max(1, sendTimeout.toMillis() / 2);
+        watchdog.scheduleWithFixedDelay(this::sweepQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Подписывает получателя на события сессии.
+     * Первым событием получатель получает текущее состояние игры ({@code snapshot}).
+     *
+     * @param session текущее состояние сессии.
+     * @param sink    получатель событий.
+     */
+    public void subscribe(GameSession session, EventSink sink) {
+        Subscriber subscriber = new Subscriber(sink);
+        Channel channel = channels.compute(session.getId(), (id, current) -> {
+            Channel target = current != null ? current : new Channel(id, ringCapacity);
+            target.add(subscriber, session);
+            return target;
+        });
+        schedule(channel, subscriber);
+    }
+
+    /**
+     * Отписывает получателя. Канал сессии удаляется вместе с последним получателем.
+     *
+     * @param gameId идентификатор сессии.
+     * @param sink   получатель событий.
+     */
+    public void unsubscribe(UUID gameId, EventSink sink) {
+        channels.computeIfPresent(gameId, (id, channel) -> {
+            channel.subscribers.removeIf(subscriber -> {
+                if (subscriber.sink != sink) {
+                    return false;
+                }
+                subscriber.closed = true;
+                return true;
+            });
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    /**
+     * Дописывает событие в буфер наблюдаемой сессии и планирует рассылку.
+     *
+     * @param session сохраненная сессия.
+     */
+    @Override
+    public void onSaved(GameSession session) {
+        Channel channel = channels.get(session.getId());
+        if (channel != null && channel.append(session)) {
+            requestFanOut(channel);
+        }
+    }
+
+    /**
+     * Завершает потоки наблюдателей удаленной сессии.
+     *
+     * @param id идентификатор удаленной сессии.
+     */
+    @Override
+    public void onRemoved(UUID id) {
+        Channel channel = channels.remove(id);
+        if (channel != null) {
+            channel.subscribers.forEach(this::closeQuietly);
+        }
+    }
+
+    /**
+     * Возвращает количество наблюдателей сессии.
+     *
+     * @param gameId идентификатор сессии.
+     * @return количество подписанных получателей.
+     */
+    public int getSubscriberCount(UUID gameId) {
+        Channel channel = channels.get(gameId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    /**
+     * Останавливает пул рассылки и завершает потоки всех наблюдателей.
+     */
+    @Override
+    public void close() {
+        watchdog.shutdownNow();
+        dispatcher.shutdown();
+        try {
+            if (!dispatcher.awaitTermination(10, TimeUnit.SECONDS)) {
+                dispatcher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            dispatcher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        channels.values().forEach(channel -> channel.subscribers.forEach(this::closeQuietly));
+        channels.clear();
+    }
+
+    /**
+     * Отключает наблюдателей, чья отправка длится дольше {@code sendTimeout}, и повторяет
+     * рассылки, которые отклонил пул.
+     * Вызывается фоновой проверкой; соединение закрывается потоком, выполнявшим запись,
+     * после её прерывания, чтобы проверка не ждала зависшее соединение.
+     */
+    void sweep() {
+        long now = System.nanoTime();
+        for (Channel channel : channels.values()) {
+            if (channel.fanOutRetry) {
+                channel.fanOutRetry = false;
+                requestFanOut(channel);
+            }
+            for (Subscriber subscriber : channel.subscribers) {
+                if (subscriber.expire(now, sendTimeoutNanos)) {
+                    LOGGER.log(System.Logger.Level.DEBUG, "Dropping game event subscriber: send timed out");
+                    unsubscribe(channel.gameId, subscriber.sink);
+                } else if (subscriber.retry) {
+                    subscriber.retry = false;
+                    schedule(channel, subscriber);
+                }
+            }
+        }
+    }
+
+    /**
+     * Планирует одну задачу рассылки на канал; пока она не выполнена, новые события
+     * только дописываются в буфер.
+     */
+    private void requestFanOut(Channel channel) {
+        if (channel.fanOutScheduled.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> fanOut(channel));
+            } catch (RejectedExecutionException e) {
+                // Рассылка повторится при следующей фоновой проверке
+                channel.fanOutScheduled.set(false);
+                channel.fanOutRetry = true;
+            }
+        }
+    }
+
+    private void fanOut(Channel channel) {
+        channel.fanOutScheduled.set(false);
+        for (Subscriber subscriber : channel.subscribers) {
+            schedule(channel, subscriber);
+        }
+    }
+
+    /**
+     * Планирует отправку событий получателю, если она еще не выполняется.
+     * Если в пуле нет места, отправка повторяется при следующей фоновой проверке:
+     * отказ пула — признак медленных соседей, а не этого получателя.
+     */
+    private void schedule(Channel channel, Subscriber subscriber) {
+        if (subscriber.closed || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatcher.execute(() -> drain(channel, subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+            subscriber.retry = true;
+        }
+    }
+
+    /**
+     * Отправляет получателю все события от его позиции до конца буфера.
+     * После снятия признака отправки буфер проверяется повторно, чтобы не потерять
+     * событие, дописанное во время отправки.
+     */
+    private void drain(Channel channel, Subscriber subscriber) {
+        try {
+            do {
+                deliver(channel, subscriber);
+                subscriber.draining.set(false);
+            } while (!subscriber.closed
+                    && subscriber.cursor < channel.head
+                    && subscriber.draining.compareAndSet(false, true));
+        } catch (IOException | RuntimeException e) {
+            subscriber.draining.set(false);
+            drop(channel, subscriber);
+            return;
+        }
+        if (subscriber.expired) {
+            // Отправка завершилась после истечения таймаута: подписка уже снята, осталось закрыть поток
+            closeQuietly(subscriber);
+        }
+    }
+
+    private void deliver(Channel channel, Subscriber subscriber) throws IOException {
+        if (subscriber.closed) {
+            return;
+        }
+        Event initial = subscriber.initial;
+        if (initial != null) {
+            subscriber.initial = null;
+            subscriber.send(initial.sequence, initial.name, initial.data);
+        }
+
+        long head;
+        while (!subscriber.closed && subscriber.cursor < (head = channel.head)) {
+            long oldest = head - ringCapacity;
+            if (subscriber.cursor < oldest) {
+                subscriber.send(oldest, SKIPPED, "{\"skipped\":" + (oldest - subscriber.cursor) + "}");
+                subscriber.cursor = oldest;
+            }
+
+            Event event = channel.eventAt(subscriber.cursor);
+            if (event.sequence != subscriber.cursor) {
+                // Ячейку уже перезаписал более новый ход: следующая итерация перескочит вперед
+                continue;
+            }
+            subscriber.send(event.sequence, event.name, event.data);
+            subscriber.cursor++;
+        }
+    }
+
+    private void drop(Channel channel, Subscriber subscriber) {
+        LOGGER.log(System.Logger.Level.DEBUG, "Dropping slow or disconnected game event subscriber");
+        unsubscribe(channel.gameId, subscriber.sink);
+        closeQuietly(subscriber);
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "Game event watchdog failed", e);
+        }
+    }
+
+    private void closeQuietly(Subscriber subscriber) {
+        subscriber.closed = true;
+        try {
+            subscriber.sink.close();
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to close game event subscriber", e);
+        }
+    }
+
+    /**
+     * Формирует JSON-представление события, например
+     * {@code {"version":3,"status":"PLAYING","moves":[[1,1,1],[0,2,2]],"cells":"..O.X...."}}.
+     */
+    static String render(long version, GameStatus status, List<int[]> moves, char[] cells) {
+        StringBuilder json = new StringBuilder(64 + moves.size() * 12 + cells.length);
+        json.append("{\"version\":").append(version)
+                .append(",\"status\":\"").append(status).append("\",\"moves\":[");
+        for (int i = 0; i < moves.size(); i++) {
+            int[] move = moves.get(i);
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('[').append(move[0]).append(',').append(move[1]).append(',').append(move[2]).append(']');
+        }
+        return json.append("],\"cells\":\"").append(cells).append("\"}").toString();
+    }
+
+    /** Неизменяемое событие, разделяемое всеми наблюдателями */
+    private static final class Event {
+        private final long sequence;
+        private final String name;
+        private final String data;
+
+        private Event(long sequence, String name, String data) {
+            this.sequence = sequence;
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    /** Канал наблюдаемой сессии: кольцевой буфер событий и список получателей */
+    private static final class Channel {
+
+        private final UUID gameId;
+        private final AtomicReferenceArray<Event> ring;
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean fanOutScheduled = new AtomicBoolean();
+
+        /** Признак рассылки, отклоненной переполненным пулом */
+        private volatile boolean fanOutRetry;
+
+        /** Номер следующего события; публикуется после записи события в буфер */
+        private volatile long head;
+
+        // Последнее известное состояние сессии; защищено монитором канала
+        private int[][] board;
+        private int size;
+        private GameStatus status;
+        private long version = -1;
+
+        private Channel(UUID gameId, int capacity) {
+            this.gameId = gameId;
+            this.ring = new AtomicReferenceArray<>(capacity);
+        }
+
+        /**
+         * Добавляет получателя. Начальное событие строится по более новому из двух состояний:
+         * переданного вызывающей стороной и последнего известного каналу.
+         */
+        private synchronized void add(Subscriber subscriber, GameSession session) {
+            if (session.getVersion() >= version) {
+                remember(session);
+            }
+            subscriber.cursor = head;
+            subscriber.initial = new Event(head, SNAPSHOT,
+                    render(version, status, List.of(), BoardCodec.toChars(board, size)));
+            subscribers.add(subscriber);
+        }
+
+        /**
+         * Дописывает событие с ходами, сделанными после предыдущего состояния.
+         * Устаревшие уведомления (с меньшей версией) пропускаются.
+         *
+         * @return {@code true}, если событие добавлено.
+         */
+        private synchronized boolean append(GameSession session) {
+            if (session.getVersion() < version) {
+                return false;
+            }
+
+            int[][] previous = board;
+            int previousSize = size;
+            remember(session);
+
+            List<int[]> moves = previous == null || previousSize != size
+                    ? List.of()
+                    : diff(previous, board, size);
+            long sequence = head;
+            ring.set((int) (sequence % ring.length()),
+                    new Event(sequence, MOVE, render(version, status, moves, BoardCodec.toChars(board, size))));
+            head = sequence + 1;
+            return true;
+        }
+
+        private void remember(GameSession session) {
+            GameMap map = session.getGameMap();
+            board = map.getMap();
+            size = map.getSize();
+            status = session.getStatus();
+            version = session.getVersion();
+        }
+
+        private Event eventAt(long sequence) {
+            return ring.get((int) (sequence % ring.length()));
+        }
+
+        private static List<int[]> diff(int[][] previous, int[][] current, int size) {
+            List<int[]> moves = new ArrayList<>(2);
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    if (previous[r][c] != current[r][c]) {
+                        moves.add(new int[]{r, c, current[r][c]});
+                    }
+                }
+            }
+            return moves;
+        }
+    }
+
+    /** Подписанный получатель и его позиция в буфере канала */
+    private static final class Subscriber {
+
+        private final EventSink sink;
+
+        /** Признак выполняющейся отправки; не более одной задачи отправки на получателя */
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        /** Признак отключенного получателя */
+        private volatile boolean closed;
+
+        /** Признак получателя, отключенного из-за слишком долгой отправки */
+        private volatile boolean expired;
+
+        /** Признак отправки, отклоненной переполненным пулом */
+        private volatile boolean retry;
+
+        // Поток, выполняющий отправку, и время её начала; защищены монитором получателя
+        private Thread sender;
+        private long sendStartedAt;
+
+        /** Номер следующего события для отправки; изменяется только задачей отправки */
+        private long cursor;
+
+        /** Начальное событие, еще не отправленное получателю */
+        private Event initial;
+
+        private Subscriber(EventSink sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * Отправляет событие, отмечая поток и время начала записи для фоновой проверки.
+         * Флаг прерывания, выставленный проверкой, сбрасывается после отправки,
+         * чтобы не затронуть следующую задачу потока пула.
+         */
+        private void send(long id, String name, String data) throws IOException {
+            synchronized (this) {
+                sender = Thread.currentThread();
+                sendStartedAt = System.nanoTime();
+            }
+            try {
+                sink.send(id, name, data);
+            } finally {
+                synchronized (this) {
+                    sender = null;
+                }
+                Thread.interrupted();
+            }
+        }
+
+        /**
+         * Отключает получателя, если текущая отправка длится дольше таймаута,
+         * и прерывает поток, выполняющий запись.
+         *
+         * @return {@code true}, если получатель отключен.
+         */
+        private synchronized boolean expire(long now, long timeoutNanos) {
+            if (sender == null || now - sendStartedAt < timeoutNanos) {
+                return false;
+            }
+            expired = true;
+            closed = true;
+            sender.interrupt();
+            return true;
+        }
+    }
+}
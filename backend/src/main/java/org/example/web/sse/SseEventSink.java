@@ -0,0 +1,32 @@
+package org.example.web.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Адаптер {@link EventSink} для SSE-соединения Spring MVC.
+ */
+public class SseEventSink implements EventSink {
+
+    private final SseEmitter emitter;
+
+    /**
+     * Создает адаптер.
+     *
+     * @param emitter SSE-соединение наблюдателя.
+     */
+    public SseEventSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(long id, String name, String data) throws IOException {
+        emitter.send(SseEmitter.event().id(Long.toString(id)).name(name).data(data));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
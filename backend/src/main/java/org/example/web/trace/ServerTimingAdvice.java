@@ -0,0 +1,42 @@
+package org.example.web.trace;
+
+import org.example.domain.trace.RequestTimings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Добавляет к ответам контроллеров заголовок {@code Server-Timing} с разбивкой времени запроса
+ * ({@link RequestTimings}), собранной к моменту записи тела ответа.
+ * <p>
+ * Заголовок виден в инструментах разработчика браузера и в клиентских журналах; если измерение
+ * выключено или запрос не измерялся, ответ не изменяется.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    /** Заголовок с разбивкой времени */
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings != null) {
+            response.getHeaders().add(SERVER_TIMING_HEADER, timings.toServerTiming());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.web.trace;
+
+import org.example.domain.trace.RequestTimings;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.Map;
+
+/**
+ * Эндпоинт actuator {@code /actuator/timings} для включения и выключения разбивки времени
+ * запросов без перезапуска: {@code GET} возвращает состояние, {@code POST {"enabled": false}} выключает.
+ * <p>
+ * Операция записи не защищена сама по себе, поэтому эндпоинт по умолчанию не публикуется по HTTP
+ * и должен быть доступен только через отдельный порт управления или за аутентификацией.
+ */
+@Endpoint(id = "timings")
+public class TimingsEndpoint {
+
+    /**
+     * Возвращает состояние измерения.
+     * @return {@code {"enabled": true|false}}.
+     */
+    @ReadOperation
+    public Map<String, Boolean> state() {
+        return Map.of("enabled", RequestTimings.isEnabled());
+    }
+
+    /**
+     * Включает или выключает измерение для последующих запросов.
+     *
+     * @param enabled новое состояние.
+     * @return новое состояние.
+     */
+    @WriteOperation
+    public Map<String, Boolean> update(boolean enabled) {
+        RequestTimings.setEnabled(enabled);
+        return state();
+    }
+}
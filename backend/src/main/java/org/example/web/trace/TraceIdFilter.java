@@ -0,0 +1,79 @@
+package org.example.web.trace;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.domain.trace.RequestTimings;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Назначает запросу идентификатор трассировки и начинает разбивку времени его обработки.
+ * <p>
+ * Идентификатор берется из W3C-заголовка {@code traceparent} или {@code X-Trace-Id}, если клиент
+ * (или прокси) его передал, иначе генерируется; он возвращается в заголовке {@code X-Trace-Id},
+ * чтобы клиент мог сопоставить ответ с журналами и заголовком {@code Server-Timing}.
+ * <p>
+ * Фильтр выполняется первым, поэтому общее время в {@code Server-Timing} включает
+ * остальные фильтры и разбор тела запроса.
+ */
+public class TraceIdFilter extends OncePerRequestFilter implements Ordered {
+
+    /** Заголовок с идентификатором трассировки в запросе и ответе */
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private static final String TRACEPARENT_HEADER = "traceparent";
+
+    /** {@code traceparent}: версия, 32 hex идентификатора трассировки, 16 hex родителя, флаги */
+    private static final Pattern TRACEPARENT = Pattern.compile("[0-9a-f]{2}-([0-9a-f]{32})-[0-9a-f]{16}-[0-9a-f]{2}");
+
+    /** Допустимый идентификатор из {@code X-Trace-Id} (не попадает в ответ в произвольном виде) */
+    private static final Pattern TRACE_ID = Pattern.compile("[0-9A-Za-z-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String traceId = resolveTraceId(request);
+        response.setHeader(TRACE_ID_HEADER, traceId);
+
+        RequestTimings.begin(traceId);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTimings.end();
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Извлекает идентификатор трассировки из заголовков или генерирует новый.
+     *
+     * @param request HTTP-запрос.
+     * @return идентификатор трассировки.
+     */
+    static String resolveTraceId(HttpServletRequest request) {
+        String traceparent = request.getHeader(TRACEPARENT_HEADER);
+        if (traceparent != null) {
+            Matcher matcher = TRACEPARENT.matcher(traceparent.trim());
+            if (matcher.matches()) {
+                return matcher.group(1);
+            }
+        }
+        String traceId = request.getHeader(TRACE_ID_HEADER);
+        if (traceId != null && TRACE_ID.matcher(traceId).matches()) {
+            return traceId;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,270 @@
+package org.example.web.websocket;
+
+import org.example.domain.exception.SessionConflictException;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.MoveResult;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.service.GameService;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.admission.AdmissionRejectedException;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Обработчик WebSocket-канала игры, привязанного к сессии по адресу {@code /game/{id}/ws}.
+ * <p>
+ * Вместо JSON-документов канал обменивается компактными текстовыми кадрами:
+ * <ul>
+ *     <li>клиент → сервер: {@code row,col} — ход пользователя;</li>
+ *     <li>сервер → клиент: {@code row,col,STATUS} — ответный ход ИИ и статус игры
+ *     ({@code -1,-1,STATUS}, если игра завершилась ходом пользователя);</li>
+ *     <li>сервер → клиент: {@code ERROR,code,message} — ход отклонен
+ *     (коды {@code 400}, {@code 409}, {@code 422}, {@code 429}, {@code 503}, как у REST API).</li>
+ * </ul>
+ * Ход проходит тот же {@link AdmissionControl} и обрабатывается той же логикой
+ * {@link GameService#makeMove}, что и REST-запрос, но
+ * в отдельном пуле потоков: поток ввода-вывода не ждет расчета ИИ, а ответ отправляется
+ * клиенту, когда он готов. Одновременно обрабатывается не более одного хода на соединение.
+ */
+public class GameWebSocketHandler extends TextWebSocketHandler implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(GameWebSocketHandler.class.getName());
+
+    /** Код закрытия соединения, если сессия игры не найдена */
+    static final CloseStatus GAME_NOT_FOUND = new CloseStatus(4404, "Game not found");
+
+    /** Время на отправку одного кадра, после которого медленный клиент отключается */
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+
+    /** Максимальный объем неотправленных кадров на соединение */
+    private static final int SEND_BUFFER_LIMIT_BYTES = 64 * 1024;
+
+    private final GameService gameService;
+    private final GameRepository gameRepository;
+    private final AdmissionControl admissionControl;
+
+    /** Пул, в котором рассчитываются ответные ходы ИИ */
+    private final ExecutorService moveExecutor;
+
+    /** Открытые соединения по идентификатору WebSocket-сессии */
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    /**
+     * Создает обработчик игрового канала.
+     *
+     * @param gameService    сервис игровой логики.
+     * @param gameRepository   репозиторий игровых сессий.
+     * @param admissionControl контроль допуска перед расчетом хода.
+     * @param moveExecutor     пул для расчета ходов; закрывается вместе с обработчиком.
+     */
+    public GameWebSocketHandler(GameService gameService, GameRepository gameRepository,
+                                AdmissionControl admissionControl, ExecutorService moveExecutor) {
+        this.gameService = gameService;
+        this.gameRepository = gameRepository;
+        this.admissionControl = admissionControl;
+        this.moveExecutor = moveExecutor;
+    }
+
+    /**
+     * Привязывает соединение к игровой сессии из адреса.
+     * Если идентификатор некорректен или игра не найдена, соединение закрывается.
+     */
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Optional<UUID> gameId = parseGameId(session.getUri());
+        if (gameId.isEmpty() || gameRepository.findById(gameId.get()).isEmpty()) {
+            session.close(GAME_NOT_FOUND);
+            return;
+        }
+
+        WebSocketSession concurrent = new ConcurrentWebSocketSessionDecorator(
+                session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT_BYTES);
+        connections.put(session.getId(), new Connection(gameId.get(), clientKey(session), concurrent));
+    }
+
+    /**
+     * Разбирает кадр хода и передает его в пул расчета ходов.
+     */
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+
+        int[] cell = parseMove(message.getPayload());
+        if (cell == null) {
+            send(connection, error(400, "Expected frame 'row,col'"));
+            return;
+        }
+        if (!connection.busy.compareAndSet(false, true)) {
+            send(connection, error(409, "Previous move is still in progress"));
+            return;
+        }
+
+        try {
+            moveExecutor.execute(() -> {
+                try {
+                    send(connection, play(connection, cell[0], cell[1]));
+                } finally {
+                    connection.busy.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            connection.busy.set(false);
+            send(connection, error(503, "Server is busy"));
+        }
+    }
+
+    /**
+     * Освобождает состояние закрытого соединения.
+     */
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        connections.remove(session.getId());
+    }
+
+    /**
+     * Останавливает пул расчета ходов, дожидаясь завершения начатых ходов.
+     */
+    @Override
+    public void close() {
+        moveExecutor.shutdown();
+        try {
+            if (!moveExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                moveExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            moveExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Возвращает количество открытых игровых соединений.
+     * @return количество соединений.
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Выполняет ход и формирует кадр ответа.
+     * Сессия перечитывается перед каждым ходом, чтобы учесть изменения, сделанные через REST API.
+     */
+    private String play(Connection connection, int row, int col) {
+        Optional<GameSession> session = gameRepository.findById(connection.gameId);
+        if (session.isEmpty()) {
+            return error(404, "Game not found");
+        }
+
+        try {
+            // Невалидный ход отклоняется до контроля допуска и не расходует квоту клиента
+            gameService.checkMove(session.get(), row, col);
+            try (AdmissionControl.Permit permit = admissionControl.admit(connection.clientKey, session.get().getGameMap())) {
+                MoveResult result = gameService.makeMove(session.get(), row, col);
+                return result.getRow() + "," + result.getCol() + "," + result.getStatus().name();
+            }
+        } catch (AdmissionRejectedException e) {
+            return error(e.getStatusCode().value(), e.getReason());
+        } catch (IllegalArgumentException e) {
+            return error(400, e.getMessage());
+        } catch (SessionConflictException e) {
+            return error(409, "Game was modified by another request");
+        }
+    }
+
+    private void send(Connection connection, String frame) {
+        try {
+            connection.session.sendMessage(new TextMessage(frame));
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to send game frame, closing connection", e);
+            closeQuietly(connection.session);
+        }
+    }
+
+    private static void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to close game connection", e);
+        }
+    }
+
+    private static String clientKey(WebSocketSession session) {
+        InetSocketAddress address = session.getRemoteAddress();
+        return address == null ? "unknown" : address.getHostString();
+    }
+
+    private static String error(int code, String message) {
+        return "ERROR," + code + "," + message;
+    }
+
+    /**
+     * Извлекает идентификатор игры из адреса вида {@code /game/{id}/ws}.
+     */
+    static Optional<UUID> parseGameId(URI uri) {
+        if (uri == null || uri.getPath() == null) {
+            return Optional.empty();
+        }
+        String path = uri.getPath();
+        int end = path.lastIndexOf("/ws");
+        int start = path.lastIndexOf('/', end - 1);
+        if (end <= 0 || start < 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(path.substring(start + 1, end)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Разбирает кадр {@code row,col} без регулярных выражений и промежуточных строк.
+     *
+     * @return {@code [row, col]} или {@code null}, если кадр некорректен.
+     */
+    static int[] parseMove(String frame) {
+        int comma = frame.indexOf(',');
+        if (comma <= 0 || comma == frame.length() - 1) {
+            return null;
+        }
+        try {
+            int row = Integer.parseInt(frame, 0, comma, 10);
+            int col = Integer.parseInt(frame, comma + 1, frame.length(), 10);
+            return new int[]{row, col};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /** Состояние одного игрового соединения */
+    private static final class Connection {
+        private final UUID gameId;
+        private final String clientKey;
+        private final WebSocketSession session;
+        private final AtomicBoolean busy = new AtomicBoolean();
+
+        private Connection(UUID gameId, String clientKey, WebSocketSession session) {
+            this.gameId = gameId;
+            this.clientKey = clientKey;
+            this.session = session;
+        }
+    }
+}
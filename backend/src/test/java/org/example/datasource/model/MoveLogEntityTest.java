@@ -0,0 +1,43 @@
+package org.example.datasource.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveLogEntityTest {
+
+    @Test
+    void append_ShouldKeepPreviousVersionUnchanged() {
+        MoveLogEntity empty = new MoveLogEntity(UUID.randomUUID(), 3, GameStatusEntity.PLAYING, 0);
+
+        MoveLogEntity oneMove = empty.append(MoveLogEntity.pack(1, 2, 3, 1));
+
+        assertEquals(0, empty.getMoveCount());
+        assertEquals(1, oneMove.getMoveCount());
+        assertArrayEquals(new int[]{1, 2, 1}, oneMove.moveAt(0));
+        assertTrue(oneMove.isContinuationOf(empty));
+    }
+
+    @Test
+    void replay_ShouldRebuildBoardBeyondInitialCapacity() {
+        MoveLogEntity log = new MoveLogEntity(UUID.randomUUID(), 4, GameStatusEntity.PLAYING, 0);
+        for (int cell = 0; cell < 16; cell++) {
+            log = log.append(MoveLogEntity.pack(cell / 4, cell % 4, 4, cell % 2 + 1));
+        }
+
+        int[][] board = log.replay();
+
+        assertEquals(16, log.getMoveCount());
+        assertEquals(1, board[0][0]);
+        assertEquals(2, board[3][3]);
+    }
+
+    @Test
+    void moveAt_ShouldRejectIndexOutOfRange() {
+        MoveLogEntity log = new MoveLogEntity(UUID.randomUUID(), 3, GameStatusEntity.PLAYING, 0);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> log.moveAt(0));
+    }
+}
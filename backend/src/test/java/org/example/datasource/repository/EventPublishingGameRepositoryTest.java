@@ -0,0 +1,69 @@
+package org.example.datasource.repository;
+
+import org.example.datasource.storage.GameStorage;
+import org.example.domain.event.GameEventListener;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class EventPublishingGameRepositoryTest {
+
+    private GameEventListener listener;
+    private EventPublishingGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        listener = Mockito.mock(GameEventListener.class);
+        repository = new EventPublishingGameRepository(new GameRepositoryImpl(new GameStorage()), listener);
+    }
+
+    @Test
+    void compareAndSave_ShouldNotifyListener_WhenSaved() {
+        GameSession session = new GameSession(new GameMap(3));
+
+        assertTrue(repository.compareAndSave(session));
+
+        verify(listener).onSaved(session);
+    }
+
+    @Test
+    void compareAndSave_ShouldNotNotifyListener_WhenVersionConflicts() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.compareAndSave(session);
+        Mockito.clearInvocations(listener);
+
+        GameSession stale = new GameSession(session.getId(), new GameMap(3), session.getStatus(), 0L);
+
+        assertFalse(repository.compareAndSave(stale));
+        verify(listener, never()).onSaved(any());
+    }
+
+    @Test
+    void save_ShouldStoreSession_WhenListenerFails() {
+        GameSession session = new GameSession(new GameMap(3));
+        doThrow(new IllegalStateException("boom")).when(listener).onSaved(any());
+
+        repository.save(session);
+
+        assertTrue(repository.findById(session.getId()).isPresent());
+    }
+
+    @Test
+    void removeById_ShouldNotifyListener() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        repository.removeById(session.getId());
+
+        assertTrue(repository.findById(session.getId()).isEmpty());
+        verify(listener).onRemoved(session.getId());
+    }
+}
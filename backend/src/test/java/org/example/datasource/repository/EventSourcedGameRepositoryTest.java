@@ -0,0 +1,139 @@
+package org.example.datasource.repository;
+
+import org.example.datasource.storage.MoveLogStorage;
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.SessionPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSourcedGameRepositoryTest {
+
+    private MoveLogStorage storage;
+    private EventSourcedGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        storage = new MoveLogStorage();
+        repository = new EventSourcedGameRepository(storage, 2);
+    }
+
+    @Test
+    void save_ShouldAppendOnlyNewMoves() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        session.getGameMap().setCellValue(1, 1, CellType.CROSS);
+        repository.save(session);
+        session.getGameMap().setCellValue(0, 0, CellType.ZERO);
+        repository.save(session);
+
+        assertEquals(2, storage.findById(session.getId()).getMoveCount());
+        List<int[]> moves = repository.findMoves(session.getId());
+        assertArrayEquals(new int[]{1, 1, CellType.CROSS.getValue()}, moves.get(0));
+        assertArrayEquals(new int[]{0, 0, CellType.ZERO.getValue()}, moves.get(1));
+    }
+
+    @Test
+    void save_ShouldLogPlayerMoveBeforeAiReply_WhenSavedTogether() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        // Ответ ИИ (0) стоит раньше хода игрока (X) при обходе поля по строкам
+        session.getGameMap().setCellValue(2, 2, CellType.CROSS);
+        session.getGameMap().setCellValue(0, 1, CellType.ZERO);
+        assertTrue(repository.compareAndSave(session));
+
+        List<int[]> moves = repository.findMoves(session.getId());
+        assertEquals(2, moves.size());
+        assertArrayEquals(new int[]{2, 2, CellType.CROSS.getValue()}, moves.get(0));
+        assertArrayEquals(new int[]{0, 1, CellType.ZERO.getValue()}, moves.get(1));
+    }
+
+    @Test
+    void findById_ShouldRebuildBoardAndStatus() {
+        GameSession session = new GameSession(new GameMap(3));
+        session.getGameMap().setCellValue(2, 1, CellType.CROSS);
+        session.setStatus(GameStatus.DRAW);
+        repository.save(session);
+
+        GameSession found = repository.findById(session.getId()).orElseThrow();
+
+        assertEquals(CellType.CROSS.getValue(), found.getGameMap().getMap()[2][1]);
+        assertEquals(GameStatus.DRAW, found.getStatus());
+    }
+
+    @Test
+    void findById_ShouldReturnIndependentCopyOfCachedBoard() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        GameSession first = repository.findById(session.getId()).orElseThrow();
+        first.getGameMap().setCellValue(0, 0, CellType.CROSS);
+        GameSession second = repository.findById(session.getId()).orElseThrow();
+
+        assertEquals(CellType.EMPTY.getValue(), second.getGameMap().getMap()[0][0]);
+    }
+
+    @Test
+    void save_ShouldRebuildLog_WhenOccupiedCellChanges() {
+        GameSession session = new GameSession(new GameMap(3));
+        session.getGameMap().setCellValue(0, 0, CellType.CROSS);
+        repository.save(session);
+
+        session.getGameMap().setCellValue(0, 0, CellType.ZERO);
+        repository.save(session);
+
+        assertEquals(CellType.ZERO.getValue(), repository.findById(session.getId()).orElseThrow().getGameMap().getMap()[0][0]);
+        assertEquals(1, storage.findById(session.getId()).getMoveCount());
+    }
+
+    @Test
+    void compareAndSave_ShouldRejectStaleVersion() {
+        GameSession session = new GameSession(new GameMap(3));
+        assertTrue(repository.compareAndSave(session));
+
+        GameSession stale = new GameSession(session.getId(), new GameMap(3), GameStatus.PLAYING, 0);
+        stale.getGameMap().setCellValue(0, 0, CellType.CROSS);
+
+        assertFalse(repository.compareAndSave(stale));
+        assertEquals(0, storage.findById(session.getId()).getMoveCount());
+        assertEquals(1, repository.findById(session.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void findPage_ShouldFilterByStatusAndReturnCursor() {
+        for (int i = 0; i < 3; i++) {
+            repository.save(new GameSession(new GameMap(3)));
+        }
+        GameSession finished = new GameSession(UUID.randomUUID(), new GameMap(3), GameStatus.CROSS_WIN);
+        repository.save(finished);
+
+        SessionPage playing = repository.findPage(null, 2, GameStatus.PLAYING);
+        SessionPage rest = repository.findPage(playing.getNextCursor(), 2, GameStatus.PLAYING);
+
+        assertEquals(2, playing.getItems().size());
+        assertTrue(playing.hasNext());
+        assertEquals(1, rest.getItems().size());
+        assertFalse(rest.hasNext());
+        assertEquals(1, repository.streamByStatus(GameStatus.CROSS_WIN).count());
+    }
+
+    @Test
+    void removeById_ShouldDeleteLog() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        repository.removeById(session.getId());
+
+        assertTrue(repository.findById(session.getId()).isEmpty());
+        assertEquals(0, repository.stream().count());
+    }
+}
@@ -4,17 +4,21 @@ import org.example.datasource.model.GameMapEntity;
 import org.example.datasource.model.GameSessionEntity;
 import org.example.datasource.model.GameStatusEntity;
 import org.example.datasource.storage.GameStorage;
+import org.example.domain.model.GameMap;
 import org.example.domain.model.GameSession;
 import org.example.domain.model.GameStatus;
+import org.example.domain.model.SessionPage;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,9 +29,34 @@ class GameRepositoryImplTest {
     @Mock
     private GameStorage gameStorage;
 
+    @Mock
+    private DataSourceObserver observer;
+
     @InjectMocks
     private GameRepositoryImpl repository;
 
+    @Test
+    void findById_ShouldReportStorageAndMappingDurations() {
+        UUID id = UUID.randomUUID();
+        when(gameStorage.findById(id)).thenReturn(new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING));
+
+        repository.findById(id);
+
+        verify(observer).onStorage(eq(DataSourceObserver.StorageOperation.FIND_BY_ID), anyLong());
+        verify(observer).onMapping(eq(DataSourceObserver.MappingDirection.TO_DOMAIN), anyLong());
+    }
+
+    @Test
+    void compareAndSave_ShouldReportStorageAndMappingDurations() {
+        GameSession session = new GameSession(UUID.randomUUID(), new GameMap(3), GameStatus.PLAYING);
+        when(gameStorage.compareAndSave(any(), eq(0L))).thenReturn(true);
+
+        repository.compareAndSave(session);
+
+        verify(observer).onMapping(eq(DataSourceObserver.MappingDirection.TO_ENTITY), anyLong());
+        verify(observer).onStorage(eq(DataSourceObserver.StorageOperation.COMPARE_AND_SAVE), anyLong());
+    }
+
     @Test
     void findById_ShouldReturnEmptyOptional_WhenStorageReturnsNull() {
         UUID id = UUID.randomUUID();
@@ -49,6 +78,30 @@ class GameRepositoryImplTest {
         verify(gameStorage).save(argThat(entity -> entity.getId().equals(id)));
     }
 
+    @Test
+    void compareAndSave_ShouldIncrementSessionVersion_WhenStorageAccepts() {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, null, GameStatus.PLAYING, 3);
+        when(gameStorage.compareAndSave(any(GameSessionEntity.class), eq(3L))).thenAnswer(invocation -> {
+            invocation.<GameSessionEntity>getArgument(0).setVersion(4);
+            return true;
+        });
+
+        assertTrue(repository.compareAndSave(session));
+
+        assertEquals(4, session.getVersion());
+    }
+
+    @Test
+    void compareAndSave_ShouldKeepSessionVersion_WhenStorageRejects() {
+        GameSession session = new GameSession(UUID.randomUUID(), null, GameStatus.PLAYING, 3);
+        when(gameStorage.compareAndSave(any(GameSessionEntity.class), eq(3L))).thenReturn(false);
+
+        assertFalse(repository.compareAndSave(session));
+
+        assertEquals(3, session.getVersion());
+    }
+
     @Test
     void removeById_ShouldCallStorageRemove() {
         UUID id = UUID.randomUUID();
@@ -86,4 +139,47 @@ class GameRepositoryImplTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
+
+    @Test
+    void findPage_ShouldReturnCursor_WhenMoreEntitiesExist() {
+        GameSessionEntity first = new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING);
+        GameSessionEntity second = new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING);
+        when(gameStorage.findPage(null, 2, GameStatusEntity.PLAYING)).thenReturn(List.of(first, second));
+
+        SessionPage page = repository.findPage(null, 1, GameStatus.PLAYING);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(first.getId(), page.getItems().get(0).getId());
+        assertEquals(first.getId(), page.getNextCursor());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    void findPage_ShouldReturnNoCursor_OnLastPage() {
+        UUID cursor = UUID.randomUUID();
+        GameSessionEntity last = new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.DRAW);
+        when(gameStorage.findPage(cursor, 3, null)).thenReturn(List.of(last));
+
+        SessionPage page = repository.findPage(cursor, 2, null);
+
+        assertEquals(1, page.getItems().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void findPage_ShouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> repository.findPage(null, 0, null));
+    }
+
+    @Test
+    void streamByStatus_ShouldConvertOnlyMatchingEntities() {
+        GameSessionEntity playing = new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING);
+        GameSessionEntity draw = new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.DRAW);
+        when(gameStorage.stream()).thenReturn(Stream.of(playing, draw));
+
+        List<GameSession> result = repository.streamByStatus(GameStatus.DRAW).toList();
+
+        assertEquals(1, result.size());
+        assertEquals(draw.getId(), result.get(0).getId());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package org.example.datasource.repository;
+
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveGameRepositoryAdapterTest {
+
+    private GameRepository delegate;
+    private ReactiveGameRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(GameRepository.class);
+        adapter = new ReactiveGameRepositoryAdapter(delegate, Schedulers.immediate());
+    }
+
+    @Test
+    void save_ShouldNotTouchDelegate_UntilSubscribed() {
+        GameSession session = new GameSession(UUID.randomUUID(), new GameMap(3), GameStatus.PLAYING);
+
+        Mono<Void> mono = adapter.save(session);
+        Mockito.verifyNoInteractions(delegate);
+
+        mono.block();
+        Mockito.verify(delegate).save(session);
+    }
+
+    @Test
+    void findById_ShouldBeEmpty_WhenSessionDoesNotExist() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        assertThat(adapter.findById(id).blockOptional()).isEmpty();
+    }
+
+    @Test
+    void compareAndSave_ShouldPropagateDelegateResult() {
+        GameSession session = new GameSession(UUID.randomUUID(), new GameMap(3), GameStatus.PLAYING);
+        Mockito.when(delegate.compareAndSave(session)).thenReturn(false);
+
+        assertThat(adapter.compareAndSave(session).block()).isFalse();
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.datasource.repository;
+
+import org.example.datasource.storage.GameStorage;
+import org.example.datasource.storage.MoveLogStorage;
+import org.example.domain.event.GameEventListener;
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.repository.GameRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+
+class SessionExpiryTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T12:00:00Z");
+    private static final UUID OLD = TimeOrderedSessionIdGenerator.lowerBound(NOW.minus(Duration.ofHours(3)));
+    private static final UUID FRESH = TimeOrderedSessionIdGenerator.lowerBound(NOW.minus(Duration.ofMinutes(30)));
+
+    @Test
+    void expireNow_ShouldRemoveSessionsOlderThanTtl() {
+        GameStorage storage = new GameStorage(4);
+        GameRepository repository = new GameRepositoryImpl(storage);
+        repository.save(new GameSession(OLD, new GameMap(3), GameStatus.PLAYING));
+        repository.save(new GameSession(FRESH, new GameMap(3), GameStatus.PLAYING));
+        UUID random = UUID.randomUUID();
+        repository.save(new GameSession(random, new GameMap(3), GameStatus.PLAYING));
+
+        try (SessionExpiry expiry = newExpiry(repository)) {
+            assertThat(expiry.expireNow()).isEqualTo(1);
+            assertThat(expiry.getExpirationCount()).isEqualTo(1);
+        }
+
+        assertThat(storage.findById(OLD)).isNull();
+        assertThat(storage.findById(FRESH)).isNotNull();
+        assertThat(storage.findById(random)).isNotNull();
+    }
+
+    @Test
+    void expireNow_ShouldDropPendingWritesAndNotifyListener_WhenWriteBehindIsEnabled() {
+        GameStorage storage = new GameStorage(4);
+        WriteBehindGameRepository writeBehind = new WriteBehindGameRepository(
+                new GameRepositoryImpl(storage), 1_000, Duration.ofHours(1));
+        GameEventListener listener = Mockito.mock(GameEventListener.class);
+        GameRepository repository = new EventPublishingGameRepository(writeBehind, listener);
+        repository.save(new GameSession(FRESH, new GameMap(3), GameStatus.PLAYING));
+        repository.save(new GameSession(OLD, new GameMap(3), GameStatus.PLAYING));
+
+        try (SessionExpiry expiry = newExpiry(repository)) {
+            assertThat(expiry.expireNow()).isEqualTo(1);
+        }
+        writeBehind.close();
+
+        assertThat(storage.findById(OLD)).isNull();
+        assertThat(storage.findById(FRESH)).isNotNull();
+        Mockito.verify(listener).onRemoved(OLD);
+        Mockito.verify(listener, Mockito.never()).onRemoved(FRESH);
+        Mockito.verify(listener, Mockito.times(2)).onSaved(any());
+    }
+
+    @Test
+    void expireNow_ShouldRemoveMoveLogs_WhenRepositoryIsEventSourced() {
+        GameRepository repository = new EventSourcedGameRepository(new MoveLogStorage(), 16);
+        repository.save(new GameSession(OLD, new GameMap(3), GameStatus.PLAYING));
+        repository.save(new GameSession(FRESH, new GameMap(3), GameStatus.PLAYING));
+
+        try (SessionExpiry expiry = newExpiry(repository)) {
+            assertThat(expiry.expireNow()).isEqualTo(1);
+        }
+
+        assertThat(repository.findById(OLD)).isEmpty();
+        assertThat(repository.findById(FRESH)).isPresent();
+    }
+
+    @Test
+    void expireNow_ShouldRemoveSessionsInChunks_WhenManySessionsExpired() {
+        GameStorage storage = new GameStorage(4);
+        GameRepository repository = Mockito.spy(new GameRepositoryImpl(storage));
+        int count = SessionExpiry.CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < count; i++) {
+            UUID id = TimeOrderedSessionIdGenerator.lowerBound(NOW.minus(Duration.ofHours(3)).plusMillis(i));
+            repository.save(new GameSession(id, new GameMap(3), GameStatus.PLAYING));
+        }
+        repository.save(new GameSession(FRESH, new GameMap(3), GameStatus.PLAYING));
+
+        try (SessionExpiry expiry = newExpiry(repository)) {
+            assertThat(expiry.expireNow()).isEqualTo(count);
+        }
+
+        assertThat(storage.findById(FRESH)).isNotNull();
+        assertThat(storage.stream().count()).isEqualTo(1);
+        // Сессии не восстанавливаются ради идентификаторов
+        Mockito.verify(repository, Mockito.never()).streamCreatedBetween(any(), any());
+    }
+
+    @Test
+    void constructor_ShouldReject_WhenTtlIsTooShort() {
+        GameRepository repository = new GameRepositoryImpl(new GameStorage());
+
+        assertThatThrownBy(() -> new SessionExpiry(repository, Duration.ZERO, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SessionExpiry(repository, Duration.ofMinutes(5), Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SessionExpiry newExpiry(GameRepository repository) {
+        return new SessionExpiry(repository, Duration.ofHours(1), Duration.ofHours(1), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+}
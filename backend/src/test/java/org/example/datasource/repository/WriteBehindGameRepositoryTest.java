@@ -0,0 +1,188 @@
+package org.example.datasource.repository;
+
+import org.example.datasource.storage.GameStorage;
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.repository.GameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+class WriteBehindGameRepositoryTest {
+
+    private GameRepository delegate;
+    private WriteBehindGameRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.spy(new GameRepositoryImpl(new GameStorage()));
+        repository = new WriteBehindGameRepository(delegate, 100, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void findById_ShouldReturnBufferedSession_BeforeFlush() {
+        GameSession session = new GameSession(new GameMap(3));
+        session.getGameMap().setCellValue(0, 0, CellType.CROSS);
+
+        repository.save(session);
+
+        assertTrue(delegate.findById(session.getId()).isEmpty());
+        Optional<GameSession> found = repository.findById(session.getId());
+        assertTrue(found.isPresent());
+        assertEquals(CellType.CROSS.getValue(), found.get().getGameMap().getMap()[0][0]);
+    }
+
+    @Test
+    void save_ShouldNotBeAffectedByLaterMutationOfSession() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        session.getGameMap().setCellValue(1, 1, CellType.ZERO);
+
+        assertEquals(CellType.EMPTY.getValue(), repository.findById(session.getId()).orElseThrow().getGameMap().getMap()[1][1]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_ShouldCoalesceRepeatedSavesIntoSingleWrite() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+        session.setStatus(GameStatus.DRAW);
+        repository.save(session);
+        repository.save(session);
+
+        repository.flush();
+
+        ArgumentCaptor<Collection<GameSession>> batch = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(delegate, Mockito.times(1)).saveAll(batch.capture());
+        assertEquals(1, batch.getValue().size());
+        assertEquals(GameStatus.DRAW, delegate.findById(session.getId()).orElseThrow().getStatus());
+        assertEquals(0, repository.pendingCount());
+    }
+
+    @Test
+    void save_ShouldFlushInBackground_WhenBatchIsFull() throws Exception {
+        repository.close();
+        repository = new WriteBehindGameRepository(delegate, 2, Duration.ofHours(1));
+        GameSession first = new GameSession(new GameMap(3));
+        GameSession second = new GameSession(new GameMap(3));
+
+        repository.save(first);
+        repository.save(second);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (repository.pendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(delegate.findById(first.getId()).isPresent());
+        assertTrue(delegate.findById(second.getId()).isPresent());
+    }
+
+    @Test
+    void compareAndSave_ShouldRejectStaleVersion_WhileSessionIsBuffered() {
+        GameSession session = new GameSession(new GameMap(3));
+        assertTrue(repository.compareAndSave(session));
+
+        GameSession stale = new GameSession(session.getId(), new GameMap(3), GameStatus.PLAYING, 0);
+
+        assertFalse(repository.compareAndSave(stale));
+        assertEquals(1, repository.findById(session.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void compareAndSave_ShouldUseDelegateVersion_AfterFlush() {
+        GameSession session = new GameSession(new GameMap(3));
+        assertTrue(repository.compareAndSave(session));
+        repository.flush();
+
+        assertTrue(repository.compareAndSave(session));
+        assertEquals(2, session.getVersion());
+    }
+
+    @Test
+    void compareAndSave_ShouldReadDelegateOutsideMapLock() throws Exception {
+        GameSession session = new GameSession(new GameMap(3));
+        delegate.save(session);
+
+        // Пока основной репозиторий читает версию, другой поток сохраняет ту же сессию
+        GameSession concurrent = new GameSession(session.getId(), new GameMap(3), GameStatus.PLAYING, 0);
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture<Boolean> other = new CompletableFuture<>();
+        Mockito.doAnswer(invocation -> {
+            if (started.compareAndSet(false, true)) {
+                other.complete(CompletableFuture.supplyAsync(() -> repository.compareAndSave(concurrent))
+                        .get(5, TimeUnit.SECONDS));
+            }
+            return invocation.callRealMethod();
+        }).when(delegate).findById(session.getId());
+
+        assertFalse(repository.compareAndSave(session));
+        assertTrue(other.get());
+        assertEquals(1, repository.findById(session.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void compareAndSave_ShouldConflict_WhenSessionIsRemovedConcurrently() throws Exception {
+        GameSession session = new GameSession(new GameMap(3));
+        delegate.save(session);
+
+        // Версия уже прочитана из основного репозитория, когда другой поток удаляет сессию
+        AtomicBoolean started = new AtomicBoolean();
+        Mockito.doAnswer(invocation -> {
+            Object stored = invocation.callRealMethod();
+            if (started.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(() -> repository.removeById(session.getId()))
+                        .get(5, TimeUnit.SECONDS);
+            }
+            return stored;
+        }).when(delegate).findById(session.getId());
+
+        assertFalse(repository.compareAndSave(session));
+        repository.flush();
+
+        assertTrue(repository.findById(session.getId()).isEmpty());
+        assertTrue(delegate.findById(session.getId()).isEmpty());
+    }
+
+    @Test
+    void removeById_ShouldDropBufferedSession() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        repository.removeById(session.getId());
+        repository.flush();
+
+        assertTrue(repository.findById(session.getId()).isEmpty());
+        Mockito.verify(delegate, Mockito.never()).saveAll(any());
+    }
+
+    @Test
+    void close_ShouldFlushPendingSessions() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        repository.close();
+
+        assertTrue(delegate.findById(session.getId()).isPresent());
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.datasource.storage;
+
+import org.example.datasource.model.GameMapEntity;
+import org.example.datasource.model.GameSessionEntity;
+import org.example.datasource.model.GameStatusEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStorageShardTest {
+    private GameStorageShard shard;
+
+    @BeforeEach
+    void setUp() {
+        shard = new GameStorageShard(0);
+    }
+
+    @Test
+    void stats_ShouldCountSizeHitsMissesAndBytes() {
+        GameSessionEntity entity = newEntity();
+        shard.put(entity);
+
+        shard.get(entity.getId());
+        shard.get(UUID.randomUUID());
+        shard.get(UUID.randomUUID());
+
+        ShardStats stats = shard.stats();
+        assertEquals(1, stats.getSize());
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(GameStorageShard.estimateBytes(entity), stats.getBytes());
+    }
+
+    @Test
+    void put_ShouldNotGrowSize_WhenEntityIsReplaced() {
+        GameSessionEntity entity = newEntity();
+        shard.put(entity);
+        shard.put(new GameSessionEntity(entity.getId(), new GameMapEntity(3), GameStatusEntity.DRAW));
+
+        assertEquals(1, shard.size());
+    }
+
+    @Test
+    void countByStatus_ShouldFollowStatusChangesAndRemoval() {
+        GameSessionEntity entity = newEntity();
+        shard.put(entity);
+        shard.put(newEntity());
+        assertEquals(2, shard.countByStatus(GameStatusEntity.PLAYING));
+
+        shard.put(new GameSessionEntity(entity.getId(), new GameMapEntity(3), GameStatusEntity.ZERO_WIN));
+        assertEquals(1, shard.countByStatus(GameStatusEntity.PLAYING));
+        assertEquals(1, shard.countByStatus(GameStatusEntity.ZERO_WIN));
+
+        shard.remove(entity.getId());
+        assertEquals(0, shard.countByStatus(GameStatusEntity.ZERO_WIN));
+    }
+
+    @Test
+    void countFinished_ShouldCountOnlyTransitionsFromPlaying() {
+        GameSessionEntity entity = newEntity();
+        shard.put(entity);
+        shard.put(new GameSessionEntity(entity.getId(), new GameMapEntity(3), GameStatusEntity.DRAW));
+        // Повторная запись завершенной игры не является новым завершением
+        shard.put(new GameSessionEntity(entity.getId(), new GameMapEntity(3), GameStatusEntity.DRAW));
+        shard.remove(entity.getId());
+
+        assertEquals(1, shard.countFinished(GameStatusEntity.DRAW));
+        assertEquals(0, shard.countFinished(GameStatusEntity.CROSS_WIN));
+    }
+
+    @Test
+    void remove_ShouldReleaseAccountedBytes() {
+        GameSessionEntity entity = newEntity();
+        shard.put(entity);
+
+        shard.remove(entity.getId());
+
+        assertEquals(0, shard.stats().getSize());
+        assertEquals(0, shard.stats().getBytes());
+    }
+
+    @Test
+    void compareAndPut_ShouldAccountNewEntityOnce() {
+        GameSessionEntity entity = newEntity();
+
+        assertTrue(shard.compareAndPut(entity, 0));
+        assertFalse(shard.compareAndPut(entity, 0));
+
+        assertEquals(1, shard.size());
+        assertEquals(GameStorageShard.estimateBytes(entity), shard.stats().getBytes());
+    }
+
+    private static GameSessionEntity newEntity() {
+        return newEntity(UUID.randomUUID());
+    }
+
+    private static GameSessionEntity newEntity(UUID id) {
+        return new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING);
+    }
+}
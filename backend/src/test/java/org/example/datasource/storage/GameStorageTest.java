@@ -3,11 +3,25 @@ package org.example.datasource.storage;
 import org.example.datasource.model.GameMapEntity;
 import org.example.datasource.model.GameSessionEntity;
 import org.example.datasource.model.GameStatusEntity;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,6 +43,33 @@ class GameStorageTest {
         Assertions.assertEquals(entity, gameStorage.findById(id));
     }
 
+    @Test
+    void operations_ShouldRecordJfrEvents_WhenStorageEventIsEnabled(@TempDir Path dir) throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSessionEntity entity = new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING);
+        Path file = dir.resolve("storage.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.game.StorageOperation").withThreshold(Duration.ZERO);
+            recording.start();
+            gameStorage.save(entity);
+            gameStorage.findById(id);
+            gameStorage.removeById(id);
+            gameStorage.findById(id);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<String> operations = new ArrayList<>();
+        List<Boolean> found = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            operations.add(event.getString("operation"));
+            found.add(event.getBoolean("found"));
+        }
+        assertEquals(List.of("save", "find", "remove", "find"), operations);
+        assertEquals(List.of(true, true, true, false), found);
+    }
+
     @Test
     void removeById_ShouldRemoveEntity() {
         UUID id = UUID.randomUUID();
@@ -60,6 +101,150 @@ class GameStorageTest {
         Assertions.assertEquals(0, gameStorage.getAll().size());
     }
 
+    @Test
+    void compareAndSave_ShouldInsertNewEntity_WhenExpectedVersionIsZero() {
+        UUID id = UUID.randomUUID();
+        GameSessionEntity entity = new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING);
+
+        assertTrue(gameStorage.compareAndSave(entity, 0));
+
+        assertEquals(1, gameStorage.findById(id).getVersion());
+    }
+
+    @Test
+    void compareAndSave_ShouldRejectStaleVersion() {
+        UUID id = UUID.randomUUID();
+        GameSessionEntity first = new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING, 0);
+        GameSessionEntity second = new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.DRAW, 0);
+
+        assertTrue(gameStorage.compareAndSave(first, 0));
+        assertFalse(gameStorage.compareAndSave(second, 0));
+
+        assertSame(first, gameStorage.findById(id));
+        assertEquals(GameStatusEntity.PLAYING, gameStorage.findById(id).getStatus());
+    }
+
+    @Test
+    void compareAndSave_ShouldApplyExactlyOneOfConcurrentUpdates() throws Exception {
+        UUID id = UUID.randomUUID();
+        gameStorage.compareAndSave(new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING), 0);
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                GameSessionEntity update = new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING);
+                return gameStorage.compareAndSave(update, 1);
+            }));
+        }
+        start.countDown();
+
+        int applied = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get()) applied++;
+        }
+        executor.shutdown();
+
+        assertEquals(1, applied);
+        assertEquals(2, gameStorage.findById(id).getVersion());
+    }
+
+    @Test
+    void findPage_ShouldWalkAllEntitiesWithCursor() {
+        for (int i = 0; i < 5; i++) {
+            gameStorage.save(new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING));
+        }
+
+        List<GameSessionEntity> first = gameStorage.findPage(null, 3, null);
+        List<GameSessionEntity> second = gameStorage.findPage(first.get(2).getId(), 3, null);
+
+        assertEquals(3, first.size());
+        assertEquals(2, second.size());
+        assertTrue(first.get(2).getId().compareTo(second.get(0).getId()) < 0);
+    }
+
+    @Test
+    void findPage_ShouldFilterByStatus() {
+        gameStorage.save(new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING));
+        gameStorage.save(new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.DRAW));
+        gameStorage.save(new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.DRAW));
+
+        List<GameSessionEntity> page = gameStorage.findPage(null, 10, GameStatusEntity.DRAW);
+
+        assertEquals(2, page.size());
+        assertTrue(page.stream().allMatch(entity -> entity.getStatus() == GameStatusEntity.DRAW));
+    }
+
+    @Test
+    void stream_ShouldReturnEntitiesInIdOrder() {
+        for (int i = 0; i < 4; i++) {
+            gameStorage.save(new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING));
+        }
+
+        List<UUID> ids = gameStorage.stream().map(GameSessionEntity::getId).toList();
+
+        assertEquals(4, ids.size());
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void findPage_ShouldKeepIdOrderAcrossShards() {
+        gameStorage = new GameStorage(4);
+        for (int i = 0; i < 20; i++) {
+            gameStorage.save(new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING));
+        }
+
+        List<UUID> walked = new ArrayList<>();
+        UUID cursor = null;
+        List<GameSessionEntity> page;
+        do {
+            page = gameStorage.findPage(cursor, 6, null);
+            page.forEach(entity -> walked.add(entity.getId()));
+            cursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+        } while (page.size() == 6);
+
+        assertEquals(20, walked.size());
+        assertEquals(walked.stream().sorted().toList(), walked);
+    }
+
+    @Test
+    void getTotalStats_ShouldSumShardCounters() {
+        gameStorage = new GameStorage(4);
+        for (int i = 0; i < 10; i++) {
+            gameStorage.save(new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING));
+        }
+        gameStorage.findById(UUID.randomUUID());
+
+        ShardStats total = gameStorage.getTotalStats();
+
+        assertEquals(10, total.getSize());
+        assertEquals(1, total.getMisses());
+        assertEquals(10, gameStorage.getShardStats().stream().mapToLong(ShardStats::getSize).sum());
+        assertEquals(10, gameStorage.getAll().size());
+    }
+
+    @Test
+    void streamRange_ShouldReturnSessionsCreatedInInterval() {
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int minute = 0; minute < 10; minute++) {
+            UUID id = TimeOrderedSessionIdGenerator.lowerBound(start.plusSeconds(60L * minute));
+            gameStorage.save(new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING));
+        }
+
+        List<UUID> found = gameStorage.streamRange(
+                        TimeOrderedSessionIdGenerator.lowerBound(start.plusSeconds(120)),
+                        TimeOrderedSessionIdGenerator.lowerBound(start.plusSeconds(300)))
+                .map(GameSessionEntity::getId)
+                .toList();
+
+        assertEquals(3, found.size());
+        assertEquals(start.plusSeconds(120), TimeOrderedSessionIdGenerator.timestampOf(found.get(0)));
+        assertEquals(start.plusSeconds(240), TimeOrderedSessionIdGenerator.timestampOf(found.get(2)));
+    }
+
     @Test
     void findById() {
     }
@@ -0,0 +1,67 @@
+package org.example.datasource.storage;
+
+import org.example.datasource.model.GameMapEntity;
+import org.example.datasource.model.GameSessionEntity;
+import org.example.datasource.model.GameStatusEntity;
+import org.example.domain.exception.SessionCapacityExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StorageCapacityTest {
+
+    private GameStorage storage;
+    private long sessionBytes;
+
+    @BeforeEach
+    void setUp() {
+        storage = new GameStorage(2);
+        sessionBytes = GameStorageShard.estimateBytes(newSession());
+    }
+
+    @Test
+    void checkCanCreate_ShouldAccept_WhenBelowHighWaterMark() {
+        StorageCapacity capacity = new StorageCapacity(storage, 3 * sessionBytes);
+        storage.save(newSession());
+        storage.save(newSession());
+
+        assertThatCode(capacity::checkCanCreate).doesNotThrowAnyException();
+        assertThat(capacity.getUsedBytes()).isEqualTo(2 * sessionBytes);
+        assertThat(capacity.getRejectedCount()).isZero();
+    }
+
+    @Test
+    void checkCanCreate_ShouldReject_WhenHighWaterMarkIsReached() {
+        StorageCapacity capacity = new StorageCapacity(storage, 2 * sessionBytes);
+        storage.save(newSession());
+        GameSessionEntity last = newSession();
+        storage.save(last);
+
+        assertThatThrownBy(capacity::checkCanCreate)
+                .isInstanceOf(SessionCapacityExceededException.class)
+                .hasMessageContaining(Long.toString(2 * sessionBytes));
+        assertThat(capacity.getRejectedCount()).isEqualTo(1);
+
+        storage.removeById(last.getId());
+        assertThatCode(capacity::checkCanCreate).doesNotThrowAnyException();
+    }
+
+    @Test
+    void checkCanCreate_ShouldAlwaysAccept_WhenHighWaterMarkIsZero() {
+        StorageCapacity capacity = new StorageCapacity(storage, 0);
+        for (int i = 0; i < 100; i++) {
+            storage.save(newSession());
+        }
+
+        assertThatCode(capacity::checkCanCreate).doesNotThrowAnyException();
+    }
+
+    private static GameSessionEntity newSession() {
+        return new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING);
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.di.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.datasource.model.GameMapEntity;
+import org.example.datasource.model.GameSessionEntity;
+import org.example.datasource.model.GameStatusEntity;
+import org.example.datasource.storage.GameStorage;
+import org.example.datasource.storage.GameStorageShard;
+import org.example.datasource.storage.StorageCapacity;
+import org.example.web.admission.AdmissionControl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameMetricsBinderTest {
+
+    private SimpleMeterRegistry registry;
+    private GameStorage storage;
+    private StorageCapacity capacity;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        storage = new GameStorage(2);
+        capacity = new StorageCapacity(storage, 1024 * 1024);
+    }
+
+    @Test
+    void bindTo_ShouldExposeSessionCountsAndOutcomes() {
+        new GameMetricsBinder(storage, capacity, null, null, null).bindTo(registry);
+        UUID id = UUID.randomUUID();
+        storage.save(new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.PLAYING));
+        storage.save(new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING));
+        storage.save(new GameSessionEntity(id, new GameMapEntity(3), GameStatusEntity.CROSS_WIN));
+
+        assertThat(registry.get("game.sessions").tag("status", "playing").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("game.sessions").tag("status", "cross_win").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("game.finished").tag("status", "cross_win").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.find("game.storage.shard.sessions").gauges()).hasSize(2);
+    }
+
+    @Test
+    void bindTo_ShouldExposeAdmissionCounters_WhenAdmissionControlIsPresent() {
+        AdmissionControl admissionControl = Mockito.mock(AdmissionControl.class);
+        Mockito.when(admissionControl.getShedCount()).thenReturn(7L);
+
+        new GameMetricsBinder(storage, capacity, null, admissionControl, null).bindTo(registry);
+
+        assertThat(registry.get("game.admission.requests").tag("result", "shed").functionCounter().count()).isEqualTo(7.0);
+        assertThat(registry.find("game.response.cache").meters()).isEmpty();
+    }
+
+    @Test
+    void bindTo_ShouldExposeStorageFootprintAndRemovals() {
+        new GameMetricsBinder(storage, capacity, null, null, null).bindTo(registry);
+        GameSessionEntity session = new GameSessionEntity(UUID.randomUUID(), new GameMapEntity(3), GameStatusEntity.PLAYING);
+        UUID removed = UUID.randomUUID();
+        storage.save(session);
+        storage.save(new GameSessionEntity(removed, new GameMapEntity(3), GameStatusEntity.PLAYING));
+        storage.removeById(removed);
+        long sessionBytes = GameStorageShard.estimateBytes(session);
+
+        assertThat(registry.get("game.storage.bytes").gauge().value()).isEqualTo(sessionBytes);
+        assertThat(registry.get("game.storage.session.bytes").gauge().value()).isEqualTo(sessionBytes);
+        assertThat(registry.get("game.storage.high.water.mark").gauge().value()).isEqualTo(1024 * 1024);
+        assertThat(registry.find("game.storage.removals").tag("reason", "evicted").functionCounter()).isNull();
+        assertThat(registry.get("game.storage.removals").tag("reason", "expired").functionCounter().count()).isZero();
+        assertThat(registry.get("game.sessions.rejected").functionCounter().count()).isZero();
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.di.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.domain.service.SearchStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerSearchObserverTest {
+
+    private SimpleMeterRegistry registry;
+    private MicrometerSearchObserver observer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        observer = new MicrometerSearchObserver(registry);
+    }
+
+    @Test
+    void onSearch_ShouldRecordMetersTaggedByBoardSize() {
+        observer.onSearch(new SearchStats(3, 100, 5, 40, 2_000_000));
+        observer.onSearch(new SearchStats(3, 50, 4, 10, 1_000_000));
+
+        Timer timer = registry.get("game.engine.move").tag("size", "3").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3.0);
+
+        DistributionSummary nodes = registry.get("game.engine.nodes").tag("size", "3").summary();
+        assertThat(nodes.totalAmount()).isEqualTo(150.0);
+        assertThat(registry.get("game.engine.depth").tag("size", "3").summary().max()).isEqualTo(5.0);
+        assertThat(registry.get("game.engine.cutoffs").tag("size", "3").summary().totalAmount()).isEqualTo(50.0);
+    }
+
+    @Test
+    void onSearch_ShouldGroupLargeBoardsUnderOneTag() {
+        observer.onSearch(new SearchStats(50, 1, 1, 0, 1));
+        observer.onSearch(new SearchStats(500, 1, 1, 0, 1));
+
+        assertThat(registry.get("game.engine.move").tag("size", "large").timer().count()).isEqualTo(2);
+        assertThat(registry.find("game.engine.move").timers()).hasSize(1);
+    }
+}
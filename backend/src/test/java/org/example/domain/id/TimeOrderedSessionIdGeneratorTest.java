@@ -0,0 +1,59 @@
+package org.example.domain.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeOrderedSessionIdGeneratorTest {
+
+    private final TimeOrderedSessionIdGenerator generator = new TimeOrderedSessionIdGenerator();
+
+    @Test
+    void nextId_ShouldReturnVersion7Uuid() {
+        UUID id = generator.nextId();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void nextId_ShouldEncodeCreationTime() {
+        long before = System.currentTimeMillis();
+        UUID id = generator.nextId();
+        long after = System.currentTimeMillis();
+
+        long created = TimeOrderedSessionIdGenerator.timestampOf(id).toEpochMilli();
+
+        assertThat(created).isBetween(before, after);
+    }
+
+    @Test
+    void nextId_ShouldOrderIdsByCreationTime_WhenCreatedInDifferentMilliseconds() throws InterruptedException {
+        UUID earlier = generator.nextId();
+        Thread.sleep(2);
+        UUID later = generator.nextId();
+
+        assertThat(earlier).isLessThan(later);
+    }
+
+    @Test
+    void lowerBound_ShouldBeNotGreaterThanIdsCreatedAtSameMillisecond() {
+        UUID id = generator.nextId();
+        Instant created = TimeOrderedSessionIdGenerator.timestampOf(id);
+
+        assertThat(TimeOrderedSessionIdGenerator.lowerBound(created)).isLessThanOrEqualTo(id);
+        assertThat(TimeOrderedSessionIdGenerator.lowerBound(created.plusMillis(1))).isGreaterThan(id);
+    }
+
+    @Test
+    void timestampOf_ShouldThrow_WhenUuidIsNotTimeOrdered() {
+        UUID random = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> TimeOrderedSessionIdGenerator.timestampOf(random));
+    }
+}
@@ -44,4 +44,13 @@ class GameMapTest {
 
         assertThat(gameMap.getMap()[1][1]).isEqualTo(CellType.ZERO.getValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCellValue_ShouldReturnValue_WhenCoordinatesInBounds() {
+        GameMap gameMap = new GameMap(3);
+        gameMap.setCellValue(2, 1, CellType.CROSS);
+
+        assertThat(gameMap.getCellValue(2, 1)).isEqualTo(CellType.CROSS.getValue());
+        assertThrows(IllegalArgumentException.class, () -> gameMap.getCellValue(3, 0));
+    }
+}
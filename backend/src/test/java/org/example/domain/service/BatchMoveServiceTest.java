@@ -0,0 +1,182 @@
+package org.example.domain.service;
+
+import org.example.datasource.repository.GameRepositoryImpl;
+import org.example.datasource.storage.GameStorage;
+import org.example.domain.exception.MoveRejectedException;
+import org.example.domain.model.BatchMoveOutcome;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.MoveCommand;
+import org.example.domain.model.MoveError;
+import org.example.domain.repository.GameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchMoveServiceTest {
+    private GameRepository repository;
+    private BatchMoveService batchMoveService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new GameRepositoryImpl(new GameStorage());
+        batchMoveService = new BatchMoveService(
+                new GameServiceImpl(repository), repository, MoveAdmission.UNLIMITED, Executors.newFixedThreadPool(4));
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchMoveService.close();
+    }
+
+    @Test
+    void playAll_ShouldReturnAiReplyForEveryGame() {
+        List<MoveCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            GameSession session = new GameSession(new GameMap(3));
+            repository.save(session);
+            commands.add(new MoveCommand(session.getId(), 1, 1));
+        }
+
+        List<BatchMoveOutcome> outcomes = batchMoveService.playAll(commands, "client");
+
+        assertThat(outcomes).hasSize(20);
+        for (int i = 0; i < outcomes.size(); i++) {
+            assertThat(outcomes.get(i).isSuccess()).isTrue();
+            assertThat(outcomes.get(i).getGameId()).isEqualTo(commands.get(i).getGameId());
+            assertThat(outcomes.get(i).getResult().hasReply()).isTrue();
+        }
+    }
+
+    @Test
+    void playAll_ShouldReportErrorPerItem() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+        UUID missing = UUID.randomUUID();
+
+        List<BatchMoveOutcome> outcomes = batchMoveService.playAll(List.of(
+                new MoveCommand(missing, 0, 0),
+                new MoveCommand(session.getId(), 5, 5),
+                new MoveCommand(session.getId(), 0, 0)), "client");
+
+        assertThat(outcomes.get(0).getError()).isEqualTo(MoveError.NOT_FOUND);
+        assertThat(outcomes.get(1).getError()).isEqualTo(MoveError.INVALID_MOVE);
+        assertThat(outcomes.get(2).isSuccess()).isTrue();
+    }
+
+    @Test
+    void playAll_ShouldApplyMovesOfSameGameInOrder() {
+        GameSession session = new GameSession(new GameMap(3));
+        repository.save(session);
+
+        List<BatchMoveOutcome> outcomes = batchMoveService.playAll(List.of(
+                new MoveCommand(session.getId(), 1, 1),
+                new MoveCommand(session.getId(), 1, 1)), "client");
+
+        assertThat(outcomes.get(0).isSuccess()).isTrue();
+        assertThat(outcomes.get(1).getError()).isEqualTo(MoveError.INVALID_MOVE);
+        assertThat(repository.findById(session.getId()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void playAll_ShouldRejectGames_WhenPoolIsFull() {
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1));
+        BatchMoveService service = new BatchMoveService(
+                new GameServiceImpl(repository), repository, MoveAdmission.UNLIMITED, saturated);
+        List<MoveCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            GameSession session = new GameSession(new GameMap(3));
+            repository.save(session);
+            commands.add(new MoveCommand(session.getId(), 0, 0));
+        }
+
+        List<BatchMoveOutcome> outcomes = service.playAll(commands, "client");
+        service.close();
+
+        assertThat(outcomes).hasSize(10);
+        assertThat(outcomes).anyMatch(outcome -> outcome.getError() == MoveError.OVERLOADED);
+        assertThat(outcomes).anyMatch(BatchMoveOutcome::isSuccess);
+    }
+
+    @Test
+    void playAll_ShouldReportAdmissionRejection_AndReleasePermits() {
+        GameSession admittedGame = new GameSession(new GameMap(3));
+        GameSession rejectedGame = new GameSession(new GameMap(3));
+        repository.save(admittedGame);
+        repository.save(rejectedGame);
+        AtomicInteger released = new AtomicInteger();
+        MoveAdmission admission = (clientKey, map) -> {
+            if (released.get() > 0 || !"client".equals(clientKey)) {
+                throw new MoveRejectedException(MoveError.RATE_LIMITED, "Move rate limit exceeded");
+            }
+            return released::incrementAndGet;
+        };
+        BatchMoveService service = new BatchMoveService(
+                new GameServiceImpl(repository), repository, admission, Executors.newSingleThreadExecutor());
+
+        List<BatchMoveOutcome> outcomes = service.playAll(List.of(
+                new MoveCommand(admittedGame.getId(), 1, 1),
+                new MoveCommand(rejectedGame.getId(), 1, 1)), "client");
+        service.close();
+
+        assertThat(outcomes.get(0).isSuccess()).isTrue();
+        assertThat(outcomes.get(1).getError()).isEqualTo(MoveError.RATE_LIMITED);
+        assertThat(outcomes.get(1).getMessage()).isEqualTo("Move rate limit exceeded");
+        assertThat(released).hasValue(1);
+        assertThat(repository.findById(rejectedGame.getId()).orElseThrow().getVersion()).isZero();
+    }
+
+    @Test
+    void playAll_ShouldReportRunningMoveAsUnknown_WhenInterrupted() throws Exception {
+        GameSession running = new GameSession(new GameMap(3));
+        GameSession queued = new GameSession(new GameMap(3));
+        repository.save(running);
+        repository.save(queued);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Расчет первой игры идет, пока тест его не отпустит; прерывание ожидания его не останавливает
+        MoveAdmission admission = (clientKey, map) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return () -> { };
+        };
+        BatchMoveService service = new BatchMoveService(
+                new GameServiceImpl(repository), repository, admission, Executors.newSingleThreadExecutor());
+
+        AtomicReference<List<BatchMoveOutcome>> result = new AtomicReference<>();
+        Thread caller = new Thread(() -> result.set(service.playAll(List.of(
+                new MoveCommand(running.getId(), 1, 1),
+                new MoveCommand(queued.getId(), 1, 1)), "client")));
+        caller.start();
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        caller.interrupt();
+        caller.join(5_000);
+        release.countDown();
+        service.close();
+
+        List<BatchMoveOutcome> outcomes = result.get();
+        assertThat(outcomes.get(0).getError()).isEqualTo(MoveError.UNKNOWN);
+        assertThat(outcomes.get(1).getError()).isEqualTo(MoveError.OVERLOADED);
+        // Начатый ход сохраняется, отмененный — нет
+        assertThat(repository.findById(running.getId()).orElseThrow().getVersion()).isPositive();
+        assertThat(repository.findById(queued.getId()).orElseThrow().getVersion()).isZero();
+    }
+}
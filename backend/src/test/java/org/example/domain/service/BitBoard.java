@@ -0,0 +1,102 @@
+package org.example.domain.service;
+
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameStatus;
+
+/**
+ * Битовое представление поля для {@link Perft} (поля до 8x8): по одной маске {@code long}
+ * на крестики и нолики и заранее построенные маски всех линий.
+ * <p>
+ * Проверка победы сводится к сравнению маски линии с маской знаков, а пустые ячейки
+ * перебираются по битам без просмотра всего поля.
+ */
+final class BitBoard implements Perft.Board {
+
+    private final int size;
+
+    /** Маски строк, столбцов и двух диагоналей */
+    private final long[] lines;
+
+    /** Маска всех ячеек поля */
+    private final long full;
+
+    private long crosses;
+    private long zeros;
+
+    /**
+     * @param map стартовая позиция (копируется).
+     * @throws IllegalArgumentException если поле больше 8x8.
+     */
+    BitBoard(GameMap map) {
+        this.size = map.getSize();
+        if (size * size > Long.SIZE) {
+            throw new IllegalArgumentException("Bitboard supports boards up to 8x8.");
+        }
+        this.full = size * size == Long.SIZE ? -1L : (1L << (size * size)) - 1;
+        this.lines = new long[2 * size + 2];
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                lines[i] |= bit(i, j);
+                lines[size + i] |= bit(j, i);
+            }
+            lines[2 * size] |= bit(i, i);
+            lines[2 * size + 1] |= bit(i, size - 1 - i);
+        }
+
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (map.getCellValue(r, c) == CellType.CROSS.getValue()) {
+                    crosses |= bit(r, c);
+                } else if (map.getCellValue(r, c) == CellType.ZERO.getValue()) {
+                    zeros |= bit(r, c);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int emptyCells(int[] out) {
+        long empty = ~(crosses | zeros) & full;
+        int count = 0;
+        while (empty != 0) {
+            out[count++] = Long.numberOfTrailingZeros(empty);
+            empty &= empty - 1;
+        }
+        return count;
+    }
+
+    @Override
+    public void play(int cell, CellType mark) {
+        if (mark == CellType.CROSS) {
+            crosses |= 1L << cell;
+        } else {
+            zeros |= 1L << cell;
+        }
+    }
+
+    @Override
+    public void clear(int cell) {
+        crosses &= ~(1L << cell);
+        zeros &= ~(1L << cell);
+    }
+
+    @Override
+    public GameStatus status() {
+        for (long line : lines) {
+            if ((crosses & line) == line) return GameStatus.CROSS_WIN;
+            if ((zeros & line) == line) return GameStatus.ZERO_WIN;
+        }
+        return (crosses | zeros) == full ? GameStatus.DRAW : GameStatus.PLAYING;
+    }
+
+    private long bit(int row, int col) {
+        return 1L << (row * size + col);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.domain.service;
+
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Бюджеты выделения памяти на расчет хода ИИ.
+ * <p>
+ * Перебор не должен выделять память на каждую позицию: объем выделений на один
+ * {@code getNextMove} постоянен и не зависит от числа просмотренных позиций.
+ */
+class GameServiceAllocationTest {
+
+    /** Бюджет одного расчета хода, байт (служебные объекты расчета, без поля и позиций) */
+    private static final long SEARCH_BUDGET_BYTES = 1024;
+
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    private com.sun.management.ThreadMXBean threads;
+    private GameRepository gameRepository;
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        // stubOnly: мок не накапливает историю вызовов между замерами
+        gameRepository = Mockito.mock(GameRepository.class, Mockito.withSettings().stubOnly());
+        Mockito.when(gameRepository.compareAndSave(any())).thenReturn(true);
+        gameService = new GameServiceImpl(gameRepository);
+    }
+
+    @Test
+    void getNextMove_ShouldStayWithinBudget_WhenBoardIsThreeByThree() {
+        int[][] board = {
+                {1, 0, 0},
+                {0, 0, 0},
+                {0, 0, 0}
+        };
+
+        assertThat(allocatedPerSearch(board)).isLessThanOrEqualTo(SEARCH_BUDGET_BYTES);
+    }
+
+    @Test
+    void getNextMove_ShouldStayWithinBudget_WhenBoardIsFourByFour() {
+        int[][] board = {
+                {1, 2, 1, 0},
+                {0, 1, 0, 2},
+                {0, 0, 0, 0},
+                {2, 0, 1, 0}
+        };
+
+        assertThat(allocatedPerSearch(board)).isLessThanOrEqualTo(SEARCH_BUDGET_BYTES);
+    }
+
+    @Test
+    void getNextMove_ShouldStayWithinBudget_WhenBoardIsFiveByFive() {
+        int[][] board = {
+                {1, 2, 1, 2, 0},
+                {2, 1, 2, 1, 0},
+                {0, 2, 1, 0, 2},
+                {1, 0, 0, 2, 0},
+                {0, 1, 0, 2, 0}
+        };
+
+        assertThat(allocatedPerSearch(board)).isLessThanOrEqualTo(SEARCH_BUDGET_BYTES);
+    }
+
+    /**
+     * Возвращает минимальный объем выделений одного расчета хода на копии позиции.
+     * Первые запуски прогревают загрузку классов и не учитываются; копия поля
+     * создается до начала замера. Выделения самого мока при сохранении замеряются
+     * отдельно и вычитаются, чтобы бюджет относился только к расчету хода.
+     */
+    private long allocatedPerSearch(int[][] board) {
+        long minSearch = Long.MAX_VALUE;
+        long minSave = Long.MAX_VALUE;
+        for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+            GameSession session = new GameSession(new GameMap(copy(board), board.length));
+
+            long before = threads.getCurrentThreadAllocatedBytes();
+            gameRepository.compareAndSave(session);
+            long saved = threads.getCurrentThreadAllocatedBytes() - before;
+
+            before = threads.getCurrentThreadAllocatedBytes();
+            gameService.getNextMove(session);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+            if (run >= WARMUP_RUNS) {
+                minSave = Math.min(minSave, saved);
+                minSearch = Math.min(minSearch, allocated);
+            }
+        }
+        return Math.max(0, minSearch - minSave);
+    }
+
+    private static int[][] copy(int[][] board) {
+        int[][] copy = new int[board.length][];
+        for (int i = 0; i < board.length; i++) {
+            copy[i] = board[i].clone();
+        }
+        return copy;
+    }
+}
@@ -1,19 +1,30 @@
 package org.example.domain.service;
 
+import org.example.domain.exception.SessionConflictException;
 import org.example.domain.model.GameMap;
 import org.example.domain.model.GameSession;
 import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveResult;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.example.domain.repository.GameRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 
 class GameServiceTest {
@@ -35,12 +46,76 @@ class GameServiceTest {
         };
         GameMap map = new GameMap(board, 3);
         GameSession session = new GameSession(map);
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(true);
 
         gameService.getNextMove(session);
 
         assertThat(session.getGameMap().getMap()[0][2]).isEqualTo(2);
         assertThat(session.getStatus()).isEqualTo(GameStatus.ZERO_WIN);
-        Mockito.verify(gameRepository, Mockito.times(1)).save(session);
+        Mockito.verify(gameRepository, Mockito.times(1)).compareAndSave(session);
+    }
+
+    @Test
+    void getNextMove_ShouldReportSearchStats() {
+        List<SearchStats> reported = new ArrayList<>();
+        GameService observed = new GameServiceImpl(gameRepository, reported::add);
+        int[][] board = {
+                {1, 0, 0},
+                {0, 0, 0},
+                {0, 0, 0}
+        };
+        GameSession session = new GameSession(new GameMap(board, 3));
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(true);
+
+        observed.getNextMove(session);
+
+        assertThat(reported).hasSize(1);
+        SearchStats stats = reported.get(0);
+        assertThat(stats.getBoardSize()).isEqualTo(3);
+        assertThat(stats.getNodes()).isGreaterThan(8);
+        assertThat(stats.getDepth()).isEqualTo(5);
+        assertThat(stats.getCutoffs()).isPositive();
+        assertThat(stats.getDurationNanos()).isPositive();
+    }
+
+    @Test
+    void getNextMove_ShouldReportSearchStats_WhenSaveConflicts() {
+        List<SearchStats> reported = new ArrayList<>();
+        GameService observed = new GameServiceImpl(gameRepository, reported::add);
+        GameSession session = new GameSession(new GameMap(3));
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(false);
+
+        assertThrows(SessionConflictException.class, () -> observed.getNextMove(session));
+        assertThat(reported).hasSize(1);
+    }
+
+    @Test
+    void getNextMove_ShouldRecordJfrEvent_WhenSearchEventIsEnabled(@TempDir Path dir) throws Exception {
+        int[][] board = {
+                {1, 0, 0},
+                {0, 0, 0},
+                {0, 0, 0}
+        };
+        GameSession session = new GameSession(new GameMap(board, 3));
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(true);
+        Path file = dir.resolve("search.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.game.Search").withThreshold(Duration.ZERO);
+            recording.start();
+            gameService.getNextMove(session);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getInt("boardSize")).isEqualTo(3);
+        assertThat(event.getInt("emptyCells")).isEqualTo(8);
+        assertThat(event.getLong("nodes")).isGreaterThan(8);
+        assertThat(event.getInt("depth")).isEqualTo(5);
+        assertThat(event.getLong("cutoffs")).isPositive();
     }
 
     @Test
@@ -57,7 +132,7 @@ class GameServiceTest {
 
         assertArrayEquals(new int[]{-1, -1}, result);
 
-        Mockito.verify(gameRepository, Mockito.never()).save(any());
+        Mockito.verify(gameRepository, Mockito.never()).compareAndSave(any());
     }
 
     @Test
@@ -70,6 +145,7 @@ class GameServiceTest {
 
         GameMap map = new GameMap(almostFullBoard, 3);
         GameSession session = new GameSession(map);
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(true);
 
         int[] result = gameService.getNextMove(session);
 
@@ -79,7 +155,20 @@ class GameServiceTest {
 
         assertThat(session.getStatus()).isEqualTo(GameStatus.DRAW);
 
-        Mockito.verify(gameRepository, Mockito.times(1)).save(session);
+        Mockito.verify(gameRepository, Mockito.times(1)).compareAndSave(session);
+    }
+
+    @Test
+    void getNextMove_ShouldThrowConflict_WhenSessionWasModifiedConcurrently() {
+        int[][] board = {
+                {1, 0, 0},
+                {0, 0, 0},
+                {0, 0, 0}
+        };
+        GameSession session = new GameSession(new GameMap(board, 3));
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(false);
+
+        assertThrows(SessionConflictException.class, () -> gameService.getNextMove(session));
     }
 
     @Test
@@ -87,12 +176,114 @@ class GameServiceTest {
         int[][] emptyBoard = new int[3][3];
         GameMap map = new GameMap(emptyBoard, 3);
         GameSession session = new GameSession(map);
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(true);
 
         int[] move = gameService.getNextMove(session);
 
         assertThat(move).isNotNull();
     }
 
+    @Test
+    void analyze_ShouldScoreRootMovesAndFollowPrincipalVariation() {
+        int[][] board = {
+                {1, 0, 0},
+                {0, 0, 0},
+                {0, 0, 0}
+        };
+        GameMap map = new GameMap(board, 3);
+
+        SearchAnalysis analysis = gameService.analyze(map);
+
+        assertThat(analysis.getRootMoves()).hasSize(8);
+        SearchAnalysis.MoveScore best = analysis.getPrincipalVariation().get(0);
+        assertThat(best.getRow()).isEqualTo(1);
+        assertThat(best.getCol()).isEqualTo(1);
+        assertThat(analysis.getPrincipalVariation()).hasSize(5)
+                .allSatisfy(move -> assertThat(move.getScore()).isEqualTo(best.getScore()));
+        assertThat(analysis.getStats().getNodes()).isEqualTo(8080);
+        assertThat(analysis.getStats().getDepth()).isEqualTo(5);
+        assertThat(map.getMap()).isEqualTo(new int[][]{{1, 0, 0}, {0, 0, 0}, {0, 0, 0}});
+        Mockito.verifyNoInteractions(gameRepository);
+    }
+
+    @Test
+    void analyze_ShouldReturnNoMoves_WhenGameIsOver() {
+        int[][] board = {
+                {1, 1, 1},
+                {2, 2, 0},
+                {0, 0, 0}
+        };
+
+        SearchAnalysis analysis = gameService.analyze(new GameMap(board, 3));
+
+        assertThat(analysis.getRootMoves()).isEmpty();
+        assertThat(analysis.getPrincipalVariation()).isEmpty();
+        assertThat(analysis.getStats().getNodes()).isZero();
+    }
+
+    @Test
+    void makeMove_ShouldPlaceCrossAndReturnAiReply() {
+        int[][] board = {
+                {2, 2, 0},
+                {1, 0, 0},
+                {0, 0, 0}
+        };
+        GameSession session = new GameSession(new GameMap(board, 3));
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(true);
+
+        MoveResult result = gameService.makeMove(session, 2, 0);
+
+        assertThat(session.getGameMap().getCellValue(2, 0)).isEqualTo(1);
+        assertThat(result.hasReply()).isTrue();
+        assertThat(result.getRow()).isEqualTo(0);
+        assertThat(result.getCol()).isEqualTo(2);
+        assertThat(result.getStatus()).isEqualTo(GameStatus.ZERO_WIN);
+    }
+
+    @Test
+    void makeMove_ShouldSaveWithoutReply_WhenUserWins() {
+        int[][] board = {
+                {1, 1, 0},
+                {2, 2, 0},
+                {0, 0, 0}
+        };
+        GameSession session = new GameSession(new GameMap(board, 3));
+        Mockito.when(gameRepository.compareAndSave(session)).thenReturn(true);
+
+        MoveResult result = gameService.makeMove(session, 0, 2);
+
+        assertThat(result.hasReply()).isFalse();
+        assertThat(result.getStatus()).isEqualTo(GameStatus.CROSS_WIN);
+        Mockito.verify(gameRepository, Mockito.times(1)).compareAndSave(session);
+    }
+
+    @Test
+    void makeMove_ShouldThrow_WhenCellIsOccupied() {
+        int[][] board = {
+                {2, 0, 0},
+                {1, 0, 0},
+                {0, 0, 0}
+        };
+        GameSession session = new GameSession(new GameMap(board, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> gameService.makeMove(session, 1, 0));
+        Mockito.verify(gameRepository, Mockito.never()).compareAndSave(any());
+    }
+
+    @Test
+    void makeMove_ShouldThrow_WhenCoordinatesOutOfBounds() {
+        GameSession session = new GameSession(new GameMap(3));
+
+        assertThrows(IllegalArgumentException.class, () -> gameService.makeMove(session, 3, 0));
+    }
+
+    @Test
+    void makeMove_ShouldThrow_WhenGameIsOver() {
+        GameSession session = new GameSession(UUID.randomUUID(), new GameMap(3), GameStatus.DRAW);
+
+        assertThrows(IllegalArgumentException.class, () -> gameService.makeMove(session, 0, 0));
+    }
+
     @Test
     void checkGameStatus_ShouldReturnStatusDraw_WhenMapIsFull() {
         int[][] fullBoard = {
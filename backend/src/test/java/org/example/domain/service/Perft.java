@@ -0,0 +1,175 @@
+package org.example.domain.service;
+
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameStatus;
+
+import java.util.Objects;
+
+/**
+ * Perft-обход дерева игры: считает позиции на заданной глубине и исходы завершенных партий.
+ * <p>
+ * Обход не зависит от представления поля: реализация {@link Board} отвечает только за ходы
+ * и определение статуса. Результаты эталонной реализации ({@link ReferenceBoard}, логика
+ * {@link GameServiceImpl} на {@code int[][]}) и оптимизированных представлений должны совпадать
+ * на любых стартовых позициях и глубинах.
+ */
+final class Perft {
+
+    private Perft() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /** Представление поля для обхода; ячейки нумеруются построчно: {@code row * size + col} */
+    interface Board {
+
+        /**
+         * Возвращает размер стороны поля.
+         * @return размер поля.
+         */
+        int size();
+
+        /**
+         * Записывает индексы пустых ячеек в порядке возрастания.
+         *
+         * @param out буфер не короче {@code size * size}.
+         * @return количество пустых ячеек.
+         */
+        int emptyCells(int[] out);
+
+        /**
+         * Ставит знак в пустую ячейку.
+         *
+         * @param cell индекс ячейки.
+         * @param mark крестик или нолик.
+         */
+        void play(int cell, CellType mark);
+
+        /**
+         * Очищает ячейку (откат хода).
+         * @param cell индекс ячейки.
+         */
+        void clear(int cell);
+
+        /**
+         * Определяет статус игры по правилам {@link GameService#checkGameStatus}.
+         * @return статус позиции.
+         */
+        GameStatus status();
+    }
+
+    /**
+     * Обходит все продолжения позиции до заданной глубины. Очередь хода определяется
+     * по числу занятых ячеек: при четном числе ходят крестики.
+     *
+     * @param board стартовая позиция; после обхода поле возвращается в исходное состояние.
+     * @param depth глубина обхода в полуходах.
+     * @return количество позиций и исходов.
+     */
+    static Result run(Board board, int depth) {
+        int cells = board.size() * board.size();
+        int[][] moves = new int[depth + 1][cells];
+        int filled = cells - board.emptyCells(moves[0]);
+        Counter counter = new Counter();
+        visit(board, 0, depth, filled % 2 == 0 ? CellType.CROSS : CellType.ZERO, moves, counter);
+        return new Result(counter.visited, counter.leaves, counter.crossWins, counter.zeroWins, counter.draws);
+    }
+
+    private static void visit(Board board, int ply, int depth, CellType mark, int[][] moves, Counter counter) {
+        counter.visited++;
+        GameStatus status = board.status();
+        if (ply == depth) {
+            counter.leaves++;
+        }
+        if (status != GameStatus.PLAYING) {
+            switch (status) {
+                case CROSS_WIN -> counter.crossWins++;
+                case ZERO_WIN -> counter.zeroWins++;
+                default -> counter.draws++;
+            }
+            return;
+        }
+        if (ply == depth) {
+            return;
+        }
+
+        CellType next = mark == CellType.CROSS ? CellType.ZERO : CellType.CROSS;
+        int count = board.emptyCells(moves[ply]);
+        for (int i = 0; i < count; i++) {
+            int cell = moves[ply][i];
+            board.play(cell, mark);
+            visit(board, ply + 1, depth, next, moves, counter);
+            board.clear(cell);
+        }
+    }
+
+    /** Счетчики одного обхода */
+    private static final class Counter {
+        private long visited;
+        private long leaves;
+        private long crossWins;
+        private long zeroWins;
+        private long draws;
+    }
+
+    /** Результат обхода */
+    static final class Result {
+
+        /** Все посещенные позиции, включая стартовую */
+        private final long visited;
+
+        /** Позиции ровно на заданной глубине (в том числе завершенные) */
+        private final long leaves;
+
+        /** Партии, завершенные не глубже заданной глубины, по исходам */
+        private final long crossWins;
+        private final long zeroWins;
+        private final long draws;
+
+        Result(long visited, long leaves, long crossWins, long zeroWins, long draws) {
+            this.visited = visited;
+            this.leaves = leaves;
+            this.crossWins = crossWins;
+            this.zeroWins = zeroWins;
+            this.draws = draws;
+        }
+
+        long getVisited() {
+            return visited;
+        }
+
+        long getLeaves() {
+            return leaves;
+        }
+
+        long getCrossWins() {
+            return crossWins;
+        }
+
+        long getZeroWins() {
+            return zeroWins;
+        }
+
+        long getDraws() {
+            return draws;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Result other)) return false;
+            return visited == other.visited && leaves == other.leaves && crossWins == other.crossWins
+                    && zeroWins == other.zeroWins && draws == other.draws;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(visited, leaves, crossWins, zeroWins, draws);
+        }
+
+        @Override
+        public String toString() {
+            return "Result{visited=" + visited + ", leaves=" + leaves + ", crossWins=" + crossWins
+                    + ", zeroWins=" + zeroWins + ", draws=" + draws + "}";
+        }
+    }
+}
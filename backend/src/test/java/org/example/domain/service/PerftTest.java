@@ -0,0 +1,121 @@
+package org.example.domain.service;
+
+import org.example.domain.model.GameMap;
+import org.example.domain.repository.GameRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Perft-проверка генерации ходов и определения исхода: эталонная логика {@link GameServiceImpl}
+ * сравнивается с известными размерами дерева игры и с оптимизированными представлениями поля.
+ * <p>
+ * Скорость обхода (позиций в секунду) каждой реализации пишется в лог, поэтому корректность
+ * и скорость нового представления проверяются одним запуском.
+ */
+class PerftTest {
+
+    private static final System.Logger LOGGER = System.getLogger(PerftTest.class.getName());
+
+    /** Количество позиций на каждой глубине полного дерева игры 3x3 (партии заканчиваются победой) */
+    private static final long[] EMPTY_3X3_LEAVES = {1, 9, 72, 504, 3024, 15120, 54720, 148176, 200448, 127872};
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameServiceImpl(Mockito.mock(GameRepository.class));
+    }
+
+    @Test
+    void perft_ShouldMatchKnownTreeSizes_WhenBoardIsEmptyThreeByThree() {
+        for (int depth = 0; depth < EMPTY_3X3_LEAVES.length; depth++) {
+            Perft.Result result = Perft.run(new ReferenceBoard(new GameMap(3), gameService), depth);
+
+            assertThat(result.getLeaves()).as("leaves at depth %d", depth).isEqualTo(EMPTY_3X3_LEAVES[depth]);
+        }
+    }
+
+    @Test
+    void perft_ShouldCountAllGameOutcomes_WhenFullTreeIsTraversed() {
+        Perft.Result result = Perft.run(new ReferenceBoard(new GameMap(3), gameService), 9);
+
+        assertThat(result.getCrossWins() + result.getZeroWins() + result.getDraws()).isEqualTo(255_168);
+        assertThat(result.getCrossWins()).isEqualTo(131_184);
+        assertThat(result.getZeroWins()).isEqualTo(77_904);
+        assertThat(result.getDraws()).isEqualTo(46_080);
+    }
+
+    @Test
+    void perft_ShouldRestoreStartPosition() {
+        int[][] board = {
+                {1, 0, 0},
+                {0, 2, 0},
+                {0, 0, 1}
+        };
+        GameMap map = new GameMap(board, 3);
+
+        Perft.run(new ReferenceBoard(map, gameService), 6);
+
+        assertThat(map.getMap()).isEqualTo(new int[][]{{1, 0, 0}, {0, 2, 0}, {0, 0, 1}});
+    }
+
+    @Test
+    void bitBoard_ShouldMatchReference_WhenBoardIsThreeByThree() {
+        assertMatchesReference("bitboard", BitBoard::new, new GameMap(3), 9);
+        assertMatchesReference("bitboard", BitBoard::new, new GameMap(new int[][]{
+                {1, 0, 0},
+                {0, 2, 0},
+                {0, 0, 1}
+        }, 3), 6);
+    }
+
+    @Test
+    void bitBoard_ShouldMatchReference_WhenBoardIsFourByFour() {
+        assertMatchesReference("bitboard", BitBoard::new, new GameMap(4), 5);
+        assertMatchesReference("bitboard", BitBoard::new, new GameMap(new int[][]{
+                {1, 2, 1, 0},
+                {0, 1, 0, 2},
+                {0, 0, 0, 0},
+                {2, 0, 1, 0}
+        }, 4), 9);
+    }
+
+    @Test
+    void bitBoard_ShouldMatchReference_WhenBoardIsFiveByFive() {
+        assertMatchesReference("bitboard", BitBoard::new, new GameMap(new int[][]{
+                {1, 2, 1, 2, 0},
+                {2, 1, 2, 1, 0},
+                {0, 2, 1, 0, 2},
+                {1, 0, 0, 2, 0},
+                {0, 1, 0, 2, 0}
+        }, 5), 7);
+    }
+
+    /**
+     * Обходит позицию эталонной и проверяемой реализациями и сравнивает результаты.
+     * Скорость обеих реализаций пишется в лог.
+     */
+    private void assertMatchesReference(String name, Function<GameMap, Perft.Board> factory, GameMap start, int depth) {
+        Perft.Board candidate = factory.apply(new GameMap(start.getMap(), start.getSize()));
+        Perft.Result expected = timed("reference", new ReferenceBoard(start, gameService), depth);
+        Perft.Result actual = timed(name, candidate, depth);
+
+        assertThat(actual).as("%s on %dx%d at depth %d", name, start.getSize(), start.getSize(), depth)
+                .isEqualTo(expected);
+    }
+
+    private static Perft.Result timed(String name, Perft.Board board, int depth) {
+        long start = System.nanoTime();
+        Perft.Result result = Perft.run(board, depth);
+        long nanos = Math.max(1, System.nanoTime() - start);
+
+        LOGGER.log(System.Logger.Level.INFO, "perft {0} {1}x{1} depth {2}: {3} positions, {4} positions/s",
+                name, board.size(), depth, result.getVisited(), result.getVisited() * 1_000_000_000L / nanos);
+        return result;
+    }
+}
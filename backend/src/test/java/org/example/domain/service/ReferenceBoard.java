@@ -0,0 +1,58 @@
+package org.example.domain.service;
+
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameStatus;
+
+/**
+ * Эталонное представление для {@link Perft}: доменное поле {@link GameMap} на {@code int[][]}
+ * и проверка статуса из {@link GameServiceImpl}.
+ */
+final class ReferenceBoard implements Perft.Board {
+
+    private final GameMap map;
+    private final GameService gameService;
+
+    /**
+     * @param map         стартовая позиция (изменяется во время обхода и восстанавливается после).
+     * @param gameService сервис, статус которого считается эталонным.
+     */
+    ReferenceBoard(GameMap map, GameService gameService) {
+        this.map = map;
+        this.gameService = gameService;
+    }
+
+    @Override
+    public int size() {
+        return map.getSize();
+    }
+
+    @Override
+    public int emptyCells(int[] out) {
+        int size = map.getSize();
+        int count = 0;
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (map.getCellValue(r, c) == CellType.EMPTY.getValue()) {
+                    out[count++] = r * size + c;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void play(int cell, CellType mark) {
+        map.setCellValue(cell / map.getSize(), cell % map.getSize(), mark);
+    }
+
+    @Override
+    public void clear(int cell) {
+        map.setCellValue(cell / map.getSize(), cell % map.getSize(), CellType.EMPTY);
+    }
+
+    @Override
+    public GameStatus status() {
+        return gameService.checkGameStatus(map);
+    }
+}
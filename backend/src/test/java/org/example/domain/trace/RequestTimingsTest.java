@@ -0,0 +1,59 @@
+package org.example.domain.trace;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.end();
+        RequestTimings.setEnabled(true);
+    }
+
+    @Test
+    void span_ShouldAccountExclusiveTimeOfNestedStages() throws InterruptedException {
+        RequestTimings timings = RequestTimings.begin("trace");
+
+        try (RequestTimings.Span outer = RequestTimings.span("ai")) {
+            try (RequestTimings.Span inner = RequestTimings.span("save")) {
+                TimeUnit.MILLISECONDS.sleep(20);
+            }
+        }
+
+        assertThat(timings.getNanos("save")).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(timings.getNanos("ai")).isLessThan(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void toServerTiming_ShouldListStagesInOrderWithCallCounts() {
+        RequestTimings timings = RequestTimings.begin("trace");
+
+        RequestTimings.span("find").close();
+        RequestTimings.span("validate").close();
+        RequestTimings.span("find").close();
+
+        assertThat(timings.toServerTiming())
+                .matches("find;dur=\\d+\\.\\d{3};desc=\"x2\", validate;dur=\\d+\\.\\d{3}, total;dur=\\d+\\.\\d{3}");
+    }
+
+    @Test
+    void begin_ShouldNotBindTimings_WhenDisabled() {
+        RequestTimings.setEnabled(false);
+
+        assertThat(RequestTimings.begin("trace")).isNull();
+        assertThat(RequestTimings.current()).isNull();
+        RequestTimings.span("find").close();
+    }
+
+    @Test
+    void span_ShouldBeNoOp_WhenThreadHasNoRequest() {
+        RequestTimings.span("find").close();
+
+        assertThat(RequestTimings.current()).isNull();
+    }
+}
@@ -0,0 +1,161 @@
+package org.example.web.admission;
+
+import org.example.domain.model.GameMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControlTest {
+
+    private long now;
+    private AdmissionControl admission;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        // Тяжелый ход — поле от 5x5, предел — поле 7x7; один тяжелый расчет; корзина на 10 токенов, 1 токен в секунду
+        admission = new AdmissionControl(10_000_000, 100_000_000_000L, 1, 10, 1.0, 5, 100, () -> now);
+    }
+
+    @Test
+    void estimate_ShouldGrowWithBoardSize() {
+        long small = MoveCostEstimator.estimate(new GameMap(3));
+        long big = MoveCostEstimator.estimate(new GameMap(50));
+
+        assertThat(small).isEqualTo(9L * 9 * 8 * 7 * 6 * 5);
+        assertThat(big).isGreaterThan(small * 1_000_000);
+        assertThat(MoveCostEstimator.estimate(3, 0)).isEqualTo(9);
+    }
+
+    @Test
+    void admit_ShouldShedHeavyMove_WhenConcurrencyLimitReached() {
+        GameMap big = new GameMap(7);
+
+        try (AdmissionControl.Permit ignored = admission.admit("a", big)) {
+            assertThat(admission.getActiveHeavySearches()).isEqualTo(1);
+            assertThatThrownBy(() -> admission.admit("b", big))
+                    .isInstanceOfSatisfying(AdmissionRejectedException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+
+        assertThat(admission.getActiveHeavySearches()).isZero();
+        assertThat(admission.getShedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void admit_ShouldRejectMove_WhenCostExceedsCeiling() {
+        // Оценка поля 50x50 насыщается до Long.MAX_VALUE: такой расчет не завершится
+        GameMap huge = new GameMap(50);
+
+        assertThatThrownBy(() -> admission.admit("a", huge))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+                    assertThat(e.getHeaders().containsKey(HttpHeaders.RETRY_AFTER)).isFalse();
+                });
+
+        // Разрешение на тяжелый расчет и квота клиента не тратятся
+        assertThat(admission.getActiveHeavySearches()).isZero();
+        assertThat(admission.getTooExpensiveCount()).isEqualTo(1);
+        admission.admit("a", new GameMap(7)).close();
+    }
+
+    @Test
+    void checkBoardSize_ShouldRejectBoards_WhoseFirstMoveExceedsCeiling() {
+        // Первый ответный ход на поле 8x8 укладывается в предел, на поле 9x9 — уже нет
+        admission.checkBoardSize(1);
+        admission.checkBoardSize(8);
+
+        assertThatThrownBy(() -> admission.checkBoardSize(9))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThatThrownBy(() -> admission.checkBoardSize(100_000))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThatThrownBy(() -> admission.checkBoardSize(0))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(admission.getTooExpensiveCount()).isZero();
+    }
+
+    @Test
+    void admit_ShouldAdmitCheapMoves_WhileHeavySearchIsRunning() {
+        try (AdmissionControl.Permit ignored = admission.admit("a", new GameMap(7))) {
+            for (int i = 0; i < 5; i++) {
+                admission.admit("b", new GameMap(3)).close();
+            }
+        }
+
+        assertThat(admission.getAdmittedCount()).isEqualTo(6);
+    }
+
+    @Test
+    void admit_ShouldThrottleClient_WhenBucketIsEmpty() {
+        for (int i = 0; i < 10; i++) {
+            admission.admit("a", new GameMap(3)).close();
+        }
+
+        assertThatThrownBy(() -> admission.admit("a", new GameMap(3)))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(1);
+                });
+
+        // Квота других клиентов не затронута
+        admission.admit("b", new GameMap(3)).close();
+
+        now += TimeUnit.SECONDS.toNanos(1);
+        admission.admit("a", new GameMap(3)).close();
+        assertThat(admission.getThrottledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void admit_ShouldChargeMoreTokensForHeavyMoves() {
+        admission.admit("a", new GameMap(7)).close();
+        admission.admit("a", new GameMap(7)).close();
+
+        assertThatThrownBy(() -> admission.admit("a", new GameMap(3)))
+                .isInstanceOf(AdmissionRejectedException.class);
+    }
+
+    @Test
+    void admit_ShouldEvictFullBucketsGradually_WhenClientLimitReached() {
+        AdmissionControl limited = new AdmissionControl(10_000_000, 100_000_000_000L, 1, 10, 1.0, 5, 16, () -> now);
+        for (int i = 0; i < 16; i++) {
+            limited.admit("client-" + i, new GameMap(3)).close();
+        }
+
+        // Пока корзины не пополнились, новые клиенты делят общую корзину и исчерпывают её вместе
+        for (int i = 0; i < 10; i++) {
+            limited.admit("new-" + i, new GameMap(3)).close();
+        }
+        assertThatThrownBy(() -> limited.admit("new-10", new GameMap(3)))
+                .isInstanceOf(AdmissionRejectedException.class);
+
+        // После пополнения полные корзины освобождают место для отдельных корзин новых клиентов
+        now += TimeUnit.SECONDS.toNanos(10);
+        for (int i = 0; i < 10; i++) {
+            limited.admit("fresh", new GameMap(3)).close();
+        }
+        assertThatThrownBy(() -> limited.admit("fresh", new GameMap(3)))
+                .isInstanceOf(AdmissionRejectedException.class);
+        limited.admit("another", new GameMap(3)).close();
+    }
+
+    @Test
+    void permit_ShouldReleaseOnlyOnce() {
+        AdmissionControl.Permit permit = admission.admit("a", new GameMap(7));
+        permit.close();
+        permit.close();
+
+        admission.admit("b", new GameMap(7));
+        assertThatThrownBy(() -> admission.admit("c", new GameMap(7)))
+                .isInstanceOf(AdmissionRejectedException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.web.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.web.codec.BinaryGameCodec;
+import org.example.web.model.GameSessionDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionResponseCacheTest {
+
+    private final SessionResponseCache cache = new SessionResponseCache(new ObjectMapper(), 2);
+
+    @Test
+    void render_ShouldReuseBody_WhenVersionIsUnchanged() {
+        GameSession session = new GameSession(UUID.randomUUID(), new GameMap(3), GameStatus.PLAYING, 1L);
+        SessionResponseCache.Format json = cache.negotiate(List.of(MediaType.APPLICATION_JSON));
+
+        byte[] first = cache.render(session, json);
+        byte[] second = cache.render(session, json);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void render_ShouldRebuildBody_WhenVersionChanges() {
+        GameSession session = new GameSession(UUID.randomUUID(), new GameMap(3), GameStatus.PLAYING, 1L);
+        SessionResponseCache.Format json = cache.negotiate(List.of());
+        cache.render(session, json);
+
+        session.getGameMap().setCellValue(0, 0, CellType.CROSS);
+        session.setVersion(2L);
+        String body = new String(cache.render(session, json), StandardCharsets.UTF_8);
+
+        assertThat(body).contains("[1,0,0]");
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void render_ShouldEncodeBinaryFrame_WhenBinaryFormatRequested() {
+        GameSession session = new GameSession(UUID.randomUUID(), new GameMap(3), GameStatus.PLAYING, 1L);
+        SessionResponseCache.Format binary = cache.negotiate(List.of(BinaryGameCodec.MEDIA_TYPE));
+
+        byte[] body = cache.render(session, binary);
+
+        GameSessionDTO decoded = BinaryGameCodec.decode(ByteBuffer.wrap(body), GameSessionDTO.class);
+        assertThat(decoded.getId()).isEqualTo(session.getId());
+        assertThat(binary.etag(1L)).isEqualTo("\"1-binary\"");
+    }
+
+    @Test
+    void negotiate_ShouldPreferJson_ForWildcardAndRejectUnknownTypes() {
+        assertThat(cache.negotiate(List.of(MediaType.ALL)).getMediaType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(cache.negotiate(List.of(MediaType.APPLICATION_XML))).isNull();
+        assertThat(cache.negotiate(List.of(MediaType.APPLICATION_JSON)).etag(5L)).isEqualTo("\"5\"");
+    }
+}
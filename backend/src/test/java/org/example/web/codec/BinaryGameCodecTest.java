@@ -0,0 +1,94 @@
+package org.example.web.codec;
+
+import org.example.web.model.GameMapDTO;
+import org.example.web.model.GameSessionDTO;
+import org.example.web.model.GameStatusDTO;
+import org.example.web.model.MoveRequestDTO;
+import org.example.web.model.MoveResponseDTO;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BinaryGameCodecTest {
+
+    @Test
+    void session_ShouldRoundTrip() {
+        int[][] map = new int[7][7];
+        map[0][0] = 1;
+        map[3][2] = 2;
+        map[6][6] = 2;
+        GameSessionDTO session = new GameSessionDTO(UUID.randomUUID(), new GameMapDTO(map, 7), GameStatusDTO.ZERO_WIN);
+
+        GameSessionDTO decoded = BinaryGameCodec.decode(encode(session), GameSessionDTO.class);
+
+        assertThat(decoded.getId()).isEqualTo(session.getId());
+        assertThat(decoded.getStatus()).isEqualTo(GameStatusDTO.ZERO_WIN);
+        assertThat(decoded.getGameMap().getSize()).isEqualTo(7);
+        assertThat(decoded.getGameMap().getMap()).isDeepEqualTo(map);
+    }
+
+    @Test
+    void session_ShouldUseTwoBitsPerCell() {
+        GameSessionDTO session = new GameSessionDTO(UUID.randomUUID(), new GameMapDTO(new int[3][3], 3),
+                GameStatusDTO.PLAYING);
+
+        // заголовок 5 + флаги 1 + id 16 + статус 1 + размер 2 + ячейки 3
+        assertThat(BinaryGameCodec.frameSize(session)).isEqualTo(28);
+    }
+
+    @Test
+    void session_ShouldRoundTrip_WhenIdIsMissing() {
+        GameSessionDTO session = new GameSessionDTO(null, new GameMapDTO(new int[3][3], 3), GameStatusDTO.PLAYING);
+
+        GameSessionDTO decoded = BinaryGameCodec.decode(encode(session), GameSessionDTO.class);
+
+        assertThat(decoded.getId()).isNull();
+        assertThat(decoded.getStatus()).isEqualTo(GameStatusDTO.PLAYING);
+    }
+
+    @Test
+    void moveMessages_ShouldRoundTrip() {
+        MoveRequestDTO request = BinaryGameCodec.decode(encode(new MoveRequestDTO(2, 1)), MoveRequestDTO.class);
+        MoveResponseDTO response = BinaryGameCodec.decode(
+                encode(new MoveResponseDTO(null, null, GameStatusDTO.CROSS_WIN)), MoveResponseDTO.class);
+
+        assertThat(request.getRow()).isEqualTo(2);
+        assertThat(request.getCol()).isEqualTo(1);
+        assertThat(response.getRow()).isNull();
+        assertThat(response.getStatus()).isEqualTo(GameStatusDTO.CROSS_WIN);
+    }
+
+    @Test
+    void decode_ShouldThrow_WhenFrameTypeDoesNotMatch() {
+        ByteBuffer frame = encode(new MoveRequestDTO(0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryGameCodec.decode(frame, GameSessionDTO.class));
+    }
+
+    @Test
+    void decode_ShouldThrow_WhenFrameIsTruncated() {
+        ByteBuffer frame = encode(new MoveRequestDTO(0, 0));
+        frame.limit(frame.limit() - 1);
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryGameCodec.decode(frame, MoveRequestDTO.class));
+    }
+
+    @Test
+    void decode_ShouldThrow_WhenBoardSizeIsTooLargeForFrame() {
+        // Заголовок, флаг поля и размер 65535 без ячеек: size * size не помещается в int
+        ByteBuffer frame = ByteBuffer.allocate(BinaryGameCodec.HEADER_BYTES + 3);
+        frame.put(BinaryGameCodec.TYPE_SESSION).putInt(3).put((byte) 4).putShort((short) 65535).flip();
+
+        assertThrows(IllegalArgumentException.class, () -> BinaryGameCodec.decode(frame, GameSessionDTO.class));
+    }
+
+    private static ByteBuffer encode(Object message) {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryGameCodec.frameSize(message));
+        BinaryGameCodec.encode(message, buffer);
+        return buffer.flip();
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.web.codec;
+
+import org.example.web.model.GameMapDTO;
+import org.example.web.model.GameSessionDTO;
+import org.example.web.model.GameStatusDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryGameMessageConverterTest {
+
+    private final BinaryGameMessageConverter converter = new BinaryGameMessageConverter();
+
+    @Test
+    void readAndWrite_ShouldRoundTrip_WhenFrameExceedsCachedBuffer() throws IOException {
+        // Поле 600x600 занимает около 90 КБ — больше буфера, который сохраняется в потоке
+        GameSessionDTO large = session(600);
+        GameSessionDTO small = session(3);
+
+        for (GameSessionDTO session : new GameSessionDTO[]{large, small, large, small}) {
+            byte[] frame = write(session);
+            assertThat(frame).hasSize(BinaryGameCodec.frameSize(session));
+
+            GameSessionDTO decoded = (GameSessionDTO) converter.read(GameSessionDTO.class, new MockHttpInputMessage(frame));
+
+            assertThat(decoded.getId()).isEqualTo(session.getId());
+            assertThat(decoded.getGameMap().getMap()).isDeepEqualTo(session.getGameMap().getMap());
+        }
+        assertThat(BinaryGameCodec.frameSize(large)).isGreaterThan(BinaryGameMessageConverter.MAX_CACHED_BUFFER_BYTES);
+    }
+
+    private byte[] write(Object message) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(message, BinaryGameCodec.MEDIA_TYPE, output);
+        return output.getBodyAsBytes();
+    }
+
+    private static GameSessionDTO session(int size) {
+        int[][] map = new int[size][size];
+        map[0][0] = 1;
+        map[size - 1][size - 1] = 2;
+        return new GameSessionDTO(UUID.randomUUID(), new GameMapDTO(map, size), GameStatusDTO.PLAYING);
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.web.codec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoardCodecTest {
+
+    @Test
+    void toChars_ShouldEncodeRowMajor() {
+        int[][] map = {{1, 0, 2}, {0, 1, 0}, {2, 2, 1}};
+
+        assertThat(new String(BoardCodec.toChars(map, 3))).isEqualTo("X.O.X.OOX");
+    }
+
+    @Test
+    void fromChars_ShouldRestoreBoard() {
+        assertThat(BoardCodec.fromChars("X.O.X.OOX", 3))
+                .isDeepEqualTo(new int[][]{{1, 0, 2}, {0, 1, 0}, {2, 2, 1}});
+    }
+
+    @Test
+    void fromChars_ShouldThrow_WhenInputIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.fromChars("X.O", 3));
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.fromChars("X.O.X.OOZ", 3));
+    }
+
+    @Test
+    void pack_ShouldUseTwoBitsPerCell_AndRoundTrip() {
+        int[][] map = new int[7][7];
+        map[0][0] = 1;
+        map[3][4] = 2;
+        map[6][6] = 2;
+
+        byte[] packed = BoardCodec.pack(map, 7);
+
+        assertThat(packed).hasSize(13);
+        assertThat(BoardCodec.unpack(packed, 7)).isDeepEqualTo(map);
+    }
+
+    @Test
+    void unpack_ShouldThrow_WhenLengthDoesNotMatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.unpack(new byte[2], 3));
+    }
+
+    @Test
+    void unpack_ShouldThrow_WhenSizeExceedsLimit() {
+        // 65536 * 65536 переполняет int и дает нулевую длину
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.unpack(new byte[0], 65536));
+        assertThrows(IllegalArgumentException.class, () -> BoardCodec.fromChars("", 65536));
+    }
+}
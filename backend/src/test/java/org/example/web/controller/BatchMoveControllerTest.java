@@ -0,0 +1,69 @@
+package org.example.web.controller;
+
+import org.example.domain.model.BatchMoveOutcome;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveError;
+import org.example.domain.model.MoveResult;
+import org.example.domain.service.BatchMoveService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BatchMoveController.class)
+class BatchMoveControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private BatchMoveService batchMoveService;
+
+    @Test
+    void playBatch_ShouldReturnResultOrErrorPerMove() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        Mockito.when(batchMoveService.playAll(anyList(), anyString())).thenReturn(List.of(
+                BatchMoveOutcome.success(first, new MoveResult(0, 0, GameStatus.PLAYING)),
+                BatchMoveOutcome.failure(second, MoveError.NOT_FOUND, "Game not found")));
+
+        String jsonPayload = """
+                [
+                  {"id": "%s", "row": 1, "col": 1},
+                  {"id": "%s", "row": 2, "col": 2}
+                ]
+                """.formatted(first, second);
+
+        mockMvc.perform(post("/game/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonPayload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(first.toString()))
+                .andExpect(jsonPath("$[0].row").value(0))
+                .andExpect(jsonPath("$[0].status").value("PLAYING"))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].error").value(404))
+                .andExpect(jsonPath("$[1].message").value("Game not found"));
+    }
+
+    @Test
+    void playBatch_ShouldReturnBadRequest_WhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post("/game/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(batchMoveService);
+    }
+}
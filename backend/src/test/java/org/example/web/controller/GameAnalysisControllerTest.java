@@ -0,0 +1,76 @@
+package org.example.web.controller;
+
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.service.GameService;
+import org.example.domain.service.SearchAnalysis;
+import org.example.domain.service.SearchStats;
+import org.example.web.admission.AdmissionControl;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = GameAnalysisController.class, properties = "game.analysis.enabled=true")
+class GameAnalysisControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GameService gameService;
+
+    @MockBean
+    private GameRepository gameRepository;
+
+    @MockBean
+    private AdmissionControl admissionControl;
+
+    @Test
+    void analyze_ShouldReturnScoresAndSearchStats() throws Exception {
+        UUID sessionId = UUID.randomUUID();
+        GameSession session = new GameSession(sessionId, new GameMap(3), GameStatus.PLAYING);
+        SearchAnalysis.MoveScore best = new SearchAnalysis.MoveScore(1, 1, 8);
+        SearchAnalysis analysis = new SearchAnalysis(
+                List.of(new SearchAnalysis.MoveScore(0, 1, -7), best),
+                List.of(best, new SearchAnalysis.MoveScore(0, 2, 8)),
+                new SearchStats(3, 8080, 5, 5448, 2_000_000));
+
+        Mockito.when(gameRepository.findById(sessionId)).thenReturn(Optional.of(session));
+        Mockito.when(gameService.analyze(any())).thenReturn(analysis);
+
+        mockMvc.perform(get("/game/" + sessionId + "/analysis"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rootMoves.length()").value(2))
+                .andExpect(jsonPath("$.rootMoves[0].score").value(-7))
+                .andExpect(jsonPath("$.principalVariation[0].row").value(1))
+                .andExpect(jsonPath("$.principalVariation[0].col").value(1))
+                .andExpect(jsonPath("$.nodes").value(8080))
+                .andExpect(jsonPath("$.depth").value(5))
+                .andExpect(jsonPath("$.durationMicros").value(2000));
+
+        Mockito.verify(gameRepository, Mockito.never()).compareAndSave(any());
+    }
+
+    @Test
+    void analyze_ShouldReturnNotFound_WhenGameDoesNotExist() throws Exception {
+        UUID sessionId = UUID.randomUUID();
+        Mockito.when(gameRepository.findById(sessionId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/game/" + sessionId + "/analysis"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.datasource.repository.GameRepositoryImpl;
+import org.example.datasource.storage.GameStorage;
+import org.example.domain.id.TimeOrderedSessionIdGenerator;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.repository.SessionCapacity;
+import org.example.domain.service.GameServiceImpl;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.cache.SessionResponseCache;
+import org.example.web.model.GameMapDTO;
+import org.example.web.model.GameSessionDTO;
+import org.example.web.model.GameStatusDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Бюджеты выделения памяти на полный ход через {@link GameController#playMove}:
+ * поиск сессии, маппинг, проверка поля, допуск, расчет хода ИИ и сохранение.
+ * <p>
+ * Контроллер вызывается напрямую с настоящими сервисом и хранилищем, без MockMvc и Jackson,
+ * чтобы замер включал только код приложения.
+ */
+class GameControllerAllocationTest {
+
+    /** Бюджет одного хода, байт (копии поля при маппинге и сохранении, записи хранилища) */
+    private static final long MOVE_BUDGET_BYTES = 16 * 1024;
+
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 10;
+
+    private com.sun.management.ThreadMXBean threads;
+    private GameRepository repository;
+    private GameController controller;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        repository = new GameRepositoryImpl(new GameStorage());
+        AdmissionControl admission = new AdmissionControl(Long.MAX_VALUE, Long.MAX_VALUE, 1, 1_000, 1_000.0, 1, 16);
+        controller = new GameController(new GameServiceImpl(repository), repository,
+                TimeOrderedSessionIdGenerator.INSTANCE, admission, new SessionResponseCache(new ObjectMapper(), 16),
+                SessionCapacity.UNLIMITED);
+        request = new MockHttpServletRequest();
+    }
+
+    @Test
+    void playMove_ShouldStayWithinBudget_WhenBoardIsThreeByThree() {
+        int[][] before = {
+                {0, 0, 0},
+                {0, 0, 0},
+                {0, 0, 0}
+        };
+        int[][] after = {
+                {1, 0, 0},
+                {0, 0, 0},
+                {0, 0, 0}
+        };
+
+        assertThat(allocatedPerMove(before, after)).isLessThanOrEqualTo(MOVE_BUDGET_BYTES);
+    }
+
+    @Test
+    void playMove_ShouldStayWithinBudget_WhenBoardIsFourByFour() {
+        int[][] before = {
+                {1, 2, 1, 0},
+                {0, 0, 0, 2},
+                {0, 0, 0, 0},
+                {2, 0, 1, 0}
+        };
+        int[][] after = {
+                {1, 2, 1, 0},
+                {0, 1, 0, 2},
+                {0, 0, 0, 0},
+                {2, 0, 1, 0}
+        };
+
+        assertThat(allocatedPerMove(before, after)).isLessThanOrEqualTo(MOVE_BUDGET_BYTES);
+    }
+
+    /**
+     * Возвращает минимальный объем выделений одного хода. Каждый запуск играет в новую
+     * сессию; сессия и тело запроса создаются до начала замера.
+     */
+    private long allocatedPerMove(int[][] before, int[][] after) {
+        long min = Long.MAX_VALUE;
+        for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+            UUID id = UUID.randomUUID();
+            repository.save(new GameSession(id, new GameMap(copy(before), before.length), GameStatus.PLAYING));
+            GameSessionDTO body = new GameSessionDTO(null, new GameMapDTO(copy(after), after.length), GameStatusDTO.PLAYING);
+
+            long start = threads.getCurrentThreadAllocatedBytes();
+            ResponseEntity<GameSessionDTO> response = controller.playMove(id, body, request);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - start;
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            if (run >= WARMUP_RUNS) {
+                min = Math.min(min, allocated);
+            }
+        }
+        return min;
+    }
+
+    private static int[][] copy(int[][] board) {
+        int[][] copy = new int[board.length][];
+        for (int i = 0; i < board.length; i++) {
+            copy[i] = board[i].clone();
+        }
+        return copy;
+    }
+}
@@ -1,23 +1,38 @@
 package org.example.web.controller;
 
+import org.example.domain.exception.SessionCapacityExceededException;
+import org.example.domain.exception.SessionConflictException;
+import org.example.domain.id.SessionIdGenerator;
 import org.example.domain.model.GameMap;
 import org.example.domain.model.GameSession;
 import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveResult;
 import org.example.domain.repository.GameRepository;
+import org.example.domain.repository.SessionCapacity;
 import org.example.domain.service.GameService;
+import org.example.web.admission.AdmissionControl;
+import org.example.web.admission.AdmissionRejectedException;
+import org.example.web.codec.BinaryGameCodec;
+import org.example.web.model.MoveRequestDTO;
+import org.example.web.model.MoveResponseDTO;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.ByteBuffer;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,12 +48,47 @@ class GameControllerTest {
     @MockBean
     private GameRepository gameRepository;
 
+    @MockBean
+    private SessionIdGenerator idGenerator;
+
+    @MockBean
+    private AdmissionControl admissionControl;
+
+    @MockBean
+    private SessionCapacity sessionCapacity;
+
     @Test
     void createGame_ShouldReturnCreatedStatus() throws Exception {
+        UUID sessionId = UUID.randomUUID();
+        Mockito.when(idGenerator.nextId()).thenReturn(sessionId);
+
         mockMvc.perform(post("/game")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.id").exists());
+                .andExpect(jsonPath("$.id").value(sessionId.toString()));
+    }
+
+    @Test
+    void createGame_ShouldReturnServiceUnavailable_WhenStorageIsFull() throws Exception {
+        Mockito.doThrow(new SessionCapacityExceededException(2048, 1024)).when(sessionCapacity).checkCanCreate();
+
+        mockMvc.perform(post("/game")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable());
+
+        Mockito.verify(gameRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    void createGame_ShouldReturnUnprocessableEntity_WhenBoardIsTooLarge() throws Exception {
+        Mockito.doThrow(new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "Board is too large to play"))
+                .when(admissionControl).checkBoardSize(100);
+
+        mockMvc.perform(post("/game?size=100")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isUnprocessableEntity());
+
+        Mockito.verify(gameRepository, Mockito.never()).save(any());
     }
 
     @Test
@@ -103,6 +153,7 @@ class GameControllerTest {
         Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
         Mockito.when(gameService.validateMapIntegrity(any(), any())).thenReturn(true);
         Mockito.when(gameService.checkGameStatus(any())).thenReturn(GameStatus.CROSS_WIN);
+        Mockito.when(gameRepository.compareAndSave(any(GameSession.class))).thenReturn(true);
 
         String jsonPayload = """
                 {
@@ -117,6 +168,261 @@ class GameControllerTest {
 
         Mockito.verify(gameService, Mockito.never()).getNextMove(any());
 
-        Mockito.verify(gameRepository, Mockito.times(1)).save(any(GameSession.class));
+        Mockito.verify(gameRepository, Mockito.times(1)).compareAndSave(any(GameSession.class));
+    }
+
+    @Test
+    void playMove_ShouldReturnConflict_WhenSessionWasModifiedConcurrently() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(), GameStatus.PLAYING, 4);
+
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+        Mockito.when(gameService.validateMapIntegrity(any(), any())).thenReturn(true);
+        Mockito.when(gameService.checkGameStatus(any())).thenReturn(GameStatus.PLAYING);
+        Mockito.when(gameService.getNextMove(any())).thenThrow(new SessionConflictException(id));
+
+        String jsonPayload = """
+                {
+                    "gameMap": {"map": [[1,0,0],[0,0,0],[0,0,0]], "size": 3},
+                    "status": "PLAYING"
+                }
+                """;
+
+        mockMvc.perform(post("/game/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonPayload))
+                .andExpect(status().isConflict());
+
+        Mockito.verify(gameService).getNextMove(Mockito.argThat(s -> s.getVersion() == 4));
+    }
+
+    @Test
+    void makeMove_ShouldReturnAiReply() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+        Mockito.when(gameService.makeMove(session, 1, 1)).thenReturn(new MoveResult(0, 0, GameStatus.PLAYING));
+
+        mockMvc.perform(post("/game/" + id + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"row\": 1, \"col\": 1}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.row").value(0))
+                .andExpect(jsonPath("$.col").value(0))
+                .andExpect(jsonPath("$.status").value("PLAYING"))
+                .andExpect(jsonPath("$.gameMap").doesNotExist());
+    }
+
+    @Test
+    void makeMove_ShouldReturnBadRequest_WhenCellIsOccupied() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+        Mockito.when(gameService.makeMove(any(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenThrow(new IllegalArgumentException("Cell is already occupied."));
+
+        mockMvc.perform(post("/game/" + id + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"row\": 0, \"col\": 0}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void makeMove_ShouldReturnBadRequest_WhenCoordinatesAreMissing() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        mockMvc.perform(post("/game/" + id + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"row\": 2}"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(gameService, Mockito.never()).makeMove(any(), Mockito.anyInt(), Mockito.anyInt());
+        Mockito.verify(admissionControl, Mockito.never()).admit(any(), any());
+    }
+
+    @Test
+    void makeMove_ShouldNotConsumeAdmission_WhenCellIsInvalid() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+        Mockito.doThrow(new IllegalArgumentException("Cell is already occupied."))
+                .when(gameService).checkMove(any(), Mockito.anyInt(), Mockito.anyInt());
+
+        mockMvc.perform(post("/game/" + id + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"row\": 0, \"col\": 0}"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verify(admissionControl, Mockito.never()).admit(any(), any());
+        Mockito.verify(gameService, Mockito.never()).makeMove(any(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    void makeMove_ShouldReturnNotFound_WhenSessionDoesNotExist() throws Exception {
+        UUID id = UUID.randomUUID();
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/game/" + id + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"row\": 0, \"col\": 0}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void makeMove_ShouldReturnConflict_WhenSessionWasModifiedConcurrently() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+        Mockito.when(gameService.makeMove(any(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenThrow(new SessionConflictException(id));
+
+        mockMvc.perform(post("/game/" + id + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"row\": 0, \"col\": 0}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void makeMove_ShouldReturnTooManyRequests_WhenAdmissionRejectsMove() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+        Mockito.when(admissionControl.admit(any(), any()))
+                .thenThrow(AdmissionRejectedException.tooManyRequests(3));
+
+        mockMvc.perform(post("/game/" + id + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"row\": 0, \"col\": 0}"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "3"));
+
+        Mockito.verify(gameService, Mockito.never()).makeMove(any(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    void createGame_ShouldReturnCompactBoard_WhenClientAcceptsCompactFormat() throws Exception {
+        Mockito.when(idGenerator.nextId()).thenReturn(UUID.randomUUID());
+
+        mockMvc.perform(post("/game")
+                        .accept("application/vnd.tictactoe.compact"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.gameMap.size").value(3))
+                .andExpect(jsonPath("$.gameMap.cells").value("........."))
+                .andExpect(jsonPath("$.gameMap.map").doesNotExist());
+    }
+
+    @Test
+    void createGame_ShouldReturnArrayBoard_WhenClientAcceptsJson() throws Exception {
+        Mockito.when(idGenerator.nextId()).thenReturn(UUID.randomUUID());
+
+        mockMvc.perform(post("/game")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.gameMap.map[0][0]").value(0))
+                .andExpect(jsonPath("$.gameMap.cells").doesNotExist());
+    }
+
+    @Test
+    void playMove_ShouldAcceptPackedBoard() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+        Mockito.when(gameService.validateMapIntegrity(any(), any())).thenReturn(true);
+        Mockito.when(gameService.checkGameStatus(any())).thenReturn(GameStatus.PLAYING);
+
+        // Крестик в центре: ячейка 4 -> второй байт, младшие два бита
+        String jsonPayload = """
+                {"gameMap": {"size": 3, "packed": "AAEA"}, "status": "PLAYING"}
+                """;
+
+        mockMvc.perform(post("/game/" + id)
+                        .contentType("application/vnd.tictactoe.packed")
+                        .accept("application/vnd.tictactoe.packed")
+                        .content(jsonPayload))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.gameMap.packed").value("AAEA"));
+
+        Mockito.verify(gameService).validateMapIntegrity(any(),
+                Mockito.argThat(map -> map.getCellValue(1, 1) == 1));
+    }
+
+    @Test
+    void makeMove_ShouldSpeakBinaryProtocol_WhenClientRequestsIt() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+        Mockito.when(gameService.makeMove(session, 1, 1)).thenReturn(new MoveResult(0, 2, GameStatus.PLAYING));
+
+        ByteBuffer request = ByteBuffer.allocate(BinaryGameCodec.frameSize(new MoveRequestDTO(1, 1)));
+        BinaryGameCodec.encode(new MoveRequestDTO(1, 1), request);
+
+        byte[] body = mockMvc.perform(post("/game/" + id + "/move")
+                        .contentType(BinaryGameCodec.MEDIA_TYPE)
+                        .accept(BinaryGameCodec.MEDIA_TYPE)
+                        .content(request.array()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryGameCodec.MEDIA_TYPE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        MoveResponseDTO response = BinaryGameCodec.decode(ByteBuffer.wrap(body), MoveResponseDTO.class);
+        assertThat(response.getRow()).isEqualTo(0);
+        assertThat(response.getCol()).isEqualTo(2);
+    }
+
+    @Test
+    void getGame_ShouldReturnSessionWithVersionETag() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(3), GameStatus.PLAYING, 2L);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+
+        mockMvc.perform(get("/game/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.id").value(id.toString()))
+                .andExpect(jsonPath("$.status").value("PLAYING"));
+    }
+
+    @Test
+    void getGame_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(3), GameStatus.PLAYING, 2L);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+
+        mockMvc.perform(get("/game/" + id).header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        session.setVersion(3L);
+        mockMvc.perform(get("/game/" + id).header("If-None-Match", "\"2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    void getGame_ShouldUseSeparateETagPerFormat() throws Exception {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(3), GameStatus.PLAYING, 1L);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(session));
+
+        mockMvc.perform(get("/game/" + id).accept("application/vnd.tictactoe.compact"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-string\""))
+                .andExpect(jsonPath("$.gameMap.cells").value("........."));
+    }
+
+    @Test
+    void getGame_ShouldReturnNotFound_WhenSessionDoesNotExist() throws Exception {
+        UUID id = UUID.randomUUID();
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/game/" + id))
+                .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+}
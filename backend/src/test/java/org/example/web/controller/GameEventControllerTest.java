@@ -0,0 +1,56 @@
+package org.example.web.controller;
+
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.repository.GameRepository;
+import org.example.web.sse.GameEventBroadcaster;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(GameEventController.class)
+class GameEventControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GameRepository gameRepository;
+
+    @MockBean
+    private GameEventBroadcaster broadcaster;
+
+    @Test
+    void streamEvents_ShouldSubscribeToGame_WhenGameExists() throws Exception {
+        GameSession session = new GameSession(new GameMap(3));
+        Mockito.when(gameRepository.findById(session.getId())).thenReturn(Optional.of(session));
+
+        mockMvc.perform(get("/game/" + session.getId() + "/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        Mockito.verify(broadcaster).subscribe(eq(session), any());
+    }
+
+    @Test
+    void streamEvents_ShouldReturnNotFound_WhenGameDoesNotExist() throws Exception {
+        UUID id = UUID.randomUUID();
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/game/" + id + "/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+
+        Mockito.verifyNoInteractions(broadcaster);
+    }
+}
@@ -3,9 +3,11 @@ package org.example.web.mapper;
 import org.example.domain.model.GameMap;
 import org.example.domain.model.GameSession;
 import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveResult;
 import org.example.web.model.GameMapDTO;
 import org.example.web.model.GameSessionDTO;
 import org.example.web.model.GameStatusDTO;
+import org.example.web.model.MoveResponseDTO;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Constructor;
@@ -69,4 +71,17 @@ class GameMapperDTOTest {
         assertArrayEquals(rawMap[1], session.getGameMap().getMap()[1]);
         assertEquals(GameStatus.PLAYING, session.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void toMoveDTO_ShouldOmitCoordinates_WhenAiDidNotReply() {
+        MoveResponseDTO reply = GameMapperDTO.toMoveDTO(new MoveResult(1, 2, GameStatus.PLAYING));
+        MoveResponseDTO noReply = GameMapperDTO.toMoveDTO(new MoveResult(-1, -1, GameStatus.CROSS_WIN));
+
+        assertEquals(1, reply.getRow());
+        assertEquals(2, reply.getCol());
+        assertEquals(GameStatusDTO.PLAYING, reply.getStatus());
+        assertNull(noReply.getRow());
+        assertNull(noReply.getCol());
+        assertEquals(GameStatusDTO.CROSS_WIN, noReply.getStatus());
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.web.reactive;
+
+import org.example.domain.exception.SessionCapacityExceededException;
+import org.example.domain.exception.SessionConflictException;
+import org.example.domain.id.SessionIdGenerator;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveResult;
+import org.example.domain.repository.ReactiveGameRepository;
+import org.example.domain.repository.SessionCapacity;
+import org.example.domain.service.GameService;
+import org.example.web.admission.AdmissionControl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+@WebFluxTest(ReactiveGameController.class)
+class ReactiveGameControllerTest {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @MockBean
+    private GameService gameService;
+
+    @MockBean
+    private ReactiveGameRepository gameRepository;
+
+    @MockBean
+    private SessionIdGenerator idGenerator;
+
+    @MockBean
+    private AdmissionControl admissionControl;
+
+    @MockBean
+    private SessionCapacity sessionCapacity;
+
+    @TestConfiguration
+    static class EngineConfig {
+        @Bean
+        Scheduler engineScheduler() {
+            return Schedulers.immediate();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(admissionControl.admit(any(), any())).thenReturn(() -> { });
+    }
+
+    @Test
+    void createGame_ShouldReturnCreatedStatus() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(idGenerator.nextId()).thenReturn(id);
+        Mockito.when(gameRepository.save(any())).thenReturn(Mono.empty());
+
+        webClient.post().uri("/game?size=3")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.id").isEqualTo(id.toString());
+    }
+
+    @Test
+    void createGame_ShouldReturnServiceUnavailable_WhenStorageIsFull() {
+        Mockito.doThrow(new SessionCapacityExceededException(2048, 1024)).when(sessionCapacity).checkCanCreate();
+
+        webClient.post().uri("/game?size=3")
+                .exchange()
+                .expectStatus().isEqualTo(503);
+
+        Mockito.verify(gameRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    void getGame_ShouldReturnVersionETag() {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(3), GameStatus.PLAYING, 4L);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Mono.just(session));
+
+        webClient.get().uri("/game/" + id)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"4\"");
+
+        webClient.get().uri("/game/" + id)
+                .header("If-None-Match", "\"4\"")
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void makeMove_ShouldReturnAiReply() {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(3), GameStatus.PLAYING);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Mono.just(session));
+        Mockito.when(gameService.makeMove(session, 1, 1)).thenReturn(new MoveResult(0, 0, GameStatus.PLAYING));
+
+        webClient.post().uri("/game/" + id + "/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"row\": 1, \"col\": 1}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.row").isEqualTo(0)
+                .jsonPath("$.status").isEqualTo("PLAYING");
+    }
+
+    @Test
+    void makeMove_ShouldMapDomainErrorsToStatuses() {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(3), GameStatus.PLAYING);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Mono.just(session));
+        Mockito.when(gameService.makeMove(any(), anyInt(), anyInt()))
+                .thenThrow(new IllegalArgumentException("Cell is already occupied."))
+                .thenThrow(new SessionConflictException(id))
+                .thenThrow(new RejectedExecutionException("queue is full"));
+
+        for (int expected : new int[]{400, 409, 503}) {
+            webClient.post().uri("/game/" + id + "/move")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"row\": 0, \"col\": 0}")
+                    .exchange()
+                    .expectStatus().isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void makeMove_ShouldReturnNotFound_WhenSessionDoesNotExist() {
+        UUID id = UUID.randomUUID();
+        Mockito.when(gameRepository.findById(id)).thenReturn(Mono.empty());
+
+        webClient.post().uri("/game/" + id + "/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"row\": 0, \"col\": 0}")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        Mockito.verifyNoInteractions(gameService);
+    }
+
+    @Test
+    void makeMove_ShouldRejectInvalidMoveBeforeAdmission() {
+        UUID id = UUID.randomUUID();
+        GameSession session = new GameSession(id, new GameMap(3), GameStatus.PLAYING);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Mono.just(session));
+        Mockito.doThrow(new IllegalArgumentException("Cell is already occupied."))
+                .when(gameService).checkMove(any(), anyInt(), anyInt());
+
+        for (String body : new String[]{"{}", "{\"row\": 0, \"col\": 0}"}) {
+            webClient.post().uri("/game/" + id + "/move")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .exchange()
+                    .expectStatus().isBadRequest();
+        }
+
+        Mockito.verify(admissionControl, Mockito.never()).admit(any(), any());
+        Mockito.verify(gameService, Mockito.never()).makeMove(any(), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,314 @@
+package org.example.web.sse;
+
+import org.example.domain.model.CellType;
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameEventBroadcasterTest {
+
+    private ManualExecutor executor;
+    private GameEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ManualExecutor();
+        broadcaster = new GameEventBroadcaster(4, Duration.ofHours(1), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    void subscribe_ShouldSendSnapshotFirst() {
+        GameSession session = new GameSession(new GameMap(3));
+        session.getGameMap().setCellValue(1, 1, CellType.CROSS);
+        RecordingSink sink = new RecordingSink();
+
+        broadcaster.subscribe(session, sink);
+        executor.runAll();
+
+        assertThat(sink.names).containsExactly(GameEventBroadcaster.SNAPSHOT);
+        assertThat(sink.data.get(0)).contains("\"cells\":\"....X....\"").contains("\"moves\":[]");
+    }
+
+    @Test
+    void onSaved_ShouldSendChangedCellsToEverySubscriber() {
+        GameSession session = new GameSession(new GameMap(3));
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        broadcaster.subscribe(session, first);
+        broadcaster.subscribe(session, second);
+        executor.runAll();
+
+        session.getGameMap().setCellValue(0, 0, CellType.CROSS);
+        session.getGameMap().setCellValue(2, 2, CellType.ZERO);
+        session.setVersion(1);
+        broadcaster.onSaved(session);
+        executor.runAll();
+
+        for (RecordingSink sink : List.of(first, second)) {
+            assertThat(sink.names).containsExactly(GameEventBroadcaster.SNAPSHOT, GameEventBroadcaster.MOVE);
+            assertThat(sink.data.get(1))
+                    .contains("\"version\":1")
+                    .contains("\"status\":\"" + GameStatus.PLAYING + "\"")
+                    .contains("\"moves\":[[0,0,1],[2,2,2]]");
+        }
+        // Событие формируется один раз и разделяется между наблюдателями
+        assertThat(first.data.get(1)).isSameAs(second.data.get(1));
+    }
+
+    @Test
+    void onSaved_ShouldSkipAhead_WhenSubscriberLagsBehindRing() {
+        GameSession session = new GameSession(new GameMap(3));
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe(session, sink);
+        executor.runAll();
+
+        for (int i = 0; i < 6; i++) {
+            session.getGameMap().setCellValue(i / 3, i % 3, CellType.CROSS);
+            session.setVersion(i + 1);
+            broadcaster.onSaved(session);
+        }
+        executor.runAll();
+
+        assertThat(sink.names).containsExactly(GameEventBroadcaster.SNAPSHOT, GameEventBroadcaster.SKIPPED,
+                GameEventBroadcaster.MOVE, GameEventBroadcaster.MOVE, GameEventBroadcaster.MOVE, GameEventBroadcaster.MOVE);
+        assertThat(sink.data.get(1)).isEqualTo("{\"skipped\":2}");
+        assertThat(sink.data.get(5)).contains("\"version\":6");
+    }
+
+    @Test
+    void onSaved_ShouldDropSubscriber_WhenSendFails() {
+        GameSession session = new GameSession(new GameMap(3));
+        RecordingSink healthy = new RecordingSink();
+        RecordingSink broken = new RecordingSink();
+        broken.failing = true;
+        broadcaster.subscribe(session, healthy);
+        broadcaster.subscribe(session, broken);
+        executor.runAll();
+
+        assertThat(broken.closed).isTrue();
+        assertThat(broadcaster.getSubscriberCount(session.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_ShouldKeepSubscriber_WhenDispatchQueueIsFull() {
+        GameSession session = new GameSession(new GameMap(3));
+        RecordingSink sink = new RecordingSink();
+        executor.rejecting = true;
+
+        broadcaster.subscribe(session, sink);
+
+        assertThat(sink.closed).isFalse();
+        assertThat(broadcaster.getSubscriberCount(session.getId())).isEqualTo(1);
+
+        // Отклоненная отправка повторяется фоновой проверкой, когда в пуле появляется место
+        executor.rejecting = false;
+        broadcaster.sweep();
+        executor.runAll();
+
+        assertThat(sink.names).containsExactly(GameEventBroadcaster.SNAPSHOT);
+    }
+
+    @Test
+    void sweep_ShouldDropSubscriber_WhenSendBlocksLongerThanTimeout() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        GameEventBroadcaster timed = new GameEventBroadcaster(4, Duration.ofMillis(50), pool);
+        try {
+            GameSession session = new GameSession(new GameMap(3));
+            BlockingSink stalled = new BlockingSink();
+            timed.subscribe(session, stalled);
+            assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Единственный поток рассылки занят зависшей записью, пока проверка её не прервет
+            assertThat(stalled.closed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(stalled.interrupted).isTrue();
+            assertThat(timed.getSubscriberCount(session.getId())).isZero();
+
+            RecordingSink healthy = new RecordingSink();
+            timed.subscribe(session, healthy);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (healthy.names.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(healthy.names).containsExactly(GameEventBroadcaster.SNAPSHOT);
+        } finally {
+            timed.close();
+        }
+    }
+
+    @Test
+    void onSaved_ShouldDeliverToHealthySubscriber_WhileOthersAreStalled() throws Exception {
+        // Пул без очереди, как в конфигурации: зависшие записи не занимают поток здорового наблюдателя
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(1, 8, 60L, TimeUnit.SECONDS, new SynchronousQueue<>());
+        GameEventBroadcaster timed = new GameEventBroadcaster(4, Duration.ofHours(1), pool);
+        try {
+            GameSession session = new GameSession(new GameMap(3));
+            for (int i = 0; i < 4; i++) {
+                BlockingSink stalled = new BlockingSink();
+                timed.subscribe(session, stalled);
+                assertThat(stalled.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            }
+
+            RecordingSink healthy = new RecordingSink();
+            timed.subscribe(session, healthy);
+            session.getGameMap().setCellValue(0, 0, CellType.CROSS);
+            timed.onSaved(session);
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (healthy.names.size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(healthy.names).containsExactly(GameEventBroadcaster.SNAPSHOT, GameEventBroadcaster.MOVE);
+        } finally {
+            pool.shutdownNow();
+            timed.close();
+        }
+    }
+
+    @Test
+    void onSaved_ShouldIgnoreSessions_WithoutSubscribers() {
+        broadcaster.onSaved(new GameSession(new GameMap(3)));
+
+        assertThat(executor.tasks).isEmpty();
+    }
+
+    @Test
+    void unsubscribe_ShouldRemoveChannel_WhenLastSubscriberLeaves() {
+        GameSession session = new GameSession(new GameMap(3));
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe(session, sink);
+
+        broadcaster.unsubscribe(session.getId(), sink);
+        broadcaster.onSaved(session);
+        executor.runAll();
+
+        assertThat(broadcaster.getSubscriberCount(session.getId())).isZero();
+        assertThat(sink.names).isEmpty();
+    }
+
+    @Test
+    void onRemoved_ShouldCloseSubscribers() {
+        GameSession session = new GameSession(new GameMap(3));
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe(session, sink);
+
+        broadcaster.onRemoved(session.getId());
+
+        assertThat(sink.closed).isTrue();
+        assertThat(broadcaster.getSubscriberCount(session.getId())).isZero();
+    }
+
+    private static final class RecordingSink implements EventSink {
+        private final List<String> names = new CopyOnWriteArrayList<>();
+        private final List<String> data = new CopyOnWriteArrayList<>();
+        private boolean failing;
+        private volatile boolean closed;
+
+        @Override
+        public void send(long id, String name, String payload) throws IOException {
+            if (failing) {
+                throw new IOException("Connection reset");
+            }
+            names.add(name);
+            data.add(payload);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    /** Получатель, запись которому зависает до прерывания потока (клиент перестал читать) */
+    private static final class BlockingSink implements EventSink {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private volatile boolean interrupted;
+
+        @Override
+        public void send(long id, String name, String payload) throws IOException {
+            entered.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                throw new InterruptedIOException("Write interrupted");
+            }
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+
+    /** Исполнитель, выполняющий задачи только по команде теста */
+    private static final class ManualExecutor extends AbstractExecutorService {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean rejecting;
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("Queue is full");
+            }
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.web.trace;
+
+import org.example.domain.trace.RequestTimings;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceIdFilterTest {
+
+    private final TraceIdFilter filter = new TraceIdFilter();
+
+    @Test
+    void doFilter_ShouldTakeTraceIdFromTraceparent() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/game/1");
+        request.addHeader("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> seen = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> seen.set(RequestTimings.current().getTraceId()));
+
+        assertThat(seen.get()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(response.getHeader(TraceIdFilter.TRACE_ID_HEADER)).isEqualTo(seen.get());
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    @Test
+    void doFilter_ShouldGenerateTraceId_WhenHeaderIsInvalid() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/game/1");
+        request.addHeader(TraceIdFilter.TRACE_ID_HEADER, "bad id\r\nX-Injected: 1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> { });
+
+        assertThat(response.getHeader(TraceIdFilter.TRACE_ID_HEADER)).matches("[0-9a-f]{32}");
+    }
+
+    @Test
+    void doFilter_ShouldKeepClientTraceId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/game/1");
+        request.addHeader(TraceIdFilter.TRACE_ID_HEADER, "load-test-42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> { });
+
+        assertThat(response.getHeader(TraceIdFilter.TRACE_ID_HEADER)).isEqualTo("load-test-42");
+    }
+}
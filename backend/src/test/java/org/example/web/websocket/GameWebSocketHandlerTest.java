@@ -0,0 +1,145 @@
+package org.example.web.websocket;
+
+import org.example.domain.model.GameMap;
+import org.example.domain.model.GameSession;
+import org.example.domain.model.GameStatus;
+import org.example.domain.model.MoveResult;
+import org.example.domain.repository.GameRepository;
+import org.example.domain.service.GameService;
+import org.example.web.admission.AdmissionControl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+class GameWebSocketHandlerTest {
+    private GameService gameService;
+    private GameRepository gameRepository;
+    private GameWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        gameService = Mockito.mock(GameService.class);
+        gameRepository = Mockito.mock(GameRepository.class);
+        handler = new GameWebSocketHandler(gameService, gameRepository,
+                new AdmissionControl(10_000_000, 100_000_000_000L, 1, 10, 1.0, 5, 100),
+                Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.close();
+    }
+
+    @Test
+    void parseMove_ShouldReadRowAndColumn() {
+        assertThat(GameWebSocketHandler.parseMove("1,2")).containsExactly(1, 2);
+        assertThat(GameWebSocketHandler.parseMove("12,0")).containsExactly(12, 0);
+    }
+
+    @Test
+    void parseMove_ShouldReturnNull_WhenFrameIsMalformed() {
+        assertThat(GameWebSocketHandler.parseMove("")).isNull();
+        assertThat(GameWebSocketHandler.parseMove("1")).isNull();
+        assertThat(GameWebSocketHandler.parseMove("1,")).isNull();
+        assertThat(GameWebSocketHandler.parseMove("a,b")).isNull();
+    }
+
+    @Test
+    void parseGameId_ShouldExtractIdFromPath() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(GameWebSocketHandler.parseGameId(URI.create("ws://localhost/game/" + id + "/ws"))).contains(id);
+        assertThat(GameWebSocketHandler.parseGameId(URI.create("ws://localhost/game/oops/ws"))).isEmpty();
+    }
+
+    @Test
+    void afterConnectionEstablished_ShouldClose_WhenGameDoesNotExist() throws Exception {
+        UUID id = UUID.randomUUID();
+        WebSocketSession session = mockSession(id);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.empty());
+
+        handler.afterConnectionEstablished(session);
+
+        Mockito.verify(session).close(GameWebSocketHandler.GAME_NOT_FOUND);
+        assertThat(handler.getConnectionCount()).isZero();
+    }
+
+    @Test
+    void handleTextMessage_ShouldPushAiReplyFrame() throws Exception {
+        UUID id = UUID.randomUUID();
+        WebSocketSession session = mockSession(id);
+        GameSession game = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(game));
+        Mockito.when(gameService.makeMove(game, 1, 1)).thenReturn(new MoveResult(0, 2, GameStatus.PLAYING));
+
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("1,1"));
+
+        Mockito.verify(session, Mockito.timeout(1000)).sendMessage(new TextMessage("0,2,PLAYING"));
+    }
+
+    @Test
+    void handleTextMessage_ShouldReportBadRequest_WhenMoveIsInvalid() throws Exception {
+        UUID id = UUID.randomUUID();
+        WebSocketSession session = mockSession(id);
+        GameSession game = new GameSession(id, new GameMap(), GameStatus.PLAYING);
+        Mockito.when(gameRepository.findById(id)).thenReturn(Optional.of(game));
+        Mockito.when(gameService.makeMove(any(), anyInt(), anyInt()))
+                .thenThrow(new IllegalArgumentException("Cell is already occupied."));
+
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("0,0"));
+
+        Mockito.verify(session, Mockito.timeout(1000))
+                .sendMessage(new TextMessage("ERROR,400,Cell is already occupied."));
+    }
+
+    @Test
+    void handleTextMessage_ShouldRejectMalformedFrame() throws Exception {
+        UUID id = UUID.randomUUID();
+        WebSocketSession session = mockSession(id);
+        Mockito.when(gameRepository.findById(id))
+                .thenReturn(Optional.of(new GameSession(id, new GameMap(), GameStatus.PLAYING)));
+
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("center"));
+
+        Mockito.verify(session).sendMessage(new TextMessage("ERROR,400,Expected frame 'row,col'"));
+        Mockito.verify(gameService, Mockito.never()).makeMove(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void handleTextMessage_ShouldRejectMove_WhenAdmissionControlRefuses() throws Exception {
+        UUID id = UUID.randomUUID();
+        WebSocketSession session = mockSession(id);
+        Mockito.when(gameRepository.findById(id))
+                .thenReturn(Optional.of(new GameSession(id, new GameMap(50), GameStatus.PLAYING)));
+
+        handler.afterConnectionEstablished(session);
+        handler.handleTextMessage(session, new TextMessage("0,0"));
+
+        Mockito.verify(session, Mockito.timeout(1000))
+                .sendMessage(new TextMessage("ERROR,422,Move is too expensive to compute"));
+        Mockito.verify(gameService, Mockito.never()).makeMove(any(), anyInt(), anyInt());
+    }
+
+    private static WebSocketSession mockSession(UUID gameId) {
+        WebSocketSession session = Mockito.mock(WebSocketSession.class);
+        Mockito.when(session.getId()).thenReturn("ws-" + gameId);
+        Mockito.when(session.getUri()).thenReturn(URI.create("ws://localhost/game/" + gameId + "/ws"));
+        Mockito.when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}